@@ -40,6 +40,7 @@ include("webauthn4j-metadata-async")
 include("webauthn4j-appattest")
 include("webauthn4j-test")
 include("webauthn4j-util")
+include("webauthn4j-benchmarks")
 include("integration-tests:spring-security-passkeys")
 include("integration-tests:webauthn4j-spring-security")
 include("integration-tests:quarkus-security-webauthn")
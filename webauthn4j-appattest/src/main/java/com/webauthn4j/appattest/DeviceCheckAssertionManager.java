@@ -28,8 +28,12 @@ import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.verifier.CustomCoreAuthenticationVerifier;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -63,6 +67,14 @@ public class DeviceCheckAssertionManager {
 
     @SuppressWarnings("squid:S1130")
     public @NotNull DCAssertionData parse(@NotNull DCAssertionRequest dcAssertionRequest) throws DataConversionException {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseDCAssertionRequest(dcAssertionRequest);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION, () -> parseDCAssertionRequest(dcAssertionRequest));
+    }
+
+    private @NotNull DCAssertionData parseDCAssertionRequest(@NotNull DCAssertionRequest dcAssertionRequest) {
         AssertUtil.notNull(dcAssertionRequest, "dcAssertionRequest must not be null");
 
         byte[] credentialId = dcAssertionRequest.getKeyId();
@@ -115,4 +127,23 @@ public class DeviceCheckAssertionManager {
         return dcAssertionDataValidator;
     }
 
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return dcAssertionDataValidator.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        dcAssertionDataValidator.setVerificationObserver(verificationObserver);
+    }
+
 }
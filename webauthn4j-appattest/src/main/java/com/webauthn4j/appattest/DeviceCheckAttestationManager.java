@@ -27,8 +27,12 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.verifier.CustomCoreRegistrationVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -57,6 +61,14 @@ public class DeviceCheckAttestationManager {
 
     @SuppressWarnings("java:S1130")
     public @NotNull DCAttestationData parse(@NotNull DCAttestationRequest dcAttestationRequest) throws DataConversionException {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseDCAttestationRequest(dcAttestationRequest);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION, () -> parseDCAttestationRequest(dcAttestationRequest));
+    }
+
+    private @NotNull DCAttestationData parseDCAttestationRequest(@NotNull DCAttestationRequest dcAttestationRequest) {
         AssertUtil.notNull(dcAttestationRequest, "dcAttestationRequest must not be null");
 
         byte[] keyId = dcAttestationRequest.getKeyId();
@@ -88,4 +100,23 @@ public class DeviceCheckAttestationManager {
     public @NotNull DCAttestationDataVerifier getDCAttestationDataValidator() {
         return dcAttestationDataValidator;
     }
+
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return dcAttestationDataValidator.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        dcAttestationDataValidator.setVerificationObserver(verificationObserver);
+    }
 }
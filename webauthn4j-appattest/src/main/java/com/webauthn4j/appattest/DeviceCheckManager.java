@@ -26,8 +26,10 @@ import com.webauthn4j.verifier.CustomCoreAuthenticationVerifier;
 import com.webauthn4j.verifier.CustomCoreRegistrationVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.NullCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.dataformat.cbor.CBORMapper;
 
@@ -167,4 +169,15 @@ public class DeviceCheckManager {
         return this.deviceCheckAssertionManager.getDCAssertionDataValidator();
     }
 
+    /**
+     * Sets the observer notified with the step timings and outcome of each attestation and assertion
+     * parse and verification. When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.deviceCheckAttestationManager.setVerificationObserver(verificationObserver);
+        this.deviceCheckAssertionManager.setVerificationObserver(verificationObserver);
+    }
+
 }
@@ -16,23 +16,18 @@
 
 package com.webauthn4j.appattest.verifier;
 
-import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.internal.AssertionSignatureVerifier;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
-
 public class DCAssertionSignatureVerifier extends AssertionSignatureVerifier {
 
     // ~ Methods
     // ========================================================================================================
 
     @Override
-    protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        byte[] concatenated = ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(concatenated);
+    protected @NotNull byte[][] getSignedDataParts(@NotNull byte[] authenticatorData, @NotNull byte[] clientDataHash) {
+        // App Attest signs the SHA-256 hash of the concatenation rather than the concatenation itself
+        return new byte[][]{MessageDigestUtil.digestSHA256(super.getSignedDataParts(authenticatorData, clientDataHash))};
     }
 }
@@ -23,6 +23,7 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
@@ -33,7 +34,6 @@ import com.webauthn4j.data.internal.asn1.der.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.ByteBuffer;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPublicKey;
 import java.util.Arrays;
@@ -90,11 +90,9 @@ public class AppleAppAttestAttestationStatementVerifier extends AbstractStatemen
         X509Certificate attestationCertificate = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
         byte[] actualNonce = extractNonce(attestationCertificate);
 
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] composite = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length)
-                .put(authenticatorData).put(clientDataHash).array();
-        byte[] expectedNonce = MessageDigestUtil.createSHA256().digest(composite);
+        byte[] clientDataHash = SignedDataAccess.getClientDataHash(registrationObject);
+        byte[] authenticatorData = SignedDataAccess.getAuthenticatorDataBytes(registrationObject);
+        byte[] expectedNonce = MessageDigestUtil.digestSHA256(authenticatorData, clientDataHash);
 
         // As nonce is known data to client side(potential attacker), there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual`
         if (!Arrays.equals(actualNonce, expectedNonce)) {
@@ -108,7 +106,7 @@ public class AppleAppAttestAttestationStatementVerifier extends AbstractStatemen
         byte[] keyId = dcRegistrationObject.getKeyId();
         // As publicKey is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
-        if (!Arrays.equals(MessageDigestUtil.createSHA256().digest(publicKey), keyId)) {
+        if (!Arrays.equals(MessageDigestUtil.digestSHA256(publicKey), keyId)) {
             throw new BadAttestationStatementException("key identifier doesn't match SHA-256 of the publickey");
         }
     }
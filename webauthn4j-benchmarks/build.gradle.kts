@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id("webauthn4j.java-conventions")
+}
+
+description = "WebAuthn4J JMH benchmarks"
+
+dependencies {
+    implementation(project(":webauthn4j-core"))
+    implementation(project(":webauthn4j-test"))
+
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+
+    //CompileOnly
+    compileOnly(libs.jetbrains.annotations)
+}
+
+// Runs the JMH harness. Extra JMH command line options can be passed with -PjmhArgs, e.g.
+// ./gradlew :webauthn4j-benchmarks:jmh -PjmhArgs="-prof gc -rf json -rff build/jmh-result.json AuthenticationBenchmark"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks"
+    mainClass = "org.openjdk.jmh.Main"
+    classpath = sourceSets["main"].runtimeClasspath
+    val jmhArgs = providers.gradleProperty("jmhArgs")
+    argumentProviders.add(CommandLineArgumentProvider {
+        jmhArgs.map { it.split(" ").filter(String::isNotBlank) }.getOrElse(emptyList())
+    })
+}
+
+sonarqube {
+    isSkipProject = true
+}
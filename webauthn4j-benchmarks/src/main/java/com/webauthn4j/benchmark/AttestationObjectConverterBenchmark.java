@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.AttestationObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures CBOR decoding of attestation objects for each attestation statement format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttestationObjectConverterBenchmark {
+
+    @Param({BenchmarkFixtures.PACKED, BenchmarkFixtures.TPM, BenchmarkFixtures.ANDROID_KEY, BenchmarkFixtures.FIDO_U2F, BenchmarkFixtures.APPLE})
+    private String format;
+
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(new ObjectConverter());
+    private byte[] attestationObject;
+
+    @Setup
+    public void setup() {
+        attestationObject = BenchmarkFixtures.createRegistrationFixture(format).getRegistrationObject().getAttestationObjectBytes();
+    }
+
+    @Benchmark
+    public AttestationObject convert() {
+        return attestationObjectConverter.convert(attestationObject);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the authentication ceremony: parsing and verifying an assertion, both from the
+ * AuthenticationResponseJSON and from the already decoded {@link com.webauthn4j.data.AuthenticationRequest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    @Param({"ES256", "RS256", "EdDSA"})
+    private String alg;
+
+    private final WebAuthnManager webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager();
+    private AuthenticationFixture fixture;
+
+    @Setup
+    public void setup() {
+        fixture = BenchmarkFixtures.createAuthenticationFixture(toCOSEAlgorithmIdentifier(alg));
+    }
+
+    @Benchmark
+    public AuthenticationData parseAuthenticationResponseJSON() {
+        return webAuthnManager.parseAuthenticationResponseJSON(fixture.getAuthenticationResponseJSON());
+    }
+
+    @Benchmark
+    public AuthenticationData verifyAuthenticationResponseJSON() {
+        fixture.resetCounter();
+        return webAuthnManager.verifyAuthenticationResponseJSON(fixture.getAuthenticationResponseJSON(), fixture.getAuthenticationParameters());
+    }
+
+    @Benchmark
+    public AuthenticationData verifyAuthenticationRequest() {
+        fixture.resetCounter();
+        return webAuthnManager.verify(fixture.getAuthenticationRequest(), fixture.getAuthenticationParameters());
+    }
+
+    private static COSEAlgorithmIdentifier toCOSEAlgorithmIdentifier(String alg) {
+        switch (alg) {
+            case "ES256":
+                return COSEAlgorithmIdentifier.ES256;
+            case "RS256":
+                return COSEAlgorithmIdentifier.RS256;
+            case "EdDSA":
+                return COSEAlgorithmIdentifier.EdDSA;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + alg);
+        }
+    }
+}
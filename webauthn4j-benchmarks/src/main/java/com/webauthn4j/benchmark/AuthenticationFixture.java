@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A recorded authentication ceremony: the assertion produced by an emulated authenticator and
+ * the credential record and parameters a relying party needs to verify it.
+ */
+public class AuthenticationFixture {
+
+    private final String authenticationResponseJSON;
+    private final AuthenticationRequest authenticationRequest;
+    private final AuthenticationParameters authenticationParameters;
+    private final CredentialRecordImpl credentialRecord;
+    private final long registeredCounter;
+    private final byte[] authenticatorData;
+
+    AuthenticationFixture(
+            @NotNull String authenticationResponseJSON,
+            @NotNull AuthenticationRequest authenticationRequest,
+            @NotNull AuthenticationParameters authenticationParameters,
+            @NotNull CredentialRecordImpl credentialRecord,
+            @NotNull byte[] authenticatorData) {
+        this.authenticationResponseJSON = authenticationResponseJSON;
+        this.authenticationRequest = authenticationRequest;
+        this.authenticationParameters = authenticationParameters;
+        this.credentialRecord = credentialRecord;
+        this.registeredCounter = credentialRecord.getCounter();
+        this.authenticatorData = authenticatorData;
+    }
+
+    public @NotNull String getAuthenticationResponseJSON() {
+        return authenticationResponseJSON;
+    }
+
+    public @NotNull AuthenticationRequest getAuthenticationRequest() {
+        return authenticationRequest;
+    }
+
+    public @NotNull AuthenticationParameters getAuthenticationParameters() {
+        return authenticationParameters;
+    }
+
+    public @NotNull byte[] getAuthenticatorData() {
+        return authenticatorData;
+    }
+
+    /**
+     * Rolls the signature counter of the credential record back to its registered value so that
+     * the same assertion can be verified repeatedly without tripping the cloned authenticator check.
+     */
+    public void resetCounter() {
+        credentialRecord.setCounter(registeredCounter);
+    }
+}
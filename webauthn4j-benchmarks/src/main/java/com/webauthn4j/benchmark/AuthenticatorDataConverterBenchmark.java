@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of authenticator data, with and without attested credential data, and wrapping of assertion
+ * authenticator data in an {@link AuthenticatorDataView}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticatorDataConverterBenchmark {
+
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(new ObjectConverter());
+    private byte[] assertionAuthenticatorData;
+    private byte[] attestedAuthenticatorData;
+
+    @Setup
+    public void setup() {
+        assertionAuthenticatorData = BenchmarkFixtures.createAuthenticationFixture(COSEAlgorithmIdentifier.ES256).getAuthenticatorData();
+        attestedAuthenticatorData = BenchmarkFixtures.createRegistrationFixture(BenchmarkFixtures.PACKED).getAuthenticatorData();
+    }
+
+    @Benchmark
+    public AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> convertAssertionAuthenticatorData() {
+        return authenticatorDataConverter.convert(assertionAuthenticatorData);
+    }
+
+    @Benchmark
+    public long viewAssertionAuthenticatorData() {
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> view = authenticatorDataConverter.convertToView(assertionAuthenticatorData);
+        return view.getSignCount() + view.getFlags();
+    }
+
+    @Benchmark
+    public AuthenticatorData<RegistrationExtensionAuthenticatorOutput> convertAttestedAuthenticatorData() {
+        return authenticatorDataConverter.convert(attestedAuthenticatorData);
+    }
+}
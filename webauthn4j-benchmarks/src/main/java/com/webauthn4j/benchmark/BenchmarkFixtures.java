@@ -0,0 +1,231 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.anchor.TrustAnchorRepository;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticator;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.*;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.attestation.statement.AttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.apple.AppleAnonymousAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.packed.PackedAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.tpm.TPMAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementVerifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+
+/**
+ * Builds the inputs of the benchmarks by running real ceremonies against the emulated authenticators
+ * of webauthn4j-test, so that every benchmark measures verification of genuinely signed data.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String PACKED = "packed";
+    public static final String TPM = "tpm";
+    public static final String ANDROID_KEY = "android-key";
+    public static final String FIDO_U2F = "fido-u2f";
+    public static final String APPLE = "apple";
+
+    private static final String RP_ID = "example.com";
+    private static final Origin ORIGIN = new Origin("https://example.com");
+
+    private static final ObjectConverter objectConverter = new ObjectConverter();
+    private static final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter =
+            new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Registers a credential of the given algorithm on a packed authenticator and records an assertion made with it
+     *
+     * @param alg the COSE algorithm of the credential
+     * @return the recorded authentication ceremony
+     */
+    public static @NotNull AuthenticationFixture createAuthenticationFixture(@NotNull COSEAlgorithmIdentifier alg) {
+        PackedAuthenticator packedAuthenticator = new PackedAuthenticator();
+        packedAuthenticator.setExtendedAlgorithmsEnabled(true);
+        ClientPlatform clientPlatform = new ClientPlatform(ORIGIN, new WebAuthnAuthenticatorAdaptor(packedAuthenticator));
+        Challenge registrationChallenge = new DefaultChallenge();
+        PublicKeyCredentialCreationOptions credentialCreationOptions = createCredentialCreationOptions(
+                registrationChallenge,
+                alg,
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE
+        );
+        RegistrationRequest registrationRequest = toRegistrationRequest(clientPlatform.create(credentialCreationOptions));
+        RegistrationParameters registrationParameters = new RegistrationParameters(createServerProperty(registrationChallenge), null, true, true);
+        RegistrationData registrationData = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter).verify(registrationRequest, registrationParameters);
+        CredentialRecordImpl credentialRecord = new CredentialRecordImpl(
+                registrationData.getAttestationObject(),
+                registrationData.getCollectedClientData(),
+                registrationData.getClientExtensions(),
+                registrationData.getTransports()
+        );
+
+        Challenge authenticationChallenge = new DefaultChallenge();
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                authenticationChallenge,
+                0L,
+                RP_ID,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse response = credential.getResponse();
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                response.getAuthenticatorData(),
+                response.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                response.getSignature()
+        );
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                createServerProperty(authenticationChallenge),
+                credentialRecord,
+                null,
+                true
+        );
+        String authenticationResponseJSON = objectConverter.getJsonMapper().writeValueAsString(credential);
+        return new AuthenticationFixture(authenticationResponseJSON, authenticationRequest, authenticationParameters, credentialRecord, response.getAuthenticatorData());
+    }
+
+    /**
+     * Records a registration ceremony producing an attestation statement of the given format
+     *
+     * @param format one of {@link #PACKED}, {@link #TPM}, {@link #ANDROID_KEY}, {@link #FIDO_U2F} or {@link #APPLE}
+     * @return the recorded registration ceremony
+     */
+    public static @NotNull RegistrationFixture createRegistrationFixture(@NotNull String format) {
+        switch (format) {
+            case PACKED:
+                return createRegistrationFixture(new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator()), new PackedAttestationStatementVerifier(),
+                        TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate(), true);
+            case TPM:
+                return createRegistrationFixture(new WebAuthnAuthenticatorAdaptor(new TPMAuthenticator()), new TPMAttestationStatementVerifier(),
+                        TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate(), true);
+            case ANDROID_KEY:
+                return createRegistrationFixture(new WebAuthnAuthenticatorAdaptor(new AndroidKeyAuthenticator()), new AndroidKeyAttestationStatementVerifier(),
+                        TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate(), true);
+            case FIDO_U2F:
+                return createRegistrationFixture(new FIDOU2FAuthenticatorAdaptor(new FIDOU2FAuthenticator()), new FIDOU2FAttestationStatementVerifier(),
+                        TestAttestationUtil.createTrustAnchorRepositoryWith2tierTestRootCACertificate(), false);
+            case APPLE:
+                // Apple anonymous attestation cannot be emulated, and the recorded certificate has since expired,
+                // so this fixture carries no trust anchors and is only suitable for statement level benchmarks.
+                RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithAppleAttestation();
+                RegistrationRequest registrationRequest = new RegistrationRequest(
+                        registrationObject.getAttestationObjectBytes(),
+                        registrationObject.getCollectedClientDataBytes()
+                );
+                return new RegistrationFixture(registrationRequest, registrationObject.getRegistrationParameters(), registrationObject,
+                        new AppleAnonymousAttestationStatementVerifier(), null, registrationObject.getAuthenticatorDataBytes());
+            default:
+                throw new IllegalArgumentException("Unknown attestation statement format: " + format);
+        }
+    }
+
+    private static @NotNull RegistrationFixture createRegistrationFixture(
+            @NotNull AuthenticatorAdaptor authenticatorAdaptor,
+            @NotNull AttestationStatementVerifier attestationStatementVerifier,
+            @NotNull TrustAnchorRepository trustAnchorRepository,
+            boolean userVerification) {
+        ClientPlatform clientPlatform = new ClientPlatform(ORIGIN, authenticatorAdaptor);
+        Challenge challenge = new DefaultChallenge();
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria = userVerification ?
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED) :
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, false, UserVerificationRequirement.PREFERRED);
+        PublicKeyCredentialCreationOptions credentialCreationOptions = createCredentialCreationOptions(
+                challenge,
+                COSEAlgorithmIdentifier.ES256,
+                authenticatorSelectionCriteria,
+                AttestationConveyancePreference.DIRECT
+        );
+        RegistrationRequest registrationRequest = toRegistrationRequest(clientPlatform.create(credentialCreationOptions));
+        RegistrationParameters registrationParameters = new RegistrationParameters(createServerProperty(challenge), null, false, true);
+        RegistrationData registrationData = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter).verify(registrationRequest, registrationParameters);
+        RegistrationObject registrationObject = new RegistrationObject(
+                registrationData.getAttestationObject(),
+                registrationData.getAttestationObjectBytes(),
+                registrationData.getCollectedClientData(),
+                registrationData.getCollectedClientDataBytes(),
+                registrationData.getClientExtensions(),
+                registrationData.getTransports(),
+                registrationParameters
+        );
+        return new RegistrationFixture(registrationRequest, registrationParameters, registrationObject, attestationStatementVerifier,
+                trustAnchorRepository, registrationObject.getAuthenticatorDataBytes());
+    }
+
+    private static @NotNull PublicKeyCredentialCreationOptions createCredentialCreationOptions(
+            @NotNull Challenge challenge,
+            @NotNull COSEAlgorithmIdentifier alg,
+            @NotNull AuthenticatorSelectionCriteria authenticatorSelectionCriteria,
+            @NotNull AttestationConveyancePreference attestationConveyancePreference) {
+        return new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, alg)),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                attestationConveyancePreference,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+    }
+
+    private static @NotNull RegistrationRequest toRegistrationRequest(
+            @NotNull PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential) {
+        AuthenticatorAttestationResponse response = credential.getResponse();
+        return new RegistrationRequest(
+                response.getAttestationObject(),
+                response.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                Collections.emptySet()
+        );
+    }
+
+    private static @NotNull ServerProperty createServerProperty(@NotNull Challenge challenge) {
+        return ServerProperty.builder()
+                .origin(ORIGIN)
+                .rpId(RP_ID)
+                .challenge(challenge)
+                .build();
+    }
+}
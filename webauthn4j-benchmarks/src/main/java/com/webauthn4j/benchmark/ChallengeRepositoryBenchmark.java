@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.ChallengeGenerator;
+import com.webauthn4j.data.client.challenge.DrbgChallengeGenerator;
+import com.webauthn4j.data.client.challenge.InMemoryChallengeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures challenge issuance and the issue/consume round trip of {@link InMemoryChallengeRepository} under
+ * concurrent load, with a single shared {@link SecureRandom} as the baseline for generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ChallengeRepositoryBenchmark {
+
+    private final SecureRandom sharedSecureRandom = new SecureRandom();
+    private final ChallengeGenerator challengeGenerator = new DrbgChallengeGenerator();
+    private final InMemoryChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private static int nextThread;
+
+        private String prefix;
+        private long sequence;
+
+        @Setup
+        public void setup() {
+            synchronized (Keys.class) {
+                prefix = "thread-" + nextThread++ + "-";
+            }
+        }
+
+        String next() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public byte[] generateWithSharedSecureRandom() {
+        byte[] bytes = new byte[DrbgChallengeGenerator.DEFAULT_LENGTH];
+        sharedSecureRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public Challenge generate() {
+        return challengeGenerator.generate();
+    }
+
+    @Benchmark
+    public Challenge issueAndConsume(Keys keys) {
+        String key = keys.next();
+        challengeRepository.issue(key);
+        return challengeRepository.consume(key);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AttestedCredentialDataConverter;
+import com.webauthn4j.converter.CredentialRecordCodec;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.verifier.RegistrationObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding credential records with {@link CredentialRecordCodec}, and decoding attested
+ * credential data alone for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialRecordCodecBenchmark {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final CredentialRecordCodec credentialRecordCodec = new CredentialRecordCodec(objectConverter);
+    private final AttestedCredentialDataConverter attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+
+    private CredentialRecord credentialRecord;
+    private byte[] encodedCredentialRecord;
+    private byte[] attestedCredentialData;
+
+    @Setup
+    public void setup() {
+        RegistrationObject registrationObject = BenchmarkFixtures.createRegistrationFixture(BenchmarkFixtures.PACKED).getRegistrationObject();
+        AttestationObject attestationObject = registrationObject.getAttestationObject();
+        credentialRecord = new CredentialRecordImpl(attestationObject, registrationObject.getCollectedClientData(),
+                registrationObject.getClientExtensions(), registrationObject.getTransports());
+        encodedCredentialRecord = credentialRecordCodec.encode(credentialRecord);
+        attestedCredentialData = attestedCredentialDataConverter.convert(credentialRecord.getAttestedCredentialData());
+    }
+
+    @Benchmark
+    public CredentialRecord decode() {
+        return credentialRecordCodec.decode(encodedCredentialRecord);
+    }
+
+    @Benchmark
+    public CredentialRecord decodeForAuthentication() {
+        return credentialRecordCodec.decodeForAuthentication(encodedCredentialRecord);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return credentialRecordCodec.encode(credentialRecord);
+    }
+
+    @Benchmark
+    public AttestedCredentialData convertAttestedCredentialData() {
+        return attestedCredentialDataConverter.convert(attestedCredentialData);
+    }
+}
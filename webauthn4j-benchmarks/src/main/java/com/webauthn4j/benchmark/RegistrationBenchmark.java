@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessVerifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole registration ceremony, including attestation statement verification and
+ * certification path validation, for each attestation statement format that can be emulated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({BenchmarkFixtures.PACKED, BenchmarkFixtures.TPM, BenchmarkFixtures.ANDROID_KEY, BenchmarkFixtures.FIDO_U2F})
+    private String format;
+
+    private RegistrationFixture fixture;
+    private WebAuthnManager webAuthnManager;
+
+    @Setup
+    public void setup() {
+        fixture = BenchmarkFixtures.createRegistrationFixture(format);
+        webAuthnManager = new WebAuthnManager(
+                Collections.singletonList(fixture.getAttestationStatementVerifier()),
+                new DefaultCertPathTrustworthinessVerifier(fixture.getTrustAnchorRepository()),
+                new DefaultSelfAttestationTrustworthinessVerifier()
+        );
+    }
+
+    @Benchmark
+    public RegistrationData verifyRegistrationRequest() {
+        return webAuthnManager.verify(fixture.getRegistrationRequest(), fixture.getRegistrationParameters());
+    }
+}
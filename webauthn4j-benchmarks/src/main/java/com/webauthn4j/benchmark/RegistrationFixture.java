@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.anchor.TrustAnchorRepository;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.RegistrationRequest;
+import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.attestation.statement.AttestationStatementVerifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A recorded registration ceremony for a single attestation statement format, together with the
+ * verifier and trust anchors needed to verify it.
+ */
+public class RegistrationFixture {
+
+    private final RegistrationRequest registrationRequest;
+    private final RegistrationParameters registrationParameters;
+    private final RegistrationObject registrationObject;
+    private final AttestationStatementVerifier attestationStatementVerifier;
+    private final TrustAnchorRepository trustAnchorRepository;
+    private final byte[] authenticatorData;
+
+    RegistrationFixture(
+            @NotNull RegistrationRequest registrationRequest,
+            @NotNull RegistrationParameters registrationParameters,
+            @NotNull RegistrationObject registrationObject,
+            @NotNull AttestationStatementVerifier attestationStatementVerifier,
+            @Nullable TrustAnchorRepository trustAnchorRepository,
+            @NotNull byte[] authenticatorData) {
+        this.registrationRequest = registrationRequest;
+        this.registrationParameters = registrationParameters;
+        this.registrationObject = registrationObject;
+        this.attestationStatementVerifier = attestationStatementVerifier;
+        this.trustAnchorRepository = trustAnchorRepository;
+        this.authenticatorData = authenticatorData;
+    }
+
+    public @NotNull RegistrationRequest getRegistrationRequest() {
+        return registrationRequest;
+    }
+
+    public @NotNull RegistrationParameters getRegistrationParameters() {
+        return registrationParameters;
+    }
+
+    public @NotNull RegistrationObject getRegistrationObject() {
+        return registrationObject;
+    }
+
+    public @NotNull AttestationStatementVerifier getAttestationStatementVerifier() {
+        return attestationStatementVerifier;
+    }
+
+    /**
+     * Returns the trust anchors the attestation certificate chains up to
+     *
+     * @return the trust anchors, or null for recorded fixtures whose chain is no longer valid
+     */
+    public @Nullable TrustAnchorRepository getTrustAnchorRepository() {
+        return trustAnchorRepository;
+    }
+
+    public @NotNull byte[] getAuthenticatorData() {
+        return authenticatorData;
+    }
+}
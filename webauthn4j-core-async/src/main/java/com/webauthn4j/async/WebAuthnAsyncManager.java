@@ -20,13 +20,16 @@ import com.webauthn4j.async.verifier.attestation.trustworthiness.self.SelfAttest
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.*;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnAsyncManager {
     // ~ Instance fields
@@ -35,22 +38,52 @@ public class WebAuthnAsyncManager {
     private final WebAuthnRegistrationAsyncManager webAuthnRegistrationAsyncManager;
     private final WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager;
 
+    /**
+     * @param attestationStatementAsyncVerifiers          attestation statement verifiers
+     * @param certPathTrustworthinessAsyncVerifier        cert path trustworthiness verifier
+     * @param selfAttestationTrustworthinessAsyncVerifier self attestation trustworthiness verifier
+     * @param customRegistrationAsyncVerifiers            custom registration verifiers
+     * @param customAuthenticationAsyncVerifiers          custom authentication verifiers
+     * @param objectConverter                             object converter
+     * @param executor                                    executor that parsing, signature and attestation verification are offloaded to,
+     *                                                    e.g. to keep them off an event loop. When null, they run on the calling thread.
+     */
     public WebAuthnAsyncManager(@NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
                                 @NotNull CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier,
                                 @NotNull SelfAttestationTrustworthinessAsyncVerifier selfAttestationTrustworthinessAsyncVerifier,
                                 @NotNull List<CustomRegistrationAsyncVerifier> customRegistrationAsyncVerifiers,
                                 @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
-                                @NotNull ObjectConverter objectConverter) {
+                                @NotNull ObjectConverter objectConverter,
+                                @Nullable Executor executor) {
 
         this.webAuthnRegistrationAsyncManager = new WebAuthnRegistrationAsyncManager(
                 attestationStatementAsyncVerifiers,
                 certPathTrustworthinessAsyncVerifier,
                 selfAttestationTrustworthinessAsyncVerifier,
                 customRegistrationAsyncVerifiers,
-                objectConverter);
+                objectConverter,
+                executor);
         this.webAuthnAuthenticationAsyncManager = new WebAuthnAuthenticationAsyncManager(
                 customAuthenticationAsyncVerifiers,
-                objectConverter);
+                objectConverter,
+                executor);
+    }
+
+    public WebAuthnAsyncManager(@NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
+                                @NotNull CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier,
+                                @NotNull SelfAttestationTrustworthinessAsyncVerifier selfAttestationTrustworthinessAsyncVerifier,
+                                @NotNull List<CustomRegistrationAsyncVerifier> customRegistrationAsyncVerifiers,
+                                @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
+                                @NotNull ObjectConverter objectConverter) {
+        this(
+                attestationStatementAsyncVerifiers,
+                certPathTrustworthinessAsyncVerifier,
+                selfAttestationTrustworthinessAsyncVerifier,
+                customRegistrationAsyncVerifiers,
+                customAuthenticationAsyncVerifiers,
+                objectConverter,
+                null
+        );
     }
 
     public WebAuthnAsyncManager(@NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
@@ -184,4 +217,15 @@ public class WebAuthnAsyncManager {
         return this.webAuthnAuthenticationAsyncManager.getAuthenticationDataAsyncVerifier();
     }
 
+    /**
+     * Sets the observer notified with the step timings and outcome of each registration and authentication
+     * parse and verification. When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.webAuthnRegistrationAsyncManager.setVerificationObserver(verificationObserver);
+        this.webAuthnAuthenticationAsyncManager.setVerificationObserver(verificationObserver);
+    }
+
 }
@@ -3,6 +3,7 @@ package com.webauthn4j.async;
 import com.webauthn4j.async.verifier.AuthenticationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.CustomAuthenticationAsyncVerifier;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.AuthenticationResponseJSONConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
 import com.webauthn4j.converter.exception.DataConversionException;
@@ -15,15 +16,20 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tools.jackson.core.type.TypeReference;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public class WebAuthnAuthenticationAsyncManager {
 
@@ -34,23 +40,38 @@ public class WebAuthnAuthenticationAsyncManager {
     private final CollectedClientDataConverter collectedClientDataConverter;
     private final AuthenticatorDataConverter authenticatorDataConverter;
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+    private final AuthenticationResponseJSONConverter authenticationResponseJSONConverter;
 
     private final AuthenticationDataAsyncVerifier authenticationDataAsyncVerifier;
-
-    private final ObjectConverter objectConverter;
-
+    private final Executor executor;
+
+    /**
+     * @param customAuthenticationAsyncVerifiers custom authentication verifiers
+     * @param objectConverter                    object converter
+     * @param executor                           executor that parsing and signature verification are offloaded to,
+     *                                           e.g. to keep them off an event loop. When null, they run on the calling thread.
+     */
     public WebAuthnAuthenticationAsyncManager(
             @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
-            @NotNull ObjectConverter objectConverter) {
+            @NotNull ObjectConverter objectConverter,
+            @Nullable Executor executor) {
         AssertUtil.notNull(customAuthenticationAsyncVerifiers, "customAuthenticationAsyncVerifiers must not be null");
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
 
         this.authenticationDataAsyncVerifier = new AuthenticationDataAsyncVerifier(customAuthenticationAsyncVerifiers);
+        this.authenticationDataAsyncVerifier.setExecutor(executor);
+        this.executor = executor;
 
         this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
         this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
         this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
-        this.objectConverter = objectConverter;
+        this.authenticationResponseJSONConverter = new AuthenticationResponseJSONConverter(objectConverter);
+    }
+
+    public WebAuthnAuthenticationAsyncManager(
+            @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
+            @NotNull ObjectConverter objectConverter) {
+        this(customAuthenticationAsyncVerifiers, objectConverter, null);
     }
 
     public WebAuthnAuthenticationAsyncManager(
@@ -64,38 +85,12 @@ public class WebAuthnAuthenticationAsyncManager {
 
     @SuppressWarnings("squid:S1130")
     public CompletionStage<AuthenticationData> parse(String authenticationResponseJSON) {
-        return CompletionStageUtil
-                .supply(()-> objectConverter.getJsonMapper().readValue(authenticationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput>>() {}))
-                .thenApply( publicKeyCredential -> {
-            byte[] credentialId = publicKeyCredential.getRawId();
-            byte[] userHandle = publicKeyCredential.getResponse().getUserHandle();
-
-            byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
-            CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-
-            byte[] authenticatorDataBytes = publicKeyCredential.getResponse().getAuthenticatorData();
-            AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
-
-            AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = publicKeyCredential.getClientExtensionResults();
-
-            byte[] signature = publicKeyCredential.getResponse().getSignature();
-
-            return new AuthenticationData(
-                    credentialId,
-                    userHandle,
-                    authenticatorData,
-                    authenticatorDataBytes,
-                    collectedClientData,
-                    clientDataBytes,
-                    clientExtensions,
-                    signature
-            );
-        });
+        return CompletionStageUtil.supply(observeParse(() -> authenticationResponseJSONConverter.convert(authenticationResponseJSON)), executor);
     }
 
     @SuppressWarnings("squid:S1130")
     public @NotNull CompletionStage<AuthenticationData> parse(@NotNull AuthenticationRequest authenticationRequest) {
-        return CompletionStageUtil.supply(()->{
+        return CompletionStageUtil.supply(observeParse(()->{
             AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
 
             logger.trace("Parse: {}", authenticationRequest);
@@ -122,7 +117,7 @@ public class WebAuthnAuthenticationAsyncManager {
                     clientExtensions,
                     signature
             );
-        });
+        }), executor);
     }
 
     public @NotNull CompletionStage<AuthenticationData> verify(
@@ -149,4 +144,31 @@ public class WebAuthnAuthenticationAsyncManager {
     public @NotNull AuthenticationDataAsyncVerifier getAuthenticationDataAsyncVerifier() {
         return authenticationDataAsyncVerifier;
     }
+
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return authenticationDataAsyncVerifier.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        authenticationDataAsyncVerifier.setVerificationObserver(verificationObserver);
+    }
+
+    private <T> @NotNull Supplier<T> observeParse(@NotNull Supplier<T> parser) {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parser;
+        }
+        return () -> VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION, parser);
+    }
 }
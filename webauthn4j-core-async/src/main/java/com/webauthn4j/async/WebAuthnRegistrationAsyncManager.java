@@ -26,7 +26,11 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutput
 import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.type.TypeReference;
@@ -36,6 +40,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public class WebAuthnRegistrationAsyncManager {
 
@@ -50,13 +56,24 @@ public class WebAuthnRegistrationAsyncManager {
 
     private final RegistrationDataAsyncVerifier registrationDataAsyncVerifier;
     private final ObjectConverter objectConverter;
+    private final Executor executor;
 
+    /**
+     * @param attestationStatementAsyncVerifiers          attestation statement verifiers
+     * @param certPathTrustworthinessAsyncVerifier        cert path trustworthiness verifier
+     * @param selfAttestationTrustworthinessAsyncVerifier self attestation trustworthiness verifier
+     * @param customRegistrationAsyncVerifiers            custom registration verifiers
+     * @param objectConverter                             object converter
+     * @param executor                                    executor that parsing and attestation verification are offloaded to,
+     *                                                    e.g. to keep them off an event loop. When null, they run on the calling thread.
+     */
     public WebAuthnRegistrationAsyncManager(
             @NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
             @NotNull CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier,
             @NotNull SelfAttestationTrustworthinessAsyncVerifier selfAttestationTrustworthinessAsyncVerifier,
             @NotNull List<CustomRegistrationAsyncVerifier> customRegistrationAsyncVerifiers,
-            @NotNull ObjectConverter objectConverter) {
+            @NotNull ObjectConverter objectConverter,
+            @Nullable Executor executor) {
         AssertUtil.notNull(attestationStatementAsyncVerifiers, "attestationStatementAsyncVerifiers must not be null");
         AssertUtil.notNull(certPathTrustworthinessAsyncVerifier, "certPathTrustworthinessAsyncVerifier must not be null");
         AssertUtil.notNull(selfAttestationTrustworthinessAsyncVerifier, "selfAttestationTrustworthinessAsyncVerifier must not be null");
@@ -69,13 +86,30 @@ public class WebAuthnRegistrationAsyncManager {
                 selfAttestationTrustworthinessAsyncVerifier,
                 customRegistrationAsyncVerifiers,
                 objectConverter);
-
+        this.registrationDataAsyncVerifier.setExecutor(executor);
 
         this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
         this.attestationObjectConverter = new AttestationObjectConverter(objectConverter);
         this.authenticatorTransportConverter = new AuthenticatorTransportConverter();
         this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
         this.objectConverter = objectConverter;
+        this.executor = executor;
+    }
+
+    public WebAuthnRegistrationAsyncManager(
+            @NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
+            @NotNull CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier,
+            @NotNull SelfAttestationTrustworthinessAsyncVerifier selfAttestationTrustworthinessAsyncVerifier,
+            @NotNull List<CustomRegistrationAsyncVerifier> customRegistrationAsyncVerifiers,
+            @NotNull ObjectConverter objectConverter) {
+        this(
+                attestationStatementAsyncVerifiers,
+                certPathTrustworthinessAsyncVerifier,
+                selfAttestationTrustworthinessAsyncVerifier,
+                customRegistrationAsyncVerifiers,
+                objectConverter,
+                null
+        );
     }
 
     public WebAuthnRegistrationAsyncManager(@NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
@@ -154,28 +188,28 @@ public class WebAuthnRegistrationAsyncManager {
 
     @SuppressWarnings("squid:S1130")
     public @NotNull CompletionStage<RegistrationData> parse(String registrationResponseJSON) {
-        return CompletionStageUtil
-                .supply(()-> objectConverter.getJsonMapper().readValue(registrationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput>>() {}))
-                .thenApply(publicKeyCredential -> {
-                    byte[] attestationObjectBytes = publicKeyCredential.getResponse().getAttestationObject();
-                    AttestationObject attestationObject = attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
-                    byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
-                    CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-
-                    return new RegistrationData(
-                            attestationObject,
-                            attestationObjectBytes,
-                            collectedClientData,
-                            clientDataBytes,
-                            publicKeyCredential.getClientExtensionResults(),
-                            publicKeyCredential.getResponse().getTransports()
-                    );
-                });
+        return CompletionStageUtil.supply(observeParse(()-> {
+            PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> publicKeyCredential =
+                    objectConverter.getJsonMapper().readValue(registrationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput>>() {});
+            byte[] attestationObjectBytes = publicKeyCredential.getResponse().getAttestationObject();
+            AttestationObject attestationObject = attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
+            byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
+            CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
+
+            return new RegistrationData(
+                    attestationObject,
+                    attestationObjectBytes,
+                    collectedClientData,
+                    clientDataBytes,
+                    publicKeyCredential.getClientExtensionResults(),
+                    publicKeyCredential.getResponse().getTransports()
+            );
+        }), executor);
     }
 
     @SuppressWarnings("squid:S1130")
     public @NotNull CompletionStage<RegistrationData> parse(@NotNull RegistrationRequest registrationRequest) {
-        return CompletionStageUtil.supply(()->{
+        return CompletionStageUtil.supply(observeParse(()->{
             AssertUtil.notNull(registrationRequest, "registrationRequest must not be null");
 
             byte[] clientDataBytes = registrationRequest.getClientDataJSON();
@@ -200,7 +234,7 @@ public class WebAuthnRegistrationAsyncManager {
                     clientExtensions,
                     transports
             );
-        });
+        }), executor);
     }
 
     public CompletionStage<RegistrationData> verify(String registrationResponseJSON, @NotNull RegistrationParameters registrationParameters) {
@@ -224,4 +258,31 @@ public class WebAuthnRegistrationAsyncManager {
         return registrationDataAsyncVerifier;
     }
 
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return registrationDataAsyncVerifier.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        registrationDataAsyncVerifier.setVerificationObserver(verificationObserver);
+    }
+
+    private <T> @NotNull Supplier<T> observeParse(@NotNull Supplier<T> parser) {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parser;
+        }
+        return () -> VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION, parser);
+    }
+
 }
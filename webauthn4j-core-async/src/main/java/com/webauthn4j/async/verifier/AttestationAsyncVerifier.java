@@ -28,9 +28,12 @@ import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
+import com.webauthn4j.verifier.VerificationStep;
 import com.webauthn4j.verifier.exception.BadAaguidException;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
@@ -71,10 +74,16 @@ class AttestationAsyncVerifier {
 
 
     public CompletionStage<Void> verify(@NotNull CoreRegistrationObject registrationObject) {
+        return verify(registrationObject, null);
+    }
+
+    CompletionStage<Void> verify(@NotNull CoreRegistrationObject registrationObject, @Nullable VerificationMetricsRecorder recorder) {
         return CompletionStageUtil.compose(()->{
 
             AssertUtil.notNull(registrationObject, "registrationObject must not be null");
 
+            VerificationMetricsRecorder.step(recorder, VerificationStep.ATTESTATION_STATEMENT);
+
             //spec| Step21
             //spec| Determine the attestation statement format by performing a USASCII case-sensitive match on fmt against
             //spec| the set of supported WebAuthn Attestation Statement Format Identifier values.
@@ -100,6 +109,7 @@ class AttestationAsyncVerifier {
             //spec| If no attestation was provided, verify that None attestation is acceptable under Relying Party policy.
             //      (This is already done in verifyAttestationStatement method)
 
+            VerificationMetricsRecorder.step(recorder, VerificationStep.ATTESTATION_TRUSTWORTHINESS);
             AttestationStatement attestationStatement = attestationObject.getAttestationStatement();
             switch (attestationType) {
                 //spec| If self attestation was used, check if self attestation is acceptable under Relying Party policy.
@@ -14,7 +14,11 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutput
 import com.webauthn4j.server.OriginPredicate;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.AuthenticationObject;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
+import com.webauthn4j.verifier.VerificationStep;
 import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
@@ -25,6 +29,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class AuthenticationDataAsyncVerifier {
 
@@ -37,6 +42,8 @@ public class AuthenticationDataAsyncVerifier {
     private OriginAsyncVerifier originAsyncVerifier = new OriginAsyncVerifierImpl();
     private TopOriginVerifier topOriginVerifier = new TopOriginVerifier();
     private DefaultMaliciousCounterValueAsyncHandler maliciousCounterValueAsyncHandler = new DefaultMaliciousCounterValueAsyncHandler();
+    private Executor executor;
+    private VerificationObserver verificationObserver;
 
 
     public AuthenticationDataAsyncVerifier(@NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers) {
@@ -76,13 +83,37 @@ public class AuthenticationDataAsyncVerifier {
         private CollectedClientData collectedClientData;
         private ServerProperty serverProperty;
         private Authenticator authenticator;
+        private final VerificationMetricsRecorder recorder;
 
         private AuthenticationDataVerification(AuthenticationData authenticationData, AuthenticationParameters authenticationParameters){
             this.authenticationData = authenticationData;
             this.authenticationParameters = authenticationParameters;
+            this.recorder = VerificationMetricsRecorder.start(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION);
         }
 
         public CompletionStage<AuthenticationData> execute(){
+            if (recorder == null) {
+                return executeSteps();
+            }
+            CompletionStage<AuthenticationData> completionStage;
+            try {
+                completionStage = executeSteps();
+            }
+            catch (RuntimeException e) {
+                recorder.fail(e);
+                throw e;
+            }
+            return completionStage.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    recorder.complete();
+                }
+                else {
+                    recorder.fail(throwable);
+                }
+            });
+        }
+
+        private CompletionStage<AuthenticationData> executeSteps(){
             return execStep1toStep14()
                     .thenCompose(unused -> execStep15toStep20())
                     .thenCompose(unused -> execStep21())
@@ -92,6 +123,7 @@ public class AuthenticationDataAsyncVerifier {
         }
 
         private CompletionStage<Void> execStep1toStep14() {
+            VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
             BeanAssertUtil.validate(authenticationData);
             AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
 
@@ -116,6 +148,7 @@ public class AuthenticationDataAsyncVerifier {
 
             //spec| Step5
             //spec| If options.allowCredentials is not empty, verify that credential.id identifies one of the public key credentials listed in options.allowCredentials.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
             byte[] credentialId = authenticationData.getCredentialId();
             List<byte[]> allowCredentials = authenticationParameters.getAllowCredentials();
             CredentialIdVerifier.verify(credentialId, allowCredentials);
@@ -156,6 +189,7 @@ public class AuthenticationDataAsyncVerifier {
             authenticatorData = authenticationData.getAuthenticatorData();
             serverProperty = authenticationParameters.getServerProperty();
 
+            VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
             BeanAssertUtil.validate(collectedClientData);
             BeanAssertUtil.validate(authenticatorData);
 
@@ -164,6 +198,9 @@ public class AuthenticationDataAsyncVerifier {
             }
 
             authenticator = authenticationParameters.getAuthenticator();
+            if (recorder != null) {
+                recorder.recordCredential(null, authenticator.getAttestedCredentialData());
+            }
 
             authenticationObject = new AuthenticationObject(
                     credentialId, authenticatorData, aData, collectedClientData, cData, clientExtensions,
@@ -172,6 +209,7 @@ public class AuthenticationDataAsyncVerifier {
 
             //spec| Step12
             //spec| Verify that the value of C.type is the string webauthn.get.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CLIENT_DATA);
             if (!Objects.equals(collectedClientData.getType(), ClientDataType.WEBAUTHN_GET)) {
                 throw new InconsistentClientDataTypeException("ClientData.type must be 'get' on authentication, but it isn't.");
             }
@@ -204,6 +242,7 @@ public class AuthenticationDataAsyncVerifier {
 
             //spec| Step16
             //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
             RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), serverProperty);
 
             //spec| Step17, 18
@@ -212,6 +251,7 @@ public class AuthenticationDataAsyncVerifier {
             //spec| User verification SHOULD be required if, and only if, options.userVerification is set to required.
             //spec| If user verification was determined to be required, verify that the UV bit of the flags in authData is set.
             //spec| Otherwise, ignore the value of the UV flag.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
             UPUVFlagsVerifier.verify(authenticatorData, authenticationParameters.isUserPresenceRequired(), authenticationParameters.isUserVerificationRequired());
 
             //spec| Step19
@@ -231,6 +271,7 @@ public class AuthenticationDataAsyncVerifier {
         }
 
         private CompletionStage<Void> execStep21(){
+            VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
             //spec| Step21
             //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator
             //spec| extension outputs in the extensions in authData are as expected, considering the client extension input
@@ -249,8 +290,18 @@ public class AuthenticationDataAsyncVerifier {
             //spec| Let hash be the result of computing a hash over the cData using SHA-256.
             //spec| Step23
             //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
-            assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
+            //      (The signature check is the expensive part of the ceremony, so it runs on the configured executor, if any.)
+            VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
+            return CompletionStageUtil.supply(() -> {
+                assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
+                return (Void) null;
+            }, executor).thenCompose(unused -> {
+                VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
+                return verifySignCount();
+            });
+        }
 
+        private CompletionStage<Void> verifySignCount(){
             //spec| Step24
             //spec| If authData.signCount is nonzero or credentialRecord.signCount is nonzero, then run the following sub-step:
             long presentedSignCount = authenticatorData.getSignCount();
@@ -299,6 +350,7 @@ public class AuthenticationDataAsyncVerifier {
             //spec| - Update credentialRecord.signCount to the value of authData.signCount.
             //spec| - Update credentialRecord.backupState to the value of currentBs.
             //spec| - If credentialRecord.uvInitialized is false, update it to the value of the UV bit in the flags in authData. This change SHOULD require authorization by an additional authentication factor equivalent to WebAuthn user verification; if not authorized, skip this step.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
             updateRecord(authenticationParameters.getAuthenticator(), authenticatorData);
 
             //spec| - OPTIONALLY, if response.attestationObject is present, update credentialRecord.attestationObject to the value of response.attestationObject and update credentialRecord.attestationClientDataJSON to the value of response.clientDataJSON.
@@ -307,6 +359,7 @@ public class AuthenticationDataAsyncVerifier {
             //spec| If the Relying Party performs additional security checks beyond these WebAuthn authentication ceremony steps, the above state updates SHOULD be deferred to after those additional checks are completed successfully.
             //      (This step is out of WebAuthn4J scope. It's caller's responsibility.)
 
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
             CompletableFuture<Void> completableFuture = CompletableFuture.completedFuture(null);
             for (CustomAuthenticationAsyncVerifier customAuthenticationAsyncVerifier : customAuthenticationAsyncVerifiers) {
                 completableFuture = completableFuture.thenCompose(unused -> customAuthenticationAsyncVerifier.verify(authenticationObject).toCompletableFuture());
@@ -328,6 +381,35 @@ public class AuthenticationDataAsyncVerifier {
         this.maliciousCounterValueAsyncHandler = maliciousCounterValueAsyncHandler;
     }
 
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor the assertion signature is verified on. When null, the default, it is verified on the
+     * calling thread. Only the signature check is submitted to the executor; the steps before it run on the calling
+     * thread, and the steps after it on the thread that completes it, which is an executor thread when one is set.
+     *
+     * @param executor executor for CPU-heavy verification steps, or null to verify inline
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification. When null, the default,
+     * no timing is taken. Durations of asynchronous steps include the time spent waiting for them to be scheduled.
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
     public OriginAsyncVerifier getOriginAsyncVerifier() {
         return originAsyncVerifier;
     }
@@ -19,7 +19,11 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutput
 import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
+import com.webauthn4j.verifier.VerificationStep;
 import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
@@ -29,6 +33,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class RegistrationDataAsyncVerifier {
 
@@ -48,6 +53,8 @@ public class RegistrationDataAsyncVerifier {
 
 
     private int maxCredentialIdLength = DEFAULT_MAX_CREDENTIAL_ID_LENGTH;
+    private Executor executor;
+    private VerificationObserver verificationObserver;
 
     public RegistrationDataAsyncVerifier(
             List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
@@ -90,6 +97,36 @@ public class RegistrationDataAsyncVerifier {
         this.maxCredentialIdLength = maxCredentialIdLength;
     }
 
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor the attestation statement is verified on. When null, the default, it is verified on the
+     * calling thread. Only the attestation statement verification is submitted to the executor; the steps before it
+     * run on the calling thread, and the steps after it on the thread that completes it, which is an executor thread
+     * when one is set.
+     *
+     * @param executor executor for CPU-heavy verification steps, or null to verify inline
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification. When null, the default,
+     * no timing is taken. Durations of asynchronous steps include the time spent waiting for them to be scheduled.
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
     private class RegistrationDataVerification{
 
         private final RegistrationData registrationData;
@@ -99,13 +136,37 @@ public class RegistrationDataAsyncVerifier {
         private AttestationObject attestationObject;
         private RegistrationObject registrationObject;
         private AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData;
+        private final VerificationMetricsRecorder recorder;
 
         private RegistrationDataVerification(RegistrationData registrationData, RegistrationParameters registrationParameters) {
             this.registrationData = registrationData;
             this.registrationParameters = registrationParameters;
+            this.recorder = VerificationMetricsRecorder.start(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION);
         }
 
         public CompletionStage<RegistrationData> execute(){
+            if (recorder == null) {
+                return executeSteps();
+            }
+            CompletionStage<RegistrationData> completionStage;
+            try {
+                completionStage = executeSteps();
+            }
+            catch (RuntimeException e) {
+                recorder.fail(e);
+                throw e;
+            }
+            return completionStage.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    recorder.complete();
+                }
+                else {
+                    recorder.fail(throwable);
+                }
+            });
+        }
+
+        private CompletionStage<RegistrationData> executeSteps(){
             return execStep1toStep8()
                     .thenCompose(unused -> this.execStep9())
                     .thenCompose(unused -> this.execStep10toStep19())
@@ -117,6 +178,7 @@ public class RegistrationDataAsyncVerifier {
 
         private CompletionStage<Void> execStep1toStep8(){
 
+            VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
             BeanAssertUtil.validate(registrationData);
             AssertUtil.notNull(registrationParameters, "registrationParameters must not be null");
 
@@ -158,6 +220,9 @@ public class RegistrationDataAsyncVerifier {
             collectedClientData = registrationData.getCollectedClientData();
 
             authenticatorData = attestationObject.getAuthenticatorData();
+            if (recorder != null) {
+                recorder.recordCredential(attestationObject.getFormat(), authenticatorData.getAttestedCredentialData());
+            }
             ServerProperty serverProperty = registrationParameters.getServerProperty();
             Set<AuthenticatorTransport> transports = registrationData.getTransports();
 
@@ -176,6 +241,7 @@ public class RegistrationDataAsyncVerifier {
 
             //spec| Step7
             //spec| Verify that the value of C.type is webauthn.create.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CLIENT_DATA);
             if (!Objects.equals(collectedClientData.getType(), ClientDataType.WEBAUTHN_CREATE)) {
                 throw new InconsistentClientDataTypeException("ClientData.type must be 'create' on registration, but it isn't.");
             }
@@ -216,11 +282,13 @@ public class RegistrationDataAsyncVerifier {
 
             //spec| Step13
             //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
             RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), registrationObject.getServerProperty());
 
             //spec| Step14, 15
             //spec| Verify that the UP bit of the flags in authData is set.
             //spec| If the Relying Party requires user verification for this registration, verify that the UV bit of the flags in authData is set.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
             UPUVFlagsVerifier.verify(authenticatorData, registrationParameters.isUserPresenceRequired(), registrationParameters.isUserVerificationRequired());
 
             //spec| Step16
@@ -238,6 +306,7 @@ public class RegistrationDataAsyncVerifier {
 
             //spec| Step19
             //spec| Verify that the "alg" parameter in the credential public key in authData matches the alg attribute of one of the items in options.pubKeyCredParams.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.ALGORITHM);
             COSEAlgorithmIdentifier alg = authenticatorData.getAttestedCredentialData().getCOSEKey().getAlgorithm();
             List<PublicKeyCredentialParameters> pubKeyCredParams = registrationParameters.getPubKeyCredParams();
             COSEAlgorithmIdentifierVerifier.verify(alg, pubKeyCredParams);
@@ -247,6 +316,7 @@ public class RegistrationDataAsyncVerifier {
         }
 
         private CompletionStage<Void> execStep20(){
+            VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
             //spec| Step20
             //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator extension outputs in the extensions in authData are as expected,
             //spec| considering the client extension input values that were given in options.extensions and any specific policy of the Relying Party regarding unsolicited extensions,
@@ -264,12 +334,15 @@ public class RegistrationDataAsyncVerifier {
             //spec| If the attestation statement attStmt successfully verified but is not trustworthy per step 23 above,
             //spec| the Relying Party SHOULD fail the registration ceremony.
             //      (This step is implemented in attestationVerifier#verify)
-            return attestationAsyncVerifier.verify(registrationObject);
+            //      (Attestation signature and cert path checks are expensive, so they run on the configured executor, if any.)
+            VerificationMetricsRecorder.step(recorder, VerificationStep.ATTESTATION_STATEMENT);
+            return CompletionStageUtil.compose(() -> attestationAsyncVerifier.verify(registrationObject, recorder), executor);
         }
 
         private CompletionStage<Void> execStep25toStep27(){
             //spec| Step25
             //spec| Verify that the credentialId is ≤ 1023 bytes. Credential IDs larger than this many bytes SHOULD cause the RP to fail this registration ceremony.
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
             CredentialIdLengthVerifier.verify(attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(), maxCredentialIdLength);
 
             //spec| Step26
@@ -305,6 +378,7 @@ public class RegistrationDataAsyncVerifier {
 
 
             // verify with custom logic
+            VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
             CompletableFuture<Void> completableFuture = CompletableFuture.completedFuture(null);
             for (CustomRegistrationAsyncVerifier customRegistrationAsyncVerifier : customRegistrationAsyncVerifiers) {
                 completableFuture = completableFuture.thenCompose(unused -> customRegistrationAsyncVerifier.verify(registrationObject).toCompletableFuture());
@@ -17,6 +17,7 @@
 package integration.scenario.webauthn;
 
 import com.webauthn4j.async.WebAuthnAsyncManager;
+import com.webauthn4j.async.WebAuthnAuthenticationAsyncManager;
 import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
@@ -35,11 +36,17 @@ import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.EmulatorUtil;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationStep;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -110,6 +117,104 @@ class UserVerifyingAuthenticatorAuthenticationVerificationAsyncTest {
         );
     }
 
+    @Test
+    void verify_with_executor_test() throws ExecutionException, InterruptedException {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getResponse();
+        AuthenticationRequest webAuthnAuthenticationRequest =
+                new AuthenticationRequest(
+                        credential.getRawId(),
+                        authenticationRequest.getAuthenticatorData(),
+                        authenticationRequest.getClientDataJSON(),
+                        authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                        authenticationRequest.getSignature()
+                );
+        AuthenticationParameters authenticationParameters =
+                new AuthenticationParameters(
+                        new ServerProperty(origin, rpId, challenge, null),
+                        TestDataUtil.createAuthenticator(attestationObject),
+                        null,
+                        true
+                );
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "webauthn4j-test-executor"));
+        try {
+            List<String> threadNames = new CopyOnWriteArrayList<>();
+            Executor executor = command -> executorService.execute(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                command.run();
+            });
+            WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager = new WebAuthnAuthenticationAsyncManager(Collections.emptyList(), objectConverter, executor);
+
+            AuthenticationData authenticationData = webAuthnAuthenticationAsyncManager.verify(webAuthnAuthenticationRequest, authenticationParameters).toCompletableFuture().get();
+
+            assertThat(authenticationData.getAuthenticatorData()).isNotNull();
+            // parsing and the signature check are offloaded
+            assertThat(threadNames).hasSize(2).containsOnly("webauthn4j-test-executor");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void verificationObserver_test() throws ExecutionException, InterruptedException {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getResponse();
+        AuthenticationRequest webAuthnAuthenticationRequest =
+                new AuthenticationRequest(
+                        credential.getRawId(),
+                        authenticationRequest.getAuthenticatorData(),
+                        authenticationRequest.getClientDataJSON(),
+                        authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                        authenticationRequest.getSignature()
+                );
+        AuthenticationParameters authenticationParameters =
+                new AuthenticationParameters(
+                        new ServerProperty(origin, rpId, challenge, null),
+                        TestDataUtil.createAuthenticator(attestationObject),
+                        null,
+                        true
+                );
+
+        List<VerificationMetrics> reported = new CopyOnWriteArrayList<>();
+        WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager = new WebAuthnAuthenticationAsyncManager();
+        webAuthnAuthenticationAsyncManager.setVerificationObserver(reported::add);
+
+        webAuthnAuthenticationAsyncManager.verify(webAuthnAuthenticationRequest, authenticationParameters).toCompletableFuture().get();
+
+        assertThat(reported).hasSize(2);
+        assertThat(reported.get(0).getStepDurations()).containsOnlyKeys(VerificationStep.PARSE);
+        VerificationMetrics verification = reported.get(1);
+        assertThat(verification.getCeremony()).isEqualTo(VerificationMetrics.Ceremony.AUTHENTICATION);
+        assertThat(verification.isSuccess()).isTrue();
+        assertThat(verification.getAlgorithm()).isEqualTo(COSEAlgorithmIdentifier.ES256);
+        assertThat(verification.getStepDurations()).containsKeys(VerificationStep.CLIENT_DATA, VerificationStep.SIGNATURE, VerificationStep.COUNTER, VerificationStep.CUSTOM_VERIFIERS);
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
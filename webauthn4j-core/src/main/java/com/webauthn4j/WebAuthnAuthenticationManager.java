@@ -17,6 +17,7 @@
 package com.webauthn4j;
 
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.AuthenticationResponseJSONConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
 import com.webauthn4j.converter.exception.DataConversionException;
@@ -28,17 +29,23 @@ import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthen
 import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.BatchVerificationUtil;
 import com.webauthn4j.verifier.AuthenticationDataVerifier;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.exception.VerificationException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import tools.jackson.core.type.TypeReference;
 
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Manager class for WebAuthn authentication operations.
@@ -56,11 +63,10 @@ public class WebAuthnAuthenticationManager {
     private final CollectedClientDataConverter collectedClientDataConverter;
     private final AuthenticatorDataConverter authenticatorDataConverter;
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+    private final AuthenticationResponseJSONConverter authenticationResponseJSONConverter;
 
     private final AuthenticationDataVerifier authenticationDataVerifier;
 
-    private final ObjectConverter objectConverter;
-
     /**
      * Constructor for WebAuthnAuthenticationManager with custom verifiers and object converter
      *
@@ -78,8 +84,7 @@ public class WebAuthnAuthenticationManager {
         this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
         this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
         this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
-
-        this.objectConverter = objectConverter;
+        this.authenticationResponseJSONConverter = new AuthenticationResponseJSONConverter(objectConverter);
     }
 
     /**
@@ -108,8 +113,11 @@ public class WebAuthnAuthenticationManager {
      * @return the parsed authentication data
      */
     public @NotNull AuthenticationData parse(@NotNull String authenticationResponseJSON) {
-        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonMapper().readValue(authenticationResponseJSON, new TypeReference<>() {});
-        return toAuthenticationData(publicKeyCredential);
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return authenticationResponseJSONConverter.convert(authenticationResponseJSON);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION, () -> authenticationResponseJSONConverter.convert(authenticationResponseJSON));
     }
 
     /**
@@ -119,35 +127,11 @@ public class WebAuthnAuthenticationManager {
      * @return the parsed authentication data
      */
     public @NotNull AuthenticationData parse(@NotNull InputStream authenticationResponseJSON) {
-        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonMapper().readValue(authenticationResponseJSON, new TypeReference<>() {});
-        return toAuthenticationData(publicKeyCredential);
-    }
-
-    @SuppressWarnings("java:S2583")
-    private @NotNull AuthenticationData toAuthenticationData(@NotNull PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential){
-        byte[] credentialId = publicKeyCredential.getRawId();
-        byte[] userHandle = publicKeyCredential.getResponse().getUserHandle();
-
-        byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
-        CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-
-        byte[] authenticatorDataBytes = publicKeyCredential.getResponse().getAuthenticatorData();
-        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
-
-        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = publicKeyCredential.getClientExtensionResults();
-
-        byte[] signature = publicKeyCredential.getResponse().getSignature();
-
-        return new AuthenticationData(
-                credentialId,
-                userHandle,
-                authenticatorData,
-                authenticatorDataBytes,
-                collectedClientData,
-                clientDataBytes,
-                clientExtensions,
-                signature
-        );
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return authenticationResponseJSONConverter.convert(authenticationResponseJSON);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION, () -> authenticationResponseJSONConverter.convert(authenticationResponseJSON));
     }
 
     /**
@@ -157,8 +141,17 @@ public class WebAuthnAuthenticationManager {
      * @return the parsed authentication data
      * @throws DataConversionException if data conversion fails
      */
-    @SuppressWarnings({"squid:S1130", "java:S2583"})
+    @SuppressWarnings("squid:S1130")
     public @NotNull AuthenticationData parse(@NotNull AuthenticationRequest authenticationRequest) throws DataConversionException {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseAuthenticationRequest(authenticationRequest);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION, () -> parseAuthenticationRequest(authenticationRequest));
+    }
+
+    @SuppressWarnings("java:S2583")
+    private @NotNull AuthenticationData parseAuthenticationRequest(@NotNull AuthenticationRequest authenticationRequest) {
         AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
 
         logger.trace("Parse: {}", authenticationRequest);
@@ -255,6 +248,34 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Verifies a batch of WebAuthn authentication requests in parallel on the executor. Every item is verified even
+     * when others fail, and the outcome of each is reported at the same position of the returned list.
+     * Items sharing a credential record should not be verified in the same batch, as verification updates the
+     * signature counter of the record.
+     *
+     * @param items    authentication requests and the parameters to verify them with
+     * @param executor executor to run the verifications on
+     * @return per item results, in the order of the items
+     */
+    public @NotNull List<BatchVerificationResult<AuthenticationData>> verifyAll(
+            @NotNull List<BatchVerificationItem<AuthenticationRequest, AuthenticationParameters>> items,
+            @NotNull Executor executor) {
+        return BatchVerificationUtil.verifyAll(items, item -> verify(item.getRequest(), item.getParameters()), executor);
+    }
+
+    /**
+     * Verifies a batch of WebAuthn authentication requests in parallel on the common {@link ForkJoinPool}
+     *
+     * @param items authentication requests and the parameters to verify them with
+     * @return per item results, in the order of the items
+     * @see #verifyAll(List, Executor)
+     */
+    public @NotNull List<BatchVerificationResult<AuthenticationData>> verifyAll(
+            @NotNull List<BatchVerificationItem<AuthenticationRequest, AuthenticationParameters>> items) {
+        return verifyAll(items, ForkJoinPool.commonPool());
+    }
+
     /**
      * Gets the authentication data verifier
      *
@@ -263,4 +284,23 @@ public class WebAuthnAuthenticationManager {
     public @NotNull AuthenticationDataVerifier getAuthenticationDataVerifier() {
         return authenticationDataVerifier;
     }
+
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return authenticationDataVerifier.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        authenticationDataVerifier.setVerificationObserver(verificationObserver);
+    }
 }
@@ -23,6 +23,7 @@ import com.webauthn4j.verifier.AuthenticationDataVerifier;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
 import com.webauthn4j.verifier.CustomRegistrationVerifier;
 import com.webauthn4j.verifier.RegistrationDataVerifier;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.attestation.statement.AttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.androidkey.NullAndroidKeyAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.androidsafetynet.NullAndroidSafetyNetAttestationStatementVerifier;
@@ -37,6 +38,7 @@ import com.webauthn4j.verifier.attestation.trustworthiness.self.NullSelfAttestat
 import com.webauthn4j.verifier.attestation.trustworthiness.self.SelfAttestationTrustworthinessVerifier;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -415,4 +417,15 @@ public class WebAuthnManager {
     public @NotNull AuthenticationDataVerifier getAuthenticationDataVerifier() {
         return this.webAuthnAuthenticationManager.getAuthenticationDataVerifier();
     }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each registration and authentication
+     * parse and verification. When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.webAuthnRegistrationManager.setVerificationObserver(verificationObserver);
+        this.webAuthnAuthenticationManager.setVerificationObserver(verificationObserver);
+    }
 }
@@ -28,8 +28,11 @@ import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.BatchVerificationUtil;
 import com.webauthn4j.verifier.CustomRegistrationVerifier;
 import com.webauthn4j.verifier.RegistrationDataVerifier;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
 import com.webauthn4j.verifier.attestation.statement.AttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.androidkey.NullAndroidKeyAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.androidsafetynet.NullAndroidSafetyNetAttestationStatementVerifier;
@@ -43,7 +46,9 @@ import com.webauthn4j.verifier.attestation.trustworthiness.certpath.NullCertPath
 import com.webauthn4j.verifier.attestation.trustworthiness.self.NullSelfAttestationTrustworthinessVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.self.SelfAttestationTrustworthinessVerifier;
 import com.webauthn4j.verifier.exception.VerificationException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.type.TypeReference;
@@ -52,6 +57,8 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.Set;
 
 /**
@@ -216,6 +223,14 @@ public class WebAuthnRegistrationManager {
      * @return the parsed registration data
      */
     public @NotNull RegistrationData parse(@NotNull String registrationResponseJSON) {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseRegistrationResponseJSON(registrationResponseJSON);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION, () -> parseRegistrationResponseJSON(registrationResponseJSON));
+    }
+
+    private @NotNull RegistrationData parseRegistrationResponseJSON(@NotNull String registrationResponseJSON) {
         PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonMapper().readValue(registrationResponseJSON, new TypeReference<>() {});
         return toRegistrationData(publicKeyCredential);
     }
@@ -227,6 +242,14 @@ public class WebAuthnRegistrationManager {
      * @return the parsed registration data
      */
     public @NotNull RegistrationData parse(@NotNull InputStream registrationResponseJSON) {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseRegistrationResponseJSON(registrationResponseJSON);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION, () -> parseRegistrationResponseJSON(registrationResponseJSON));
+    }
+
+    private @NotNull RegistrationData parseRegistrationResponseJSON(@NotNull InputStream registrationResponseJSON) {
         PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonMapper().readValue(registrationResponseJSON, new TypeReference<>() {});
         return toRegistrationData(publicKeyCredential);
     }
@@ -255,8 +278,17 @@ public class WebAuthnRegistrationManager {
      * @return the parsed registration data
      * @throws DataConversionException if data conversion fails
      */
-    @SuppressWarnings({"java:S2583", "squid:S1130"})
+    @SuppressWarnings("squid:S1130")
     public @NotNull RegistrationData parse(@NotNull RegistrationRequest registrationRequest) throws DataConversionException {
+        VerificationObserver verificationObserver = getVerificationObserver();
+        if (verificationObserver == null) {
+            return parseRegistrationRequest(registrationRequest);
+        }
+        return VerificationMetricsRecorder.observeParse(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION, () -> parseRegistrationRequest(registrationRequest));
+    }
+
+    @SuppressWarnings("java:S2583")
+    private @NotNull RegistrationData parseRegistrationRequest(@NotNull RegistrationRequest registrationRequest) {
         AssertUtil.notNull(registrationRequest, "registrationRequest must not be null");
 
         byte[] clientDataBytes = registrationRequest.getClientDataJSON();
@@ -338,6 +370,32 @@ public class WebAuthnRegistrationManager {
         return registrationData;
     }
 
+    /**
+     * Verifies a batch of WebAuthn registration requests in parallel on the executor. Every item is verified even
+     * when others fail, and the outcome of each is reported at the same position of the returned list.
+     *
+     * @param items    registration requests and the parameters to verify them with
+     * @param executor executor to run the verifications on
+     * @return per item results, in the order of the items
+     */
+    public @NotNull List<BatchVerificationResult<RegistrationData>> verifyAll(
+            @NotNull List<BatchVerificationItem<RegistrationRequest, RegistrationParameters>> items,
+            @NotNull Executor executor) {
+        return BatchVerificationUtil.verifyAll(items, item -> verify(item.getRequest(), item.getParameters()), executor);
+    }
+
+    /**
+     * Verifies a batch of WebAuthn registration requests in parallel on the common {@link ForkJoinPool}
+     *
+     * @param items registration requests and the parameters to verify them with
+     * @return per item results, in the order of the items
+     * @see #verifyAll(List, Executor)
+     */
+    public @NotNull List<BatchVerificationResult<RegistrationData>> verifyAll(
+            @NotNull List<BatchVerificationItem<RegistrationRequest, RegistrationParameters>> items) {
+        return verifyAll(items, ForkJoinPool.commonPool());
+    }
+
     /**
      * Gets the registration data verifier
      *
@@ -347,4 +405,23 @@ public class WebAuthnRegistrationManager {
         return registrationDataVerifier;
     }
 
+    /**
+     * Gets the observer notified with the step timings and outcome of each parse and verification
+     *
+     * @return the observer, or null if none is registered
+     */
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return registrationDataVerifier.getVerificationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each parse and verification.
+     * When null, the default, no timing is taken.
+     *
+     * @param verificationObserver the observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        registrationDataVerifier.setVerificationObserver(verificationObserver);
+    }
+
 }
@@ -88,7 +88,7 @@ public class KeyStoreTrustAnchorRepository implements TrustAnchorRepository{
                 X509Certificate certificate = (X509Certificate) keyStore.getCertificate(alias);
                 trustAnchors.add(new TrustAnchor(certificate, null));
             }
-            return trustAnchors;
+            return Collections.unmodifiableSet(trustAnchors);
         } catch (java.security.KeyStoreException e) {
             throw new KeyStoreException("Failed to load TrustAnchor from keystore", e);
         }
@@ -24,6 +24,7 @@ import java.util.Set;
 /**
  * Repository interface that look up {@link TrustAnchor}(s)
  * WebAuthn4J uses this interface to lookup {@link TrustAnchor}(s) for an attestation certificate when verifying the authenticator.
+ * A returned set must not be modified afterwards, as verifiers may cache what they derive from it per set instance.
  */
 public interface TrustAnchorRepository {
 
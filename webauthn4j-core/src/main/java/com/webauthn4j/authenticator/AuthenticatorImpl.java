@@ -63,7 +63,7 @@ public class AuthenticatorImpl extends CoreAuthenticatorImpl implements Authenti
             @Nullable AttestationStatement attestationStatement,
             long counter,
             @Nullable Set<AuthenticatorTransport> transports) {
-        this(attestedCredentialData, attestationStatement, counter, transports, new AuthenticationExtensionsClientOutputs<>(), new AuthenticationExtensionsAuthenticatorOutputs<>());
+        this(attestedCredentialData, attestationStatement, counter, transports, AuthenticationExtensionsClientOutputs.empty(), AuthenticationExtensionsAuthenticatorOutputs.empty());
     }
 
     public AuthenticatorImpl(
@@ -60,6 +60,8 @@ public class AttestedCredentialDataConverter {
     private static final int CREDENTIAL_ID_INDEX = L_INDEX + L_LENGTH;
 
     private final ObjectConverter objectConverter;
+    // Built on first use, as most keys are decoded by COSEKeyDecoder. A racy initialization only builds an equivalent mapper twice.
+    private CBORMapper credentialPublicKeyCborMapper;
 
     /**
      * Constructor for AttestedCredentialDataConverter
@@ -123,16 +125,9 @@ public class AttestedCredentialDataConverter {
             int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
             byte[] credentialId = new byte[length];
             attestedCredentialData.get(credentialId, 0, length);
-            byte[] remaining = new byte[attestedCredentialData.remaining()];
-            attestedCredentialData.get(remaining);
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-            COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
-            COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
+            COSEKey coseKey = convertToCredentialPublicKey(attestedCredentialData);
             assertCoseKey(coseKey);
             AttestedCredentialData result = createAttestedCredentialData(aaguid, credentialId, coseKey);
-            int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-            //This cast is necessary to be complied with JDK 17 when targeting JDK 8
-            ((Buffer)attestedCredentialData).position(attestedCredentialData.position() - extensionsBufferLength);
             return result;
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
@@ -167,12 +162,44 @@ public class AttestedCredentialDataConverter {
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
+    /**
+     * Decodes the credential public key at the position of {@code byteBuffer}, and advances the position past it.
+     * Common key shapes are decoded by {@link COSEKeyDecoder} in place, others by Jackson.
+     *
+     * @param byteBuffer buffer positioned at the credential public key
+     * @return the credential public key
+     */
+    @Nullable COSEKey convertToCredentialPublicKey(@NotNull ByteBuffer byteBuffer) {
+        COSEKey coseKey = COSEKeyDecoder.decode(byteBuffer);
+        if (coseKey != null) {
+            return coseKey;
+        }
+        int position = byteBuffer.position();
+        InputStream inputStream;
+        if (byteBuffer.hasArray()) {
+            inputStream = new ByteArrayInputStream(byteBuffer.array(), byteBuffer.arrayOffset() + position, byteBuffer.remaining());
+        }
+        else {
+            byte[] remaining = new byte[byteBuffer.remaining()];
+            byteBuffer.get(position, remaining);
+            inputStream = new ByteArrayInputStream(remaining);
+        }
+        COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(inputStream);
+        //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+        ((Buffer) byteBuffer).position(position + coseKeyEnvelope.getLength());
+        return coseKeyEnvelope.getCOSEKey();
+    }
+
     @NotNull COSEKeyEnvelope convertToCredentialPublicKey(@NotNull InputStream inputStream) {
         AssertUtil.notNull(inputStream, "inputStream must not be null");
+        CBORMapper adjustedCborMapper = credentialPublicKeyCborMapper;
+        if (adjustedCborMapper == null) {
+            adjustedCborMapper = objectConverter.getCborMapper().rebuild()
+                    .configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, false)
+                    .build();
+            credentialPublicKeyCborMapper = adjustedCborMapper;
+        }
         //noinspection ConstantConditions as input stream is not null
-        CBORMapper adjustedCborMapper = objectConverter.getCborMapper().rebuild()
-                .configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, false)
-                .build();
         return adjustedCborMapper.readValue(inputStream, COSEKeyEnvelope.class);
     }
 
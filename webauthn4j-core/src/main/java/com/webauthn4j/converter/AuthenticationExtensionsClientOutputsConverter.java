@@ -23,8 +23,8 @@ import com.webauthn4j.data.extension.client.ExtensionClientOutput;
 import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.json.JsonMapper;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Converter for {@link AuthenticationExtensionsClientOutputs}
@@ -67,8 +67,8 @@ public class AuthenticationExtensionsClientOutputsConverter {
         try {
             AssertUtil.notNull(value, "value must not be null");
             JsonMapper jsonMapper = objectConverter.getJsonMapper();
-            ObjectNode rawData = jsonMapper.readValue(value, ObjectNode.class);
-            return new AuthenticationExtensionsClientOutputs<>(rawData, objectConverter);
+            return jsonMapper.readValue(value, new TypeReference<AuthenticationExtensionsClientOutputs<T>>() {
+            });
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.core.Base64Variant;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.exc.ValueInstantiationException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Converter from an authentication response JSON (a serialized {@code PublicKeyCredential} with an
+ * {@code AuthenticatorAssertionResponse}) to {@link AuthenticationData}.
+ * <p>
+ * The JSON is read in a single pass over the token stream instead of being bound to an intermediate
+ * {@code PublicKeyCredential} object graph. base64url members are decoded from the token stream into a per-thread
+ * buffer that is reused across conversions, so only the resulting byte arrays are allocated. clientDataJSON is parsed
+ * from its decoded bytes, and unknown members are skipped without being materialized.
+ */
+public class AuthenticationResponseJSONConverter {
+
+    // Accepts both unpadded and padded input, like Base64UrlUtil
+    private static final Base64Variant BASE64URL = new Base64Variant("base64url", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", true, '=', Integer.MAX_VALUE)
+            .withPaddingAllowed();
+
+    // Large enough for typical authenticatorData and signatures. Buffers grown beyond the limit by an unusually large
+    // member are not kept, so that an idle thread does not pin them.
+    private static final int INITIAL_DECODE_BUFFER_SIZE = 512;
+    private static final int MAX_POOLED_DECODE_BUFFER_SIZE = 16 * 1024;
+    private static final ThreadLocal<DecodeBuffer> DECODE_BUFFER = ThreadLocal.withInitial(DecodeBuffer::new);
+
+    //~ Instance fields
+    // ================================================================================================
+    private final ObjectConverter objectConverter;
+    private final ObjectReader clientExtensionsReader;
+    private final CollectedClientDataConverter collectedClientDataConverter;
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+
+    //~ Constructors
+    // ================================================================================================
+
+    public AuthenticationResponseJSONConverter(@NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
+        this.clientExtensionsReader = objectConverter.getJsonMapper()
+                .readerFor(new TypeReference<AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput>>() {})
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+    }
+
+    //~ Methods
+    // ================================================================================================
+
+    /**
+     * Converts from an authentication response JSON {@link String} to {@link AuthenticationData}.
+     *
+     * @param source the source JSON string to convert
+     * @return the converted object
+     */
+    public @NotNull AuthenticationData convert(@NotNull String source) {
+        try {
+            AssertUtil.notNull(source, "source must not be null");
+            try (JsonParser parser = objectConverter.getJsonMapper().createParser(source)) {
+                return read(parser);
+            }
+        } catch (MismatchedInputException | ValueInstantiationException | StreamReadException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts from an authentication response JSON {@link InputStream} to {@link AuthenticationData}.
+     *
+     * @param source the source JSON stream to convert
+     * @return the converted object
+     */
+    public @NotNull AuthenticationData convert(@NotNull InputStream source) {
+        try {
+            AssertUtil.notNull(source, "source must not be null");
+            try (JsonParser parser = objectConverter.getJsonMapper().createParser(source)) {
+                return read(parser);
+            }
+        } catch (MismatchedInputException | ValueInstantiationException | StreamReadException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private @NotNull AuthenticationData read(@NotNull JsonParser parser) {
+        expectStartObject(parser.nextToken(), "authentication response");
+
+        byte[] credentialId = null;
+        byte[] userHandle = null;
+        byte[] clientDataBytes = null;
+        byte[] authenticatorDataBytes = null;
+        byte[] signature = null;
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = null;
+
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "rawId":
+                    credentialId = readBase64Url(parser);
+                    break;
+                case "response":
+                    if (token == JsonToken.VALUE_NULL) {
+                        break;
+                    }
+                    expectStartObject(token, "response");
+                    for (String responseName = parser.nextName(); responseName != null; responseName = parser.nextName()) {
+                        parser.nextToken();
+                        switch (responseName) {
+                            case "clientDataJSON":
+                                clientDataBytes = readBase64Url(parser);
+                                break;
+                            case "authenticatorData":
+                                authenticatorDataBytes = readBase64Url(parser);
+                                break;
+                            case "signature":
+                                signature = readBase64Url(parser);
+                                break;
+                            case "userHandle":
+                                userHandle = readBase64Url(parser);
+                                break;
+                            default:
+                                parser.skipChildren();
+                                break;
+                        }
+                    }
+                    break;
+                case "clientExtensionResults":
+                    clientExtensions = token == JsonToken.VALUE_NULL ? null : clientExtensionsReader.readValue(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
+
+        return new AuthenticationData(
+                credentialId,
+                userHandle,
+                authenticatorData,
+                authenticatorDataBytes,
+                collectedClientData,
+                clientDataBytes,
+                clientExtensions,
+                signature
+        );
+    }
+
+    private static @Nullable byte[] readBase64Url(@NotNull JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new DataConversionException(String.format("'%s' must be a base64url encoded string.", parser.currentName()));
+        }
+        DecodeBuffer buffer = DECODE_BUFFER.get();
+        buffer.reset();
+        parser.readBinaryValue(BASE64URL, buffer);
+        byte[] decoded = buffer.toByteArray();
+        if (buffer.capacity() > MAX_POOLED_DECODE_BUFFER_SIZE) {
+            DECODE_BUFFER.remove();
+        }
+        return decoded;
+    }
+
+    private static void expectStartObject(@Nullable JsonToken token, @NotNull String name) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new DataConversionException(String.format("%s must be a JSON object.", name));
+        }
+    }
+
+    /**
+     * Unsynchronized growable byte sink, confined to a single thread through {@link #DECODE_BUFFER}
+     */
+    private static final class DecodeBuffer extends OutputStream {
+
+        private byte[] bytes = new byte[INITIAL_DECODE_BUFFER_SIZE];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+
+        @NotNull byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, minCapacity));
+            }
+        }
+    }
+}
@@ -18,10 +18,10 @@ package com.webauthn4j.converter;
 
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.jackson.deserializer.cbor.AuthenticationExtensionsAuthenticatorOutputsEnvelope;
-import com.webauthn4j.converter.jackson.deserializer.cbor.COSEKeyEnvelope;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
@@ -144,7 +144,7 @@ public class AuthenticatorDataConverter {
                 extensions = convertToExtensions(byteBuffer);
             }
             else {
-                extensions = new AuthenticationExtensionsAuthenticatorOutputs<>();
+                extensions = AuthenticationExtensionsAuthenticatorOutputs.empty();
             }
             if (byteBuffer.hasRemaining()) {
                 throw new DataConversionException("provided data does not have proper byte layout");
@@ -159,6 +159,19 @@ public class AuthenticatorDataConverter {
         }
     }
 
+    /**
+     * Wraps a byte array in an {@link AuthenticatorDataView}, without copying or decoding it.
+     * Only the fixed-length layout is checked here; extensions are decoded when first requested from the view.
+     *
+     * @param <T>    the type of extension authenticator output
+     * @param source the source byte array, shared with the returned view
+     * @return the view
+     * @throws DataConversionException if the fixed-length layout is invalid
+     */
+    public <T extends ExtensionAuthenticatorOutput> @NotNull AuthenticatorDataView<T> convertToView(@NotNull byte[] source) {
+        return new AuthenticatorDataView<>(source, this);
+    }
+
     /**
      * Extract attestedCredentialData byte array from an authenticatorData byte array.
      *
@@ -171,10 +184,9 @@ public class AuthenticatorDataConverter {
         int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
-        COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
-        int credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        ByteBuffer credentialPublicKeyBuffer = ByteBuffer.wrap(authenticatorData, credentialPublicKeyIndex, authenticatorData.length - credentialPublicKeyIndex);
+        attestedCredentialDataConverter.convertToCredentialPublicKey(credentialPublicKeyBuffer);
+        int credentialPublicKeyLength = credentialPublicKeyBuffer.position() - credentialPublicKeyIndex;
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
         return Arrays.copyOfRange(authenticatorData, ATTESTED_CREDENTIAL_DATA_INDEX, ATTESTED_CREDENTIAL_DATA_INDEX + attestedCredentialDataLength);
     }
@@ -204,7 +216,7 @@ public class AuthenticatorDataConverter {
     <T extends ExtensionAuthenticatorOutput> @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> convertToExtensions(@NotNull ByteBuffer byteBuffer) {
         // Since convertToExtensions is called when ED flag is set, return empty AuthenticationExtensionsAuthenticatorOutputs even when remaining is zero.
         if (byteBuffer.remaining() == 0) {
-            return new AuthenticationExtensionsAuthenticatorOutputs<>();
+            return AuthenticationExtensionsAuthenticatorOutputs.empty();
         }
         byte[] remaining = new byte[byteBuffer.remaining()];
         byteBuffer.get(remaining);
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EdDSACOSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decoder for the COSE_Key shapes authenticators put in attested credential data: a definite-length map with small
+ * integer labels, holding an OKP, EC2 or RSA public key.
+ * <p>
+ * The key is read directly from the buffer at its position. The remaining bytes are not copied and no Jackson parser
+ * is created. Anything outside that shape makes {@link #decode(ByteBuffer)} return null and leave the buffer
+ * untouched. This covers key ids, key_ops, private key parameters, unknown or duplicate labels, indefinite lengths and
+ * unexpected value types. The caller then falls back to Jackson, which returns the same result or error as before.
+ */
+final class COSEKeyDecoder {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INT = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INT = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_MAP = 5;
+
+    private static final long LABEL_KTY = 1;
+    private static final long LABEL_ALG = 3;
+    private static final long LABEL_CRV_OR_N = -1;
+    private static final long LABEL_X_OR_E = -2;
+    private static final long LABEL_Y = -3;
+
+    private static final long KTY_OKP = 1;
+    private static final long KTY_EC2 = 2;
+    private static final long KTY_RSA = 3;
+
+    private static final int MAX_ENTRIES = 5;
+    private static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final ByteBuffer buffer;
+    private int position;
+
+    private long kty;
+    private COSEAlgorithmIdentifier algorithm;
+    private long crv = UNSUPPORTED;
+    private byte[] minus1Bytes;
+    private byte[] minus2Bytes;
+    private byte[] minus3Bytes;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    private COSEKeyDecoder(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Decodes a COSE key at the position of {@code buffer}, and advances the position past it on success.
+     *
+     * @param buffer buffer positioned at the COSE key
+     * @return the decoded key, or null if the key has to be decoded by Jackson
+     */
+    static @Nullable COSEKey decode(@NotNull ByteBuffer buffer) {
+        COSEKeyDecoder decoder = new COSEKeyDecoder(buffer);
+        COSEKey coseKey = decoder.decodeMap();
+        if (coseKey != null) {
+            buffer.position(decoder.position);
+        }
+        return coseKey;
+    }
+
+    private @Nullable COSEKey decodeMap() {
+        int initialByte = readByte();
+        if (initialByte < 0 || initialByte >>> 5 != MAJOR_TYPE_MAP) {
+            return null;
+        }
+        long size = readArgument(initialByte);
+        if (size == UNSUPPORTED || size > MAX_ENTRIES) {
+            return null;
+        }
+        for (long i = 0; i < size; i++) {
+            if (!decodeEntry()) {
+                return null;
+            }
+        }
+        return createCOSEKey();
+    }
+
+    private boolean decodeEntry() {
+        long label = readInteger();
+        if (label == LABEL_KTY) {
+            if (kty != 0) {
+                return false;
+            }
+            kty = readInteger();
+            return kty == KTY_OKP || kty == KTY_EC2 || kty == KTY_RSA;
+        }
+        else if (label == LABEL_ALG) {
+            if (algorithm != null) {
+                return false;
+            }
+            long value = readInteger();
+            if (value == UNSUPPORTED) {
+                return false;
+            }
+            algorithm = COSEAlgorithmIdentifier.create(value);
+            return true;
+        }
+        else if (label == LABEL_CRV_OR_N) {
+            // -1 is crv (integer) for OKP and EC2 keys, and n (byte string) for RSA keys
+            if (crv != UNSUPPORTED || minus1Bytes != null) {
+                return false;
+            }
+            if (peekMajorType() == MAJOR_TYPE_BYTE_STRING) {
+                minus1Bytes = readByteString();
+                return minus1Bytes != null;
+            }
+            crv = readInteger();
+            return crv != UNSUPPORTED;
+        }
+        else if (label == LABEL_X_OR_E) {
+            if (minus2Bytes != null) {
+                return false;
+            }
+            minus2Bytes = readByteString();
+            return minus2Bytes != null;
+        }
+        else if (label == LABEL_Y) {
+            if (minus3Bytes != null) {
+                return false;
+            }
+            minus3Bytes = readByteString();
+            return minus3Bytes != null;
+        }
+        return false;
+    }
+
+    private @Nullable COSEKey createCOSEKey() {
+        if (kty == KTY_RSA) {
+            if (crv != UNSUPPORTED || minus3Bytes != null) {
+                return null;
+            }
+            return new RSACOSEKey(null, algorithm, null, minus1Bytes, minus2Bytes);
+        }
+        if (kty != KTY_OKP && kty != KTY_EC2) {
+            return null;
+        }
+        if (minus1Bytes != null || (kty == KTY_OKP && minus3Bytes != null)) {
+            return null;
+        }
+        Curve curve = null;
+        if (crv != UNSUPPORTED) {
+            if (crv < Integer.MIN_VALUE || crv > Integer.MAX_VALUE) {
+                return null;
+            }
+            try {
+                curve = Curve.create((int) crv);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        if (kty == KTY_OKP) {
+            return new EdDSACOSEKey(null, algorithm, null, curve, minus2Bytes, null);
+        }
+        return new EC2COSEKey(null, algorithm, null, curve, minus2Bytes, minus3Bytes, null);
+    }
+
+    private int peekMajorType() {
+        return position < buffer.limit() ? (buffer.get(position) & 0xFF) >>> 5 : -1;
+    }
+
+    private int readByte() {
+        if (position >= buffer.limit()) {
+            return -1;
+        }
+        return buffer.get(position++) & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned or negative integer of up to four bytes
+     */
+    private long readInteger() {
+        int initialByte = readByte();
+        if (initialByte < 0) {
+            return UNSUPPORTED;
+        }
+        int majorType = initialByte >>> 5;
+        if (majorType != MAJOR_TYPE_UNSIGNED_INT && majorType != MAJOR_TYPE_NEGATIVE_INT) {
+            return UNSUPPORTED;
+        }
+        long argument = readArgument(initialByte);
+        if (argument == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return majorType == MAJOR_TYPE_UNSIGNED_INT ? argument : -1 - argument;
+    }
+
+    private @Nullable byte[] readByteString() {
+        int initialByte = readByte();
+        if (initialByte < 0 || initialByte >>> 5 != MAJOR_TYPE_BYTE_STRING) {
+            return null;
+        }
+        long length = readArgument(initialByte);
+        if (length == UNSUPPORTED || length > buffer.limit() - position) {
+            return null;
+        }
+        byte[] value = new byte[(int) length];
+        buffer.get(position, value);
+        position += value.length;
+        return value;
+    }
+
+    /**
+     * Reads the argument of a data item header, which is limited to four bytes here
+     */
+    private long readArgument(int initialByte) {
+        int additionalInformation = initialByte & 0x1F;
+        if (additionalInformation < 24) {
+            return additionalInformation;
+        }
+        int length;
+        switch (additionalInformation) {
+            case 24:
+                length = 1;
+                break;
+            case 25:
+                length = 2;
+                break;
+            case 26:
+                length = 4;
+                break;
+            default:
+                return UNSUPPORTED;
+        }
+        if (length > buffer.limit() - position) {
+            return UNSUPPORTED;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (buffer.get(position++) & 0xFF);
+        }
+        return value;
+    }
+}
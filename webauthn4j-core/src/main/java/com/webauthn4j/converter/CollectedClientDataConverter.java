@@ -24,8 +24,6 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Converter for {@link CollectedClientData}
  */
@@ -72,8 +70,7 @@ public class CollectedClientDataConverter {
     public @Nullable CollectedClientData convert(@NotNull byte[] source) {
         try {
             AssertUtil.notNull(source, "source must not be null");
-            String jsonString = new String(source, StandardCharsets.UTF_8);
-            return objectConverter.getJsonMapper().readValue(jsonString, CollectedClientData.class);
+            return objectConverter.getJsonMapper().readValue(source, CollectedClientData.class);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
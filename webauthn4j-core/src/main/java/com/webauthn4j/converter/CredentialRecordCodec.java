@@ -0,0 +1,503 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.AttestationStatementEnvelope;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.UnsignedNumberUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.exc.ValueInstantiationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Compact, versioned binary codec for {@link CredentialRecord}, meant for persisting credential records and loading
+ * them back in front of each authentication.
+ * <p>
+ * Layout of version 1, with integers in big-endian order:
+ * <pre>
+ * version                  u8       1
+ * flags                    u8       uvInitialized, backupEligible and backupState, and whether each of them is present
+ * counter                  u32
+ * transports               u8       number of transports, or 0xFF if absent, each followed by a u8 length and UTF-8 value
+ * attestedCredentialData   section  AAGUID, credential ID and credential public key in the WebAuthn binary layout
+ * attestationStatement     section  CBOR {@link AttestationStatementEnvelope}
+ * authenticatorExtensions  section  CBOR
+ * clientData               section  JSON
+ * clientExtensions         section  JSON
+ * </pre>
+ * Each section is a u32 length, or 0xFFFFFFFF if the value is absent, followed by that many bytes.
+ * <p>
+ * The credential public key is decoded without Jackson for the common key shapes. The other sections are read in place
+ * from the source array, and absent sections are not parsed at all. {@link #decode(byte[])} returns a plain
+ * {@link CredentialRecordImpl}, equal to the record it was encoded from. {@link #decodeForAuthentication(byte[])}
+ * defers the attestation statement, extension and client data sections, which an authentication ceremony does not read,
+ * until they are first accessed.
+ */
+public class CredentialRecordCodec {
+
+    private static final int VERSION_1 = 1;
+
+    private static final int FLAG_UV_INITIALIZED = 0x01;
+    private static final int FLAG_BACKUP_ELIGIBLE = 0x02;
+    private static final int FLAG_BACKUP_STATE = 0x04;
+    private static final int FLAG_UV_INITIALIZED_PRESENT = 0x10;
+    private static final int FLAG_BACKUP_ELIGIBLE_PRESENT = 0x20;
+    private static final int FLAG_BACKUP_STATE_PRESENT = 0x40;
+
+    private static final int ABSENT_TRANSPORTS = 0xFF;
+    private static final int ABSENT_SECTION = -1;
+
+    private static final TypeReference<AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput>> AUTHENTICATOR_EXTENSIONS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput>> CLIENT_EXTENSIONS_TYPE = new TypeReference<>() {
+    };
+
+    //~ Instance fields
+    // ================================================================================================
+    private final ObjectConverter objectConverter;
+    private final AttestedCredentialDataConverter attestedCredentialDataConverter;
+
+    //~ Constructors
+    // ================================================================================================
+
+    public CredentialRecordCodec(@NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
+        this.attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+    }
+
+    //~ Methods
+    // ================================================================================================
+
+    /**
+     * Encodes a {@link CredentialRecord} into the current format version.
+     *
+     * @param credentialRecord the credential record to encode
+     * @return the encoded bytes
+     * @throws DataConversionException if the credential record cannot be encoded
+     */
+    public @NotNull byte[] encode(@NotNull CredentialRecord credentialRecord) {
+        try {
+            AssertUtil.notNull(credentialRecord, "credentialRecord must not be null");
+
+            byte[] attestedCredentialData = attestedCredentialDataConverter.convert(credentialRecord.getAttestedCredentialData());
+            AttestationStatement attestationStatement = credentialRecord.getAttestationStatement();
+            byte[] attestationStatementBytes = attestationStatement == null ? null :
+                    objectConverter.getCborMapper().writeValueAsBytes(new AttestationStatementEnvelope(attestationStatement));
+            AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions = credentialRecord.getAuthenticatorExtensions();
+            byte[] authenticatorExtensionsBytes = authenticatorExtensions == null ? null : objectConverter.getCborMapper().writeValueAsBytes(authenticatorExtensions);
+            CollectedClientData clientData = credentialRecord.getClientData();
+            byte[] clientDataBytes = clientData == null ? null : objectConverter.getJsonMapper().writeValueAsBytes(clientData);
+            AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions = credentialRecord.getClientExtensions();
+            byte[] clientExtensionsBytes = clientExtensions == null ? null : objectConverter.getJsonMapper().writeValueAsBytes(clientExtensions);
+            byte[][] transports = encodeTransports(credentialRecord.getTransports());
+
+            int length = 1 + 1 + 4 + 1;
+            if (transports != null) {
+                for (byte[] transport : transports) {
+                    length += 1 + transport.length;
+                }
+            }
+            length += sectionLength(attestedCredentialData) + sectionLength(attestationStatementBytes) + sectionLength(authenticatorExtensionsBytes)
+                    + sectionLength(clientDataBytes) + sectionLength(clientExtensionsBytes);
+
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            buffer.put((byte) VERSION_1);
+            buffer.put((byte) encodeFlags(credentialRecord));
+            buffer.put(UnsignedNumberUtil.toBytes(credentialRecord.getCounter()));
+            if (transports == null) {
+                buffer.put((byte) ABSENT_TRANSPORTS);
+            }
+            else {
+                buffer.put((byte) transports.length);
+                for (byte[] transport : transports) {
+                    buffer.put((byte) transport.length);
+                    buffer.put(transport);
+                }
+            }
+            putSection(buffer, attestedCredentialData);
+            putSection(buffer, attestationStatementBytes);
+            putSection(buffer, authenticatorExtensionsBytes);
+            putSection(buffer, clientDataBytes);
+            putSection(buffer, clientExtensionsBytes);
+            return buffer.array();
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Decodes a credential record encoded by {@link #encode(CredentialRecord)}.
+     *
+     * @param source the encoded bytes
+     * @return the decoded credential record
+     * @throws DataConversionException if the source is not a supported encoding
+     */
+    public @NotNull CredentialRecordImpl decode(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return parse(source).toCredentialRecordImpl();
+    }
+
+    /**
+     * Decodes a credential record encoded by {@link #encode(CredentialRecord)} for an authentication ceremony.
+     * <p>
+     * The layout, flags, counter, transports and attested credential data are decoded up front. The attestation
+     * statement, both extension sections and the client data are decoded on first access, so that loading a record in
+     * front of an authentication does not parse the attestation certificates or any JSON. A malformed deferred section
+     * is therefore reported by the {@link DataConversionException} thrown from its getter rather than from this method.
+     * <p>
+     * The returned record is not thread-safe, and unlike {@link #decode(byte[])} it does not implement value equality.
+     *
+     * @param source the encoded bytes
+     * @return the decoded credential record
+     * @throws DataConversionException if the source is not a supported encoding
+     */
+    public @NotNull CredentialRecord decodeForAuthentication(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return parse(source.clone());
+    }
+
+    private @NotNull LazyCredentialRecord parse(@NotNull byte[] source) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(source);
+
+            int version = buffer.get() & 0xFF;
+            if (version != VERSION_1) {
+                throw new DataConversionException("Unsupported credential record format version: " + version);
+            }
+            int flags = buffer.get() & 0xFF;
+            long counter = UnsignedNumberUtil.getUnsignedInt(buffer);
+            Set<AuthenticatorTransport> transports = decodeTransports(buffer);
+
+            int attestedCredentialDataLength = getSectionLength(buffer);
+            if (attestedCredentialDataLength == ABSENT_SECTION) {
+                throw new DataConversionException("attestedCredentialData must not be absent");
+            }
+            ByteBuffer attestedCredentialDataBuffer = ByteBuffer.wrap(source, buffer.position(), attestedCredentialDataLength);
+            AttestedCredentialData attestedCredentialData = attestedCredentialDataConverter.convert(attestedCredentialDataBuffer);
+            if (attestedCredentialDataBuffer.hasRemaining()) {
+                throw new DataConversionException("attestedCredentialData has trailing bytes");
+            }
+            buffer.position(buffer.position() + attestedCredentialDataLength);
+
+            long attestationStatement = skipSection(buffer);
+            long authenticatorExtensions = skipSection(buffer);
+            long clientData = skipSection(buffer);
+            long clientExtensions = skipSection(buffer);
+            if (buffer.hasRemaining()) {
+                throw new DataConversionException("provided data does not have proper byte layout");
+            }
+            return new LazyCredentialRecord(source, flags, counter, transports, attestedCredentialData,
+                    attestationStatement, authenticatorExtensions, clientData, clientExtensions);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException("provided data does not have proper byte layout", e);
+        }
+    }
+
+    private static int encodeFlags(@NotNull CredentialRecord credentialRecord) {
+        return encodeFlag(credentialRecord.isUvInitialized(), FLAG_UV_INITIALIZED_PRESENT, FLAG_UV_INITIALIZED)
+                | encodeFlag(credentialRecord.isBackupEligible(), FLAG_BACKUP_ELIGIBLE_PRESENT, FLAG_BACKUP_ELIGIBLE)
+                | encodeFlag(credentialRecord.isBackedUp(), FLAG_BACKUP_STATE_PRESENT, FLAG_BACKUP_STATE);
+    }
+
+    private static int encodeFlag(@Nullable Boolean value, int presentBit, int valueBit) {
+        if (value == null) {
+            return 0;
+        }
+        return value ? presentBit | valueBit : presentBit;
+    }
+
+    private static @Nullable Boolean decodeFlag(int flags, int presentBit, int valueBit) {
+        if ((flags & presentBit) == 0) {
+            return null;
+        }
+        return (flags & valueBit) != 0;
+    }
+
+    private static @Nullable byte[][] encodeTransports(@Nullable Set<AuthenticatorTransport> transports) {
+        if (transports == null) {
+            return null;
+        }
+        AssertUtil.isTrue(transports.size() < ABSENT_TRANSPORTS, "transports must have less than 255 elements");
+        byte[][] encoded = new byte[transports.size()][];
+        int i = 0;
+        for (AuthenticatorTransport transport : transports) {
+            byte[] value = transport.getValue().getBytes(StandardCharsets.UTF_8);
+            AssertUtil.isTrue(value.length <= 0xFF, "transport value must not exceed 255 bytes");
+            encoded[i++] = value;
+        }
+        return encoded;
+    }
+
+    private static @Nullable Set<AuthenticatorTransport> decodeTransports(@NotNull ByteBuffer buffer) {
+        int count = buffer.get() & 0xFF;
+        if (count == ABSENT_TRANSPORTS) {
+            return null;
+        }
+        Set<AuthenticatorTransport> transports = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            byte[] value = new byte[buffer.get() & 0xFF];
+            buffer.get(value);
+            transports.add(AuthenticatorTransport.create(new String(value, StandardCharsets.UTF_8)));
+        }
+        return transports;
+    }
+
+    private static int sectionLength(@Nullable byte[] section) {
+        return 4 + (section == null ? 0 : section.length);
+    }
+
+    private static void putSection(@NotNull ByteBuffer buffer, @Nullable byte[] section) {
+        if (section == null) {
+            buffer.putInt(ABSENT_SECTION);
+        }
+        else {
+            buffer.putInt(section.length);
+            buffer.put(section);
+        }
+    }
+
+    private static int getSectionLength(@NotNull ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length != ABSENT_SECTION && (length < 0 || length > buffer.remaining())) {
+            throw new DataConversionException("provided data does not have proper byte layout");
+        }
+        return length;
+    }
+
+    /**
+     * Skips a section, and returns its offset and length packed into a long, or -1 if it is absent
+     */
+    private static long skipSection(@NotNull ByteBuffer buffer) {
+        int length = getSectionLength(buffer);
+        if (length == ABSENT_SECTION) {
+            return ABSENT_SECTION;
+        }
+        int offset = buffer.position();
+        buffer.position(offset + length);
+        return ((long) offset << 32) | length;
+    }
+
+    private <T> @Nullable T readSection(@NotNull byte[] source, long section, @NotNull SectionReader<T> reader) {
+        if (section == ABSENT_SECTION) {
+            return null;
+        }
+        try {
+            return reader.read(source, (int) (section >>> 32), (int) section);
+        } catch (MismatchedInputException | ValueInstantiationException | StreamReadException e) {
+            throw new DataConversionException("Input data does not match expected form", e);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private @Nullable AttestationStatement readAttestationStatement(@NotNull byte[] source, long section) {
+        AttestationStatementEnvelope envelope = readSection(source, section,
+                (bytes, offset, length) -> objectConverter.getCborMapper().readValue(bytes, offset, length, AttestationStatementEnvelope.class));
+        return envelope == null ? null : envelope.getAttestationStatement();
+    }
+
+    private @Nullable AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> readAuthenticatorExtensions(@NotNull byte[] source, long section) {
+        return readSection(source, section,
+                (bytes, offset, length) -> objectConverter.getCborMapper().readValue(bytes, offset, length, AUTHENTICATOR_EXTENSIONS_TYPE));
+    }
+
+    private @Nullable CollectedClientData readClientData(@NotNull byte[] source, long section) {
+        return readSection(source, section,
+                (bytes, offset, length) -> objectConverter.getJsonMapper().readValue(bytes, offset, length, CollectedClientData.class));
+    }
+
+    private @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> readClientExtensions(@NotNull byte[] source, long section) {
+        return readSection(source, section,
+                (bytes, offset, length) -> objectConverter.getJsonMapper().readValue(bytes, offset, length, CLIENT_EXTENSIONS_TYPE));
+    }
+
+    @FunctionalInterface
+    private interface SectionReader<T> {
+        @Nullable T read(@NotNull byte[] source, int offset, int length);
+    }
+
+    /**
+     * {@link CredentialRecord} that keeps the offsets of its deferred sections into the source array, and decodes each
+     * of them once on first access.
+     */
+    private final class LazyCredentialRecord implements CredentialRecord {
+
+        private final byte[] source;
+        private final AttestedCredentialData attestedCredentialData;
+        private final Set<AuthenticatorTransport> transports;
+        private final long attestationStatementSection;
+        private final long authenticatorExtensionsSection;
+        private final long clientDataSection;
+        private final long clientExtensionsSection;
+
+        private long counter;
+        private Boolean uvInitialized;
+        private Boolean backupEligible;
+        private Boolean backupState;
+
+        private boolean attestationStatementDecoded;
+        private AttestationStatement attestationStatement;
+        private boolean authenticatorExtensionsDecoded;
+        private AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions;
+        private boolean clientDataDecoded;
+        private CollectedClientData clientData;
+        private boolean clientExtensionsDecoded;
+        private AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions;
+
+        LazyCredentialRecord(@NotNull byte[] source, int flags, long counter, @Nullable Set<AuthenticatorTransport> transports,
+                             @NotNull AttestedCredentialData attestedCredentialData, long attestationStatementSection,
+                             long authenticatorExtensionsSection, long clientDataSection, long clientExtensionsSection) {
+            this.source = source;
+            this.counter = counter;
+            this.uvInitialized = decodeFlag(flags, FLAG_UV_INITIALIZED_PRESENT, FLAG_UV_INITIALIZED);
+            this.backupEligible = decodeFlag(flags, FLAG_BACKUP_ELIGIBLE_PRESENT, FLAG_BACKUP_ELIGIBLE);
+            this.backupState = decodeFlag(flags, FLAG_BACKUP_STATE_PRESENT, FLAG_BACKUP_STATE);
+            this.transports = transports == null ? null : Collections.unmodifiableSet(transports);
+            this.attestedCredentialData = attestedCredentialData;
+            this.attestationStatementSection = attestationStatementSection;
+            this.authenticatorExtensionsSection = authenticatorExtensionsSection;
+            this.clientDataSection = clientDataSection;
+            this.clientExtensionsSection = clientExtensionsSection;
+        }
+
+        @NotNull CredentialRecordImpl toCredentialRecordImpl() {
+            return new CredentialRecordImpl(
+                    getAttestationStatement(),
+                    uvInitialized,
+                    backupEligible,
+                    backupState,
+                    counter,
+                    attestedCredentialData,
+                    getAuthenticatorExtensions(),
+                    getClientData(),
+                    getClientExtensions(),
+                    transports);
+        }
+
+        @Override
+        public @NotNull AttestedCredentialData getAttestedCredentialData() {
+            return attestedCredentialData;
+        }
+
+        @Override
+        public @Nullable AttestationStatement getAttestationStatement() {
+            if (!attestationStatementDecoded) {
+                attestationStatement = readAttestationStatement(source, attestationStatementSection);
+                attestationStatementDecoded = true;
+            }
+            return attestationStatement;
+        }
+
+        @Override
+        public long getCounter() {
+            return counter;
+        }
+
+        @Override
+        public void setCounter(long value) {
+            this.counter = value;
+        }
+
+        @Override
+        public @Nullable AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> getAuthenticatorExtensions() {
+            if (!authenticatorExtensionsDecoded) {
+                authenticatorExtensions = readAuthenticatorExtensions(source, authenticatorExtensionsSection);
+                authenticatorExtensionsDecoded = true;
+            }
+            return authenticatorExtensions;
+        }
+
+        @Override
+        public @Nullable CollectedClientData getClientData() {
+            if (!clientDataDecoded) {
+                clientData = readClientData(source, clientDataSection);
+                clientDataDecoded = true;
+            }
+            return clientData;
+        }
+
+        @Override
+        public @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> getClientExtensions() {
+            if (!clientExtensionsDecoded) {
+                clientExtensions = readClientExtensions(source, clientExtensionsSection);
+                clientExtensionsDecoded = true;
+            }
+            return clientExtensions;
+        }
+
+        @Override
+        public @Nullable Set<AuthenticatorTransport> getTransports() {
+            return transports;
+        }
+
+        @Override
+        public @Nullable Boolean isUvInitialized() {
+            return uvInitialized;
+        }
+
+        @Override
+        public void setUvInitialized(boolean value) {
+            this.uvInitialized = value;
+        }
+
+        @Override
+        public @Nullable Boolean isBackupEligible() {
+            return backupEligible;
+        }
+
+        @Override
+        public void setBackupEligible(boolean value) {
+            this.backupEligible = value;
+        }
+
+        @Override
+        public @Nullable Boolean isBackedUp() {
+            return backupState;
+        }
+
+        @Override
+        public void setBackedUp(boolean value) {
+            this.backupState = value;
+        }
+    }
+}
@@ -2,15 +2,15 @@ package com.webauthn4j.converter.jackson.deserializer.cbor;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.internal.ExtensionOutputDecoders;
 import org.jetbrains.annotations.NotNull;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.deser.std.StdDeserializer;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
- * Custom deserializer for {@link AuthenticationExtensionsAuthenticatorOutputs} that preserves
- * the raw CBOR data as an {@link ObjectNode} for lazy resolution via deserializers.
+ * Custom deserializer for {@link AuthenticationExtensionsAuthenticatorOutputs} that decodes the known extensions straight from
+ * the CBOR token stream, and keeps the value of any other extension as encoded bytes.
  */
 public class AuthenticationExtensionsAuthenticatorOutputsDeserializer extends StdDeserializer<AuthenticationExtensionsAuthenticatorOutputs<?>> {
 
@@ -23,7 +23,6 @@ public class AuthenticationExtensionsAuthenticatorOutputsDeserializer extends St
 
     @Override
     public AuthenticationExtensionsAuthenticatorOutputs<?> deserialize(JsonParser p, DeserializationContext ctxt) {
-        ObjectNode node = p.readValueAsTree();
-        return new AuthenticationExtensionsAuthenticatorOutputs<>(node, objectConverter);
+        return new AuthenticationExtensionsAuthenticatorOutputs<>(ExtensionOutputDecoders.AUTHENTICATOR.decode(p, objectConverter.getCborMapper()), objectConverter);
     }
 }
@@ -2,15 +2,15 @@ package com.webauthn4j.converter.jackson.deserializer.json;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.internal.ExtensionOutputDecoders;
 import org.jetbrains.annotations.NotNull;
 import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.deser.std.StdDeserializer;
-import tools.jackson.databind.node.ObjectNode;
 
 /**
- * Custom deserializer for {@link AuthenticationExtensionsClientOutputs} that preserves
- * the raw JSON as an {@link ObjectNode} for lazy resolution via converters.
+ * Custom deserializer for {@link AuthenticationExtensionsClientOutputs} that decodes the known extensions straight from
+ * the JSON token stream, and keeps the value of any other extension as encoded bytes.
  */
 public class AuthenticationExtensionsClientOutputsDeserializer extends StdDeserializer<AuthenticationExtensionsClientOutputs<?>> {
 
@@ -23,7 +23,6 @@ public class AuthenticationExtensionsClientOutputsDeserializer extends StdDeseri
 
     @Override
     public AuthenticationExtensionsClientOutputs<?> deserialize(JsonParser p, DeserializationContext ctxt) {
-        ObjectNode node = p.readValueAsTree();
-        return new AuthenticationExtensionsClientOutputs<>(node, objectConverter);
+        return new AuthenticationExtensionsClientOutputs<>(ExtensionOutputDecoders.CLIENT.decode(p, objectConverter.getJsonMapper()), objectConverter);
     }
 }
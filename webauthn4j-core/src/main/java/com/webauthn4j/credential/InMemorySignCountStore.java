@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link SignCountStore} keeping signature counters in memory, for single-node deployments and tests.
+ * <p>
+ * Counters are held in {@link AtomicLong}s of a {@link ConcurrentHashMap}, which stripes its bins so that updates
+ * for different credentials do not contend. Reads and updates of a known credential are lock-free compare-and-set
+ * operations; only the first update of a credential inserts its counter into the map.
+ */
+public class InMemorySignCountStore implements SignCountStore {
+
+    private final ConcurrentMap<ByteBuffer, AtomicLong> signCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public long getSignCount(@NotNull byte[] credentialId, long defaultSignCount) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AtomicLong signCount = signCounts.get(ByteBuffer.wrap(credentialId));
+        return signCount == null ? defaultSignCount : signCount.get();
+    }
+
+    @Override
+    public boolean compareAndSetSignCount(@NotNull byte[] credentialId, long expectedSignCount, long newSignCount) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AtomicLong signCount = signCounts.get(ByteBuffer.wrap(credentialId));
+        if (signCount == null) {
+            // key is copied so that later changes to the caller's array cannot corrupt the map
+            AtomicLong inserted = signCounts.putIfAbsent(ByteBuffer.wrap(credentialId.clone()), new AtomicLong(newSignCount));
+            if (inserted == null) {
+                return true;
+            }
+            signCount = inserted;
+        }
+        return signCount.compareAndSet(expectedSignCount, newSignCount);
+    }
+
+    /**
+     * Removes the signature counter of the credential, for example when the credential is deleted
+     *
+     * @param credentialId credential id
+     */
+    public void remove(@NotNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        signCounts.remove(ByteBuffer.wrap(credentialId));
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stores the signature counter of credentials and updates it with compare-and-set semantics.
+ * <p>
+ * When a {@link SignCountStore} is configured, authentication verifiers check and advance the signature counter
+ * through it in a single atomic step instead of reading the counter from the credential record and writing it back.
+ * This closes the check-then-act race between concurrent assertions for the same credential, and the new counter
+ * value is persisted by the store rather than by the caller.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface SignCountStore {
+
+    /**
+     * Returns the signature counter stored for the credential
+     *
+     * @param credentialId     credential id
+     * @param defaultSignCount value returned when the store holds no counter for the credential yet,
+     *                         typically the counter of the credential record
+     * @return the stored signature counter, or {@code defaultSignCount}
+     */
+    long getSignCount(@NotNull byte[] credentialId, long defaultSignCount);
+
+    /**
+     * Atomically sets the signature counter of the credential to {@code newSignCount} if it currently equals
+     * {@code expectedSignCount}. If the store holds no counter for the credential, it is treated as holding
+     * {@code expectedSignCount}, so that exactly one of concurrent updates for a new credential succeeds.
+     *
+     * @param credentialId      credential id
+     * @param expectedSignCount signature counter the caller has observed
+     * @param newSignCount      signature counter to store
+     * @return true if the counter was updated, false if it no longer equals {@code expectedSignCount}
+     */
+    boolean compareAndSetSignCount(@NotNull byte[] credentialId, long expectedSignCount, long newSignCount);
+
+}
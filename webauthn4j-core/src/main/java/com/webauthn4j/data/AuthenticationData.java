@@ -59,7 +59,7 @@ public class AuthenticationData extends CoreAuthenticationData {
             @Nullable byte[] collectedClientDataBytes,
             @Nullable AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions,
             @Nullable byte[] signature) {
-        super(credentialId, authenticatorData, authenticatorDataBytes, collectedClientDataBytes == null ? null : MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), signature);
+        super(credentialId, authenticatorData, authenticatorDataBytes, collectedClientDataBytes == null ? null : MessageDigestUtil.digestSHA256(collectedClientDataBytes), signature);
         this.userHandle = ArrayUtil.clone(userHandle);
         this.collectedClientData = collectedClientData;
         this.collectedClientDataBytes = ArrayUtil.clone(collectedClientDataBytes);
@@ -28,6 +28,7 @@ import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CollectionUtil;
+import com.webauthn4j.util.internal.DefaultObjectConverterHolder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -97,7 +98,7 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     }
 
     public @NotNull byte[] getAuthenticatorData(){
-        return getAuthenticatorData(new ObjectConverter());
+        return getAuthenticatorData(DefaultObjectConverterHolder.get());
     }
 
     public @Nullable byte[] getPublicKey(ObjectConverter objectConverter){
@@ -105,7 +106,7 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     }
 
     public @Nullable byte[] getPublicKey(){
-        return getPublicKey(new ObjectConverter());
+        return getPublicKey(DefaultObjectConverterHolder.get());
     }
 
     public @Nullable COSEAlgorithmIdentifier getPublicKeyAlgorithm(ObjectConverter objectConverter){
@@ -113,7 +114,7 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     }
 
     public @Nullable COSEAlgorithmIdentifier getPublicKeyAlgorithm(){
-        return getCOSEKey(new ObjectConverter()).getAlgorithm();
+        return getCOSEKey(DefaultObjectConverterHolder.get()).getAlgorithm();
     }
 
     private @NotNull COSEKey getCOSEKey(ObjectConverter objectConverter){
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A request to verify in a batch, together with the parameters to verify it with
+ *
+ * @param <R> request type, e.g. {@link AuthenticationRequest} or {@link RegistrationRequest}
+ * @param <P> parameters type, e.g. {@link AuthenticationParameters} or {@link RegistrationParameters}
+ */
+public class BatchVerificationItem<R, P> {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final R request;
+    private final P parameters;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public BatchVerificationItem(@NotNull R request, @NotNull P parameters) {
+        AssertUtil.notNull(request, "request must not be null");
+        AssertUtil.notNull(parameters, "parameters must not be null");
+        this.request = request;
+        this.parameters = parameters;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public @NotNull R getRequest() {
+        return request;
+    }
+
+    public @NotNull P getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchVerificationItem(" +
+                "request=" + request +
+                ", parameters=" + parameters +
+                ')';
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The outcome of verifying one item of a batch: either the verified data, or the exception the verification
+ * failed with, typically a {@link com.webauthn4j.verifier.exception.VerificationException} or a
+ * {@link com.webauthn4j.converter.exception.DataConversionException}
+ *
+ * @param <T> verified data type
+ */
+public class BatchVerificationResult<T> {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final T value;
+    private final RuntimeException exception;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    private BatchVerificationResult(@Nullable T value, @Nullable RuntimeException exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    public static <T> @NotNull BatchVerificationResult<T> success(@NotNull T value) {
+        AssertUtil.notNull(value, "value must not be null");
+        return new BatchVerificationResult<>(value, null);
+    }
+
+    public static <T> @NotNull BatchVerificationResult<T> failure(@NotNull RuntimeException exception) {
+        AssertUtil.notNull(exception, "exception must not be null");
+        return new BatchVerificationResult<>(null, exception);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return the verified data, or null if the verification failed
+     */
+    public @Nullable T getValue() {
+        return value;
+    }
+
+    /**
+     * @return the exception the verification failed with, or null if it succeeded
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "BatchVerificationResult(value=" + value + ')' : "BatchVerificationResult(exception=" + exception + ')';
+    }
+}
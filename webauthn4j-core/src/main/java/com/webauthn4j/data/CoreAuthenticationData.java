@@ -19,6 +19,8 @@ package com.webauthn4j.data;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.ArrayUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
@@ -30,6 +32,7 @@ import java.util.Objects;
  */
 public class CoreAuthenticationData {
 
+
     private final byte[] credentialId;
     private final AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData;
     private final byte[] authenticatorDataBytes;
@@ -90,6 +93,28 @@ public class CoreAuthenticationData {
         return ArrayUtil.clone(clientDataHash);
     }
 
+    /**
+     * Returns the authenticatorDataBytes without the defensive copy made by {@link #getAuthenticatorDataBytes()}.
+     * For verifiers inside WebAuthn4J only: the returned array is shared with this object and must not be modified.
+     *
+     * @return the authenticatorDataBytes
+     */
+    @ApiStatus.Internal
+    public @Nullable byte[] authenticatorDataBytes() {
+        return authenticatorDataBytes;
+    }
+
+    /**
+     * Returns the clientDataHash without the defensive copy made by {@link #getClientDataHash()}.
+     * For verifiers inside WebAuthn4J only: the returned array is shared with this object and must not be modified.
+     *
+     * @return the clientDataHash
+     */
+    @ApiStatus.Internal
+    public @Nullable byte[] clientDataHash() {
+        return clientDataHash;
+    }
+
     /**
      * Returns the signature
      * @return the signature
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.attestation;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Pairs an {@link AttestationStatement} with its format, so that it can be serialized and deserialized on its own,
+ * the same way as in {@link AttestationObject}, for example to persist it with a credential record.
+ */
+public class AttestationStatementEnvelope {
+
+    //~ Instance fields ================================================================================================
+    @JsonProperty("attStmt")
+    @JsonTypeInfo(
+            use = JsonTypeInfo.Id.NAME,
+            include = JsonTypeInfo.As.EXTERNAL_PROPERTY,
+            property = "fmt"
+    )
+    private final AttestationStatement attestationStatement;
+
+    @JsonCreator
+    public AttestationStatementEnvelope(@NotNull @JsonProperty("attStmt") AttestationStatement attestationStatement) {
+        AssertUtil.notNull(attestationStatement, "attestationStatement must not be null");
+        this.attestationStatement = attestationStatement;
+    }
+
+    @JsonProperty("fmt")
+    public @NotNull String getFormat() {
+        return attestationStatement.getFormat();
+    }
+
+    public @NotNull AttestationStatement getAttestationStatement() {
+        return attestationStatement;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AttestationStatementEnvelope that = (AttestationStatementEnvelope) o;
+        return Objects.equals(attestationStatement, that.attestationStatement);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attestationStatement);
+    }
+
+    @Override
+    public String toString() {
+        return "AttestationStatementEnvelope(" +
+                "fmt=" + getFormat() +
+                ", attestationStatement=" + attestationStatement +
+                ')';
+    }
+}
@@ -23,8 +23,10 @@ import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
 import com.webauthn4j.data.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.CollectionUtil;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -43,6 +45,10 @@ public abstract class AbstractCOSEKey implements COSEKey {
     @JsonProperty("5")
     private final byte[] baseIV;
 
+    // COSE keys are immutable, so the decoded public key can be built once and shared.
+    // A benign race may build it more than once, which is harmless as the results are equivalent.
+    private transient volatile PublicKey publicKey;
+
     @SuppressWarnings("SameParameterValue")
     @JsonCreator
     AbstractCOSEKey(
@@ -59,6 +65,27 @@ public abstract class AbstractCOSEKey implements COSEKey {
 
     public abstract @Nullable COSEKeyType getKeyType();
 
+    @Override
+    public @Nullable PublicKey getPublicKey() {
+        PublicKey cached = publicKey;
+        if (cached == null) {
+            if (!hasPublicKey()) {
+                return null;
+            }
+            cached = createPublicKey();
+            publicKey = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Builds the {@link PublicKey} from the key parameters. Called only when {@link #hasPublicKey()} is true,
+     * and at most once per instance in the absence of races.
+     *
+     * @return public key
+     */
+    abstract @NotNull PublicKey createPublicKey();
+
     public @Nullable byte[] getKeyId() {
         return ArrayUtil.clone(keyId);
     }
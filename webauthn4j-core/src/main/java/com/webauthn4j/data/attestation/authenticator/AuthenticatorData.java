@@ -69,7 +69,7 @@ public class AuthenticatorData<T extends ExtensionAuthenticatorOutput> {
         this.flags = flags;
         this.signCount = counter;
         this.attestedCredentialData = attestedCredentialData;
-        this.extensions = new AuthenticationExtensionsAuthenticatorOutputs<>();
+        this.extensions = AuthenticationExtensionsAuthenticatorOutputs.empty();
     }
 
     public AuthenticatorData(@NotNull byte[] rpIdHash, byte flags, long counter,
@@ -88,7 +88,7 @@ public class AuthenticatorData<T extends ExtensionAuthenticatorOutput> {
         this.flags = flags;
         this.signCount = counter;
         this.attestedCredentialData = null;
-        this.extensions = new AuthenticationExtensionsAuthenticatorOutputs<>();
+        this.extensions = AuthenticationExtensionsAuthenticatorOutputs.empty();
     }
 
     @SuppressWarnings("WeakerAccess")
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.attestation.authenticator;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Read-only view over binary authenticator data.
+ * <p>
+ * Unlike {@link AuthenticatorData}, the view neither copies nor decodes its source up front: flags, signCount and
+ * rpIdHash are read from their fixed offsets on access, and extensions are decoded only when {@link #getExtensions()}
+ * is called. An assertion without the ED flag can therefore be verified without creating any intermediate object.
+ * <p>
+ * The source array is shared with the view and must not be modified while the view is in use.
+ *
+ * @see AuthenticatorDataConverter#convertToView(byte[])
+ */
+public final class AuthenticatorDataView<T extends ExtensionAuthenticatorOutput> {
+
+    private static final int RPID_HASH_LENGTH = 32;
+    private static final int FLAGS_INDEX = RPID_HASH_LENGTH;
+    private static final int COUNTER_INDEX = FLAGS_INDEX + 1;
+    private static final int FIXED_LENGTH = COUNTER_INDEX + 4;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final byte[] bytes;
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+    private AuthenticationExtensionsAuthenticatorOutputs<T> extensions;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    /**
+     * Creates a view over {@code source} after checking its fixed-length layout.
+     *
+     * @param source                     binary authenticator data, shared with the view
+     * @param authenticatorDataConverter converter used to decode the variable-length parts on demand
+     * @throws DataConversionException if {@code source} does not have proper byte layout
+     */
+    public AuthenticatorDataView(@NotNull byte[] source, @NotNull AuthenticatorDataConverter authenticatorDataConverter) {
+        AssertUtil.notNull(source, "source must not be null");
+        AssertUtil.notNull(authenticatorDataConverter, "authenticatorDataConverter must not be null");
+        if (source.length < FIXED_LENGTH) {
+            throw new DataConversionException("provided data does not have proper byte layout");
+        }
+        byte flags = source[FLAGS_INDEX];
+        if (source.length > FIXED_LENGTH && !AuthenticatorData.checkFlagAT(flags) && !AuthenticatorData.checkFlagED(flags)) {
+            throw new DataConversionException("provided data does not have proper byte layout");
+        }
+        this.bytes = source;
+        this.authenticatorDataConverter = authenticatorDataConverter;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public @NotNull byte[] getBytes() {
+        return ArrayUtil.clone(bytes);
+    }
+
+    /**
+     * Returns the authenticator data bytes without the defensive copy made by {@link #getBytes()}.
+     * For verifiers inside WebAuthn4J only: the returned array is shared with this object and must not be modified.
+     *
+     * @return the authenticator data bytes
+     */
+    @ApiStatus.Internal
+    public @NotNull byte[] bytes() {
+        return bytes;
+    }
+
+    public @NotNull byte[] getRpIdHash() {
+        return Arrays.copyOf(bytes, RPID_HASH_LENGTH);
+    }
+
+    /**
+     * Compares the rpIdHash in place, without copying it out of the source array.
+     *
+     * @param rpIdHash expected rpIdHash
+     * @return true if the rpIdHash of this authenticator data equals {@code rpIdHash}
+     */
+    public boolean rpIdHashEquals(@Nullable byte[] rpIdHash) {
+        return rpIdHash != null && Arrays.equals(bytes, 0, RPID_HASH_LENGTH, rpIdHash, 0, rpIdHash.length);
+    }
+
+    public byte getFlags() {
+        return bytes[FLAGS_INDEX];
+    }
+
+    public boolean isFlagUP() {
+        return AuthenticatorData.checkFlagUP(getFlags());
+    }
+
+    public boolean isFlagUV() {
+        return AuthenticatorData.checkFlagUV(getFlags());
+    }
+
+    public boolean isFlagBE() {
+        return AuthenticatorData.checkFlagBE(getFlags());
+    }
+
+    public boolean isFlagBS() {
+        return AuthenticatorData.checkFlagBS(getFlags());
+    }
+
+    public boolean isFlagAT() {
+        return AuthenticatorData.checkFlagAT(getFlags());
+    }
+
+    public boolean isFlagED() {
+        return AuthenticatorData.checkFlagED(getFlags());
+    }
+
+    public long getSignCount() {
+        return ((bytes[COUNTER_INDEX] & 0xFFL) << 24) |
+                ((bytes[COUNTER_INDEX + 1] & 0xFFL) << 16) |
+                ((bytes[COUNTER_INDEX + 2] & 0xFFL) << 8) |
+                (bytes[COUNTER_INDEX + 3] & 0xFFL);
+    }
+
+    /**
+     * Returns whether attested credential data follows the fixed-length part.
+     * The AT flag alone is not enough, as Apple App Attest assertions set it without carrying the data.
+     *
+     * @return true if attested credential data is present
+     */
+    public boolean hasAttestedCredentialData() {
+        return isFlagAT() && bytes.length > FIXED_LENGTH;
+    }
+
+    /**
+     * Returns the extensions, decoding them on the first call. Decoding errors are reported at this point rather than
+     * when the view is created.
+     *
+     * @return the extensions, empty if the ED flag is not set
+     */
+    public @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> getExtensions() {
+        AuthenticationExtensionsAuthenticatorOutputs<T> decoded = extensions;
+        if (decoded == null) {
+            if (isFlagED() || hasAttestedCredentialData()) {
+                decoded = toAuthenticatorData().getExtensions();
+            }
+            else {
+                decoded = AuthenticationExtensionsAuthenticatorOutputs.empty();
+            }
+            extensions = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Decodes the whole authenticator data into a new {@link AuthenticatorData}.
+     *
+     * @return the decoded authenticator data
+     * @throws DataConversionException if the source does not have proper byte layout
+     */
+    public @NotNull AuthenticatorData<T> toAuthenticatorData() {
+        return authenticatorDataConverter.convert(bytes);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuthenticatorDataView<?> that = (AuthenticatorDataView<?>) o;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatorDataView(" +
+                "rpIdHash=" + ArrayUtil.toHexString(getRpIdHash()) +
+                ", flags=" + String.format("%02X", getFlags()) +
+                ", signCount=" + getSignCount() +
+                ", length=" + bytes.length +
+                ')';
+    }
+}
@@ -260,12 +260,7 @@ public class EC2COSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-
-        if (!hasPublicKey()) {
-            return null;
-        }
-
+    @NotNull PublicKey createPublicKey() {
         ECPoint ecPoint = new ECPoint(
                 new BigInteger(1, getX()),
                 new BigInteger(1, getY())
@@ -168,11 +168,7 @@ public class EdDSACOSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-        if (!hasPublicKey()) {
-            return null;
-        }
-
+    @NotNull PublicKey createPublicKey() {
         try {
             KeyFactory factory = KeyFactory.getInstance("EdDSA");
             NamedParameterSpec namedParameterSpec = (NamedParameterSpec)curve.getParameterSpec();
@@ -17,6 +17,7 @@
 package com.webauthn4j.data.client;
 
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.BoundedCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.net.URI;
@@ -39,12 +40,21 @@ public class Origin {
     private static final String SCHEME_HTTPS = "https";
     private static final String SCHEME_HTTP = "http";
 
+    /**
+     * Canonical instances by the string they were parsed from. A relying party sees only a few distinct origins, so
+     * they are parsed once; the bound keeps attacker-chosen origins from growing the cache.
+     */
+    private static final int MAX_INTERNED_ORIGINS = 1024;
+    private static final BoundedCache<String, Origin> internedOrigins = new BoundedCache<>(MAX_INTERNED_ORIGINS);
+
     private final String scheme;
-    private String host;
+    private final String host;
     private final Integer port;
     private final String schemeSpecificPart;
     private final boolean explicitPortNotation;
 
+    private int hashCode; // cached, as instances are immutable
+
     public Origin(@NotNull String originUrl) {
         AssertUtil.notNull(originUrl, "originUrl must not be null");
         URI uri = URI.create(originUrl);
@@ -83,18 +93,25 @@ public class Origin {
             this.schemeSpecificPart = schemeSpecificPartStr;
         }
         else {
+            this.host = null;
             this.explicitPortNotation = uri.getPort() != -1;
             this.port = null;
             this.schemeSpecificPart = uri.getSchemeSpecificPart();
         }
     }
 
+    /**
+     * Returns the {@link Origin} for the value. Known values are served from a bounded cache of canonical instances,
+     * so parsing the same origin again costs a single hash lookup.
+     *
+     * @param value origin string
+     * @return origin
+     */
     public static @NotNull Origin create(@NotNull String value) {
-        try {
-            return new Origin(value);
-        } catch (NullPointerException e) {
-            throw new IllegalArgumentException("value is out of range: null", e);
+        if (value == null) {
+            throw new IllegalArgumentException("value is out of range: null");
         }
+        return internedOrigins.computeIfAbsent(value, Origin::new);
     }
 
     private static @Nullable String toLowerCase(@Nullable String s) {
@@ -155,13 +172,18 @@ public class Origin {
 
     @Override
     public int hashCode() {
-        // explicitPortNotation is not taken into count
-        if (SCHEME_HTTPS.equals(this.scheme) || SCHEME_HTTP.equals(this.scheme)) {
-            return Objects.hash(scheme, host, port);
-        }
-        else {
-            return Objects.hash(scheme, schemeSpecificPart);
+        int result = hashCode;
+        if (result == 0) {
+            // explicitPortNotation is not taken into count
+            if (SCHEME_HTTPS.equals(this.scheme) || SCHEME_HTTP.equals(this.scheme)) {
+                result = Objects.hash(scheme, host, port);
+            }
+            else {
+                result = Objects.hash(scheme, schemeSpecificPart);
+            }
+            hashCode = result;
         }
+        return result;
     }
 
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates challenges to be sent to clients for WebAuthn ceremonies.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ChallengeGenerator {
+
+    /**
+     * Generates a new random challenge
+     *
+     * @return the challenge
+     */
+    @NotNull Challenge generate();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Issues challenges and hands each of them out for verification exactly once.
+ * <p>
+ * A challenge is issued under a key identifying the ceremony on the server side, such as a session id, and consumed
+ * under the same key when the client response arrives. The consumed challenge is meant to be set to
+ * {@link com.webauthn4j.server.ServerProperty.Builder#challenge(Challenge)}; as consuming an unknown, expired or
+ * already consumed challenge yields null, verification then fails with
+ * {@link com.webauthn4j.verifier.exception.MissingChallengeException}.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ChallengeRepository {
+
+    /**
+     * Issues a new challenge for the key, replacing any challenge previously issued for it
+     *
+     * @param key key identifying the ceremony
+     * @return the issued challenge
+     */
+    @NotNull Challenge issue(@NotNull String key);
+
+    /**
+     * Atomically removes and returns the challenge issued for the key
+     *
+     * @param key key identifying the ceremony
+     * @return the challenge, or null if no challenge was issued for the key, it has expired, or it has been consumed already
+     */
+    @Nullable Challenge consume(@NotNull String key);
+
+}
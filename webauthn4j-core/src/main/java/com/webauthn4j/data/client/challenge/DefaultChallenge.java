@@ -22,11 +22,14 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.ByteBuffer;
+import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.UUID;
 
 public class DefaultChallenge implements Challenge {
+
+    private static final int LENGTH = 16;
+    private static final SecureRandom secureRandom = new SecureRandom();
+
     private final byte[] value;
 
     /**
@@ -44,11 +47,13 @@ public class DefaultChallenge implements Challenge {
         this.value = Base64UrlUtil.decode(base64urlString);
     }
 
+    /**
+     * Creates a new instance with 16 random bytes drawn from a shared {@link SecureRandom}.
+     * Use {@link DrbgChallengeGenerator} or {@link InMemoryChallengeRepository} to generate longer challenges.
+     */
     public DefaultChallenge() {
-        UUID uuid = UUID.randomUUID();
-        long hi = uuid.getMostSignificantBits();
-        long lo = uuid.getLeastSignificantBits();
-        this.value = ByteBuffer.allocate(16).putLong(hi).putLong(lo).array();
+        this.value = new byte[LENGTH];
+        secureRandom.nextBytes(this.value);
     }
 
     @Override
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * {@link ChallengeGenerator} drawing challenge bytes from a DRBG {@link SecureRandom} owned by the calling thread.
+ * <p>
+ * A {@link SecureRandom} serializes concurrent callers, so sharing one instance contends under heavy load. This
+ * generator instantiates one NIST SP 800-90A DRBG per thread instead, each seeded independently from the platform
+ * entropy source. Where no DRBG implementation is available, the default {@link SecureRandom} is used per thread.
+ * Note that each virtual thread gets its own instance as well, so pooled platform threads are preferable for
+ * issuing challenges at high rates.
+ */
+public class DrbgChallengeGenerator implements ChallengeGenerator {
+
+    /**
+     * Default challenge length in bytes
+     */
+    public static final int DEFAULT_LENGTH = 32;
+
+    /**
+     * Minimum challenge length in bytes, as challenges should be at least 16 bytes long per WebAuthn specification
+     */
+    public static final int MIN_LENGTH = 16;
+
+    private static final ThreadLocal<SecureRandom> SECURE_RANDOM = ThreadLocal.withInitial(DrbgChallengeGenerator::createSecureRandom);
+
+    private final int length;
+
+    public DrbgChallengeGenerator(int length) {
+        AssertUtil.isTrue(length >= MIN_LENGTH, "length must be greater than or equal to " + MIN_LENGTH);
+        this.length = length;
+    }
+
+    public DrbgChallengeGenerator() {
+        this(DEFAULT_LENGTH);
+    }
+
+    @Override
+    public @NotNull Challenge generate() {
+        byte[] bytes = new byte[length];
+        SECURE_RANDOM.get().nextBytes(bytes);
+        return new DefaultChallenge(bytes);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    private static @NotNull SecureRandom createSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+        }
+        catch (NoSuchAlgorithmException | IllegalArgumentException e) {
+            return new SecureRandom();
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ChallengeRepository} keeping issued challenges in memory until they are consumed or expire.
+ * <p>
+ * Challenges are spread over a fixed number of shards by key. Each shard is a {@link ConcurrentHashMap}, and
+ * consuming a challenge is a single atomic remove, so that a challenge can never be handed out twice. Expired
+ * challenges are swept from a shard while issuing into it, at most once per time to live, so that abandoned
+ * ceremonies do not accumulate without a background thread.
+ * <p>
+ * As challenges are held by the JVM, this repository suits single-node deployments, or deployments routing both
+ * requests of a ceremony to the same node.
+ */
+public class InMemoryChallengeRepository implements ChallengeRepository {
+
+    /**
+     * Default time to live of issued challenges
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private static final int MAX_SHARD_COUNT = 64;
+
+    private final ChallengeGenerator challengeGenerator;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Shard[] shards;
+
+    public InMemoryChallengeRepository(@NotNull ChallengeGenerator challengeGenerator, @NotNull Duration ttl) {
+        this(challengeGenerator, ttl, System::nanoTime);
+    }
+
+    public InMemoryChallengeRepository() {
+        this(new DrbgChallengeGenerator(), DEFAULT_TTL);
+    }
+
+    InMemoryChallengeRepository(@NotNull ChallengeGenerator challengeGenerator, @NotNull Duration ttl, @NotNull LongSupplier nanoTime) {
+        AssertUtil.notNull(challengeGenerator, "challengeGenerator must not be null");
+        AssertUtil.notNull(ttl, "ttl must not be null");
+        AssertUtil.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        AssertUtil.notNull(nanoTime, "nanoTime must not be null");
+        this.challengeGenerator = challengeGenerator;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+
+        int shardCount = Integer.highestOneBit(Math.min(MAX_SHARD_COUNT, Runtime.getRuntime().availableProcessors() * 2) * 2 - 1);
+        long now = nanoTime.getAsLong();
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(now + ttlNanos);
+        }
+    }
+
+    @Override
+    public @NotNull Challenge issue(@NotNull String key) {
+        AssertUtil.notNull(key, "key must not be null");
+        Challenge challenge = challengeGenerator.generate();
+        long now = nanoTime.getAsLong();
+        Shard shard = shardFor(key);
+        shard.purgeExpiredIfDue(now, ttlNanos);
+        shard.entries.put(key, new Entry(challenge, now + ttlNanos));
+        return challenge;
+    }
+
+    @Override
+    public @Nullable Challenge consume(@NotNull String key) {
+        AssertUtil.notNull(key, "key must not be null");
+        Entry entry = shardFor(key).entries.remove(key);
+        if (entry == null || entry.isExpired(nanoTime.getAsLong())) {
+            return null;
+        }
+        return entry.challenge;
+    }
+
+    /**
+     * Returns the number of challenges held, including expired ones not swept yet
+     *
+     * @return the number of challenges held
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.entries.size();
+        }
+        return size;
+    }
+
+    public @NotNull Duration getTTL() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    private @NotNull Shard shardFor(@NotNull String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private static class Shard {
+
+        private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong nextPurge;
+
+        private Shard(long nextPurge) {
+            this.nextPurge = new AtomicLong(nextPurge);
+        }
+
+        private void purgeExpiredIfDue(long now, long interval) {
+            long due = nextPurge.get();
+            // only the thread winning the update sweeps, the others carry on issuing
+            if (now - due < 0 || !nextPurge.compareAndSet(due, now + interval)) {
+                return;
+            }
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    private static class Entry {
+
+        private final Challenge challenge;
+        private final long expiresAt;
+
+        private Entry(@NotNull Challenge challenge, long expiresAt) {
+            this.challenge = challenge;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            // compared by difference as System.nanoTime may overflow
+            return now - expiresAt >= 0;
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.CredentialProtectionPolicy;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.DefaultObjectConverterHolder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
@@ -63,7 +64,19 @@ public class AuthenticationExtensionsAuthenticatorInputs<T extends ExtensionAuth
 
     public AuthenticationExtensionsAuthenticatorInputs() {
         this(tools.jackson.databind.node.JsonNodeFactory.instance.objectNode(),
-                new ObjectConverter());
+                DefaultObjectConverterHolder.get());
+    }
+
+    /**
+     * Returns the shared instance without any extension. It is immutable, so it can stand in for
+     * {@code new AuthenticationExtensionsAuthenticatorInputs<>()} wherever no extension was provided.
+     *
+     * @param <T> extension type
+     * @return the empty instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ExtensionAuthenticatorInput> @NotNull AuthenticationExtensionsAuthenticatorInputs<T> empty() {
+        return (AuthenticationExtensionsAuthenticatorInputs<T>) EmptyHolder.INSTANCE;
     }
 
     // Extension data is stored as raw ObjectNode and deserialized lazily via treeToValue when accessed.
@@ -225,7 +238,7 @@ public class AuthenticationExtensionsAuthenticatorInputs<T extends ExtensionAuth
     public static class BuilderForRegistration {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsAuthenticatorInputs<RegistrationExtensionAuthenticatorInput> build() {
             ObjectNode rawData = objectConverter.getCborMapper().valueToTree(values);
@@ -264,7 +277,7 @@ public class AuthenticationExtensionsAuthenticatorInputs<T extends ExtensionAuth
     public static class BuilderForAuthentication {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsAuthenticatorInputs<AuthenticationExtensionAuthenticatorInput> build() {
             ObjectNode rawData = objectConverter.getCborMapper().valueToTree(values);
@@ -293,4 +306,9 @@ public class AuthenticationExtensionsAuthenticatorInputs<T extends ExtensionAuth
             return this;
         }
     }
+
+    private static class EmptyHolder {
+        private static final AuthenticationExtensionsAuthenticatorInputs<?> INSTANCE = new AuthenticationExtensionsAuthenticatorInputs<>();
+    }
+
 }
@@ -22,7 +22,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.CredentialProtectionPolicy;
 import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.internal.DecodedExtensionOutputs;
+import com.webauthn4j.data.extension.internal.ExtensionOutputDecoders;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.DefaultObjectConverterHolder;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
@@ -33,21 +37,11 @@ import java.util.stream.Collectors;
 
 public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAuthenticatorOutput> {
 
-    private static final List<Class<? extends ExtensionAuthenticatorOutput>> KNOWN_TYPES = List.of(
-            UserVerificationMethodExtensionAuthenticatorOutput.class,
-            CredentialProtectionExtensionAuthenticatorOutput.class,
-            HMACSecretRegistrationExtensionAuthenticatorOutput.class,
-            HMACSecretAuthenticationExtensionAuthenticatorOutput.class
-    );
-
-    private static final Set<String> KNOWN_KEYS = Set.of(
-            UserVerificationMethodExtensionAuthenticatorOutput.KEY_UVM,
-            CredentialProtectionExtensionAuthenticatorOutput.KEY_CRED_PROTECT,
-            HMACSecretRegistrationExtensionAuthenticatorOutput.KEY_HMAC_SECRET
-    );
+    @JsonIgnore
+    private ObjectNode rawData;
 
     @JsonIgnore
-    private final ObjectNode rawData;
+    private DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decoded;
 
     @JsonIgnore
     private final ObjectConverter objectConverter;
@@ -55,12 +49,28 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     @JsonIgnore
     private Map<Class<? extends T>, T> extensions;
 
+    @JsonIgnore
+    private Set<String> keys;
+
     public AuthenticationExtensionsAuthenticatorOutputs() {
         this(tools.jackson.databind.node.JsonNodeFactory.instance.objectNode(),
-                new ObjectConverter());
+                DefaultObjectConverterHolder.get());
+    }
+
+    /**
+     * Returns the shared instance without any extension. It is immutable, so it can stand in for
+     * {@code new AuthenticationExtensionsAuthenticatorOutputs<>()} wherever no extension was provided.
+     *
+     * @param <T> extension type
+     * @return the empty instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ExtensionAuthenticatorOutput> @NotNull AuthenticationExtensionsAuthenticatorOutputs<T> empty() {
+        return (AuthenticationExtensionsAuthenticatorOutputs<T>) EmptyHolder.INSTANCE;
     }
 
-    // Extension data is stored as raw ObjectNode and deserialized lazily via treeToValue when accessed.
+    // Extension data is either the raw ObjectNode given here, from which known extensions are decoded when accessed, or
+    // the outputs decoded from a token stream by the deserializer, from which the ObjectNode is rebuilt only when needed.
     // Since future extensions may embed JSON within CBOR and require a customized JsonMapper for
     // deserialization, ObjectConverter (which pairs both CborMapper and JsonMapper with WebAuthn4J
     // modules) is used rather than a bare CborMapper.
@@ -73,16 +83,52 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
         this.objectConverter = objectConverter;
     }
 
+    /**
+     * Creates an instance from extension outputs decoded from a token stream.
+     * For the deserializer inside WebAuthn4J only.
+     *
+     * @param decoded         decoded extension outputs
+     * @param objectConverter objectConverter
+     */
+    @ApiStatus.Internal
+    public AuthenticationExtensionsAuthenticatorOutputs(
+            @NotNull DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decoded,
+            @NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(decoded, "decoded must not be null");
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.decoded = decoded;
+        this.objectConverter = objectConverter;
+    }
+
     @JsonValue
     private ObjectNode getRawData() {
+        if (rawData == null) {
+            rawData = decoded.toObjectNode(objectConverter.getCborMapper());
+        }
         return this.rawData;
     }
 
+    private @NotNull DecodedExtensionOutputs<ExtensionAuthenticatorOutput> getDecoded() {
+        if (decoded == null) {
+            decoded = ExtensionOutputDecoders.AUTHENTICATOR.decode(objectConverter.getCborMapper().treeAsTokens(rawData), objectConverter.getCborMapper());
+        }
+        return decoded;
+    }
+
     @JsonIgnore
     public @NotNull Set<String> getKeys() {
-        return rawData.properties().stream()
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (keys == null) {
+            if (decoded != null) {
+                keys = decoded.getKeys();
+            }
+            else {
+                Set<String> set = rawData.properties().stream()
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                keys = Collections.unmodifiableSet(set);
+            }
+        }
+        return keys;
     }
 
     /**
@@ -97,7 +143,7 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     @JsonIgnore
     public @NotNull Set<String> getUnknownKeys() {
         return getKeys().stream()
-                .filter(key -> !KNOWN_KEYS.contains(key))
+                .filter(key -> !ExtensionOutputDecoders.AUTHENTICATOR.getKeys().contains(key))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
@@ -111,6 +157,9 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
             case HMACSecretRegistrationExtensionAuthenticatorOutput.KEY_HMAC_SECRET:
                 return getHMACSecret();
             default:
+                if (rawData == null) {
+                    return decoded.readRawValue(key, objectConverter.getCborMapper());
+                }
                 JsonNode node = rawData.get(key);
                 if (node == null || node.isNull()) return null;
                 if (node.isBoolean()) return node.asBoolean();
@@ -155,10 +204,10 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     @SuppressWarnings("unchecked")
     public @Nullable <E extends T> E getExtension(@NotNull Class<E> tClass) {
         E cached = (E) getExtensions().get(tClass);
-        if (cached != null) return cached;
-        // Fall back to treeToValue for extensions not in KNOWN_TYPES
+        if (cached != null || ExtensionOutputDecoders.AUTHENTICATOR.isRegistered(tClass)) return cached;
+        // Fall back to treeToValue for extensions not known to webauthn4j-core
         // (e.g. extensions registered by external modules via Jackson Module)
-        return objectConverter.getCborMapper().treeToValue(rawData, tClass);
+        return objectConverter.getCborMapper().treeToValue(getRawData(), tClass);
     }
 
     // unconstrained lookup for internal use by convenience getters
@@ -179,14 +228,7 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     @JsonIgnore
     public @NotNull Map<Class<? extends T>, T> getExtensions() {
         if (extensions == null) {
-            Map<Class<? extends T>, T> map = new HashMap<>();
-            for (Class<? extends ExtensionAuthenticatorOutput> type : KNOWN_TYPES) {
-                Object ext = objectConverter.getCborMapper().treeToValue(rawData, type);
-                if (ext != null) {
-                    map.put((Class<? extends T>) type, (T) ext);
-                }
-            }
-            extensions = Collections.unmodifiableMap(map);
+            extensions = (Map<Class<? extends T>, T>) (Map<?, ?>) getDecoded().getExtensions();
         }
         return extensions;
     }
@@ -196,12 +238,12 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         AuthenticationExtensionsAuthenticatorOutputs<?> that = (AuthenticationExtensionsAuthenticatorOutputs<?>) o;
-        return Objects.equals(rawData, that.rawData);
+        return Objects.equals(getRawData(), that.getRawData());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rawData);
+        return Objects.hash(getRawData());
     }
 
     @Override
@@ -219,7 +261,7 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     public static class BuilderForRegistration {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> build() {
             ObjectNode rawData = objectConverter.getCborMapper().valueToTree(values);
@@ -258,7 +300,7 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     public static class BuilderForAuthentication {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> build() {
             ObjectNode rawData = objectConverter.getCborMapper().valueToTree(values);
@@ -289,4 +331,8 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
 
     }
 
+    private static class EmptyHolder {
+        private static final AuthenticationExtensionsAuthenticatorOutputs<?> INSTANCE = new AuthenticationExtensionsAuthenticatorOutputs<>();
+    }
+
 }
@@ -23,6 +23,7 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.CredentialProtectionPolicy;
 import com.webauthn4j.data.extension.HMACGetSecretInput;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.DefaultObjectConverterHolder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
@@ -74,7 +75,19 @@ public class AuthenticationExtensionsClientInputs<T extends ExtensionClientInput
 
     public AuthenticationExtensionsClientInputs() {
         this(tools.jackson.databind.node.JsonNodeFactory.instance.objectNode(),
-                new ObjectConverter());
+                DefaultObjectConverterHolder.get());
+    }
+
+    /**
+     * Returns the shared instance without any extension. It is immutable, so it can stand in for
+     * {@code new AuthenticationExtensionsClientInputs<>()} wherever no extension was provided.
+     *
+     * @param <T> extension type
+     * @return the empty instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ExtensionClientInput> @NotNull AuthenticationExtensionsClientInputs<T> empty() {
+        return (AuthenticationExtensionsClientInputs<T>) EmptyHolder.INSTANCE;
     }
 
     // Extension data is stored as raw ObjectNode and deserialized lazily via treeToValue when accessed.
@@ -275,7 +288,7 @@ public class AuthenticationExtensionsClientInputs<T extends ExtensionClientInput
     public static class BuilderForRegistration {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput> build() {
             ObjectNode rawData = objectConverter.getJsonMapper().valueToTree(values);
@@ -328,7 +341,7 @@ public class AuthenticationExtensionsClientInputs<T extends ExtensionClientInput
     public static class BuilderForAuthentication {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsClientInputs<AuthenticationExtensionClientInput> build() {
             ObjectNode rawData = objectConverter.getJsonMapper().valueToTree(values);
@@ -372,4 +385,9 @@ public class AuthenticationExtensionsClientInputs<T extends ExtensionClientInput
             return this;
         }
     }
+
+    private static class EmptyHolder {
+        private static final AuthenticationExtensionsClientInputs<?> INSTANCE = new AuthenticationExtensionsClientInputs<>();
+    }
+
 }
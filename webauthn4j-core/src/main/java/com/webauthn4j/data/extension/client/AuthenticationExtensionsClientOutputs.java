@@ -6,7 +6,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.extension.HMACGetSecretOutput;
 import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.internal.DecodedExtensionOutputs;
+import com.webauthn4j.data.extension.internal.ExtensionOutputDecoders;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.internal.DefaultObjectConverterHolder;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
@@ -23,28 +27,11 @@ import java.util.stream.Collectors;
  */
 public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutput> {
 
-    private static final List<Class<? extends ExtensionClientOutput>> KNOWN_TYPES = List.of(
-            FIDOAppIDExtensionClientOutput.class,
-            FIDOAppIDExclusionExtensionClientOutput.class,
-            UserVerificationMethodExtensionClientOutput.class,
-            CredentialPropertiesExtensionClientOutput.class,
-            HMACSecretRegistrationExtensionClientOutput.class,
-            HMACSecretAuthenticationExtensionClientOutput.class,
-            LargeBlobExtensionClientOutput.class
-    );
-
-    private static final Set<String> KNOWN_KEYS = Set.of(
-            FIDOAppIDExtensionClientOutput.KEY_APPID,
-            FIDOAppIDExclusionExtensionClientOutput.KEY_APPID_EXCLUDE,
-            UserVerificationMethodExtensionClientOutput.KEY_UVM,
-            CredentialPropertiesExtensionClientOutput.KEY_CRED_PROPS,
-            HMACSecretRegistrationExtensionClientOutput.KEY_HMAC_CREATE_SECRET,
-            HMACSecretAuthenticationExtensionClientOutput.KEY_HMAC_GET_SECRET,
-            LargeBlobExtensionClientOutput.KEY_LARGE_BLOB
-    );
+    @JsonIgnore
+    private ObjectNode rawData;
 
     @JsonIgnore
-    private final ObjectNode rawData;
+    private DecodedExtensionOutputs<ExtensionClientOutput> decoded;
 
     @JsonIgnore
     private final ObjectConverter objectConverter;
@@ -52,12 +39,28 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     @JsonIgnore
     private Map<Class<? extends T>, T> extensions;
 
+    @JsonIgnore
+    private Set<String> keys;
+
     public AuthenticationExtensionsClientOutputs() {
         this(tools.jackson.databind.node.JsonNodeFactory.instance.objectNode(),
-                new ObjectConverter());
+                DefaultObjectConverterHolder.get());
+    }
+
+    /**
+     * Returns the shared instance without any extension. It is immutable, so it can stand in for
+     * {@code new AuthenticationExtensionsClientOutputs<>()} wherever no extension was provided.
+     *
+     * @param <T> extension type
+     * @return the empty instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ExtensionClientOutput> @NotNull AuthenticationExtensionsClientOutputs<T> empty() {
+        return (AuthenticationExtensionsClientOutputs<T>) EmptyHolder.INSTANCE;
     }
 
-    // Extension data is stored as raw ObjectNode and deserialized lazily via treeToValue when accessed.
+    // Extension data is either the raw ObjectNode given here, from which known extensions are decoded when accessed, or
+    // the outputs decoded from a token stream by the deserializer, from which the ObjectNode is rebuilt only when needed.
     // Since future extensions may embed CBOR within JSON and require a customized CborMapper for
     // deserialization, ObjectConverter (which pairs both JsonMapper and CborMapper with WebAuthn4J
     // modules) is used rather than a bare JsonMapper.
@@ -70,16 +73,52 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
         this.objectConverter = objectConverter;
     }
 
+    /**
+     * Creates an instance from extension outputs decoded from a token stream.
+     * For the deserializer inside WebAuthn4J only.
+     *
+     * @param decoded         decoded extension outputs
+     * @param objectConverter objectConverter
+     */
+    @ApiStatus.Internal
+    public AuthenticationExtensionsClientOutputs(
+            @NotNull DecodedExtensionOutputs<ExtensionClientOutput> decoded,
+            @NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(decoded, "decoded must not be null");
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.decoded = decoded;
+        this.objectConverter = objectConverter;
+    }
+
     @JsonValue
     private ObjectNode getRawData() {
+        if (rawData == null) {
+            rawData = decoded.toObjectNode(objectConverter.getJsonMapper());
+        }
         return this.rawData;
     }
 
+    private @NotNull DecodedExtensionOutputs<ExtensionClientOutput> getDecoded() {
+        if (decoded == null) {
+            decoded = ExtensionOutputDecoders.CLIENT.decode(objectConverter.getJsonMapper().treeAsTokens(rawData), objectConverter.getJsonMapper());
+        }
+        return decoded;
+    }
+
     @JsonIgnore
     public @NotNull Set<String> getKeys() {
-        return rawData.properties().stream()
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (keys == null) {
+            if (decoded != null) {
+                keys = decoded.getKeys();
+            }
+            else {
+                Set<String> set = rawData.properties().stream()
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                keys = Collections.unmodifiableSet(set);
+            }
+        }
+        return keys;
     }
 
     /**
@@ -94,7 +133,7 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     @JsonIgnore
     public @NotNull Set<String> getUnknownKeys() {
         return getKeys().stream()
-                .filter(key -> !KNOWN_KEYS.contains(key))
+                .filter(key -> !ExtensionOutputDecoders.CLIENT.getKeys().contains(key))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
@@ -116,6 +155,9 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
             case LargeBlobExtensionClientOutput.KEY_LARGE_BLOB:
                 return getLargeBlob();
             default:
+                if (rawData == null) {
+                    return decoded.readRawValue(key, objectConverter.getJsonMapper());
+                }
                 JsonNode node = rawData.get(key);
                 if (node == null || node.isNull()) return null;
                 if (node.isBoolean()) return node.asBoolean();
@@ -174,10 +216,10 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     @SuppressWarnings("unchecked")
     public @Nullable <E extends T> E getExtension(@NotNull Class<E> tClass) {
         E cached = (E) getExtensions().get(tClass);
-        if (cached != null) return cached;
-        // Fall back to treeToValue for extensions not in KNOWN_TYPES
+        if (cached != null || ExtensionOutputDecoders.CLIENT.isRegistered(tClass)) return cached;
+        // Fall back to treeToValue for extensions not known to webauthn4j-core
         // (e.g. extensions registered by external modules via Jackson Module)
-        return objectConverter.getJsonMapper().treeToValue(rawData, tClass);
+        return objectConverter.getJsonMapper().treeToValue(getRawData(), tClass);
     }
 
     // unconstrained lookup for internal use by convenience getters
@@ -198,14 +240,7 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     @JsonIgnore
     public @NotNull Map<Class<? extends T>, T> getExtensions() {
         if (extensions == null) {
-            Map<Class<? extends T>, T> map = new HashMap<>();
-            for (Class<? extends ExtensionClientOutput> type : KNOWN_TYPES) {
-                Object ext = objectConverter.getJsonMapper().treeToValue(rawData, type);
-                if (ext != null) {
-                    map.put((Class<? extends T>) type, (T) ext);
-                }
-            }
-            extensions = Collections.unmodifiableMap(map);
+            extensions = (Map<Class<? extends T>, T>) (Map<?, ?>) getDecoded().getExtensions();
         }
         return extensions;
     }
@@ -215,12 +250,12 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         AuthenticationExtensionsClientOutputs<?> that = (AuthenticationExtensionsClientOutputs<?>) o;
-        return Objects.equals(rawData, that.rawData);
+        return Objects.equals(getRawData(), that.getRawData());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rawData);
+        return Objects.hash(getRawData());
     }
 
     @Override
@@ -238,7 +273,7 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     public static class BuilderForRegistration {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> build() {
             ObjectNode rawData = objectConverter.getJsonMapper().valueToTree(values);
@@ -281,7 +316,7 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
     public static class BuilderForAuthentication {
 
         private final Map<String, Object> values = new LinkedHashMap<>();
-        private ObjectConverter objectConverter = new ObjectConverter();
+        private ObjectConverter objectConverter = DefaultObjectConverterHolder.get();
 
         public @NotNull AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> build() {
             ObjectNode rawData = objectConverter.getJsonMapper().valueToTree(values);
@@ -325,4 +360,9 @@ public class AuthenticationExtensionsClientOutputs<T extends ExtensionClientOutp
             return this;
         }
     }
+
+    private static class EmptyHolder {
+        private static final AuthenticationExtensionsClientOutputs<?> INSTANCE = new AuthenticationExtensionsClientOutputs<>();
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.extension.internal;
+
+import com.webauthn4j.data.extension.ExtensionOutput;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extension map decoded by {@link ExtensionOutputDecoderRegistry}: the typed outputs of the registered extensions, and
+ * the encoded bytes of every other value.
+ *
+ * @param <T> extension output type
+ */
+public final class DecodedExtensionOutputs<T extends ExtensionOutput> {
+
+    private final Set<String> keys;
+    private final Map<String, T> outputs;
+    private final Map<Class<? extends T>, T> extensions;
+    private final Map<String, byte[]> rawValues;
+
+    DecodedExtensionOutputs(@NotNull Set<String> keys, @NotNull Map<String, T> outputs,
+                            @NotNull Map<Class<? extends T>, T> extensions, @NotNull Map<String, byte[]> rawValues) {
+        this.keys = Collections.unmodifiableSet(keys);
+        this.outputs = outputs;
+        this.extensions = Collections.unmodifiableMap(extensions);
+        this.rawValues = rawValues;
+    }
+
+    /**
+     * Returns the extension identifiers in the order they appeared
+     *
+     * @return extension identifiers
+     */
+    public @NotNull Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the typed outputs of the registered extensions
+     *
+     * @return extension outputs keyed by their type
+     */
+    public @NotNull Map<Class<? extends T>, T> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * Decodes the value of an extension that was kept as encoded bytes
+     *
+     * @param key    extension identifier
+     * @param mapper mapper of the source format
+     * @return the value bound to a plain Java type, or null if the extension is absent, typed, or null
+     */
+    public @Nullable Object readRawValue(@NotNull String key, @NotNull ObjectMapper mapper) {
+        byte[] bytes = rawValues.get(key);
+        return bytes == null ? null : mapper.readValue(bytes, Object.class);
+    }
+
+    /**
+     * Rebuilds the extension map as a tree, encoding typed outputs from their values
+     *
+     * @param mapper mapper of the source format
+     * @return the extension map
+     */
+    public @NotNull ObjectNode toObjectNode(@NotNull ObjectMapper mapper) {
+        ObjectNode node = mapper.createObjectNode();
+        for (String key : keys) {
+            T output = outputs.get(key);
+            node.set(key, output == null ? mapper.readTree(rawValues.get(key)) : mapper.valueToTree(output.getValue(key)));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.extension.internal;
+
+import com.webauthn4j.data.extension.ExtensionOutput;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Maps extension identifiers to decoders that build typed extension outputs straight from the token stream of an
+ * extension map, so that the map is decoded in a single pass without building a tree. The value of any other
+ * extension is copied as encoded bytes in the format of the source, and decoded only when it is accessed.
+ *
+ * @param <T> extension output type
+ */
+public final class ExtensionOutputDecoderRegistry<T extends ExtensionOutput> {
+
+    private final Map<String, List<Registration<T>>> registrations;
+    private final Set<String> keys;
+    private final Set<Class<?>> types;
+
+    private ExtensionOutputDecoderRegistry(@NotNull Map<String, List<Registration<T>>> registrations) {
+        this.registrations = registrations;
+        this.keys = Collections.unmodifiableSet(registrations.keySet());
+        Set<Class<?>> set = new HashSet<>();
+        registrations.values().forEach(list -> list.forEach(registration -> set.add(registration.type)));
+        this.types = Collections.unmodifiableSet(set);
+    }
+
+    public static <T extends ExtensionOutput> @NotNull Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns extension identifiers having at least one registered decoder
+     *
+     * @return extension identifiers
+     */
+    public @NotNull Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns whether a decoder is registered for the given extension output type
+     *
+     * @param type extension output type
+     * @return true if the type is decoded by this registry
+     */
+    public boolean isRegistered(@NotNull Class<?> type) {
+        return types.contains(type);
+    }
+
+    /**
+     * Decodes an extension map from its token stream
+     *
+     * @param parser parser positioned on the start of the extension map, or right before it. It is left on the end of the map.
+     * @param mapper mapper of the source format, used to copy the values of the extensions without a decoder
+     * @return decoded extension outputs
+     */
+    public @NotNull DecodedExtensionOutputs<T> decode(@NotNull JsonParser parser, @NotNull ObjectMapper mapper) {
+        AssertUtil.notNull(parser, "parser must not be null");
+        AssertUtil.notNull(mapper, "mapper must not be null");
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, Map.class, "extension outputs must be a map, but was " + token);
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        Map<String, T> outputs = new HashMap<>();
+        Map<Class<? extends T>, T> extensions = new HashMap<>();
+        Map<String, byte[]> rawValues = null;
+        String key;
+        while ((key = parser.nextName()) != null) {
+            JsonToken valueToken = parser.nextToken();
+            if (!keys.add(key)) {
+                // the last occurrence of a duplicated key wins, as it does in a tree
+                T previous = outputs.remove(key);
+                extensions.values().remove(previous);
+                if (rawValues != null) {
+                    rawValues.remove(key);
+                }
+            }
+            Registration<T> registration = find(key, valueToken);
+            if (registration == null) {
+                if (rawValues == null) {
+                    rawValues = new HashMap<>();
+                }
+                rawValues.put(key, copyValue(parser, mapper));
+            }
+            else {
+                T output = registration.decoder.decode(parser);
+                outputs.put(key, output);
+                extensions.put(registration.type, output);
+            }
+        }
+        return new DecodedExtensionOutputs<>(keys, outputs, extensions, rawValues == null ? Collections.emptyMap() : rawValues);
+    }
+
+    private @Nullable Registration<T> find(@NotNull String key, @NotNull JsonToken token) {
+        List<Registration<T>> candidates = registrations.get(key);
+        if (candidates == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        for (Registration<T> candidate : candidates) {
+            if (candidate.accepts.test(token)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static @NotNull byte[] copyValue(@NotNull JsonParser parser, @NotNull ObjectMapper mapper) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Builds a typed extension output from the token stream of its value
+     *
+     * @param <T> extension output type
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+
+        /**
+         * Decodes an extension value
+         *
+         * @param parser parser positioned on the first token of the value, to be left on its last token
+         * @return the extension output
+         */
+        @NotNull T decode(@NotNull JsonParser parser);
+    }
+
+    public static class Builder<T extends ExtensionOutput> {
+
+        private final Map<String, List<Registration<T>>> registrations = new LinkedHashMap<>();
+
+        public <E extends T> @NotNull Builder<T> register(@NotNull String key, @NotNull Class<E> type, @NotNull Decoder<E> decoder) {
+            return register(key, type, token -> true, decoder);
+        }
+
+        /**
+         * Registers a decoder for the values of an extension that start with a token accepted by the given predicate.
+         * Values that no decoder of the extension accepts are kept as encoded bytes.
+         */
+        public <E extends T> @NotNull Builder<T> register(@NotNull String key, @NotNull Class<E> type, @NotNull Predicate<JsonToken> accepts, @NotNull Decoder<E> decoder) {
+            AssertUtil.notNull(key, "key must not be null");
+            AssertUtil.notNull(type, "type must not be null");
+            AssertUtil.notNull(accepts, "accepts must not be null");
+            AssertUtil.notNull(decoder, "decoder must not be null");
+            registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(new Registration<>(type, accepts, decoder));
+            return this;
+        }
+
+        public @NotNull ExtensionOutputDecoderRegistry<T> build() {
+            Map<String, List<Registration<T>>> copy = new LinkedHashMap<>();
+            registrations.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+            return new ExtensionOutputDecoderRegistry<>(Collections.unmodifiableMap(copy));
+        }
+    }
+
+    private static class Registration<T> {
+
+        private final Class<? extends T> type;
+        private final Predicate<JsonToken> accepts;
+        private final Decoder<? extends T> decoder;
+
+        private Registration(@NotNull Class<? extends T> type, @NotNull Predicate<JsonToken> accepts, @NotNull Decoder<? extends T> decoder) {
+            this.type = type;
+            this.accepts = accepts;
+            this.decoder = decoder;
+        }
+    }
+
+}
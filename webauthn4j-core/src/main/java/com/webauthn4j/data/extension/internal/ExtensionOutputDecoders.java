@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.extension.internal;
+
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.HMACGetSecretOutput;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.authenticator.*;
+import com.webauthn4j.data.extension.client.*;
+import tools.jackson.core.JsonToken;
+
+/**
+ * Decoder registries of the extension outputs known to webauthn4j-core
+ */
+public class ExtensionOutputDecoders {
+
+    public static final ExtensionOutputDecoderRegistry<ExtensionAuthenticatorOutput> AUTHENTICATOR = ExtensionOutputDecoderRegistry.<ExtensionAuthenticatorOutput>builder()
+            .register(UserVerificationMethodExtensionAuthenticatorOutput.KEY_UVM, UserVerificationMethodExtensionAuthenticatorOutput.class,
+                    parser -> new UserVerificationMethodExtensionAuthenticatorOutput(parser.readValueAs(UvmEntries.class)))
+            .register(CredentialProtectionExtensionAuthenticatorOutput.KEY_CRED_PROTECT, CredentialProtectionExtensionAuthenticatorOutput.class,
+                    parser -> new CredentialProtectionExtensionAuthenticatorOutput(parser.readValueAs(CredentialProtectionPolicy.class)))
+            // hmac-secret carries a boolean on registration and the encrypted secret on authentication
+            .register(HMACSecretRegistrationExtensionAuthenticatorOutput.KEY_HMAC_SECRET, HMACSecretRegistrationExtensionAuthenticatorOutput.class, JsonToken::isBoolean,
+                    parser -> new HMACSecretRegistrationExtensionAuthenticatorOutput(parser.getBooleanValue()))
+            .register(HMACSecretAuthenticationExtensionAuthenticatorOutput.KEY_HMAC_SECRET, HMACSecretAuthenticationExtensionAuthenticatorOutput.class, token -> !token.isBoolean(),
+                    parser -> new HMACSecretAuthenticationExtensionAuthenticatorOutput(parser.readValueAs(byte[].class)))
+            .build();
+
+    // Boolean outputs accept any scalar, read as leniently as JsonNode.asBoolean() did
+    public static final ExtensionOutputDecoderRegistry<ExtensionClientOutput> CLIENT = ExtensionOutputDecoderRegistry.<ExtensionClientOutput>builder()
+            .register(FIDOAppIDExtensionClientOutput.KEY_APPID, FIDOAppIDExtensionClientOutput.class, JsonToken::isScalarValue,
+                    parser -> new FIDOAppIDExtensionClientOutput(parser.getValueAsBoolean()))
+            .register(FIDOAppIDExclusionExtensionClientOutput.KEY_APPID_EXCLUDE, FIDOAppIDExclusionExtensionClientOutput.class, JsonToken::isScalarValue,
+                    parser -> new FIDOAppIDExclusionExtensionClientOutput(parser.getValueAsBoolean()))
+            .register(UserVerificationMethodExtensionClientOutput.KEY_UVM, UserVerificationMethodExtensionClientOutput.class,
+                    parser -> new UserVerificationMethodExtensionClientOutput(parser.readValueAs(UvmEntries.class)))
+            .register(CredentialPropertiesExtensionClientOutput.KEY_CRED_PROPS, CredentialPropertiesExtensionClientOutput.class,
+                    parser -> new CredentialPropertiesExtensionClientOutput(parser.readValueAs(CredentialPropertiesOutput.class)))
+            .register(HMACSecretRegistrationExtensionClientOutput.KEY_HMAC_CREATE_SECRET, HMACSecretRegistrationExtensionClientOutput.class, JsonToken::isScalarValue,
+                    parser -> new HMACSecretRegistrationExtensionClientOutput(parser.getValueAsBoolean()))
+            .register(HMACSecretAuthenticationExtensionClientOutput.KEY_HMAC_GET_SECRET, HMACSecretAuthenticationExtensionClientOutput.class,
+                    parser -> new HMACSecretAuthenticationExtensionClientOutput(parser.readValueAs(HMACGetSecretOutput.class)))
+            .register(LargeBlobExtensionClientOutput.KEY_LARGE_BLOB, LargeBlobExtensionClientOutput.class, token -> token == JsonToken.START_OBJECT,
+                    parser -> new LargeBlobExtensionClientOutput(parser.readValueAs(AuthenticationExtensionsLargeBlobOutputs.class)))
+            .build();
+
+    private ExtensionOutputDecoders() {
+    }
+}
@@ -32,6 +32,8 @@ import java.security.interfaces.ECPublicKey;
 
 public class JWS<T> {
 
+    private static final byte[] PERIOD = {'.'};
+
     private final Logger logger;
 
     private final JWSHeader header;
@@ -41,6 +43,11 @@ public class JWS<T> {
     private final String headerString;
     private final String payloadString;
 
+    // Compact serialization the JWS was parsed from. When set, headerString and payloadString are null and the
+    // signed data is the first signedDataLength bytes of it.
+    private final byte[] source;
+    private final int signedDataLength;
+
     JWS(@NotNull JWSHeader header, @NotNull String headerString, @NotNull T payload, @NotNull String payloadString, @NotNull byte[] signature) {
         logger = LoggerFactory.getLogger(JWS.class);
 
@@ -49,6 +56,20 @@ public class JWS<T> {
         this.signature = ArrayUtil.clone(signature);
         this.headerString = headerString;
         this.payloadString = payloadString;
+        this.source = null;
+        this.signedDataLength = 0;
+    }
+
+    JWS(@NotNull JWSHeader header, @NotNull T payload, @NotNull byte[] signature, @NotNull byte[] source, int signedDataLength) {
+        logger = LoggerFactory.getLogger(JWS.class);
+
+        this.header = header;
+        this.payload = payload;
+        this.signature = signature;
+        this.headerString = null;
+        this.payloadString = null;
+        this.source = source;
+        this.signedDataLength = signedDataLength;
     }
 
     public @NotNull JWSHeader getHeader() {
@@ -69,15 +90,11 @@ public class JWS<T> {
      * @return true if it pass validation
      */
     public boolean isValidSignature() {
-        String signedData = headerString + "." + payloadString;
         try {
             if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
                 return false;
             }
-            Signature signatureInstance = SignatureUtil.createSignature(header.getAlg().toSignatureAlgorithm());
             PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
-            signatureInstance.initVerify(publicKey);
-            signatureInstance.update(signedData.getBytes());
             byte[] sig;
             if (publicKey instanceof ECPublicKey) {
                 sig = JWSSignatureUtil.convertJwsSignatureToDerSignature(signature);
@@ -85,7 +102,11 @@ public class JWS<T> {
             else {
                 sig = signature;
             }
-            return signatureInstance.verify(sig);
+            if (source != null) {
+                return SignatureUtil.verify(header.getAlg().toSignatureAlgorithm(), publicKey, sig, source, 0, signedDataLength);
+            }
+            return SignatureUtil.verify(header.getAlg().toSignatureAlgorithm(), publicKey, sig,
+                    headerString.getBytes(StandardCharsets.US_ASCII), PERIOD, payloadString.getBytes(StandardCharsets.US_ASCII));
         } catch (SignatureException | InvalidKeyException e) {
             logger.debug("Signature verification failed", e);
             return false;
@@ -93,11 +114,17 @@ public class JWS<T> {
     }
 
     public @NotNull byte[] getBytes() {
+        if (source != null) {
+            return ArrayUtil.clone(source);
+        }
         return toString().getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public @NotNull String toString() {
+        if (source != null) {
+            return new String(source, StandardCharsets.US_ASCII);
+        }
         return headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(signature);
     }
 
@@ -22,16 +22,24 @@ import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.SignatureUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.PrivateKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.Base64;
 
 public class JWSFactory {
 
     private static final String HEADER_MUST_NOT_BE_NULL = "header must not be null";
     private static final String PAYLOAD_MUST_NOT_BE_NULL = "payload must not be null";
+    private static final String PAYLOAD_TYPE_MUST_NOT_BE_NULL = "payloadType must not be null";
+    private static final String NOT_DIVIDED_BY_TWO_PERIOD = "JWS value is not divided by two period.";
 
     private final ObjectConverter objectConverter;
 
@@ -79,11 +87,11 @@ public class JWSFactory {
 
     public <T> @NotNull JWS<T> parse(@NotNull String value, @NotNull Class<T> payloadType) {
         AssertUtil.notNull(value, "value must not be null");
-        AssertUtil.notNull(payloadType, "payloadType must not be null");
+        AssertUtil.notNull(payloadType, PAYLOAD_TYPE_MUST_NOT_BE_NULL);
 
         String[] data = value.split("\\.");
         if (data.length != 3) {
-            throw new IllegalArgumentException("JWS value is not divided by two period.");
+            throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIOD);
         }
         String headerString = data[0];
         String payloadString = data[1];
@@ -98,4 +106,68 @@ public class JWSFactory {
         return new JWS<>(header, headerString, payload, payloadString, signature);
     }
 
+    /**
+     * Parses a JWS compact serialization given as bytes. Unlike {@link #parse(String, Class)}, the payload segment is
+     * base64url-decoded straight into the JSON parser, and the returned {@link JWS} verifies its signature over the
+     * given bytes, so no intermediate copies of the payload are made.
+     *
+     * @param value       JWS compact serialization
+     * @param payloadType payload type
+     * @param <T>         payload type
+     * @return parsed JWS
+     */
+    public <T> @NotNull JWS<T> parse(@NotNull byte[] value, @NotNull Class<T> payloadType) {
+        AssertUtil.notNull(value, "value must not be null");
+        AssertUtil.notNull(payloadType, PAYLOAD_TYPE_MUST_NOT_BE_NULL);
+        return parseCompact(value.clone(), payloadType);
+    }
+
+    /**
+     * Reads a JWS compact serialization from the given stream and parses it as {@link #parse(byte[], Class)} does.
+     * The stream is read to its end but not closed.
+     *
+     * @param inputStream stream holding the JWS compact serialization
+     * @param payloadType payload type
+     * @param <T>         payload type
+     * @return parsed JWS
+     * @throws UncheckedIOException if the stream cannot be read
+     */
+    public <T> @NotNull JWS<T> parse(@NotNull InputStream inputStream, @NotNull Class<T> payloadType) {
+        AssertUtil.notNull(inputStream, "inputStream must not be null");
+        AssertUtil.notNull(payloadType, PAYLOAD_TYPE_MUST_NOT_BE_NULL);
+        byte[] value;
+        try {
+            value = inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JWS", e);
+        }
+        return parseCompact(value, payloadType);
+    }
+
+    private <T> @NotNull JWS<T> parseCompact(@NotNull byte[] value, @NotNull Class<T> payloadType) {
+        int headerEnd = indexOfPeriod(value, 0);
+        int payloadEnd = headerEnd < 0 ? -1 : indexOfPeriod(value, headerEnd + 1);
+        if (payloadEnd < 0 || indexOfPeriod(value, payloadEnd + 1) >= 0) {
+            throw new IllegalArgumentException(NOT_DIVIDED_BY_TWO_PERIOD);
+        }
+        JWSHeader header = objectConverter.getJsonMapper().readValue(Base64UrlUtil.decode(Arrays.copyOfRange(value, 0, headerEnd)), JWSHeader.class);
+        InputStream payloadStream = Base64.getUrlDecoder().wrap(new ByteArrayInputStream(value, headerEnd + 1, payloadEnd - headerEnd - 1));
+        T payload = objectConverter.getJsonMapper().readValue(payloadStream, payloadType);
+        byte[] signature = Base64UrlUtil.decode(Arrays.copyOfRange(value, payloadEnd + 1, value.length));
+
+        AssertUtil.notNull(header, HEADER_MUST_NOT_BE_NULL);
+        AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
+
+        return new JWS<>(header, payload, signature, value, payloadEnd);
+    }
+
+    private static int indexOfPeriod(@NotNull byte[] value, int fromIndex) {
+        for (int i = fromIndex; i < value.length; i++) {
+            if (value[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
 }
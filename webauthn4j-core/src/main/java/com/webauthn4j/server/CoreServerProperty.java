@@ -17,10 +17,14 @@
 package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -33,6 +37,7 @@ public class CoreServerProperty {
 
     private final String rpId;
     private final Challenge challenge;
+    private volatile byte[] rpIdHash;
 
     // ~ Constructor
     // ========================================================================================================
@@ -55,6 +60,48 @@ public class CoreServerProperty {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the rpId, as expected in the rpIdHash field of authenticator data.
+     * The hash is computed once per instance.
+     *
+     * @return the rpIdHash
+     */
+    public @NotNull byte[] getRpIdHash() {
+        return ArrayUtil.clone(rpIdHash());
+    }
+
+    /**
+     * Returns whether {@code rpIdHash} equals the SHA-256 hash of the rpId, without copying the hash
+     *
+     * @param rpIdHash rpIdHash to compare
+     * @return true if {@code rpIdHash} matches
+     */
+    public boolean rpIdHashEquals(@Nullable byte[] rpIdHash) {
+        return Arrays.equals(rpIdHash(), rpIdHash);
+    }
+
+    /**
+     * Returns whether the 32 bytes of {@code source} starting at {@code offset}, such as the rpIdHash field of raw
+     * authenticator data, equal the SHA-256 hash of the rpId, without copying either of them
+     *
+     * @param source array holding the rpIdHash to compare
+     * @param offset offset of the rpIdHash in {@code source}
+     * @return true if the rpIdHash matches
+     */
+    public boolean rpIdHashEquals(@NotNull byte[] source, int offset) {
+        byte[] hash = rpIdHash();
+        return offset >= 0 && source.length - offset >= hash.length && Arrays.equals(source, offset, offset + hash.length, hash, 0, hash.length);
+    }
+
+    private @NotNull byte[] rpIdHash() {
+        byte[] hash = rpIdHash;
+        if (hash == null) {
+            hash = MessageDigestUtil.digestSHA256(rpId.getBytes(StandardCharsets.UTF_8));
+            rpIdHash = hash;
+        }
+        return hash;
+    }
+
     /**
      * Returns the {@link Challenge}
      *
@@ -35,6 +35,8 @@ import java.util.stream.Collectors;
  */
 public class CertificateUtil {
 
+    private static final String PKIX = "PKIX";
+
     private static final CertificateFactory certificateFactory;
 
     static {
@@ -50,12 +52,35 @@ public class CertificateUtil {
 
     public static @NotNull CertPathValidator createCertPathValidator() {
         try {
-            return CertPathValidator.getInstance("PKIX");
+            return CertPathValidator.getInstance(PKIX);
         } catch (NoSuchAlgorithmException e) {
             throw new UnexpectedCheckedException(e);
         }
     }
 
+    /**
+     * Validates the cert path with a PKIX {@link CertPathValidator} borrowed from {@link JCAEnginePool}
+     *
+     * @param certPath   cert path to validate
+     * @param parameters PKIX parameters
+     * @return validation result
+     * @throws InvalidAlgorithmParameterException if the parameters are not appropriate for PKIX
+     * @throws CertPathValidatorException         if the cert path does not validate
+     */
+    public static @NotNull PKIXCertPathValidatorResult validateCertPath(@NotNull CertPath certPath, @NotNull PKIXParameters parameters) throws InvalidAlgorithmParameterException, CertPathValidatorException {
+        AssertUtil.notNull(certPath, "certPath must not be null");
+        AssertUtil.notNull(parameters, "parameters must not be null");
+
+        CertPathValidator pooled = JCAEnginePool.CERT_PATH_VALIDATORS.poll(PKIX);
+        CertPathValidator certPathValidator = pooled != null ? pooled : createCertPathValidator();
+        try {
+            return (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, parameters);
+        } finally {
+            // CertPathValidator keeps no state between validate calls, so it can be reused even after a failure.
+            JCAEnginePool.CERT_PATH_VALIDATORS.offer(PKIX, certPathValidator);
+        }
+    }
+
     public static @NotNull PKIXParameters createPKIXParameters(@NotNull Set<TrustAnchor> trustAnchors) {
         AssertUtil.notEmpty(trustAnchors, "trustAnchors is required; it must not be empty");
         try {
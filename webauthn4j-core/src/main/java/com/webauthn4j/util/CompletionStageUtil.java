@@ -1,7 +1,11 @@
 package com.webauthn4j.util;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 public class CompletionStageUtil {
@@ -15,7 +19,7 @@ public class CompletionStageUtil {
             return CompletableFuture.completedFuture(result);
         }
         catch (RuntimeException e){
-            return CompletableFuture.failedStage(e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -24,9 +28,76 @@ public class CompletionStageUtil {
             return supplier.get();
         }
         catch (RuntimeException e){
-            return CompletableFuture.failedStage(e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Runs the supplier on the executor, or inline on the calling thread when the executor is null
+     *
+     * @param supplier supplier
+     * @param executor executor to run the supplier on, or null to run it inline
+     * @param <U> result type
+     * @return completion stage completed with the supplier result, or completed exceptionally with the exception
+     * thrown by the supplier as is, regardless of whether it ran inline or on the executor
+     */
+    public static <U> CompletionStage<U> supply(Supplier<U> supplier, @Nullable Executor executor) {
+        if (executor == null) {
+            return supply(supplier);
+        }
+        CompletableFuture<U> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(supplier.get());
+                }
+                catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
         }
+        catch (RejectedExecutionException e){
+            return CompletableFuture.failedFuture(e);
+        }
+        return future;
     }
 
+    /**
+     * Runs the supplier on the executor, or inline on the calling thread when the executor is null, and
+     * returns a stage completed with the result of the stage it supplies
+     *
+     * @param supplier supplier
+     * @param executor executor to run the supplier on, or null to run it inline
+     * @param <U> result type
+     * @return completion stage completed with the result of the supplied stage, or completed exceptionally with
+     * the exception thrown by the supplier as is, regardless of whether it ran inline or on the executor
+     */
+    public static <U> CompletionStage<U> compose(Supplier<CompletionStage<U>> supplier, @Nullable Executor executor) {
+        if (executor == null) {
+            return compose(supplier);
+        }
+        CompletableFuture<U> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    supplier.get().whenComplete((result, throwable) -> {
+                        if (throwable == null) {
+                            future.complete(result);
+                        }
+                        else {
+                            future.completeExceptionally(throwable);
+                        }
+                    });
+                }
+                catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+        catch (RejectedExecutionException e){
+            return CompletableFuture.failedFuture(e);
+        }
+        return future;
+    }
 
 }
@@ -55,12 +55,26 @@ public class ECUtil {
         return createKeyPair(P_256_SPEC);
     }
 
+    /**
+     * Creates a public key with a {@link KeyFactory} borrowed from {@link JCAEnginePool}
+     *
+     * @param ecPublicKeySpec public key spec
+     * @return public key
+     */
     public static @NotNull PublicKey createPublicKey(@NotNull ECPublicKeySpec ecPublicKeySpec) {
+        KeyFactory factory = JCAEnginePool.KEY_FACTORIES.poll("EC");
         try {
-            KeyFactory factory = KeyFactory.getInstance("EC");
+            if (factory == null) {
+                factory = KeyFactory.getInstance("EC");
+            }
             return factory.generatePublic(ecPublicKeySpec);
         } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            // KeyFactory keeps no state between calls, so it can be reused even after a failure.
+            if (factory != null) {
+                JCAEnginePool.KEY_FACTORIES.offer("EC", factory);
+            }
         }
     }
 
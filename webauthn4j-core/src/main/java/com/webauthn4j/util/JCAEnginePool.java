@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import com.webauthn4j.data.SignatureAlgorithm;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.cert.CertPathValidator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of reusable JCA engine instances, used by {@link SignatureUtil#verify}, {@link MessageDigestUtil#digest},
+ * {@link CertificateUtil#validateCertPath}, {@link ECUtil#createPublicKey(java.security.spec.ECPublicKeySpec)} and
+ * {@link RSAUtil#createPublicKey(java.security.spec.RSAPublicKeySpec)}.
+ * <p>
+ * {@code Signature.getInstance}, {@code MessageDigest.getInstance}, {@code CertPathValidator.getInstance} and {@code KeyFactory.getInstance} look the algorithm up through the installed
+ * providers on every call, which becomes a point of contention under high concurrency. Pooled instances are handed
+ * out to one borrower at a time, so unlike thread-local caching the pool stays bounded with virtual threads and is
+ * safe for reentrant use.
+ * <p>
+ * Some providers, typically FIPS validated modules, must not have their engine instances reused. Pooling can be turned
+ * off either with the {@value #ENABLED_PROPERTY_NAME} system property set to {@code false}, or with {@link #setEnabled(boolean)}.
+ * When disabled, a fresh instance is created for every operation, exactly as {@link SignatureUtil#createSignature(SignatureAlgorithm)}
+ * and {@link MessageDigestUtil#createMessageDigest(String)} do. As pooled instances keep the provider they were created with,
+ * {@link #clear()} should be called after changing the installed security providers at runtime.
+ */
+public final class JCAEnginePool {
+
+    public static final String ENABLED_PROPERTY_NAME = "com.webauthn4j.util.JCAEnginePool.enabled";
+
+    static final int MAX_IDLE_INSTANCES_PER_ALGORITHM = 64;
+
+    static final Pool<SignatureAlgorithm, Signature> SIGNATURES = new Pool<>();
+    static final Pool<String, MessageDigest> MESSAGE_DIGESTS = new Pool<>();
+    static final Pool<String, CertPathValidator> CERT_PATH_VALIDATORS = new Pool<>();
+    static final Pool<String, KeyFactory> KEY_FACTORIES = new Pool<>();
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY_NAME));
+
+    private JCAEnginePool() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        JCAEnginePool.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * Discards all idle instances.
+     */
+    public static void clear() {
+        SIGNATURES.clear();
+        MESSAGE_DIGESTS.clear();
+        CERT_PATH_VALIDATORS.clear();
+        KEY_FACTORIES.clear();
+    }
+
+    static final class Pool<K, T> {
+
+        private final ConcurrentHashMap<K, IdleInstances<T>> idleInstancesMap = new ConcurrentHashMap<>();
+
+        @Nullable T poll(@NotNull K key) {
+            if (!enabled) {
+                return null;
+            }
+            IdleInstances<T> idleInstances = idleInstancesMap.get(key);
+            return idleInstances == null ? null : idleInstances.poll();
+        }
+
+        void offer(@NotNull K key, @NotNull T instance) {
+            if (!enabled) {
+                return;
+            }
+            idleInstancesMap.computeIfAbsent(key, k -> new IdleInstances<>()).offer(instance);
+        }
+
+        int idleCount(@NotNull K key) {
+            IdleInstances<T> idleInstances = idleInstancesMap.get(key);
+            return idleInstances == null ? 0 : idleInstances.size.get();
+        }
+
+        void clear() {
+            idleInstancesMap.clear();
+        }
+    }
+
+    private static final class IdleInstances<T> {
+
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        @Nullable T poll() {
+            T instance = queue.poll();
+            if (instance != null) {
+                size.decrementAndGet();
+            }
+            return instance;
+        }
+
+        void offer(@NotNull T instance) {
+            if (size.incrementAndGet() > MAX_IDLE_INSTANCES_PER_ALGORITHM) {
+                size.decrementAndGet();
+                return;
+            }
+            queue.offer(instance);
+        }
+    }
+}
@@ -32,16 +32,7 @@ public class MessageDigestUtil {
 
     public static @NotNull MessageDigest createMessageDigest(@NotNull String hashAlgorithm) {
         try {
-            switch (hashAlgorithm) {
-                case "S256":
-                    return MessageDigest.getInstance("SHA-256");
-                case "S384":
-                    return MessageDigest.getInstance("SHA-384");
-                case "S512":
-                    return MessageDigest.getInstance("SHA-512");
-                default:
-                    return MessageDigest.getInstance(hashAlgorithm);
-            }
+            return MessageDigest.getInstance(toJcaName(hashAlgorithm));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalArgumentException(e);
         }
@@ -51,4 +42,47 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    /**
+     * Computes the digest of the concatenation of the given data. Unlike {@link #createMessageDigest(String)},
+     * the {@link MessageDigest} instance is borrowed from {@link JCAEnginePool} and returned after use.
+     *
+     * @param hashAlgorithm hash algorithm
+     * @param data          data to digest, in the given order
+     * @return digest
+     */
+    public static @NotNull byte[] digest(@NotNull String hashAlgorithm, @NotNull byte[]... data) {
+        AssertUtil.notNull(hashAlgorithm, "hashAlgorithm must not be null");
+        AssertUtil.notNull(data, "data must not be null");
+
+        String jcaName = toJcaName(hashAlgorithm);
+        MessageDigest messageDigest = JCAEnginePool.MESSAGE_DIGESTS.poll(jcaName);
+        if (messageDigest == null) {
+            messageDigest = createMessageDigest(jcaName);
+        }
+        for (byte[] item : data) {
+            messageDigest.update(item);
+        }
+        // digest resets the instance, so it can be handed to the next borrower.
+        byte[] digest = messageDigest.digest();
+        JCAEnginePool.MESSAGE_DIGESTS.offer(jcaName, messageDigest);
+        return digest;
+    }
+
+    public static @NotNull byte[] digestSHA256(@NotNull byte[]... data) {
+        return digest("SHA-256", data);
+    }
+
+    private static @NotNull String toJcaName(@NotNull String hashAlgorithm) {
+        switch (hashAlgorithm) {
+            case "S256":
+                return "SHA-256";
+            case "S384":
+                return "SHA-384";
+            case "S512":
+                return "SHA-512";
+            default:
+                return hashAlgorithm;
+        }
+    }
+
 }
@@ -30,12 +30,26 @@ public class RSAUtil {
     private RSAUtil() {
     }
 
+    /**
+     * Creates a public key with a {@link KeyFactory} borrowed from {@link JCAEnginePool}
+     *
+     * @param rsaPublicKeySpec public key spec
+     * @return public key
+     */
     public static @NotNull PublicKey createPublicKey(@NotNull RSAPublicKeySpec rsaPublicKeySpec) {
+        KeyFactory factory = JCAEnginePool.KEY_FACTORIES.poll("RSA");
         try {
-            KeyFactory factory = KeyFactory.getInstance("RSA");
+            if (factory == null) {
+                factory = KeyFactory.getInstance("RSA");
+            }
             return factory.generatePublic(rsaPublicKeySpec);
         } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
             throw new UnexpectedCheckedException(e);
+        } finally {
+            // KeyFactory keeps no state between calls, so it can be reused even after a failure.
+            if (factory != null) {
+                JCAEnginePool.KEY_FACTORIES.offer("RSA", factory);
+            }
         }
     }
 
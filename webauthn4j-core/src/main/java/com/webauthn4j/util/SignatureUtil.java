@@ -20,9 +20,7 @@ import com.webauthn4j.data.MessageDigestAlgorithm;
 import com.webauthn4j.data.SignatureAlgorithm;
 import org.jetbrains.annotations.NotNull;
 
-import java.security.InvalidAlgorithmParameterException;
-import java.security.NoSuchAlgorithmException;
-import java.security.Signature;
+import java.security.*;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
 
@@ -31,6 +29,10 @@ import java.security.spec.PSSParameterSpec;
  */
 public class SignatureUtil {
 
+    private static final PSSParameterSpec PS256_PARAMETER_SPEC = new PSSParameterSpec(MessageDigestAlgorithm.SHA256.getJcaName(), "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
+    private static final PSSParameterSpec PS384_PARAMETER_SPEC = new PSSParameterSpec(MessageDigestAlgorithm.SHA384.getJcaName(), "MGF1", MGF1ParameterSpec.SHA384, 48, 1);
+    private static final PSSParameterSpec PS512_PARAMETER_SPEC = new PSSParameterSpec(MessageDigestAlgorithm.SHA512.getJcaName(), "MGF1", MGF1ParameterSpec.SHA512, 64, 1);
+
     private SignatureUtil() {
     }
 
@@ -48,16 +50,13 @@ public class SignatureUtil {
         try {
             Signature signature = Signature.getInstance(algorithm.getJcaName());
             if(SignatureAlgorithm.PS256.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA256.getJcaName(), "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
-                signature.setParameter(pssSpec);
+                signature.setParameter(PS256_PARAMETER_SPEC);
             }
             else if(SignatureAlgorithm.PS384.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA384.getJcaName(), "MGF1", MGF1ParameterSpec.SHA384, 48, 1);
-                signature.setParameter(pssSpec);
+                signature.setParameter(PS384_PARAMETER_SPEC);
             }
             else if(SignatureAlgorithm.PS512.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA512.getJcaName(), "MGF1", MGF1ParameterSpec.SHA512, 64, 1);
-                signature.setParameter(pssSpec);
+                signature.setParameter(PS512_PARAMETER_SPEC);
             }
             return signature;
         } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
@@ -65,6 +64,76 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Verifies a signature over the concatenation of the given data. Unlike {@link #createSignature(SignatureAlgorithm)},
+     * the {@link Signature} instance is borrowed from {@link JCAEnginePool} and returned after use.
+     *
+     * @param algorithm signature algorithm
+     * @param publicKey public key to verify the signature with
+     * @param signature signature to verify
+     * @param data      signed data, passed to the verifier in the given order
+     * @return true if the signature is valid
+     * @throws InvalidKeyException if the public key cannot be used with the algorithm
+     * @throws SignatureException  if the signature cannot be processed
+     */
+    public static boolean verify(@NotNull SignatureAlgorithm algorithm, @NotNull PublicKey publicKey, @NotNull byte[] signature, @NotNull byte[]... data) throws InvalidKeyException, SignatureException {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        AssertUtil.notNull(publicKey, "publicKey must not be null");
+        AssertUtil.notNull(signature, "signature must not be null");
+        AssertUtil.notNull(data, "data must not be null");
+
+        Signature verifier = initVerify(algorithm, publicKey);
+        for (byte[] item : data) {
+            verifier.update(item);
+        }
+        boolean result = verifier.verify(signature);
+        // verify resets the instance to the state just after initVerify, so it can be handed to the next borrower.
+        JCAEnginePool.SIGNATURES.offer(algorithm, verifier);
+        return result;
+    }
+
+    /**
+     * Verifies a signature over a range of the given array, without copying the range out of it.
+     *
+     * @param algorithm signature algorithm
+     * @param publicKey public key to verify the signature with
+     * @param signature signature to verify
+     * @param data      array holding the signed data
+     * @param offset    offset of the signed data in the array
+     * @param length    length of the signed data
+     * @return true if the signature is valid
+     * @throws InvalidKeyException if the public key cannot be used with the algorithm
+     * @throws SignatureException  if the signature cannot be processed
+     */
+    public static boolean verify(@NotNull SignatureAlgorithm algorithm, @NotNull PublicKey publicKey, @NotNull byte[] signature, @NotNull byte[] data, int offset, int length) throws InvalidKeyException, SignatureException {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        AssertUtil.notNull(publicKey, "publicKey must not be null");
+        AssertUtil.notNull(signature, "signature must not be null");
+        AssertUtil.notNull(data, "data must not be null");
+
+        Signature verifier = initVerify(algorithm, publicKey);
+        verifier.update(data, offset, length);
+        boolean result = verifier.verify(signature);
+        JCAEnginePool.SIGNATURES.offer(algorithm, verifier);
+        return result;
+    }
+
+    private static @NotNull Signature initVerify(@NotNull SignatureAlgorithm algorithm, @NotNull PublicKey publicKey) throws InvalidKeyException {
+        Signature pooled = JCAEnginePool.SIGNATURES.poll(algorithm);
+        if (pooled != null) {
+            try {
+                pooled.initVerify(publicKey);
+                return pooled;
+            } catch (InvalidKeyException e) {
+                // A pooled instance is bound to the provider selected for the first key it was initialized with.
+                // Fall back to a fresh instance, which may select another provider able to handle this key.
+            }
+        }
+        Signature verifier = createSignature(algorithm);
+        verifier.initVerify(publicKey);
+        return verifier;
+    }
+
     /**
      * @param algorithm signature algorithm
      * @return signature algorithm
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.data.BatchVerificationResult;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Runs a verification over every item of a batch on an {@link Executor}, collecting a result per item
+ * instead of failing fast.
+ */
+public class BatchVerificationUtil {
+
+    private BatchVerificationUtil() {
+    }
+
+    /**
+     * Verifies every item on the executor and waits for all of them to complete
+     *
+     * @param items        items to verify
+     * @param verification verification to apply to each item
+     * @param executor     executor to run the verifications on
+     * @param <I>          item type
+     * @param <T>          verified data type
+     * @return results in the order of the items
+     */
+    public static <I, T> @NotNull List<BatchVerificationResult<T>> verifyAll(@NotNull List<I> items, @NotNull Function<I, T> verification, @NotNull Executor executor) {
+        AssertUtil.notNull(items, "items must not be null");
+        AssertUtil.notNull(verification, "verification must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+
+        List<CompletableFuture<BatchVerificationResult<T>>> futures = new ArrayList<>(items.size());
+        for (I item : items) {
+            CompletableFuture<BatchVerificationResult<T>> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> verify(item, verification), executor);
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.completedFuture(BatchVerificationResult.failure(e));
+            }
+            futures.add(future);
+        }
+        List<BatchVerificationResult<T>> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<BatchVerificationResult<T>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                // only reachable when the executor fails the task itself, as verify catches every RuntimeException
+                results.add(BatchVerificationResult.failure(e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e));
+            }
+        }
+        return results;
+    }
+
+    private static <I, T> @NotNull BatchVerificationResult<T> verify(I item, @NotNull Function<I, T> verification) {
+        try {
+            return BatchVerificationResult.success(verification.apply(item));
+        } catch (RuntimeException e) {
+            return BatchVerificationResult.failure(e);
+        }
+    }
+}
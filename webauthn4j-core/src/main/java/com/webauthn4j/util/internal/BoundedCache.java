@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache holding at most {@code maxSize} entries.
+ * <p>
+ * When the cache is full, arbitrary entries are evicted to make room for new ones. This keeps the memory footprint
+ * bounded for caches keyed by untrusted or unbounded input, without the bookkeeping cost of an LRU policy.
+ * Intended for caching values that are cheap to recompute.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public BoundedCache(int maxSize) {
+        AssertUtil.isTrue(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public @Nullable V get(@NotNull K key) {
+        return map.get(key);
+    }
+
+    public void put(@NotNull K key, @NotNull V value) {
+        if (map.put(key, value) == null) {
+            evictIfNecessary(key);
+        }
+    }
+
+    /**
+     * Returns the value associated with the key, computing and caching it if absent.
+     * The mapping function may be called more than once for the same key under contention.
+     *
+     * @param key             key
+     * @param mappingFunction function to compute the value
+     * @return the cached or computed value
+     */
+    public @NotNull V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        V value = map.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = mappingFunction.apply(key);
+        V previous = map.putIfAbsent(key, value);
+        if (previous != null) {
+            return previous;
+        }
+        evictIfNecessary(key);
+        return value;
+    }
+
+    public void remove(@NotNull K key) {
+        map.remove(key);
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void evictIfNecessary(@NotNull K justAdded) {
+        Iterator<K> iterator = map.keySet().iterator();
+        while (map.size() > maxSize && iterator.hasNext()) {
+            K key = iterator.next();
+            if (!key.equals(justAdded)) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Holds the process-wide {@link ObjectConverter} used where the caller did not supply one, such as the no-arg
+ * constructors and builders of the extension containers.
+ * <p>
+ * Building an {@link ObjectConverter} creates a JSON and a CBOR mapper and registers the WebAuthn modules on both,
+ * which is far too expensive to repeat per object. The converter is created on first use and must not be handed to
+ * application code, as the deprecated {@code JsonConverter#registerModule} and {@code CborConverter#registerModule}
+ * could otherwise reconfigure it for every caller.
+ */
+public class DefaultObjectConverterHolder {
+
+    private DefaultObjectConverterHolder() {
+    }
+
+    public static @NotNull ObjectConverter get() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final ObjectConverter INSTANCE = new ObjectConverter();
+    }
+}
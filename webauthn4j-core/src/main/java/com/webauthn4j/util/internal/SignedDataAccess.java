@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
+import com.webauthn4j.verifier.CoreRegistrationObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Gives verifiers inside WebAuthn4J access to the signed byte arrays held by {@link CoreAuthenticationData},
+ * {@link CoreRegistrationObject} and {@link AuthenticatorDataView}, without the defensive copy made by their public getters.
+ * <p>
+ * Signature verification only reads these arrays, so feeding them to the signature engine directly avoids allocating
+ * a copy of each of them, and of their concatenation, per ceremony. The returned arrays are shared with the owning
+ * object and must never be modified or handed out to user code.
+ */
+public final class SignedDataAccess {
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    private SignedDataAccess() {
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public static @Nullable byte[] getAuthenticatorDataBytes(@NotNull CoreAuthenticationData authenticationData) {
+        return authenticationData.authenticatorDataBytes();
+    }
+
+    public static @Nullable byte[] getClientDataHash(@NotNull CoreAuthenticationData authenticationData) {
+        return authenticationData.clientDataHash();
+    }
+
+    public static @NotNull byte[] getAuthenticatorDataBytes(@NotNull CoreRegistrationObject registrationObject) {
+        return registrationObject.authenticatorDataBytes();
+    }
+
+    public static @NotNull byte[] getClientDataHash(@NotNull CoreRegistrationObject registrationObject) {
+        return registrationObject.clientDataHash();
+    }
+
+    public static @NotNull byte[] getAuthenticatorDataBytes(@NotNull AuthenticatorDataView<?> authenticatorDataView) {
+        return authenticatorDataView.bytes();
+    }
+}
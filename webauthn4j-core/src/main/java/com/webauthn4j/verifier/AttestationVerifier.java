@@ -28,7 +28,9 @@ import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrus
 import com.webauthn4j.verifier.attestation.trustworthiness.self.SelfAttestationTrustworthinessVerifier;
 import com.webauthn4j.verifier.exception.BadAaguidException;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
@@ -67,6 +69,10 @@ class AttestationVerifier {
 
 
     public void verify(@NotNull CoreRegistrationObject registrationObject) {
+        verify(registrationObject, null);
+    }
+
+    void verify(@NotNull CoreRegistrationObject registrationObject, @Nullable VerificationMetricsRecorder recorder) {
         AssertUtil.notNull(registrationObject, "registrationObject must not be null");
 
         AttestationObject attestationObject = registrationObject.getAttestationObject();
@@ -80,6 +86,7 @@ class AttestationVerifier {
         //spec| Verify that attStmt is a correct attestation statement, conveying a valid attestation signature,
         //spec| by using the attestation statement format fmt’s verification procedure given attStmt, authData and hash.
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.ATTESTATION_STATEMENT);
         AttestationType attestationType = verifyAttestationStatement(registrationObject);
 
         verifyAAGUID(attestationObject);
@@ -94,6 +101,7 @@ class AttestationVerifier {
         //spec| If no attestation was provided, verify that None attestation is acceptable under Relying Party policy.
         //      (This is already done in verifyAttestationStatement method)
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.ATTESTATION_TRUSTWORTHINESS);
         AttestationStatement attestationStatement = attestationObject.getAttestationStatement();
         switch (attestationType) {
             //spec| If self attestation was used, check if self attestation is acceptable under Relying Party policy.
@@ -18,6 +18,7 @@ package com.webauthn4j.verifier;
 
 import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.credential.CoreCredentialRecord;
+import com.webauthn4j.credential.SignCountStore;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
@@ -34,6 +35,7 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -62,6 +64,8 @@ public class AuthenticationDataVerifier {
     private OriginVerifier originVerifier = new OriginVerifierImpl();
     private TopOriginVerifier topOriginVerifier = new TopOriginVerifier();
     private CoreMaliciousCounterValueHandler maliciousCounterValueHandler = new DefaultCoreMaliciousCounterValueHandler();
+    private VerificationObserver verificationObserver;
+    private SignCountStore signCountStore;
 
     public AuthenticationDataVerifier(@NotNull List<CustomAuthenticationVerifier> customAuthenticationVerifiers) {
         AssertUtil.notNull(customAuthenticationVerifiers, "customAuthenticationVerifiers must not be null");
@@ -83,9 +87,26 @@ public class AuthenticationDataVerifier {
      * @param authenticationParameters the parameters for verification
      * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-verifying-assertion">WebAuthn Level 3 § 7.2</a>
      */
-    @SuppressWarnings({"ConstantConditions", "java:S1874", "deprecation"}) // as null check is done by BeanAssertUtil#validate, deprecation for getAuthenticator()
     public void verify(@NotNull AuthenticationData authenticationData, @NotNull AuthenticationParameters authenticationParameters) {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(verificationObserver, VerificationMetrics.Ceremony.AUTHENTICATION);
+        try {
+            verify(authenticationData, authenticationParameters, recorder);
+        }
+        catch (RuntimeException e) {
+            if (recorder != null) {
+                recorder.fail(e);
+            }
+            throw e;
+        }
+        if (recorder != null) {
+            recorder.complete();
+        }
+    }
+
+    @SuppressWarnings({"ConstantConditions", "java:S1874", "deprecation"}) // as null check is done by BeanAssertUtil#validate, deprecation for getAuthenticator()
+    private void verify(@NotNull AuthenticationData authenticationData, @NotNull AuthenticationParameters authenticationParameters, @Nullable VerificationMetricsRecorder recorder) {
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(authenticationData);
         AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
 
@@ -112,6 +133,7 @@ public class AuthenticationDataVerifier {
         //spec| Step5
         //spec| If pkOptions.allowCredentials is not empty, verify that credential.id identifies one of the public key credentials
         //spec| listed in pkOptions.allowCredentials.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
         byte[] credentialId = authenticationData.getCredentialId();
         List<byte[]> allowCredentials = authenticationParameters.getAllowCredentials();
         CredentialIdVerifier.verify(credentialId, allowCredentials);
@@ -144,6 +166,7 @@ public class AuthenticationDataVerifier {
         AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticationData.getAuthenticatorData();
         ServerProperty serverProperty = authenticationParameters.getServerProperty();
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(collectedClientData);
         BeanAssertUtil.validate(authenticatorData);
 
@@ -153,6 +176,9 @@ public class AuthenticationDataVerifier {
 
         @SuppressWarnings("deprecation")
         Authenticator authenticator = authenticationParameters.getAuthenticator();
+        if (recorder != null) {
+            recorder.recordCredential(null, authenticator.getAttestedCredentialData());
+        }
 
         AuthenticationObject authenticationObject = new AuthenticationObject(
                 credentialId, authenticatorData, aData, collectedClientData, cData, clientExtensions,
@@ -161,6 +187,7 @@ public class AuthenticationDataVerifier {
 
         //spec| Step10
         //spec| Verify that the value of C.type is the string webauthn.get.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CLIENT_DATA);
         if (!Objects.equals(collectedClientData.getType(), ClientDataType.WEBAUTHN_GET)) {
             throw new InconsistentClientDataTypeException("ClientData.type must be 'get' on authentication, but it isn't.");
         }
@@ -191,6 +218,7 @@ public class AuthenticationDataVerifier {
 
         //spec| Step15
         //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
         RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), serverProperty);
 
         //spec| Step16
@@ -201,6 +229,7 @@ public class AuthenticationDataVerifier {
         //spec| User verification SHOULD be required if, and only if, pkOptions.userVerification is set to required.
         //spec| If user verification was determined to be required, verify that the UV bit of the flags in authData is set.
         //spec| Otherwise, ignore the value of the UV flag.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
         UPUVFlagsVerifier.verify(authenticatorData, authenticationParameters.isUserPresenceRequired(), authenticationParameters.isUserVerificationRequired());
 
         //spec| Step18
@@ -221,13 +250,21 @@ public class AuthenticationDataVerifier {
         //spec| Let hash be the result of computing a hash over the cData using SHA-256.
         //spec|
         //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
         assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
 
         //spec| Step22
         //spec| If authData.signCount is nonzero or credentialRecord.signCount is nonzero, then run the following sub-step:
+        VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
         long presentedSignCount = authenticatorData.getSignCount();
         long storedSignCount = authenticator.getCounter();
-        if (presentedSignCount > 0 || storedSignCount > 0) {
+        if (signCountStore != null) {
+            //      (The counter is checked and advanced atomically in the SignCountStore, which also covers the signCount update of Step24)
+            if (!SignCountVerifier.advance(signCountStore, credentialId, storedSignCount, presentedSignCount)) {
+                maliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
+            }
+        }
+        else if (presentedSignCount > 0 || storedSignCount > 0) {
             //spec| If authData.signCount is
             //spec| greater than credentialRecord.signCount:
             if (presentedSignCount > storedSignCount) {
@@ -258,6 +295,7 @@ public class AuthenticationDataVerifier {
         //spec| The Relying Party can make this decision based on local policy and the extensions in use.
         //spec| Since all extensions are OPTIONAL for both the client and the authenticator, the Relying Party MUST also be prepared to handle cases
         //spec| where none or not all of the requested extensions were acted upon.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
         AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         clientExtensionVerifier.verify(clientExtensions);
         authenticatorExtensionVerifier.verify(authenticationExtensionsAuthenticatorOutputs);
@@ -271,8 +309,10 @@ public class AuthenticationDataVerifier {
         //spec|   if not authorized, skip this step.
         //spec| If the Relying Party performs additional security checks beyond these WebAuthn authentication ceremony steps,
         //spec| the above state updates SHOULD be deferred to after those additional checks are completed successfully.
-        updateRecord(authenticator, authenticatorData);
+        VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
+        updateRecord(authenticator, authenticatorData, signCountStore == null);
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
         for (CustomAuthenticationVerifier customAuthenticationVerifier : customAuthenticationVerifiers) {
             customAuthenticationVerifier.verify(authenticationObject);
         }
@@ -286,7 +326,13 @@ public class AuthenticationDataVerifier {
 
 
     static void updateRecord(Authenticator authenticator, AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData) {
-        authenticator.setCounter(authenticatorData.getSignCount());
+        updateRecord(authenticator, authenticatorData, true);
+    }
+
+    static void updateRecord(Authenticator authenticator, AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData, boolean updateCounter) {
+        if (updateCounter) {
+            authenticator.setCounter(authenticatorData.getSignCount());
+        }
         if(authenticator instanceof CoreCredentialRecord){
             CoreCredentialRecord coreCredentialRecord = (CoreCredentialRecord) authenticator;
 
@@ -320,6 +366,33 @@ public class AuthenticationDataVerifier {
         this.originVerifier = originVerifier;
     }
 
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
+    public @Nullable SignCountStore getSignCountStore() {
+        return signCountStore;
+    }
+
+    /**
+     * Sets the store the signature counter is checked and advanced in. When set, the counter is updated atomically
+     * in the store and the counter of the credential record passed in the parameters is left unchanged.
+     *
+     * @param signCountStore sign count store, or null to update the counter of the credential record
+     */
+    public void setSignCountStore(@Nullable SignCountStore signCountStore) {
+        this.signCountStore = signCountStore;
+    }
+
     public @NotNull List<CustomAuthenticationVerifier> getCustomAuthenticationVerifiers() {
         return customAuthenticationVerifiers;
     }
@@ -40,7 +40,7 @@ public class AuthenticationObject extends CoreAuthenticationObject {
             @Nullable AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions,
             @NotNull AuthenticationParameters authenticationParameters) {
 
-        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), authenticationParameters);
+        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.digestSHA256(collectedClientDataBytes), authenticationParameters);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
@@ -65,7 +65,7 @@ public class AuthenticationObject extends CoreAuthenticationObject {
             @NotNull ServerProperty serverProperty,
             @NotNull Authenticator authenticator) {
 
-        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), serverProperty, authenticator);
+        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.digestSHA256(collectedClientDataBytes), serverProperty, authenticator);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
@@ -17,9 +17,11 @@
 package com.webauthn4j.verifier;
 
 import com.webauthn4j.authenticator.CoreAuthenticator;
+import com.webauthn4j.credential.SignCountStore;
 import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.CoreAuthenticationParameters;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.server.CoreServerProperty;
@@ -31,12 +33,15 @@ import com.webauthn4j.verifier.exception.UserNotVerifiedException;
 import com.webauthn4j.verifier.internal.AssertionSignatureVerifier;
 import com.webauthn4j.verifier.internal.BeanAssertUtil;
 import com.webauthn4j.verifier.internal.RpIdHashVerifier;
+import com.webauthn4j.verifier.internal.SignCountVerifier;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Core authentication data verifier for FIDO assertion verification.
@@ -63,6 +68,8 @@ public class CoreAuthenticationDataVerifier {
 
     private AssertionSignatureVerifier assertionSignatureVerifier = new AssertionSignatureVerifier();
     private CoreMaliciousCounterValueHandler coreMaliciousCounterValueHandler = new DefaultCoreMaliciousCounterValueHandler();
+    private VerificationObserver verificationObserver;
+    private SignCountStore signCountStore;
 
     public CoreAuthenticationDataVerifier(@NotNull List<CustomCoreAuthenticationVerifier> customAuthenticationVerifiers) {
         this.customAuthenticationVerifiers = customAuthenticationVerifiers;
@@ -89,9 +96,19 @@ public class CoreAuthenticationDataVerifier {
      * @param authenticationData       authentication data
      * @param authenticationParameters authentication parameters
      */
-    @SuppressWarnings({"ConstantConditions", "deprecation"}) // as null check is done by BeanAssertUtil#validate, deprecation for getAuthenticator()
     public void verify(@NotNull CoreAuthenticationData authenticationData, @NotNull CoreAuthenticationParameters authenticationParameters) {
+        VerificationObserver observer = verificationObserver;
+        if (observer == null) {
+            verify(authenticationData, authenticationParameters, null);
+            return;
+        }
+        verifyObserved(observer, recorder -> verify(authenticationData, authenticationParameters, recorder));
+    }
+
+    @SuppressWarnings({"ConstantConditions", "deprecation"}) // as null check is done by BeanAssertUtil#validate, deprecation for getAuthenticator()
+    private void verify(@NotNull CoreAuthenticationData authenticationData, @NotNull CoreAuthenticationParameters authenticationParameters, @Nullable VerificationMetricsRecorder recorder) {
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(authenticationData);
         AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
 
@@ -118,6 +135,7 @@ public class CoreAuthenticationDataVerifier {
         //spec| Step5
         //spec| If pkOptions.allowCredentials is not empty, verify that credential.id identifies one of the public key credentials
         //spec| listed in pkOptions.allowCredentials.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
         byte[] credentialId = authenticationData.getCredentialId();
         List<byte[]> allowCredentials = authenticationParameters.getAllowCredentials();
         verifyCredentialId(credentialId, allowCredentials);
@@ -149,11 +167,13 @@ public class CoreAuthenticationDataVerifier {
         AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticationData.getAuthenticatorData();
         CoreServerProperty serverProperty = authenticationParameters.getServerProperty();
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(authenticatorData);
 
         verifyAuthenticatorData(authenticatorData);
 
         CoreAuthenticator authenticator = authenticationParameters.getAuthenticator();
+        recordCredential(recorder, authenticator);
 
         CoreAuthenticationObject authenticationObject = createCoreAuthenticationObject(authenticationData, authenticationParameters);
 
@@ -180,23 +200,20 @@ public class CoreAuthenticationDataVerifier {
 
         //spec| Step15
         //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
         RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), serverProperty);
 
         //spec| Step16
         //spec| Verify that the UP bit of the flags in authData is set.
         //      Note: Administrator can allow UP=false condition through configuration
-        if (authenticationParameters.isUserPresenceRequired() && !authenticatorData.isFlagUP()) {
-            throw new UserNotPresentException("Verifier is configured to check user present, but UP flag in authenticatorData is not set.");
-        }
 
         //spec| Step17
         //spec| Determine whether user verification is required for this assertion.
         //spec| User verification SHOULD be required if, and only if, pkOptions.userVerification is set to required.
         //spec| If user verification was determined to be required, verify that the UV bit of the flags in authData is set.
         //spec| Otherwise, ignore the value of the UV flag.
-        if (authenticationParameters.isUserVerificationRequired() && !authenticatorData.isFlagUV()) {
-            throw new UserNotVerifiedException("Verifier is configured to check user verified, but UV flag in authenticatorData is not set.");
-        }
+        VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
+        verifyFlags(authenticatorData.isFlagUP(), authenticatorData.isFlagUV(), authenticationParameters);
 
         //spec| Step18
         //spec| If the BE bit of the flags in authData is not set, verify that the BS bit is not set.
@@ -215,32 +232,14 @@ public class CoreAuthenticationDataVerifier {
         //spec| Let hash be the result of computing a hash over the cData using SHA-256.
         //spec|
         //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
         assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
 
         //spec| Step22
         //spec| If authData.signCount is nonzero or credentialRecord.signCount is nonzero, then run the following sub-step:
-        long presentedSignCount = authenticatorData.getSignCount();
-        long storedSignCount = authenticator.getCounter();
-        if (presentedSignCount > 0 || storedSignCount > 0) {
-            //spec| If authData.signCount is
-            //spec| greater than credentialRecord.signCount:
-            if (presentedSignCount > storedSignCount) {
-
-                //spec| The signature counter is valid.
-                //      (caller need to update the signature counter value based on the value set in the Authenticator instance)
-                authenticator.setCounter(presentedSignCount);
-            }
-            //spec| less than or equal to credentialRecord.signCount:
-            //spec| This is a signal, but not proof, that the authenticator may be cloned. For example it might mean that:
-            //spec| - Two or more copies of the credential private key may exist and are being used in parallel.
-            //spec| - An authenticator is malfunctioning.
-            //spec| - A race condition exists where the RP is processing assertion responses in an order other than the order they were generated at the authenticator.
-            //spec| Relying Parties should evaluate their own operational characteristics and incorporate this information into their risk scoring.
-            //spec| Whether the Relying Party updates credentialRecord.signCount below in this case, or not, or
-            //spec| fails the authentication ceremony or not, is Relying Party-specific.
-            else {
-                coreMaliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
-            }
+        VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
+        if (!verifySignCount(authenticationData.getCredentialId(), authenticatorData.getSignCount(), authenticator)) {
+            coreMaliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
         }
 
         //spec| Step23
@@ -253,6 +252,7 @@ public class CoreAuthenticationDataVerifier {
         //spec| The Relying Party can make this decision based on local policy and the extensions in use.
         //spec| Since all extensions are OPTIONAL for both the client and the authenticator, the Relying Party MUST also be prepared to handle cases
         //spec| where none or not all of the requested extensions were acted upon.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
         AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         //      (This clientExtensionResults verification is only applicable to WebAuthn)
         authenticatorExtensionVerifier.verify(authenticationExtensionsAuthenticatorOutputs);
@@ -268,15 +268,212 @@ public class CoreAuthenticationDataVerifier {
         //spec| the above state updates SHOULD be deferred to after those additional checks are completed successfully.
         //      (This step is handled by AuthenticationDataVerifier.updateRecord() in WebAuthn context)
 
-        for (CustomCoreAuthenticationVerifier customAuthenticationVerifier : customAuthenticationVerifiers) {
-            customAuthenticationVerifier.verify(authenticationObject);
-        }
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
+        verifyCustom(authenticationObject);
 
         //spec| Step25
         //spec| If all the above steps are successful, continue the authentication ceremony as appropriate. Otherwise, fail the authentication ceremony.
 
     }
 
+    /**
+     * Verifies an assertion whose authenticator data is given as an {@link AuthenticatorDataView}.
+     * <p>
+     * Performs the same steps as {@link #verify(CoreAuthenticationData, CoreAuthenticationParameters)}, but reads
+     * flags, signCount and rpIdHash directly from the view. Extensions are decoded only when the ED flag is set, and
+     * the view is decoded into an {@link AuthenticatorData} only when a {@link CoreAuthenticationObject} is needed,
+     * that is, when custom verifiers are registered or the malicious counter value handler is invoked.
+     * It is up to caller responsibility to verify the client data that {@code clientDataHash} is computed from.
+     *
+     * @param credentialId             credential id
+     * @param authenticatorData        authenticator data view
+     * @param clientDataHash           hash of the client data
+     * @param signature                assertion signature
+     * @param authenticationParameters authentication parameters
+     */
+    public void verify(@NotNull byte[] credentialId,
+                       @NotNull AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> authenticatorData,
+                       @NotNull byte[] clientDataHash,
+                       @NotNull byte[] signature,
+                       @NotNull CoreAuthenticationParameters authenticationParameters) {
+        VerificationObserver observer = verificationObserver;
+        if (observer == null) {
+            verify(credentialId, authenticatorData, clientDataHash, signature, authenticationParameters, null);
+            return;
+        }
+        verifyObserved(observer, recorder -> verify(credentialId, authenticatorData, clientDataHash, signature, authenticationParameters, recorder));
+    }
+
+    @SuppressWarnings({"ConstantConditions", "deprecation"}) // as null check is done by BeanAssertUtil#validate, deprecation for getAuthenticator()
+    private void verify(@NotNull byte[] credentialId,
+                        @NotNull AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> authenticatorData,
+                        @NotNull byte[] clientDataHash,
+                        @NotNull byte[] signature,
+                        @NotNull CoreAuthenticationParameters authenticationParameters,
+                        @Nullable VerificationMetricsRecorder recorder) {
+
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
+        if (credentialId == null) {
+            throw new ConstraintViolationException("credentialId must not be null");
+        }
+        if (authenticatorData == null) {
+            throw new ConstraintViolationException("authenticatorData must not be null");
+        }
+        if (clientDataHash == null) {
+            throw new ConstraintViolationException("clientDataHash must not be null");
+        }
+        if (signature == null) {
+            throw new ConstraintViolationException("signature must not be null");
+        }
+        AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+
+        //spec| Step5
+        //spec| If pkOptions.allowCredentials is not empty, verify that credential.id identifies one of the public key credentials
+        //spec| listed in pkOptions.allowCredentials.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
+        verifyCredentialId(credentialId, authenticationParameters.getAllowCredentials());
+
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
+        if (authenticatorData.hasAttestedCredentialData()) {
+            throw new ConstraintViolationException("attestedCredentialData must be null on authentication");
+        }
+
+        CoreAuthenticator authenticator = authenticationParameters.getAuthenticator();
+        recordCredential(recorder, authenticator);
+
+        //spec| Step15
+        //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
+        RpIdHashVerifier.verify(authenticatorData, authenticationParameters.getServerProperty());
+
+        //spec| Step16 & Step17
+        //spec| Verify that the UP bit of the flags in authData is set.
+        //spec| If user verification was determined to be required, verify that the UV bit of the flags in authData is set.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
+        verifyFlags(authenticatorData.isFlagUP(), authenticatorData.isFlagUV(), authenticationParameters);
+
+        //spec| Step20 & Step21
+        //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
+        assertionSignatureVerifier.verify(authenticatorData, clientDataHash, signature, authenticator.getAttestedCredentialData().getCOSEKey());
+
+        //spec| Step22
+        //spec| If authData.signCount is nonzero or credentialRecord.signCount is nonzero, then run the following sub-step:
+        //      (The authentication object is decoded from the view at most once, and only if a step needs it)
+        VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
+        CoreAuthenticationObject authenticationObject = null;
+        if (!verifySignCount(credentialId, authenticatorData.getSignCount(), authenticator)) {
+            authenticationObject = createCoreAuthenticationObject(credentialId, authenticatorData, clientDataHash, authenticationParameters);
+            coreMaliciousCounterValueHandler.maliciousCounterValueDetected(authenticationObject);
+        }
+
+        //spec| Step23
+        //spec| Process the client extension outputs in clientExtensionResults and the authenticator extension outputs in the extensions in authData
+        //spec| as required by the Relying Party.
+        //      (Extensions are decoded only when the ED flag is set, as the view is otherwise known to carry none)
+        VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
+        if (authenticatorData.isFlagED()) {
+            AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
+            BeanAssertUtil.validateAuthenticatorExtensionsOutputs(authenticationExtensionsAuthenticatorOutputs);
+            authenticatorExtensionVerifier.verify(authenticationExtensionsAuthenticatorOutputs);
+        }
+
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
+        if (!customAuthenticationVerifiers.isEmpty()) {
+            if (authenticationObject == null) {
+                authenticationObject = createCoreAuthenticationObject(credentialId, authenticatorData, clientDataHash, authenticationParameters);
+            }
+            verifyCustom(authenticationObject);
+        }
+    }
+
+    /**
+     * Runs the verification with a recorder for the registered observer. Callers without an observer skip this method,
+     * so that an unobserved verification allocates neither a recorder nor the lambda passed here.
+     */
+    private static void verifyObserved(@NotNull VerificationObserver observer, @NotNull Consumer<VerificationMetricsRecorder> verification) {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(observer, VerificationMetrics.Ceremony.AUTHENTICATION);
+        try {
+            verification.accept(recorder);
+        }
+        catch (RuntimeException e) {
+            if (recorder != null) {
+                recorder.fail(e);
+            }
+            throw e;
+        }
+        if (recorder != null) {
+            recorder.complete();
+        }
+    }
+
+    private void recordCredential(@Nullable VerificationMetricsRecorder recorder, @NotNull CoreAuthenticator authenticator) {
+        if (recorder != null) {
+            recorder.recordCredential(null, authenticator.getAttestedCredentialData());
+        }
+    }
+
+    private void verifyFlags(boolean flagUP, boolean flagUV, @NotNull CoreAuthenticationParameters authenticationParameters) {
+        if (authenticationParameters.isUserPresenceRequired() && !flagUP) {
+            throw new UserNotPresentException("Verifier is configured to check user present, but UP flag in authenticatorData is not set.");
+        }
+        if (authenticationParameters.isUserVerificationRequired() && !flagUV) {
+            throw new UserNotVerifiedException("Verifier is configured to check user verified, but UV flag in authenticatorData is not set.");
+        }
+    }
+
+    /**
+     * Checks and advances the signature counter.
+     *
+     * @return false if the presented counter value signals a possibly cloned authenticator
+     */
+    private boolean verifySignCount(@NotNull byte[] credentialId, long presentedSignCount, @NotNull CoreAuthenticator authenticator) {
+        long storedSignCount = authenticator.getCounter();
+        if (signCountStore != null) {
+            //      (The counter is checked and advanced atomically in the SignCountStore instead of in the Authenticator instance)
+            return SignCountVerifier.advance(signCountStore, credentialId, storedSignCount, presentedSignCount);
+        }
+        else if (presentedSignCount > 0 || storedSignCount > 0) {
+            //spec| If authData.signCount is
+            //spec| greater than credentialRecord.signCount:
+            if (presentedSignCount > storedSignCount) {
+
+                //spec| The signature counter is valid.
+                //      (caller need to update the signature counter value based on the value set in the Authenticator instance)
+                authenticator.setCounter(presentedSignCount);
+            }
+            //spec| less than or equal to credentialRecord.signCount:
+            //spec| This is a signal, but not proof, that the authenticator may be cloned. For example it might mean that:
+            //spec| - Two or more copies of the credential private key may exist and are being used in parallel.
+            //spec| - An authenticator is malfunctioning.
+            //spec| - A race condition exists where the RP is processing assertion responses in an order other than the order they were generated at the authenticator.
+            //spec| Relying Parties should evaluate their own operational characteristics and incorporate this information into their risk scoring.
+            //spec| Whether the Relying Party updates credentialRecord.signCount below in this case, or not, or
+            //spec| fails the authentication ceremony or not, is Relying Party-specific.
+            else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void verifyCustom(@NotNull CoreAuthenticationObject authenticationObject) {
+        for (CustomCoreAuthenticationVerifier customAuthenticationVerifier : customAuthenticationVerifiers) {
+            customAuthenticationVerifier.verify(authenticationObject);
+        }
+    }
+
+    private @NotNull CoreAuthenticationObject createCoreAuthenticationObject(
+            @NotNull byte[] credentialId,
+            @NotNull AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> authenticatorData,
+            @NotNull byte[] clientDataHash,
+            @NotNull CoreAuthenticationParameters authenticationParameters) {
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> decoded = authenticatorData.toAuthenticatorData();
+        BeanAssertUtil.validate(decoded);
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(credentialId, decoded, authenticatorData.getBytes(), clientDataHash, null);
+        return createCoreAuthenticationObject(authenticationData, authenticationParameters);
+    }
+
     protected @NotNull CoreAuthenticationObject createCoreAuthenticationObject(@NotNull CoreAuthenticationData authenticationData, @NotNull CoreAuthenticationParameters authenticationParameters) {
         byte[] credentialId = authenticationData.getCredentialId();
         AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticationData.getAuthenticatorData();
@@ -312,6 +509,33 @@ public class CoreAuthenticationDataVerifier {
         this.coreMaliciousCounterValueHandler = coreMaliciousCounterValueHandler;
     }
 
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
+    public @Nullable SignCountStore getSignCountStore() {
+        return signCountStore;
+    }
+
+    /**
+     * Sets the store the signature counter is checked and advanced in. When set, the counter is updated atomically
+     * in the store and the counter of the {@link CoreAuthenticator} passed in the parameters is left unchanged.
+     *
+     * @param signCountStore sign count store, or null to update the counter of the {@link CoreAuthenticator} instance
+     */
+    public void setSignCountStore(@Nullable SignCountStore signCountStore) {
+        this.signCountStore = signCountStore;
+    }
+
     public @NotNull List<CustomCoreAuthenticationVerifier> getCustomAuthenticationVerifiers() {
         return customAuthenticationVerifiers;
     }
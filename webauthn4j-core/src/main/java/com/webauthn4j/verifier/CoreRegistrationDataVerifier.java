@@ -37,7 +37,9 @@ import com.webauthn4j.verifier.exception.UserNotPresentException;
 import com.webauthn4j.verifier.exception.UserNotVerifiedException;
 import com.webauthn4j.verifier.internal.BeanAssertUtil;
 import com.webauthn4j.verifier.internal.RpIdHashVerifier;
+import com.webauthn4j.verifier.internal.VerificationMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -64,6 +66,8 @@ public class CoreRegistrationDataVerifier {
     private final AttestationVerifier attestationVerifier;
     private final List<CustomCoreRegistrationVerifier> customRegistrationVerifiers;
 
+    private VerificationObserver verificationObserver;
+
     public CoreRegistrationDataVerifier(
             @NotNull List<AttestationStatementVerifier> attestationStatementVerifiers,
             @NotNull CertPathTrustworthinessVerifier certPathTrustworthinessVerifier,
@@ -90,8 +94,24 @@ public class CoreRegistrationDataVerifier {
      * @param registrationData       registration data
      * @param registrationParameters registration parameters
      */
-    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
     public void verify(@NotNull CoreRegistrationData registrationData, @NotNull CoreRegistrationParameters registrationParameters) {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION);
+        try {
+            verify(registrationData, registrationParameters, recorder);
+        }
+        catch (RuntimeException e) {
+            if (recorder != null) {
+                recorder.fail(e);
+            }
+            throw e;
+        }
+        if (recorder != null) {
+            recorder.complete();
+        }
+    }
+
+    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
+    private void verify(@NotNull CoreRegistrationData registrationData, @NotNull CoreRegistrationParameters registrationParameters, @Nullable VerificationMetricsRecorder recorder) {
 
         //spec| Step1
         //spec| Let options be a new CredentialCreationOptions structure configured to the Relying Party's needs for the ceremony.
@@ -119,6 +139,7 @@ public class CoreRegistrationDataVerifier {
         //spec| Let JSONtext be the result of running UTF-8 decode on the value of response.clientDataJSON.
         //      (This step is only applicable to WebAuthn)
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(registrationData);
         AssertUtil.notNull(registrationParameters, "registrationParameters must not be null");
 
@@ -137,6 +158,9 @@ public class CoreRegistrationDataVerifier {
         CoreRegistrationObject registrationObject = createCoreRegistrationObject(registrationData, registrationParameters);
 
         AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = attestationObject.getAuthenticatorData();
+        if (recorder != null) {
+            recorder.recordCredential(attestationObject.getFormat(), authenticatorData.getAttestedCredentialData());
+        }
 
         COSEKey coseKey = authenticatorData.getAttestedCredentialData().getCOSEKey();
         verifyCOSEKey(coseKey);
@@ -172,6 +196,7 @@ public class CoreRegistrationDataVerifier {
 
         //spec| Step14
         //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
         RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), serverProperty);
 
         //spec| Step15
@@ -179,6 +204,7 @@ public class CoreRegistrationDataVerifier {
         //      Note: It is caller's responsibility to configure userPresenceRequired parameter based on the mediation type.
         //spec| Step16
         //spec| If the Relying Party requires user verification for this registration, verify that the UV bit of the flags in authData is set.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
         verifyUVUPFlags(authenticatorData, registrationParameters.isUserVerificationRequired(), registrationParameters.isUserPresenceRequired());
 
         //spec| Step17
@@ -198,13 +224,14 @@ public class CoreRegistrationDataVerifier {
         //spec| Step20
         //spec| Verify that the "alg" parameter in the credential public key in authData
         //spec| matches the alg attribute of one of the items in pkOptions.pubKeyCredParams.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.ALGORITHM);
         COSEAlgorithmIdentifier alg = authenticatorData.getAttestedCredentialData().getCOSEKey().getAlgorithm();
         List<PublicKeyCredentialParameters> pubKeyCredParams = registrationParameters.getPubKeyCredParams();
         verifyAlg(alg, pubKeyCredParams);
 
         //spec| Step21-23
         //spec| Determine attestation statement format, verify attestation statement, and assess attestation trustworthiness.
-        attestationVerifier.verify(registrationObject);
+        attestationVerifier.verify(registrationObject, recorder);
 
         //spec| Step24
         //spec| Verify that the credentialId is ≤ 1023 bytes. Credential IDs larger than this many bytes SHOULD cause the RP to fail this registration ceremony.
@@ -239,6 +266,7 @@ public class CoreRegistrationDataVerifier {
         //spec| The Relying Party can make this decision based on local policy and the extensions in use.
         //spec| Since all extensions are OPTIONAL for both the client and the authenticator, the Relying Party MUST also be prepared to handle cases
         //spec| where none or not all of the requested extensions were acted upon.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
         AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         authenticatorExtensionVerifier.verify(authenticationExtensionsAuthenticatorOutputs);
 
@@ -247,6 +275,7 @@ public class CoreRegistrationDataVerifier {
         //spec| and continue the registration ceremony as appropriate. Otherwise, fail the registration ceremony.
 
         //      (Step28 continuation: Custom verification logic)
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
         for (CustomCoreRegistrationVerifier customRegistrationVerifier : customRegistrationVerifiers) {
             customRegistrationVerifier.verify(registrationObject);
         }
@@ -297,6 +326,19 @@ public class CoreRegistrationDataVerifier {
         }
     }
 
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
     public @NotNull List<CustomCoreRegistrationVerifier> getCustomRegistrationVerifiers() {
         return customRegistrationVerifiers;
     }
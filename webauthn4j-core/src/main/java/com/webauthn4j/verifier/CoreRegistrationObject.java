@@ -22,6 +22,7 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.server.CoreServerProperty;
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tools.jackson.dataformat.cbor.CBORMapper;
@@ -34,6 +35,7 @@ public class CoreRegistrationObject {
 
     private static final CBORMapper cborMapper = new CBORMapper();
 
+
     private final AttestationObject attestationObject;
     private final byte[] attestationObjectBytes;
     private final byte[] clientDataHash;
@@ -41,6 +43,8 @@ public class CoreRegistrationObject {
     private final CoreServerProperty serverProperty;
     private final CoreRegistrationParameters coreRegistrationParameters;
     private final Instant timestamp;
+    // Extracted lazily from attestationObjectBytes, as it is only needed by attestation statement verifiers.
+    private volatile byte[] authenticatorDataBytes;
 
     public CoreRegistrationObject(
             @NotNull AttestationObject attestationObject,
@@ -113,6 +117,33 @@ public class CoreRegistrationObject {
         return JacksonUtil.binaryValue(JacksonUtil.readTree(cborMapper, attestationObject).get("authData"));
     }
 
+    /**
+     * Returns the clientDataHash without the defensive copy made by {@link #getClientDataHash()}.
+     * For verifiers inside WebAuthn4J only: the returned array is shared with this object and must not be modified.
+     *
+     * @return the clientDataHash
+     */
+    @ApiStatus.Internal
+    public @NotNull byte[] clientDataHash() {
+        return clientDataHash;
+    }
+
+    /**
+     * Returns the authenticatorDataBytes without the defensive copy made by {@link #getAuthenticatorDataBytes()}.
+     * For verifiers inside WebAuthn4J only: the returned array is shared with this object and must not be modified.
+     *
+     * @return the authenticatorDataBytes
+     */
+    @ApiStatus.Internal
+    public @NotNull byte[] authenticatorDataBytes() {
+        byte[] bytes = authenticatorDataBytes;
+        if (bytes == null) {
+            bytes = extractAuthenticatorData(attestationObjectBytes);
+            authenticatorDataBytes = bytes;
+        }
+        return bytes;
+    }
+
     public @NotNull AttestationObject getAttestationObject() {
         return attestationObject;
     }
@@ -122,7 +153,7 @@ public class CoreRegistrationObject {
     }
 
     public @NotNull byte[] getAuthenticatorDataBytes() {
-        return extractAuthenticatorData(attestationObjectBytes);
+        return ArrayUtil.clone(authenticatorDataBytes());
     }
 
     public @NotNull byte[] getClientDataHash() {
@@ -39,6 +39,7 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
@@ -73,6 +74,7 @@ public class RegistrationDataVerifier {
     private final TopOriginVerifier topOriginVerifier = new TopOriginVerifier();
 
     private int maxCredentialIdLength = DEFAULT_MAX_CREDENTIAL_ID_LENGTH;
+    private VerificationObserver verificationObserver;
 
     public RegistrationDataVerifier(
             @NotNull List<AttestationStatementVerifier> attestationStatementVerifiers,
@@ -94,8 +96,24 @@ public class RegistrationDataVerifier {
         this.customRegistrationVerifiers = customRegistrationVerifiers;
     }
 
-    @SuppressWarnings({"ConstantConditions", "java:S1874"}) // as null check is done by BeanAssertUtil#validate
     public void verify(@NotNull RegistrationData registrationData, @NotNull RegistrationParameters registrationParameters) {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(verificationObserver, VerificationMetrics.Ceremony.REGISTRATION);
+        try {
+            verify(registrationData, registrationParameters, recorder);
+        }
+        catch (RuntimeException e) {
+            if (recorder != null) {
+                recorder.fail(e);
+            }
+            throw e;
+        }
+        if (recorder != null) {
+            recorder.complete();
+        }
+    }
+
+    @SuppressWarnings({"ConstantConditions", "java:S1874"}) // as null check is done by BeanAssertUtil#validate
+    private void verify(@NotNull RegistrationData registrationData, @NotNull RegistrationParameters registrationParameters, @Nullable VerificationMetricsRecorder recorder) {
 
         //spec| Step1
         //spec| Let options be a new CredentialCreationOptions structure configured to the Relying Party's needs for the ceremony.
@@ -122,6 +140,7 @@ public class RegistrationDataVerifier {
         //spec| Let JSONtext be the result of running UTF-8 decode on the value of response.clientDataJSON.
         //      (This step is done on caller.)
 
+        VerificationMetricsRecorder.step(recorder, VerificationStep.DATA_VALIDATION);
         BeanAssertUtil.validate(registrationData);
         AssertUtil.notNull(registrationParameters, "registrationParameters must not be null");
 
@@ -155,9 +174,13 @@ public class RegistrationDataVerifier {
         );
 
         AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = attestationObject.getAuthenticatorData();
+        if (recorder != null) {
+            recorder.recordCredential(attestationObject.getFormat(), authenticatorData.getAttestedCredentialData());
+        }
 
         //spec| Step7
         //spec| Verify that the value of C.type is webauthn.create.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CLIENT_DATA);
         if (!Objects.equals(collectedClientData.getType(), ClientDataType.WEBAUTHN_CREATE)) {
             throw new InconsistentClientDataTypeException("ClientData.type must be 'create' on registration, but it isn't.");
         }
@@ -196,6 +219,7 @@ public class RegistrationDataVerifier {
 
         //spec| Step14
         //spec| Verify that the rpIdHash in authData is the SHA-256 hash of the RP ID expected by the Relying Party.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.RP_ID_HASH);
         RpIdHashVerifier.verify(authenticatorData.getRpIdHash(), serverProperty);
 
         //spec| Step15
@@ -206,6 +230,7 @@ public class RegistrationDataVerifier {
 
         //spec| Step16
         //spec| If the Relying Party requires user verification for this registration, verify that the UV bit of the flags in authData is set.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS);
         UPUVFlagsVerifier.verify(authenticatorData, registrationParameters.isUserPresenceRequired(), registrationParameters.isUserVerificationRequired());
 
         //spec| Step17
@@ -226,16 +251,18 @@ public class RegistrationDataVerifier {
         //spec| Step20
         //spec| Verify that the "alg" parameter in the credential public key in authData
         //spec| matches the alg attribute of one of the items in pkOptions.pubKeyCredParams.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.ALGORITHM);
         COSEAlgorithmIdentifier alg = authenticatorData.getAttestedCredentialData().getCOSEKey().getAlgorithm();
         List<PublicKeyCredentialParameters> pubKeyCredParams = registrationParameters.getPubKeyCredParams();
         COSEAlgorithmIdentifierVerifier.verify(alg, pubKeyCredParams);
 
         //spec| Step21-23
         //spec| Determine attestation statement format, verify attestation statement, and assess attestation trustworthiness.
-        attestationVerifier.verify(registrationObject);
+        attestationVerifier.verify(registrationObject, recorder);
 
         //spec| Step24
         //spec| Verify that the credentialId is ≤ 1023 bytes. Credential IDs larger than this many bytes SHOULD cause the RP to fail this registration ceremony.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CREDENTIAL_ID);
         CredentialIdLengthVerifier.verify(attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(), maxCredentialIdLength);
 
         //spec| Step25
@@ -267,6 +294,7 @@ public class RegistrationDataVerifier {
         //spec| The Relying Party can make this decision based on local policy and the extensions in use.
         //spec| Since all extensions are OPTIONAL for both the client and the authenticator, the Relying Party MUST also be prepared to handle cases
         //spec| where none or not all of the requested extensions were acted upon.
+        VerificationMetricsRecorder.step(recorder, VerificationStep.EXTENSIONS);
         AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = authenticatorData.getExtensions();
         clientExtensionVerifier.verify(clientExtensions);
         authenticatorExtensionVerifier.verify(authenticationExtensionsAuthenticatorOutputs);
@@ -276,6 +304,7 @@ public class RegistrationDataVerifier {
         //spec| and continue the registration ceremony as appropriate. Otherwise, fail the registration ceremony.
 
         //      (Step28 continuation: Custom verification logic)
+        VerificationMetricsRecorder.step(recorder, VerificationStep.CUSTOM_VERIFIERS);
         for (CustomRegistrationVerifier customRegistrationVerifier : customRegistrationVerifiers) {
             customRegistrationVerifier.verify(registrationObject);
         }
@@ -297,6 +326,19 @@ public class RegistrationDataVerifier {
         this.maxCredentialIdLength = maxCredentialIdLength;
     }
 
+    public @Nullable VerificationObserver getVerificationObserver() {
+        return verificationObserver;
+    }
+
+    /**
+     * Sets the observer notified with the step timings and outcome of each verification
+     *
+     * @param verificationObserver observer, or null to disable observation
+     */
+    public void setVerificationObserver(@Nullable VerificationObserver verificationObserver) {
+        this.verificationObserver = verificationObserver;
+    }
+
     public List<CustomRegistrationVerifier> getCustomRegistrationVerifiers() {
         return customRegistrationVerifiers;
     }
@@ -61,7 +61,7 @@ public class RegistrationObject extends CoreRegistrationObject {
             @NotNull RegistrationParameters registrationParameters,
             @NotNull Instant timestamp) {
 
-        super(attestationObject, attestationObjectBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), registrationParameters, timestamp);
+        super(attestationObject, attestationObjectBytes, MessageDigestUtil.digestSHA256(collectedClientDataBytes), registrationParameters, timestamp);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
@@ -98,7 +98,7 @@ public class RegistrationObject extends CoreRegistrationObject {
             @NotNull ServerProperty serverProperty,
             @NotNull Instant timestamp) {
 
-        super(attestationObject, attestationObjectBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), serverProperty, timestamp);
+        super(attestationObject, attestationObjectBytes, MessageDigestUtil.digestSHA256(collectedClientDataBytes), serverProperty, timestamp);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
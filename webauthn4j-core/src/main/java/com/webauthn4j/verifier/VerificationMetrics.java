@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Timings and outcome of a single parse or verification run, reported to a {@link VerificationObserver}.
+ * <p>
+ * Parsing and verification are reported separately, as they can be invoked separately. A parse run only
+ * has the {@link VerificationStep#PARSE} step, while the attributes of the credential are reported with the
+ * verification run.
+ * </p>
+ */
+public class VerificationMetrics {
+
+    /**
+     * The ceremony a run belongs to
+     */
+    public enum Ceremony {
+        REGISTRATION,
+        AUTHENTICATION
+    }
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Ceremony ceremony;
+    private final Map<VerificationStep, Duration> stepDurations;
+    private final Duration totalDuration;
+    private final String attestationFormat;
+    private final COSEAlgorithmIdentifier algorithm;
+    private final AAGUID aaguid;
+    private final VerificationStep failedStep;
+    private final Class<? extends Throwable> failureType;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    @SuppressWarnings("java:S107")
+    public VerificationMetrics(
+            @NotNull Ceremony ceremony,
+            @NotNull Map<VerificationStep, Duration> stepDurations,
+            @NotNull Duration totalDuration,
+            @Nullable String attestationFormat,
+            @Nullable COSEAlgorithmIdentifier algorithm,
+            @Nullable AAGUID aaguid,
+            @Nullable VerificationStep failedStep,
+            @Nullable Class<? extends Throwable> failureType) {
+        AssertUtil.notNull(ceremony, "ceremony must not be null");
+        AssertUtil.notNull(stepDurations, "stepDurations must not be null");
+        AssertUtil.notNull(totalDuration, "totalDuration must not be null");
+
+        this.ceremony = ceremony;
+        this.stepDurations = Collections.unmodifiableMap(stepDurations);
+        this.totalDuration = totalDuration;
+        this.attestationFormat = attestationFormat;
+        this.algorithm = algorithm;
+        this.aaguid = aaguid;
+        this.failedStep = failedStep;
+        this.failureType = failureType;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public @NotNull Ceremony getCeremony() {
+        return ceremony;
+    }
+
+    /**
+     * @return durations of the steps that were run, in execution order. A failed run includes the failed step.
+     */
+    public @NotNull Map<VerificationStep, Duration> getStepDurations() {
+        return stepDurations;
+    }
+
+    /**
+     * @return duration of the step, or null if the step was not run
+     */
+    public @Nullable Duration getStepDuration(@NotNull VerificationStep step) {
+        return stepDurations.get(step);
+    }
+
+    public @NotNull Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @return attestation statement format identifier on registration, otherwise null
+     */
+    public @Nullable String getAttestationFormat() {
+        return attestationFormat;
+    }
+
+    /**
+     * @return algorithm of the credential public key, or null if it was not known when the run ended
+     */
+    public @Nullable COSEAlgorithmIdentifier getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return AAGUID of the authenticator, or null if it was not known when the run ended
+     */
+    public @Nullable AAGUID getAaguid() {
+        return aaguid;
+    }
+
+    public boolean isSuccess() {
+        return failureType == null;
+    }
+
+    /**
+     * @return the step that threw, or null if the run succeeded
+     */
+    public @Nullable VerificationStep getFailedStep() {
+        return failedStep;
+    }
+
+    /**
+     * @return type of the exception the run failed with, or null if it succeeded
+     */
+    public @Nullable Class<? extends Throwable> getFailureType() {
+        return failureType;
+    }
+
+    @Override
+    public String toString() {
+        return "VerificationMetrics(" +
+                "ceremony=" + ceremony +
+                ", stepDurations=" + stepDurations +
+                ", totalDuration=" + totalDuration +
+                ", attestationFormat=" + attestationFormat +
+                ", algorithm=" + algorithm +
+                ", aaguid=" + aaguid +
+                ", failedStep=" + failedStep +
+                ", failureType=" + (failureType == null ? null : failureType.getName()) +
+                ')';
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Observer notified with the {@link VerificationMetrics} of each parse and verification run.
+ * <p>
+ * Observers are called on the thread that finished the run, and must be thread-safe and return quickly.
+ * An exception thrown by an observer is logged and does not affect the outcome of the verification.
+ * When no observer is registered, no timing is taken and no metrics are created.
+ * </p>
+ */
+@FunctionalInterface
+public interface VerificationObserver {
+
+    /**
+     * Called once a parse or verification run has completed, successfully or not
+     *
+     * @param metrics metrics of the run
+     */
+    void onCompleted(@NotNull VerificationMetrics metrics);
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier;
+
+/**
+ * Steps of the registration and authentication ceremonies whose duration is reported through {@link VerificationMetrics}.
+ * Client side steps and the steps left to the caller are not covered.
+ */
+public enum VerificationStep {
+
+    /**
+     * Decoding of the request or response JSON into registration or authentication data
+     */
+    PARSE,
+
+    /**
+     * Structural checks of the parsed data, such as bean validation and the presence of attested credential data
+     */
+    DATA_VALIDATION,
+
+    /**
+     * Check of the credential id against allowCredentials, or of its length on registration
+     */
+    CREDENTIAL_ID,
+
+    /**
+     * Checks of the collected client data: type, challenge, origin, top origin and token binding
+     */
+    CLIENT_DATA,
+
+    /**
+     * Check of the rpIdHash in authenticatorData
+     */
+    RP_ID_HASH,
+
+    /**
+     * Checks of the UP, UV, BE and BS flags in authenticatorData
+     */
+    FLAGS,
+
+    /**
+     * Check of the credential public key algorithm against pubKeyCredParams
+     */
+    ALGORITHM,
+
+    /**
+     * Verification of the attestation statement by the verifier of its format
+     */
+    ATTESTATION_STATEMENT,
+
+    /**
+     * Assessment of the attestation trustworthiness, including certification path validation
+     */
+    ATTESTATION_TRUSTWORTHINESS,
+
+    /**
+     * Verification of the assertion signature
+     */
+    SIGNATURE,
+
+    /**
+     * Check of the signature counter
+     */
+    COUNTER,
+
+    /**
+     * Verification of the client and authenticator extension outputs
+     */
+    EXTENSIONS,
+
+    /**
+     * Custom verifiers registered by the application
+     */
+    CUSTOM_VERIFIERS
+}
@@ -23,6 +23,7 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
@@ -30,10 +31,8 @@ import com.webauthn4j.verifier.exception.BadSignatureException;
 import com.webauthn4j.verifier.exception.PublicKeyMismatchException;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
-import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.Certificate;
 
@@ -108,15 +107,12 @@ public class AndroidKeyAttestationStatementVerifier extends AbstractStatementVer
     private void verifySignature(@NotNull CoreRegistrationObject registrationObject) {
         AndroidKeyAttestationStatement attestationStatement = (AndroidKeyAttestationStatement) registrationObject.getAttestationObject().getAttestationStatement();
 
-        byte[] signedData = getSignedData(registrationObject);
+        byte[][] signedData = getSignedData(registrationObject);
         byte[] signature = attestationStatement.getSig();
         PublicKey publicKey = getPublicKey(attestationStatement);
 
         try {
-            Signature verifier = SignatureUtil.createSignature(attestationStatement.getAlg().toSignatureAlgorithm());
-            verifier.initVerify(publicKey);
-            verifier.update(signedData);
-            if (verifier.verify(signature)) {
+            if (SignatureUtil.verify(attestationStatement.getAlg().toSignatureAlgorithm(), publicKey, signature, signedData)) {
                 return;
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature over the concatenation of authenticatorData and clientDataHash.");
@@ -125,10 +121,10 @@ public class AndroidKeyAttestationStatementVerifier extends AbstractStatementVer
         }
     }
 
-    private @NotNull byte[] getSignedData(@NotNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+    private @NotNull byte[][] getSignedData(@NotNull CoreRegistrationObject registrationObject) {
+        byte[] authenticatorData = SignedDataAccess.getAuthenticatorDataBytes(registrationObject);
+        byte[] clientDataHash = SignedDataAccess.getClientDataHash(registrationObject);
+        return new byte[][]{authenticatorData, clientDataHash};
     }
 
     private @NotNull PublicKey getPublicKey(@NotNull AndroidKeyAttestationStatement attestationStatement) {
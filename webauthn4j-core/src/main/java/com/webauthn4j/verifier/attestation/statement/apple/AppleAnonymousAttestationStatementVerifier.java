@@ -97,7 +97,7 @@ public class AppleAnonymousAttestationStatementVerifier extends AbstractStatemen
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
         byte[] clientDataHash = registrationObject.getClientDataHash();
         byte[] nonceToHash = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(nonceToHash);
+        return MessageDigestUtil.digestSHA256(nonceToHash);
     }
 
     private void verifyPublicKey(@NotNull CoreRegistrationObject registrationObject, @NotNull AppleAnonymousAttestationStatement attestationStatement) {
@@ -24,6 +24,7 @@ import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.PackedAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.util.UUIDUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
@@ -35,7 +36,6 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
 import java.security.Signature;
@@ -71,7 +71,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
         verifyAttestationStatementNotNull(attestationStatement);
         byte[] sig = attestationStatement.getSig();
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
-        byte[] attrToBeSigned = getAttToBeSigned(registrationObject);
+        byte[][] attrToBeSigned = getAttToBeSigned(registrationObject);
         //spec| If x5c is present:
         if (attestationStatement.getX5c() != null) {
             return verifyX5c(registrationObject, attestationStatement, sig, alg, attrToBeSigned);
@@ -90,7 +90,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[][] attrToBeSigned) {
         if (attestationStatement.getX5c() == null || attestationStatement.getX5c().isEmpty()) {
             throw new BadAttestationStatementException("No attestation certificate is found in packed attestation statement.", attestationStatement);
         }
@@ -131,7 +131,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[][] attrToBeSigned) {
         //noinspection ConstantConditions as null check is already done in caller
         COSEKey coseKey = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
         //spec| Validate that alg matches the algorithm of the credentialPublicKey in authenticatorData.
@@ -149,23 +149,23 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull byte[] data) {
+    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull byte[][] data) {
         try {
-            Signature verifier = SignatureUtil.createSignature(algorithmIdentifier.toSignatureAlgorithm());
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-
-            return verifier.verify(signature);
+            return SignatureUtil.verify(algorithmIdentifier.toSignatureAlgorithm(), publicKey, signature, data);
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Signature verification failed.", e);
             return false;
         }
     }
 
-    private @NotNull byte[] getAttToBeSigned(@NotNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+    /**
+     * Returns attToBeSigned as its two parts, authenticatorData and clientDataHash, so that they can be fed to the
+     * signature engine without being concatenated. The returned arrays are shared and must not be modified.
+     */
+    private @NotNull byte[][] getAttToBeSigned(@NotNull CoreRegistrationObject registrationObject) {
+        byte[] authenticatorData = SignedDataAccess.getAuthenticatorDataBytes(registrationObject);
+        byte[] clientDataHash = SignedDataAccess.getClientDataHash(registrationObject);
+        return new byte[][]{authenticatorData, clientDataHash};
     }
 
 }
@@ -24,6 +24,7 @@ import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenti
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.util.UnsignedNumberUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
@@ -32,10 +33,8 @@ import com.webauthn4j.verifier.exception.BadAttestationStatementException;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
-import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
@@ -92,7 +91,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         verifyPublicKeyEquality(pubArea, authenticatorData);
 
         //spec| Concatenate authenticatorData and clientDataHash to form attToBeSigned.
-        byte[] attToBeSigned = getAttToBeSigned(registrationObject);
+        byte[][] attToBeSigned = getAttToBeSigned(registrationObject);
 
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
 
@@ -130,8 +129,8 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
     /**
      * Calculate message digest. If alg is null, original data is returned.
      */
-    private byte[] calcMessageDigest(byte[] data, MessageDigestAlgorithm alg) {
-        return alg.createMessageDigestObject().digest(data);
+    private byte[] calcMessageDigest(byte[][] data, MessageDigestAlgorithm alg) {
+        return MessageDigestUtil.digest(alg.getJcaName(), data);
     }
 
     private void verifyIntegrityOfCertInfo(TPMAttestationStatement attestationStatement, TPMSAttest certInfo, AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData, COSEAlgorithmIdentifier alg) {
@@ -153,11 +152,8 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         }
 
         //spec| Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
-        Signature certInfoSignature = SignatureUtil.createSignature(alg.toSignatureAlgorithm());
         try {
-            certInfoSignature.initVerify(aikCert.getPublicKey());
-            certInfoSignature.update(certInfo.getBytes());
-            if (!certInfoSignature.verify(attestationStatement.getSig())) {
+            if (!SignatureUtil.verify(alg.toSignatureAlgorithm(), aikCert.getPublicKey(), attestationStatement.getSig(), certInfo.getBytes())) {
                 throw new BadAttestationStatementException("hash of certInfo doesn't match with sig.");
             }
         } catch (SignatureException | InvalidKeyException e) {
@@ -165,7 +161,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         }
     }
 
-    private void validateCertInfo(TPMSAttest certInfo, byte[] attToBeSigned, TPMTPublic pubArea, COSEAlgorithmIdentifier alg) {
+    private void validateCertInfo(TPMSAttest certInfo, byte[][] attToBeSigned, TPMTPublic pubArea, COSEAlgorithmIdentifier alg) {
         //spec| Verify that magic is set to TPM_GENERATED_VALUE.
         if (certInfo.getMagic() != TPMGenerated.TPM_GENERATED_VALUE) {
             throw new BadAttestationStatementException("magic must be TPM_GENERATED_VALUE");
@@ -197,7 +193,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         TPMIAlgHash hashAlg = certifyInfo.getName().getHashAlg();
         String algJcaName = getAlgJcaName(hashAlg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = MessageDigestUtil.digest(algJcaName, pubArea.getBytes());
         // As pubAreaDigest is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())) {
@@ -306,10 +302,14 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         tpmDevicePropertyVerifier.verify(tpmDeviceProperty);
     }
 
-    private byte[] getAttToBeSigned(CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+    /**
+     * Returns attToBeSigned as its two parts, authenticatorData and clientDataHash, so that they can be hashed without
+     * being concatenated. The returned arrays are shared and must not be modified.
+     */
+    private byte[][] getAttToBeSigned(CoreRegistrationObject registrationObject) {
+        byte[] authenticatorData = SignedDataAccess.getAuthenticatorDataBytes(registrationObject);
+        byte[] clientDataHash = SignedDataAccess.getClientDataHash(registrationObject);
+        return new byte[][]{authenticatorData, clientDataHash};
     }
 
 
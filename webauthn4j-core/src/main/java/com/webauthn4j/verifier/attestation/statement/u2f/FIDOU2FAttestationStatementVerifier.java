@@ -16,6 +16,7 @@
 
 package com.webauthn4j.verifier.attestation.statement.u2f;
 
+import com.webauthn4j.data.SignatureAlgorithm;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
@@ -23,8 +24,8 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.ECUtil;
-import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
@@ -32,8 +33,6 @@ import com.webauthn4j.verifier.exception.BadSignatureException;
 import com.webauthn4j.verifier.exception.CertificateException;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
@@ -54,6 +53,9 @@ import java.security.spec.ECParameterSpec;
  */
 public class FIDOU2FAttestationStatementVerifier extends AbstractStatementVerifier<FIDOU2FAttestationStatement> {
 
+    private static final byte[] RFU = {0x00};
+    private static final byte[] UNCOMPRESSED_POINT_FORMAT = {0x04};
+
     /**
      * Verifies a FIDO U2F attestation statement.
      * <p>
@@ -120,15 +122,12 @@ public class FIDOU2FAttestationStatementVerifier extends AbstractStatementVerifi
     private void verifySignature(@NotNull CoreRegistrationObject registrationObject) {
         FIDOU2FAttestationStatement attestationStatement = (FIDOU2FAttestationStatement) registrationObject.getAttestationObject().getAttestationStatement();
 
-        byte[] signedData = getSignedData(registrationObject);
+        byte[][] signedData = getSignedData(registrationObject);
         byte[] signature = attestationStatement.getSig();
         PublicKey publicKey = getPublicKey(attestationStatement);
 
         try {
-            Signature verifier = SignatureUtil.createES256();
-            verifier.initVerify(publicKey);
-            verifier.update(signedData);
-            if (verifier.verify(signature)) {
+            if (SignatureUtil.verify(SignatureAlgorithm.ES256, publicKey, signature, signedData)) {
                 return;
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature. Please refer U2F Raw Message Formats. https://fidoalliance.org/specs/fido-u2f-v1.1-id-20160915/fido-u2f-raw-message-formats-v1.1-id-20160915.html");
@@ -137,37 +136,22 @@ public class FIDOU2FAttestationStatementVerifier extends AbstractStatementVerifi
         }
     }
 
-    private byte[] getSignedData(@NotNull CoreRegistrationObject registrationObject) {
-
-        String rpId = registrationObject.getServerProperty().getRpId();
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-
+    /**
+     * Returns the U2F registration signed data as consecutive parts, so that they can be fed to the signature engine
+     * without being concatenated. The returned arrays may be shared and must not be modified.
+     */
+    private byte[][] getSignedData(@NotNull CoreRegistrationObject registrationObject) {
         AttestationObject attestationObject = registrationObject.getAttestationObject();
         //noinspection ConstantConditions as null check is already done in caller
         EC2COSEKey credentialPublicKey =
                 (EC2COSEKey) attestationObject.getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
 
-        byte[] rpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-
-        byte[] applicationParameter = messageDigest.digest(rpIdBytes);
-        byte[] challengeParameter = registrationObject.getClientDataHash();
+        byte[] applicationParameter = registrationObject.getServerProperty().getRpIdHash();
+        byte[] challengeParameter = SignedDataAccess.getClientDataHash(registrationObject);
         byte[] keyHandle = attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId();
-        byte[] userPublicKeyBytes = getPublicKeyBytes(credentialPublicKey);
-
-        ByteBuffer byteBuffer = ByteBuffer.allocate(1 + 32 + 32 + keyHandle.length + 65);
-        byteBuffer.put((byte) 0x00); //RFU
-        byteBuffer.put(applicationParameter);
-        byteBuffer.put(challengeParameter);
-        byteBuffer.put(keyHandle);
-        byteBuffer.put(userPublicKeyBytes);
-        return byteBuffer.array();
-    }
 
-    private byte[] getPublicKeyBytes(@NotNull EC2COSEKey ec2CoseKey) {
-        byte[] x = ec2CoseKey.getX();
-        byte[] y = ec2CoseKey.getY();
-        byte format = 0x04;
-        return ByteBuffer.allocate(1 + x.length + y.length).put(format).put(x).put(y).array();
+        // userPublicKey is in the uncompressed point format (0x04 || x || y)
+        return new byte[][]{RFU, applicationParameter, challengeParameter, keyHandle, UNCOMPRESSED_POINT_FORMAT, credentialPublicKey.getX(), credentialPublicKey.getY()};
     }
 
     private PublicKey getPublicKey(@NotNull FIDOU2FAttestationStatement attestationStatement) {
@@ -24,26 +24,56 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.HexUtil;
 import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.internal.BoundedCache;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
 import com.webauthn4j.data.internal.asn1.der.ASN1BitString;
 import com.webauthn4j.data.internal.asn1.der.ASN1Sequence;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustworthinessVerifier {
 
+    private static final int MAX_CACHED_PKIX_PARAMETERS = 256;
+
     private final TrustAnchorRepository trustAnchorRepository;
 
-    private boolean fullChainProhibited = false;
-    private boolean revocationCheckEnabled = false;
-    private boolean policyQualifiersRejected = false;
+    /**
+     * Fingerprints of trust anchor sets keyed by the identity of the set. Snapshot based repositories return the same
+     * unmodifiable set until their source changes, so its anchors are encoded and digested only once.
+     */
+    private final BoundedCache<TrustAnchorSetIdentity, ByteBuffer> trustAnchorsFingerprints = new BoundedCache<>(MAX_CACHED_PKIX_PARAMETERS);
+
+    /**
+     * {@link PKIXParameters} templates keyed by the fingerprint of their trust anchor set and the settings applied to
+     * them. Building one copies and checks the whole anchor set, so it is done once per set and each verification works
+     * on a cheap clone of the template. {@link TrustAnchor} has no value equality and some repositories build new
+     * instances on every lookup, hence the fingerprint over the anchors' encoded form instead of the set itself.
+     * As the settings are part of the key, changing them never races with a concurrent put, and templates built for
+     * former settings are evicted like any other entry.
+     */
+    private final BoundedCache<PKIXParametersKey, PKIXParameters> pkixParametersTemplates = new BoundedCache<>(MAX_CACHED_PKIX_PARAMETERS);
+
+    /**
+     * Successful cert path validations, or null when the cache is disabled.
+     */
+    private volatile BoundedCache<ValidationCacheKey, ValidationCacheEntry> validationResultCache;
+    private int validationResultCacheSize = 0;
+    private Duration validationResultCacheTTL = Duration.ofHours(1);
+
+    private volatile boolean fullChainProhibited = false;
+    private volatile boolean revocationCheckEnabled = false;
+    private volatile boolean policyQualifiersRejected = false;
 
     public DefaultCertPathTrustworthinessVerifier(TrustAnchorRepository trustAnchorRepository) {
         this.trustAnchorRepository = trustAnchorRepository;
@@ -82,13 +112,6 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
 
     private TrustAnchor verifyCertPath(CertPath certPath, Set<TrustAnchor> trustAnchors, Instant timestamp){
 
-        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-        certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
-
-        certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-        certPathParameters.setDate(Date.from(timestamp));
-
         TrustAnchor trustAnchor;
 
         // if itself is an acceptable certificate, it is valid cert path
@@ -100,10 +123,34 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
             }
         }
 
+        // settings are read once, so that a concurrent setter cannot mix two configurations in one verification
+        boolean fullChainProhibited = this.fullChainProhibited;
+        boolean revocationCheckEnabled = this.revocationCheckEnabled;
+        boolean policyQualifiersRejected = this.policyQualifiersRejected;
+        ByteBuffer trustAnchorsFingerprint = trustAnchorsFingerprints.computeIfAbsent(new TrustAnchorSetIdentity(trustAnchors), key -> fingerprint(trustAnchors));
+        BoundedCache<ValidationCacheKey, ValidationCacheEntry> cache = validationResultCache;
+        ValidationCacheKey cacheKey = null;
+        if (cache != null) {
+            cacheKey = new ValidationCacheKey(certPath, trustAnchorsFingerprint, fullChainProhibited, revocationCheckEnabled, policyQualifiersRejected);
+            ValidationCacheEntry cached = cache.get(cacheKey);
+            if (cached != null) {
+                if (cached.isApplicableTo(timestamp, Instant.now())) {
+                    TrustAnchor cachedTrustAnchor = cached.trustAnchor;
+                    return trustAnchors.stream()
+                            .filter(item -> isSameTrustAnchor(item, cachedTrustAnchor))
+                            .findFirst().orElse(cachedTrustAnchor);
+                }
+                cache.remove(cacheKey);
+            }
+        }
+
         // or verify the certificate chain path
+        PKIXParameters certPathParameters = createPKIXParameters(new PKIXParametersKey(trustAnchorsFingerprint, revocationCheckEnabled, policyQualifiersRejected), trustAnchors);
+        certPathParameters.setDate(Date.from(timestamp));
+
         PKIXCertPathValidatorResult result;
         try {
-            result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
+            result = CertificateUtil.validateCertPath(certPath, certPathParameters);
         } catch (InvalidAlgorithmParameterException e) {
             throw new com.webauthn4j.verifier.exception.CertificateException("invalid algorithm parameter", e);
         } catch (CertPathValidatorException e) {
@@ -112,9 +159,68 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
-        return trustAnchors.stream()
-                .filter(item -> Objects.equals(item, result.getTrustAnchor()))
+        // the template may hold anchors of an earlier, equivalent set, so match by content rather than identity
+        trustAnchor = trustAnchors.stream()
+                .filter(item -> isSameTrustAnchor(item, result.getTrustAnchor()))
                 .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+        if (cache != null) {
+            cache.put(cacheKey, new ValidationCacheEntry(certPath, trustAnchor, Instant.now().plus(validationResultCacheTTL)));
+        }
+        return trustAnchor;
+    }
+
+    private @NotNull PKIXParameters createPKIXParameters(@NotNull PKIXParametersKey key, @NotNull Set<TrustAnchor> trustAnchors) {
+        PKIXParameters template = pkixParametersTemplates.get(key);
+        if (template == null) {
+            template = CertificateUtil.createPKIXParameters(trustAnchors);
+            template.setPolicyQualifiersRejected(key.policyQualifiersRejected);
+            template.setRevocationEnabled(key.revocationCheckEnabled);
+            pkixParametersTemplates.put(key, template);
+        }
+        return (PKIXParameters) template.clone();
+    }
+
+    /**
+     * Returns the SHA-256 digest over the sorted digests of the anchors, so that two sets holding the same anchors
+     * share a fingerprint regardless of instance identity and iteration order.
+     */
+    static @NotNull ByteBuffer fingerprint(@NotNull Set<TrustAnchor> trustAnchors) {
+        byte[][] digests = new byte[trustAnchors.size()][];
+        int i = 0;
+        for (TrustAnchor trustAnchor : trustAnchors) {
+            digests[i++] = fingerprint(trustAnchor);
+        }
+        Arrays.sort(digests, Arrays::compareUnsigned);
+        return ByteBuffer.wrap(MessageDigestUtil.digestSHA256(digests));
+    }
+
+    private static @NotNull byte[] fingerprint(@NotNull TrustAnchor trustAnchor) {
+        byte[] nameConstraints = trustAnchor.getNameConstraints() == null ? new byte[0] : trustAnchor.getNameConstraints();
+        X509Certificate trustedCert = trustAnchor.getTrustedCert();
+        if (trustedCert != null) {
+            try {
+                return MessageDigestUtil.digestSHA256(new byte[]{0}, trustedCert.getEncoded(), nameConstraints);
+            } catch (CertificateEncodingException e) {
+                throw new CertificateException("Failed to encode certificate", e);
+            }
+        }
+        //noinspection ConstantConditions as either trustedCert or CA is set
+        return MessageDigestUtil.digestSHA256(new byte[]{1}, trustAnchor.getCA().getEncoded(), trustAnchor.getCAPublicKey().getEncoded(), nameConstraints);
+    }
+
+    private static boolean isSameTrustAnchor(@NotNull TrustAnchor a, @NotNull TrustAnchor b) {
+        if (a == b) {
+            return true;
+        }
+        if (a.getTrustedCert() != null || b.getTrustedCert() != null) {
+            return Objects.equals(a.getTrustedCert(), b.getTrustedCert());
+        }
+        return Objects.equals(a.getCA(), b.getCA()) && Objects.equals(a.getCAPublicKey(), b.getCAPublicKey());
+    }
+
+    int getCachedValidationResultCount() {
+        BoundedCache<ValidationCacheKey, ValidationCacheEntry> cache = validationResultCache;
+        return cache == null ? 0 : cache.size();
     }
 
     public boolean isFullChainProhibited() {
@@ -141,11 +247,169 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
 
+    public int getValidationResultCacheSize() {
+        return validationResultCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of successful cert path validations to remember. A cached validation is reused for
+     * the same certificate chain, a trust anchor set holding the same anchors and the same validation settings, as long as
+     * the timestamp lies within the validity period of every certificate in the chain. Revocation status is
+     * therefore not rechecked until the entry expires. {@code 0}, the default, disables the cache.
+     *
+     * @param validationResultCacheSize maximum number of cached validations, or {@code 0} to disable caching
+     */
+    public void setValidationResultCacheSize(int validationResultCacheSize) {
+        AssertUtil.isTrue(validationResultCacheSize >= 0, "validationResultCacheSize must not be negative");
+        this.validationResultCacheSize = validationResultCacheSize;
+        this.validationResultCache = validationResultCacheSize == 0 ? null : new BoundedCache<>(validationResultCacheSize);
+    }
+
+    public @NotNull Duration getValidationResultCacheTTL() {
+        return validationResultCacheTTL;
+    }
+
+    /**
+     * Sets how long a successful cert path validation is remembered. An entry never outlives the earliest
+     * {@code notAfter} in its chain.
+     *
+     * @param validationResultCacheTTL time to live of cached validations
+     */
+    public void setValidationResultCacheTTL(@NotNull Duration validationResultCacheTTL) {
+        AssertUtil.notNull(validationResultCacheTTL, "validationResultCacheTTL must not be null");
+        AssertUtil.isTrue(!validationResultCacheTTL.isNegative(), "validationResultCacheTTL must not be negative");
+        this.validationResultCacheTTL = validationResultCacheTTL;
+    }
+
     public static @NotNull byte[] extractSubjectKeyIdentifier(X509Certificate certificate){
         byte[] publicKeyEncoded = certificate.getPublicKey().getEncoded();
         ASN1Sequence sequence = ASN1Sequence.parse(publicKeyEncoded);
         ASN1BitString publicKey = (ASN1BitString) sequence.get(1);
         byte[] publicKeyBytes = publicKey.getContent();
-        return MessageDigestUtil.createMessageDigest("SHA-1").digest(publicKeyBytes);
+        return MessageDigestUtil.digest("SHA-1", publicKeyBytes);
+    }
+
+    private static final class TrustAnchorSetIdentity {
+
+        private final Set<TrustAnchor> trustAnchors;
+
+        TrustAnchorSetIdentity(Set<TrustAnchor> trustAnchors) {
+            this.trustAnchors = trustAnchors;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TrustAnchorSetIdentity && ((TrustAnchorSetIdentity) o).trustAnchors == trustAnchors;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(trustAnchors);
+        }
+    }
+
+    private static final class PKIXParametersKey {
+
+        private final ByteBuffer trustAnchorsFingerprint;
+        private final boolean revocationCheckEnabled;
+        private final boolean policyQualifiersRejected;
+
+        PKIXParametersKey(ByteBuffer trustAnchorsFingerprint, boolean revocationCheckEnabled, boolean policyQualifiersRejected) {
+            this.trustAnchorsFingerprint = trustAnchorsFingerprint;
+            this.revocationCheckEnabled = revocationCheckEnabled;
+            this.policyQualifiersRejected = policyQualifiersRejected;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PKIXParametersKey that = (PKIXParametersKey) o;
+            return revocationCheckEnabled == that.revocationCheckEnabled && policyQualifiersRejected == that.policyQualifiersRejected && trustAnchorsFingerprint.equals(that.trustAnchorsFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(trustAnchorsFingerprint, revocationCheckEnabled, policyQualifiersRejected);
+        }
+    }
+
+    private static final class ValidationCacheKey {
+
+        private final ByteBuffer fingerprint;
+        private final ByteBuffer trustAnchorsFingerprint;
+        private final boolean fullChainProhibited;
+        private final boolean revocationCheckEnabled;
+        private final boolean policyQualifiersRejected;
+
+        ValidationCacheKey(CertPath certPath, ByteBuffer trustAnchorsFingerprint, boolean fullChainProhibited, boolean revocationCheckEnabled, boolean policyQualifiersRejected) {
+            this.fingerprint = ByteBuffer.wrap(fingerprint(certPath));
+            this.trustAnchorsFingerprint = trustAnchorsFingerprint;
+            this.fullChainProhibited = fullChainProhibited;
+            this.revocationCheckEnabled = revocationCheckEnabled;
+            this.policyQualifiersRejected = policyQualifiersRejected;
+        }
+
+        /**
+         * Returns the SHA-256 digest over the DER encodings of the chain. DER is self-delimiting, so the digest
+         * identifies the ordered sequence of certificates.
+         */
+        private static @NotNull byte[] fingerprint(CertPath certPath) {
+            List<? extends Certificate> certificates = certPath.getCertificates();
+            byte[][] encoded = new byte[certificates.size()][];
+            try {
+                for (int i = 0; i < encoded.length; i++) {
+                    encoded[i] = certificates.get(i).getEncoded();
+                }
+            } catch (CertificateEncodingException e) {
+                throw new CertificateException("Failed to encode certificate", e);
+            }
+            return MessageDigestUtil.digestSHA256(encoded);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ValidationCacheKey that = (ValidationCacheKey) o;
+            return trustAnchorsFingerprint.equals(that.trustAnchorsFingerprint) && fullChainProhibited == that.fullChainProhibited && revocationCheckEnabled == that.revocationCheckEnabled && policyQualifiersRejected == that.policyQualifiersRejected && fingerprint.equals(that.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, trustAnchorsFingerprint, fullChainProhibited, revocationCheckEnabled, policyQualifiersRejected);
+        }
+    }
+
+    private static final class ValidationCacheEntry {
+
+        private final TrustAnchor trustAnchor;
+        private final Instant notBefore;
+        private final Instant notAfter;
+        private final Instant expiresAt;
+
+        ValidationCacheEntry(CertPath certPath, TrustAnchor trustAnchor, Instant expiresAt) {
+            Instant latestNotBefore = Instant.MIN;
+            Instant earliestNotAfter = Instant.MAX;
+            for (Certificate certificate : certPath.getCertificates()) {
+                X509Certificate x509Certificate = (X509Certificate) certificate;
+                Instant certificateNotBefore = x509Certificate.getNotBefore().toInstant();
+                Instant certificateNotAfter = x509Certificate.getNotAfter().toInstant();
+                if (certificateNotBefore.isAfter(latestNotBefore)) {
+                    latestNotBefore = certificateNotBefore;
+                }
+                if (certificateNotAfter.isBefore(earliestNotAfter)) {
+                    earliestNotAfter = certificateNotAfter;
+                }
+            }
+            this.trustAnchor = trustAnchor;
+            this.notBefore = latestNotBefore;
+            this.notAfter = earliestNotAfter;
+            this.expiresAt = expiresAt.isBefore(earliestNotAfter) ? expiresAt : earliestNotAfter;
+        }
+
+        boolean isApplicableTo(Instant timestamp, Instant now) {
+            return now.isBefore(expiresAt) && !timestamp.isBefore(notBefore) && !timestamp.isAfter(notAfter);
+        }
     }
 }
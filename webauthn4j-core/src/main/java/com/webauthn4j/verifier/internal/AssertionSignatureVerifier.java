@@ -19,9 +19,14 @@ package com.webauthn4j.verifier.internal;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.SignatureAlgorithm;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.verifier.exception.BadSignatureException;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -30,7 +35,6 @@ import org.slf4j.LoggerFactory;
 import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
-import java.security.Signature;
 import java.security.SignatureException;
 
 /**
@@ -46,6 +50,10 @@ public class AssertionSignatureVerifier {
 
     private final Logger logger = LoggerFactory.getLogger(AssertionSignatureVerifier.class);
 
+    // Only a subclass can override the deprecated getSignedData. Subclasses therefore always go through it, which honors
+    // an override without inspecting the class, while getSignedData itself still builds on getSignedDataParts.
+    private final boolean verifiedThroughSignedData = getClass() != AssertionSignatureVerifier.class;
+
     // ~ Methods
     // ========================================================================================================
 
@@ -53,36 +61,120 @@ public class AssertionSignatureVerifier {
         AssertUtil.notNull(authenticationData, "authenticationData must not be null");
         AssertUtil.notNull(coseKey, "coseKey must not be null");
 
-        byte[] signedData = getSignedData(authenticationData);
+        byte[][] signedDataParts = verifiedThroughSignedData ? new byte[][]{getSignedData(authenticationData)} : getSignedDataParts(authenticationData);
         byte[] signature = authenticationData.getSignature();
-        if (!verifySignature(coseKey, signature, signedData)) {
+        if (!verifySignature(coseKey, signature, signedDataParts)) {
             throw new BadSignatureException("Assertion signature is not valid.");
         }
     }
 
+    /**
+     * Verifies the assertion signature over the authenticator data in {@code authenticatorData} and {@code clientDataHash},
+     * reading the authenticator data bytes in place.
+     * For subclasses, the deprecated {@link #getSignedData(CoreAuthenticationData)} is called with authentication data
+     * built from the arguments, which carries no credential id.
+     *
+     * @param authenticatorData authenticator data view
+     * @param clientDataHash    hash of the client data
+     * @param signature         assertion signature
+     * @param coseKey           credential public key
+     */
+    public void verify(@NotNull AuthenticatorDataView<?> authenticatorData, @NotNull byte[] clientDataHash, @NotNull byte[] signature, @NotNull COSEKey coseKey) {
+        AssertUtil.notNull(authenticatorData, "authenticatorData must not be null");
+        AssertUtil.notNull(clientDataHash, "clientDataHash must not be null");
+        AssertUtil.notNull(signature, "signature must not be null");
+        AssertUtil.notNull(coseKey, "coseKey must not be null");
+
+        byte[][] signedDataParts;
+        if (verifiedThroughSignedData) {
+            signedDataParts = new byte[][]{getSignedData(toAuthenticationData(authenticatorData, clientDataHash, signature))};
+        }
+        else {
+            signedDataParts = getSignedDataParts(SignedDataAccess.getAuthenticatorDataBytes(authenticatorData), clientDataHash);
+        }
+        if (!verifySignature(coseKey, signature, signedDataParts)) {
+            throw new BadSignatureException("Assertion signature is not valid.");
+        }
+    }
+
+    /**
+     * Returns the data covered by the signature.
+     * Subclasses are verified through this method, so that overriding it is still honored, at the cost of the
+     * copy-free signature verification.
+     *
+     * @param authenticationData authentication data
+     * @return the signed data
+     * @deprecated override {@link #getSignedDataParts(CoreAuthenticationData)} or {@link #getSignedDataParts(byte[], byte[])} instead
+     */
+    @Deprecated
     protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
+        byte[][] signedDataParts = getSignedDataParts(authenticationData);
+        int length = 0;
+        for (byte[] signedDataPart : signedDataParts) {
+            length += signedDataPart.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (byte[] signedDataPart : signedDataParts) {
+            buffer.put(signedDataPart);
+        }
+        return buffer.array();
     }
 
-    private boolean verifySignature(@NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull byte[] data) {
+    /**
+     * Returns the data covered by the signature as consecutive parts, which are fed to the signature engine in order
+     * instead of being concatenated into a new buffer.
+     * The returned arrays may be shared with {@code authenticationData} and must not be modified.
+     *
+     * @param authenticationData authentication data
+     * @return the parts whose concatenation is the signed data
+     */
+    protected @NotNull byte[][] getSignedDataParts(@NotNull CoreAuthenticationData authenticationData) {
+        byte[] rawAuthenticatorData = SignedDataAccess.getAuthenticatorDataBytes(authenticationData);
+        byte[] clientDataHash = SignedDataAccess.getClientDataHash(authenticationData);
+        //noinspection ConstantConditions as null check is already done in caller
+        return getSignedDataParts(rawAuthenticatorData, clientDataHash);
+    }
+
+    /**
+     * Returns the data covered by the signature over {@code authenticatorData} and {@code clientDataHash} as consecutive parts.
+     * The returned arrays may be shared with the arguments and must not be modified.
+     *
+     * @param authenticatorData raw authenticator data
+     * @param clientDataHash    hash of the client data
+     * @return the parts whose concatenation is the signed data
+     */
+    protected @NotNull byte[][] getSignedDataParts(@NotNull byte[] authenticatorData, @NotNull byte[] clientDataHash) {
+        return new byte[][]{authenticatorData, clientDataHash};
+    }
+
+    private boolean verifySignature(@NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull byte[][] data) {
+        COSEAlgorithmIdentifier alg = coseKey.getAlgorithm();
+        if (alg == null) {
+            logger.debug("COSE key alg is not set.");
+            return false;
+        }
+        SignatureAlgorithm signatureAlgorithm;
         try {
-            PublicKey publicKey = coseKey.getPublicKey();
-            //noinspection ConstantConditions as null check is already done in caller
-            SignatureAlgorithm signatureAlgorithm = coseKey.getAlgorithm().toSignatureAlgorithm();
-            Signature verifier = SignatureUtil.createSignature(signatureAlgorithm);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-            return verifier.verify(signature);
+            signatureAlgorithm = alg.toSignatureAlgorithm();
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
+        }
+        try {
+            PublicKey publicKey = coseKey.getPublicKey();
+            //noinspection ConstantConditions as a missing public key is reported by SignatureUtil as IllegalArgumentException
+            return SignatureUtil.verify(signatureAlgorithm, publicKey, signature, data);
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Unexpected exception is thrown during signature verification.", e);
             return false;
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static @NotNull CoreAuthenticationData toAuthenticationData(@NotNull AuthenticatorDataView<?> authenticatorData, @NotNull byte[] clientDataHash, @NotNull byte[] signature) {
+        // extension outputs of authentication are always AuthenticationExtensionAuthenticatorOutput
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> parsed = (AuthenticatorData<AuthenticationExtensionAuthenticatorOutput>) authenticatorData.toAuthenticatorData();
+        return new CoreAuthenticationData(null, parsed, authenticatorData.getBytes(), clientDataHash, signature);
+    }
 
 }
@@ -16,16 +16,14 @@
 
 package com.webauthn4j.verifier.internal;
 
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.server.CoreServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.HexUtil;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.internal.SignedDataAccess;
 import com.webauthn4j.verifier.exception.BadRpIdException;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.util.Arrays;
 
 /**
  * Verifies the RP ID hash.
@@ -44,18 +42,31 @@ public class RpIdHashVerifier {
     public static void verify(@NotNull byte[] rpIdHash, @NotNull CoreServerProperty serverProperty) {
         AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
         AssertUtil.notNull(serverProperty, "serverProperty must not be null");
-        String rpId = serverProperty.getRpId();
-        AssertUtil.notNull(rpId, "rpId must not be null");
+        AssertUtil.notNull(serverProperty.getRpId(), "rpId must not be null");
 
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] relyingPartyRpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-        byte[] relyingPartyRpIdHash = messageDigest.digest(relyingPartyRpIdBytes);
         // As rpIdHash is known data to client side(potential attacker) because it is calculated from parts of a message,
-        // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
-        if (!Arrays.equals(rpIdHash, relyingPartyRpIdHash)) {
+        // there is no need to prevent timing attack and it is OK to compare with `Arrays.equals` instead of `MessageDigest.isEqual` here.
+        if (!serverProperty.rpIdHashEquals(rpIdHash)) {
+            byte[] relyingPartyRpIdHash = serverProperty.getRpIdHash();
             String expectedHex = HexUtil.encodeToString(relyingPartyRpIdHash);
             String actualHex = HexUtil.encodeToString(rpIdHash);
             throw new BadRpIdException("rpIdHash doesn't match the hash of preconfigured rpId. Expected: " + expectedHex + ", Actual: " + actualHex, relyingPartyRpIdHash, rpIdHash);
         }
     }
+
+    /**
+     * Verifies the rpIdHash of {@code authenticatorData} in place. The rpIdHash is copied out only to report a mismatch.
+     *
+     * @param authenticatorData authenticator data view
+     * @param serverProperty    server property
+     */
+    public static void verify(@NotNull AuthenticatorDataView<?> authenticatorData, @NotNull CoreServerProperty serverProperty) {
+        AssertUtil.notNull(authenticatorData, "authenticatorData must not be null");
+        AssertUtil.notNull(serverProperty, "serverProperty must not be null");
+        AssertUtil.notNull(serverProperty.getRpId(), "rpId must not be null");
+
+        if (!serverProperty.rpIdHashEquals(SignedDataAccess.getAuthenticatorDataBytes(authenticatorData), 0)) {
+            verify(authenticatorData.getRpIdHash(), serverProperty);
+        }
+    }
 }
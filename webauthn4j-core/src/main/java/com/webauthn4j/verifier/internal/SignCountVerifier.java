@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.credential.SignCountStore;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks and advances the signature counter through a {@link SignCountStore}.
+ * <p>
+ * Implements WebAuthn Level 3 § 7.2 Step 22 and the signCount part of Step 24 as one compare-and-set loop, so that
+ * of two concurrent assertions presenting the same counter only one is accepted.
+ *
+ * @see <a href="https://www.w3.org/TR/webauthn-3/#sctn-verifying-assertion">WebAuthn Level 3 § 7.2 Verifying an Authentication Assertion</a>
+ */
+public class SignCountVerifier {
+
+    private SignCountVerifier(){}
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Advances the stored signature counter to {@code presentedSignCount}
+     *
+     * @param signCountStore     sign count store
+     * @param credentialId       credential id
+     * @param recordedSignCount  signature counter of the credential record, used when the store holds none yet
+     * @param presentedSignCount signature counter presented in the authenticator data
+     * @return true if the presented counter is valid, false if it did not increase over the stored counter
+     */
+    public static boolean advance(@NotNull SignCountStore signCountStore, @NotNull byte[] credentialId, long recordedSignCount, long presentedSignCount) {
+        AssertUtil.notNull(signCountStore, "signCountStore must not be null");
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+
+        long storedSignCount = signCountStore.getSignCount(credentialId, recordedSignCount);
+        while (presentedSignCount > 0 || storedSignCount > 0) {
+            if (presentedSignCount <= storedSignCount) {
+                return false;
+            }
+            if (signCountStore.compareAndSetSignCount(credentialId, storedSignCount, presentedSignCount)) {
+                return true;
+            }
+            // another assertion has advanced the counter in the meantime; check against its value
+            storedSignCount = signCountStore.getSignCount(credentialId, recordedSignCount);
+        }
+        return true;
+    }
+
+}
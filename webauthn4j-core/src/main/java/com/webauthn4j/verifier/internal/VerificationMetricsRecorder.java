@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationObserver;
+import com.webauthn4j.verifier.VerificationStep;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Records the step timings of a single run for a {@link VerificationObserver}.
+ * <p>
+ * Verifiers obtain a recorder through {@link #start(VerificationObserver, VerificationMetrics.Ceremony)}, which returns
+ * null when no observer is registered, and mark step boundaries through the null-tolerant {@link #step} method,
+ * so that an unobserved run takes no timestamps and allocates nothing.
+ * Each step lasts until the next one starts or the run ends. A recorder is used by one run at a time.
+ */
+public class VerificationMetricsRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationMetricsRecorder.class);
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final VerificationObserver observer;
+    private final VerificationMetrics.Ceremony ceremony;
+    private final long startedAt;
+    private final Map<VerificationStep, Duration> stepDurations = new LinkedHashMap<>();
+
+    private VerificationStep currentStep;
+    private long currentStepStartedAt;
+    private String attestationFormat;
+    private COSEAlgorithmIdentifier algorithm;
+    private AAGUID aaguid;
+    private boolean completed;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    private VerificationMetricsRecorder(@NotNull VerificationObserver observer, @NotNull VerificationMetrics.Ceremony ceremony) {
+        this.observer = observer;
+        this.ceremony = ceremony;
+        this.startedAt = System.nanoTime();
+        this.currentStepStartedAt = startedAt;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Starts recording a run
+     *
+     * @param observer observer to report the run to, or null
+     * @param ceremony ceremony of the run
+     * @return recorder, or null if observer is null
+     */
+    public static @Nullable VerificationMetricsRecorder start(@Nullable VerificationObserver observer, @NotNull VerificationMetrics.Ceremony ceremony) {
+        return observer == null ? null : new VerificationMetricsRecorder(observer, ceremony);
+    }
+
+    /**
+     * Ends the current step, if any, and starts the given one
+     *
+     * @param recorder recorder of the run, or null if the run is not observed
+     * @param step     step to start
+     */
+    public static void step(@Nullable VerificationMetricsRecorder recorder, @NotNull VerificationStep step) {
+        if (recorder != null) {
+            recorder.enter(step);
+        }
+    }
+
+    /**
+     * Runs a parser as a run consisting of the {@link VerificationStep#PARSE} step
+     *
+     * @param observer observer to report the run to
+     * @param ceremony ceremony of the run
+     * @param parser   parser to run
+     * @param <T>      parsed data type
+     * @return parsed data
+     */
+    public static <T> T observeParse(@NotNull VerificationObserver observer, @NotNull VerificationMetrics.Ceremony ceremony, @NotNull Supplier<T> parser) {
+        VerificationMetricsRecorder recorder = new VerificationMetricsRecorder(observer, ceremony);
+        recorder.enter(VerificationStep.PARSE);
+        T parsed;
+        try {
+            parsed = parser.get();
+        }
+        catch (RuntimeException e) {
+            recorder.fail(e);
+            throw e;
+        }
+        recorder.complete();
+        return parsed;
+    }
+
+    /**
+     * Records the attributes of the credential the run is about
+     *
+     * @param attestationFormat      attestation statement format identifier, or null
+     * @param attestedCredentialData attested credential data the algorithm and AAGUID are taken from, or null
+     */
+    public void recordCredential(@Nullable String attestationFormat, @Nullable AttestedCredentialData attestedCredentialData) {
+        this.attestationFormat = attestationFormat;
+        if (attestedCredentialData != null) {
+            COSEKey coseKey = attestedCredentialData.getCOSEKey();
+            this.algorithm = coseKey == null ? null : coseKey.getAlgorithm();
+            this.aaguid = attestedCredentialData.getAaguid();
+        }
+    }
+
+    /**
+     * Ends the run successfully and reports it. Subsequent calls are ignored.
+     */
+    public void complete() {
+        publish(null);
+    }
+
+    /**
+     * Ends the run with a failure in the current step and reports it. Subsequent calls are ignored.
+     *
+     * @param failure the exception the run failed with. {@link CompletionException} is unwrapped.
+     */
+    public void fail(@NotNull Throwable failure) {
+        Throwable cause = failure;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        publish(cause);
+    }
+
+    private void enter(@NotNull VerificationStep step) {
+        long now = System.nanoTime();
+        endCurrentStep(now);
+        currentStep = step;
+        currentStepStartedAt = now;
+    }
+
+    private void endCurrentStep(long now) {
+        if (currentStep != null) {
+            stepDurations.merge(currentStep, Duration.ofNanos(now - currentStepStartedAt), Duration::plus);
+        }
+    }
+
+    private void publish(@Nullable Throwable failure) {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        long now = System.nanoTime();
+        endCurrentStep(now);
+        VerificationMetrics metrics = new VerificationMetrics(
+                ceremony,
+                stepDurations,
+                Duration.ofNanos(now - startedAt),
+                attestationFormat,
+                algorithm,
+                aaguid,
+                failure == null ? null : currentStep,
+                failure == null ? null : failure.getClass());
+        try {
+            observer.onCompleted(metrics);
+        }
+        catch (RuntimeException e) {
+            logger.warn("VerificationObserver threw an exception.", e);
+        }
+    }
+}
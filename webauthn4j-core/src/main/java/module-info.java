@@ -32,6 +32,7 @@ module com.webauthn4j.core {
 
     exports com.webauthn4j.util;
     exports com.webauthn4j.util.exception;
+    exports com.webauthn4j.util.internal to com.webauthn4j.appattest;
 
     exports com.webauthn4j.verifier;
     exports com.webauthn4j.data.internal.asn1.der to com.webauthn4j.appattest, com.webauthn4j.metadata.async;
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticatorAssertionResponse;
+import com.webauthn4j.data.PublicKeyCredential;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("ConstantConditions")
+class AuthenticationResponseJSONConverterTest {
+
+    private static final String CREDENTIAL_ID = "1a_exOrrbfy4tDQtwyJo_JVAumhCHXfc2PiDpPTqlxM";
+    private static final String AUTHENTICATOR_DATA = "SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2MFAAAAAg";
+    private static final String CLIENT_DATA_JSON = "eyJ0eXBlIjoid2ViYXV0aG4uZ2V0IiwiY2hhbGxlbmdlIjoiUHlad3lFX1hSYjI1UHM1WHViWmZGUSIsIm9yaWdpbiI6Imh0dHA6Ly9sb2NhbGhvc3Q6ODA4MCIsImNyb3NzT3JpZ2luIjpmYWxzZX0";
+    private static final String SIGNATURE = "MEUCIQC11ymTM1B0WNHdxgFWxCTnrILBRoLkFMFnusjldBd0yAIgEqwhnPvuIDZczbbxO4BRXNgvX-86PsOMwVpovmhsLFY";
+    private static final String USER_HANDLE = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    private static final String AUTHENTICATION_RESPONSE_JSON = "{\"authenticatorAttachment\":\"cross-platform\",\"clientExtensionResults\":{\"appid\":true},\"id\":\"" + CREDENTIAL_ID + "\",\"rawId\":\"" + CREDENTIAL_ID + "\",\"response\":{\"authenticatorData\":\"" + AUTHENTICATOR_DATA + "\",\"clientDataJSON\":\"" + CLIENT_DATA_JSON + "\",\"signature\":\"" + SIGNATURE + "\",\"userHandle\":\"" + USER_HANDLE + "\"},\"type\":\"public-key\"}";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AuthenticationResponseJSONConverter target = new AuthenticationResponseJSONConverter(objectConverter);
+
+    @Test
+    void convert_test() {
+        AuthenticationData authenticationData = target.convert(AUTHENTICATION_RESPONSE_JSON);
+
+        assertAll(
+                () -> assertThat(authenticationData.getCredentialId()).isEqualTo(Base64UrlUtil.decode(CREDENTIAL_ID)),
+                () -> assertThat(authenticationData.getUserHandle()).isEqualTo(Base64UrlUtil.decode(USER_HANDLE)),
+                () -> assertThat(authenticationData.getAuthenticatorDataBytes()).isEqualTo(Base64UrlUtil.decode(AUTHENTICATOR_DATA)),
+                () -> assertThat(authenticationData.getAuthenticatorData()).isNotNull(),
+                () -> assertThat(authenticationData.getCollectedClientDataBytes()).isEqualTo(Base64UrlUtil.decode(CLIENT_DATA_JSON)),
+                () -> assertThat(authenticationData.getCollectedClientData().getOrigin().toString()).isEqualTo("http://localhost:8080"),
+                () -> assertThat(authenticationData.getSignature()).isEqualTo(Base64UrlUtil.decode(SIGNATURE)),
+                () -> assertThat(authenticationData.getClientExtensions().getAppid()).isTrue()
+        );
+    }
+
+    @Test
+    void convert_matches_data_binding_test() {
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential =
+                objectConverter.getJsonMapper().readValue(AUTHENTICATION_RESPONSE_JSON, new TypeReference<>() {});
+
+        AuthenticationData authenticationData = target.convert(AUTHENTICATION_RESPONSE_JSON);
+
+        assertAll(
+                () -> assertThat(authenticationData.getCredentialId()).isEqualTo(publicKeyCredential.getRawId()),
+                () -> assertThat(authenticationData.getUserHandle()).isEqualTo(publicKeyCredential.getResponse().getUserHandle()),
+                () -> assertThat(authenticationData.getAuthenticatorDataBytes()).isEqualTo(publicKeyCredential.getResponse().getAuthenticatorData()),
+                () -> assertThat(authenticationData.getCollectedClientDataBytes()).isEqualTo(publicKeyCredential.getResponse().getClientDataJSON()),
+                () -> assertThat(authenticationData.getSignature()).isEqualTo(publicKeyCredential.getResponse().getSignature()),
+                () -> assertThat(authenticationData.getClientExtensions()).isEqualTo(publicKeyCredential.getClientExtensionResults())
+        );
+    }
+
+    @Test
+    void convert_from_InputStream_test() {
+        AuthenticationData authenticationData = target.convert(new ByteArrayInputStream(AUTHENTICATION_RESPONSE_JSON.getBytes(StandardCharsets.UTF_8)));
+        assertThat(authenticationData).isEqualTo(target.convert(AUTHENTICATION_RESPONSE_JSON));
+    }
+
+    @Test
+    void convert_skips_unknown_members_test() {
+        String json = "{\"unknown\":{\"nested\":[1,2,{\"rawId\":\"AAAA\"}]},\"rawId\":\"" + CREDENTIAL_ID + "\",\"response\":{\"attestationObject\":\"AAAA\",\"unknown\":[{}],\"clientDataJSON\":\"" + CLIENT_DATA_JSON + "\",\"authenticatorData\":\"" + AUTHENTICATOR_DATA + "\",\"signature\":\"" + SIGNATURE + "\",\"userHandle\":null}}";
+
+        AuthenticationData authenticationData = target.convert(json);
+
+        assertAll(
+                () -> assertThat(authenticationData.getCredentialId()).isEqualTo(Base64UrlUtil.decode(CREDENTIAL_ID)),
+                () -> assertThat(authenticationData.getUserHandle()).isNull(),
+                () -> assertThat(authenticationData.getClientExtensions()).isNull(),
+                () -> assertThat(authenticationData.getSignature()).isEqualTo(Base64UrlUtil.decode(SIGNATURE))
+        );
+    }
+
+    @Test
+    void convert_padded_base64url_test() {
+        String json = "{\"rawId\":\"" + CREDENTIAL_ID + "=\",\"response\":{\"signature\":\"" + SIGNATURE + "\"}}";
+
+        assertThat(target.convert(json).getCredentialId()).isEqualTo(Base64UrlUtil.decode(CREDENTIAL_ID));
+    }
+
+    @Test
+    void convert_reuses_decode_buffer_without_leaking_previous_values_test() {
+        byte[] largeUserHandle = new byte[64 * 1024];
+        new Random(0).nextBytes(largeUserHandle);
+        String largeJson = "{\"rawId\":\"" + CREDENTIAL_ID + "\",\"response\":{\"userHandle\":\"" + Base64UrlUtil.encodeToString(largeUserHandle) + "\"}}";
+        String smallJson = "{\"rawId\":\"AQI\",\"response\":{\"userHandle\":\"\"}}";
+
+        AuthenticationData large = target.convert(largeJson);
+        AuthenticationData small = target.convert(smallJson);
+
+        assertAll(
+                () -> assertThat(large.getCredentialId()).isEqualTo(Base64UrlUtil.decode(CREDENTIAL_ID)),
+                () -> assertThat(large.getUserHandle()).isEqualTo(largeUserHandle),
+                () -> assertThat(small.getCredentialId()).containsExactly(1, 2),
+                () -> assertThat(small.getUserHandle()).isEmpty(),
+                () -> assertThat(target.convert(AUTHENTICATION_RESPONSE_JSON).getSignature()).isEqualTo(Base64UrlUtil.decode(SIGNATURE))
+        );
+    }
+
+    @Test
+    void convert_invalid_input_test() {
+        assertAll(
+                () -> assertThatThrownBy(() -> target.convert((String) null)).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> target.convert("[]")).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> target.convert("{\"rawId\":")).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> target.convert("{\"rawId\":\"not base64url!\"}")).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> target.convert("{\"rawId\":1}")).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> target.convert("{\"response\":\"AAAA\"}")).isInstanceOf(DataConversionException.class)
+        );
+    }
+}
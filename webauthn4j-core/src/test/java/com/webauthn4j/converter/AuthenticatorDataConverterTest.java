@@ -30,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
@@ -38,6 +39,7 @@ import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BI
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Test for AuthenticatorDataConverter
@@ -194,4 +196,34 @@ class AuthenticatorDataConverterTest {
             assertThat(signCount).isEqualTo(70);
         }
     }
+
+    @Nested
+    class AllocationTests {
+
+        /**
+         * Guards against the no-extension path building an ObjectConverter (a JSON and a CBOR mapper) per call,
+         * which costs hundreds of kilobytes each time.
+         */
+        @Test
+        void shouldNotAllocateObjectConverterPerConversionWithoutExtensions() {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+            com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+            byte[] input = HexUtil.decode(BASIC_AUTHENTICATOR_DATA);
+            int iterations = 1000;
+            for (int i = 0; i < iterations; i++) {
+                target.convert(input);
+            }
+
+            long before = allocationMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < iterations; i++) {
+                target.convert(input);
+            }
+            long allocatedPerConversion = (allocationMXBean.getCurrentThreadAllocatedBytes() - before) / iterations;
+
+            assertThat(target.convert(input).getExtensions()).isSameAs(AuthenticationExtensionsAuthenticatorOutputs.empty());
+            assertThat(allocatedPerConversion).isLessThan(4096);
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.jackson.deserializer.cbor.COSEKeyEnvelope;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EdDSACOSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class COSEKeyDecoderTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestedCredentialDataConverter attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+
+    @Test
+    void decode_common_key_shapes_test() {
+        Random random = new Random(0);
+        for (COSEKey coseKey : createCommonKeys(random)) {
+            byte[] encoded = objectConverter.getCborMapper().writeValueAsBytes(coseKey);
+            byte[] withTrailingData = Arrays.copyOf(encoded, encoded.length + 3);
+            ByteBuffer buffer = ByteBuffer.wrap(withTrailingData);
+
+            COSEKey decoded = COSEKeyDecoder.decode(buffer);
+
+            assertThat(decoded).isEqualTo(coseKey);
+            assertThat(buffer.position()).isEqualTo(encoded.length);
+        }
+    }
+
+    @Test
+    void decode_starts_at_buffer_position_test() {
+        COSEKey coseKey = new EC2COSEKey(null, COSEAlgorithmIdentifier.ES256, null, Curve.SECP256R1, new byte[32], new byte[32]);
+        byte[] encoded = objectConverter.getCborMapper().writeValueAsBytes(coseKey);
+        byte[] source = new byte[encoded.length + 10];
+        System.arraycopy(encoded, 0, source, 7, encoded.length);
+        ByteBuffer buffer = ByteBuffer.wrap(source, 7, encoded.length);
+
+        assertThat(COSEKeyDecoder.decode(buffer)).isEqualTo(coseKey);
+        assertThat(buffer.position()).isEqualTo(7 + encoded.length);
+    }
+
+    @Test
+    void decode_returns_null_for_unusual_shapes_test() {
+        List<COSEKey> unusualKeys = List.of(
+                new EC2COSEKey(new byte[]{1, 2, 3}, COSEAlgorithmIdentifier.ES256, null, Curve.SECP256R1, new byte[32], new byte[32]),
+                new EC2COSEKey(null, COSEAlgorithmIdentifier.ES256, Collections.singletonList(COSEKeyOperation.VERIFY), Curve.SECP256R1, new byte[32], new byte[32]),
+                new EC2COSEKey(null, COSEAlgorithmIdentifier.ES256, null, Curve.SECP256R1, new byte[32], new byte[32], new byte[32]),
+                new EdDSACOSEKey(null, COSEAlgorithmIdentifier.EdDSA, null, Curve.ED25519, new byte[32], new byte[32]),
+                new RSACOSEKey(null, COSEAlgorithmIdentifier.RS256, null, new byte[256], new byte[3], new byte[256], null, null, null, null, null)
+        );
+        for (COSEKey coseKey : unusualKeys) {
+            ByteBuffer buffer = ByteBuffer.wrap(objectConverter.getCborMapper().writeValueAsBytes(coseKey));
+
+            assertThat(COSEKeyDecoder.decode(buffer)).isNull();
+            assertThat(buffer.position()).isZero();
+            assertThat(attestedCredentialDataConverter.convertToCredentialPublicKey(buffer)).isEqualTo(coseKey);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+    }
+
+    /**
+     * Differential test: for mutated encodings, whenever {@link COSEKeyDecoder} accepts the input, Jackson must decode
+     * the same key with the same length.
+     */
+    @Test
+    void decode_agrees_with_jackson_on_mutated_input_test() {
+        Random random = new Random(20240601L);
+        List<COSEKey> seeds = createCommonKeys(random);
+        int accepted = 0;
+        for (int i = 0; i < 20000; i++) {
+            COSEKey seed = seeds.get(random.nextInt(seeds.size()));
+            byte[] input = mutate(objectConverter.getCborMapper().writeValueAsBytes(seed), random);
+
+            COSEKey fast = COSEKeyDecoder.decode(ByteBuffer.wrap(input));
+            if (fast == null) {
+                continue;
+            }
+            accepted++;
+            COSEKeyEnvelope reference = attestedCredentialDataConverter.convertToCredentialPublicKey(new ByteArrayInputStream(input));
+            ByteBuffer buffer = ByteBuffer.wrap(input);
+            COSEKeyDecoder.decode(buffer);
+            assertThat(fast).as("input %s", Arrays.toString(input)).isEqualTo(reference.getCOSEKey());
+            assertThat(buffer.position()).as("input %s", Arrays.toString(input)).isEqualTo(reference.getLength());
+        }
+        assertThat(accepted).isPositive();
+    }
+
+    private List<COSEKey> createCommonKeys(Random random) {
+        List<COSEKey> keys = new ArrayList<>();
+        keys.add(new EC2COSEKey(null, COSEAlgorithmIdentifier.ES256, null, Curve.SECP256R1, randomBytes(random, 32), randomBytes(random, 32)));
+        keys.add(new EC2COSEKey(null, COSEAlgorithmIdentifier.ES384, null, Curve.SECP384R1, randomBytes(random, 48), randomBytes(random, 48)));
+        keys.add(new EC2COSEKey(null, COSEAlgorithmIdentifier.ES512, null, Curve.SECP521R1, randomBytes(random, 66), randomBytes(random, 66)));
+        keys.add(new EdDSACOSEKey(null, COSEAlgorithmIdentifier.EdDSA, null, Curve.ED25519, randomBytes(random, 32), null));
+        keys.add(new RSACOSEKey(null, COSEAlgorithmIdentifier.RS256, null, randomBytes(random, 256), new byte[]{1, 0, 1}));
+        keys.add(new RSACOSEKey(null, COSEAlgorithmIdentifier.RS1, null, randomBytes(random, 512), new byte[]{1, 0, 1}));
+        keys.add(new EC2COSEKey(null, null, null, Curve.SECP256R1, randomBytes(random, 32), randomBytes(random, 32)));
+        return keys;
+    }
+
+    private byte[] mutate(byte[] encoded, Random random) {
+        byte[] input = encoded.clone();
+        switch (random.nextInt(4)) {
+            case 0:
+                // flip bytes in the map header and first labels, where the structure is decided
+                int count = 1 + random.nextInt(3);
+                for (int i = 0; i < count; i++) {
+                    input[random.nextInt(Math.min(input.length, 12))] = (byte) random.nextInt(256);
+                }
+                return input;
+            case 1:
+                input[random.nextInt(input.length)] = (byte) random.nextInt(256);
+                return input;
+            case 2:
+                return Arrays.copyOf(input, random.nextInt(input.length));
+            default:
+                byte[] extended = Arrays.copyOf(input, input.length + 1 + random.nextInt(8));
+                for (int i = input.length; i < extended.length; i++) {
+                    extended[i] = (byte) random.nextInt(256);
+                }
+                return extended;
+        }
+    }
+
+    private byte[] randomBytes(Random random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.AttestationStatementEnvelope;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.test.TestAttestationStatementUtil;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialRecordCodecTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final CredentialRecordCodec target = new CredentialRecordCodec(objectConverter);
+
+    @Test
+    void encode_decode_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+
+        CredentialRecordImpl decoded = target.decode(target.encode(credentialRecord));
+
+        assertThat(decoded.getCounter()).isEqualTo(credentialRecord.getCounter());
+        assertThat(decoded.isUvInitialized()).isTrue();
+        assertThat(decoded.isBackupEligible()).isFalse();
+        assertThat(decoded.isBackedUp()).isNull();
+        assertThat(decoded.getTransports()).containsExactlyInAnyOrderElementsOf(credentialRecord.getTransports());
+        assertThat(decoded.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(decoded.getAttestationStatement()).isEqualTo(credentialRecord.getAttestationStatement());
+        assertThat(decoded.getAuthenticatorExtensions()).isEqualTo(credentialRecord.getAuthenticatorExtensions());
+        assertThat(decoded.getClientData()).isEqualTo(credentialRecord.getClientData());
+        assertThat(decoded.getClientExtensions()).isEqualTo(credentialRecord.getClientExtensions());
+        assertThat(decoded).isEqualTo(credentialRecord).hasSameHashCodeAs(credentialRecord);
+    }
+
+    @Test
+    void encode_decode_absent_fields_test() {
+        CredentialRecord credentialRecord = new CredentialRecordImpl(null, null, null, null, 0L,
+                TestDataUtil.createAttestedCredentialData(), null, null, null, null);
+
+        CredentialRecordImpl decoded = target.decode(target.encode(credentialRecord));
+
+        assertThat(decoded.isUvInitialized()).isNull();
+        assertThat(decoded.isBackupEligible()).isNull();
+        assertThat(decoded.isBackedUp()).isNull();
+        assertThat(decoded.getTransports()).isNull();
+        assertThat(decoded.getAttestationStatement()).isNull();
+        assertThat(decoded.getAuthenticatorExtensions()).isNull();
+        assertThat(decoded.getClientData()).isNull();
+        assertThat(decoded.getClientExtensions()).isNull();
+        assertThat(decoded.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(decoded).isEqualTo(credentialRecord);
+    }
+
+    @Test
+    void decode_invalid_attestation_statement_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        byte[] encoded = target.encode(credentialRecord);
+        byte[] attestationStatementBytes = objectConverter.getCborMapper().writeValueAsBytes(
+                new AttestationStatementEnvelope(credentialRecord.getAttestationStatement()));
+        int attestationStatementOffset = indexOf(encoded, attestationStatementBytes);
+        encoded[attestationStatementOffset] = (byte) 0xFF; // corrupt the CBOR map header of the attestation statement
+
+        assertThatThrownBy(() -> target.decode(encoded)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void decode_attestedCredentialData_with_trailing_bytes_test() {
+        CredentialRecord credentialRecord = new CredentialRecordImpl(null, null, null, null, 0L,
+                TestDataUtil.createAttestedCredentialData(), null, null, null, null);
+        byte[] encoded = target.encode(credentialRecord);
+        // version, flags, counter and the absent transports marker precede the attestedCredentialData section
+        int sectionOffset = 1 + 1 + 4 + 1;
+        int sectionLength = ByteBuffer.wrap(encoded, sectionOffset, 4).getInt();
+        int sectionEnd = sectionOffset + 4 + sectionLength;
+        ByteBuffer invalid = ByteBuffer.allocate(encoded.length + 1)
+                .put(encoded, 0, sectionOffset)
+                .putInt(sectionLength + 1)
+                .put(encoded, sectionOffset + 4, sectionLength)
+                .put((byte) 0x00)
+                .put(encoded, sectionEnd, encoded.length - sectionEnd);
+
+        assertThatThrownBy(() -> target.decode(invalid.array()))
+                .isInstanceOf(DataConversionException.class)
+                .hasMessageContaining("trailing");
+    }
+
+    @Test
+    void decoded_record_is_mutable_test() {
+        CredentialRecordImpl decoded = target.decode(target.encode(createCredentialRecord()));
+        AttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement();
+
+        decoded.setCounter(100L);
+        decoded.setBackedUp(true);
+        decoded.setAttestationStatement(attestationStatement);
+
+        CredentialRecordImpl reloaded = target.decode(target.encode(decoded));
+        assertThat(reloaded.getCounter()).isEqualTo(100L);
+        assertThat(reloaded.isBackedUp()).isTrue();
+        assertThat(reloaded.getAttestationStatement()).isEqualTo(attestationStatement);
+        assertThat(reloaded).isEqualTo(decoded).hasSameHashCodeAs(decoded);
+    }
+
+    @Test
+    void decodeForAuthentication_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+
+        CredentialRecord decoded = target.decodeForAuthentication(target.encode(credentialRecord));
+
+        assertThat(decoded.getCounter()).isEqualTo(credentialRecord.getCounter());
+        assertThat(decoded.isUvInitialized()).isTrue();
+        assertThat(decoded.isBackupEligible()).isFalse();
+        assertThat(decoded.isBackedUp()).isNull();
+        assertThat(decoded.getTransports()).containsExactlyElementsOf(credentialRecord.getTransports());
+        assertThat(decoded.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(decoded.getAttestationStatement()).isEqualTo(credentialRecord.getAttestationStatement());
+        assertThat(decoded.getAuthenticatorExtensions()).isEqualTo(credentialRecord.getAuthenticatorExtensions());
+        assertThat(decoded.getClientData()).isEqualTo(credentialRecord.getClientData());
+        assertThat(decoded.getClientExtensions()).isEqualTo(credentialRecord.getClientExtensions());
+        assertThat(decoded.getAttestationStatement()).isSameAs(decoded.getAttestationStatement());
+        assertThat(target.decode(target.encode(decoded))).isEqualTo(credentialRecord);
+    }
+
+    @Test
+    void decodeForAuthentication_defers_attestation_statement_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        byte[] encoded = target.encode(credentialRecord);
+        byte[] attestationStatementBytes = objectConverter.getCborMapper().writeValueAsBytes(
+                new AttestationStatementEnvelope(credentialRecord.getAttestationStatement()));
+        encoded[indexOf(encoded, attestationStatementBytes)] = (byte) 0xFF; // corrupt the CBOR map header of the attestation statement
+
+        CredentialRecord decoded = target.decodeForAuthentication(encoded);
+
+        assertThat(decoded.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(decoded.getClientData()).isEqualTo(credentialRecord.getClientData());
+        assertThatThrownBy(decoded::getAttestationStatement).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void decodeForAuthentication_record_is_mutable_test() {
+        CredentialRecord decoded = target.decodeForAuthentication(target.encode(createCredentialRecord()));
+
+        decoded.setCounter(100L);
+        decoded.setBackedUp(true);
+
+        CredentialRecordImpl reloaded = target.decode(target.encode(decoded));
+        assertThat(reloaded.getCounter()).isEqualTo(100L);
+        assertThat(reloaded.isBackedUp()).isTrue();
+    }
+
+    @Test
+    void decodeForAuthentication_invalid_layout_test() {
+        byte[] encoded = target.encode(createCredentialRecord());
+
+        for (byte[] invalid : List.of(Arrays.copyOf(encoded, encoded.length - 1), Arrays.copyOf(encoded, encoded.length + 1), Arrays.copyOf(encoded, 10))) {
+            assertThatThrownBy(() -> target.decodeForAuthentication(invalid)).isInstanceOf(DataConversionException.class);
+        }
+    }
+
+    @Test
+    void decode_unsupported_version_test() {
+        byte[] encoded = target.encode(createCredentialRecord());
+        encoded[0] = 2;
+
+        assertThatThrownBy(() -> target.decode(encoded))
+                .isInstanceOf(DataConversionException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void decode_invalid_layout_test() {
+        byte[] encoded = target.encode(createCredentialRecord());
+
+        for (byte[] invalid : List.of(Arrays.copyOf(encoded, encoded.length - 1), Arrays.copyOf(encoded, encoded.length + 1), Arrays.copyOf(encoded, 10))) {
+            assertThatThrownBy(() -> target.decode(invalid)).isInstanceOf(DataConversionException.class);
+        }
+    }
+
+    private CredentialRecord createCredentialRecord() {
+        AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration();
+        builder.setUvm(new UvmEntries());
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions = builder.build();
+        CollectedClientData clientData = TestDataUtil.createClientData(ClientDataType.WEBAUTHN_CREATE);
+        AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions = new AuthenticationExtensionsClientOutputs<>();
+        Set<AuthenticatorTransport> transports = new LinkedHashSet<>(List.of(AuthenticatorTransport.USB, AuthenticatorTransport.HYBRID, AuthenticatorTransport.create("custom")));
+        return new CredentialRecordImpl(
+                TestAttestationStatementUtil.createFIDOU2FAttestationStatement(),
+                true,
+                false,
+                null,
+                0xFFFFFFFFL,
+                TestDataUtil.createAttestedCredentialData(),
+                authenticatorExtensions,
+                clientData,
+                clientExtensions,
+                transports
+        );
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalArgumentException("not found");
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import com.webauthn4j.test.credential.SignCountStoreContractTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySignCountStoreTest extends SignCountStoreContractTest {
+
+    @Override
+    protected SignCountStore createSignCountStore() {
+        return new InMemorySignCountStore();
+    }
+
+    @Test
+    void remove_test() {
+        InMemorySignCountStore target = new InMemorySignCountStore();
+        target.compareAndSetSignCount(new byte[]{0x01}, 0, 5);
+
+        target.remove(new byte[]{0x01});
+
+        assertThat(target.getSignCount(new byte[]{0x01}, 3)).isEqualTo(3);
+    }
+
+}
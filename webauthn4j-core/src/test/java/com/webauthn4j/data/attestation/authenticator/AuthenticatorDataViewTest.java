@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.attestation.authenticator;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.UserVerificationMethodExtensionAuthenticatorOutput;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for AuthenticatorDataView
+ */
+class AuthenticatorDataViewTest {
+
+    private static final String ASSERTION_AUTHENTICATOR_DATA = "49960DE5880E8C687434170F6476605B8FE4AEB9A28632C7995CF3BA831D97630500000102";
+
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(new ObjectConverter());
+
+    @Test
+    void fixed_length_fields_test() {
+        byte[] source = HexUtil.decode(ASSERTION_AUTHENTICATOR_DATA);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> target = authenticatorDataConverter.convertToView(source);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> expected = authenticatorDataConverter.convert(source);
+
+        assertThat(target.getRpIdHash()).isEqualTo(expected.getRpIdHash());
+        assertThat(target.rpIdHashEquals(expected.getRpIdHash())).isTrue();
+        assertThat(target.rpIdHashEquals(new byte[32])).isFalse();
+        assertThat(target.rpIdHashEquals(Arrays.copyOf(expected.getRpIdHash(), 31))).isFalse();
+        assertThat(target.getFlags()).isEqualTo(expected.getFlags());
+        assertThat(target.isFlagUP()).isTrue();
+        assertThat(target.isFlagUV()).isTrue();
+        assertThat(target.isFlagAT()).isFalse();
+        assertThat(target.isFlagED()).isFalse();
+        assertThat(target.getSignCount()).isEqualTo(258L);
+        assertThat(target.hasAttestedCredentialData()).isFalse();
+        assertThat(target.getExtensions()).isEqualTo(expected.getExtensions());
+        assertThat(target.toAuthenticatorData()).isEqualTo(expected);
+        assertThat(target.getBytes()).isEqualTo(source).isNotSameAs(source);
+    }
+
+    @Test
+    void getSignCount_unsigned_test() {
+        byte[] source = new byte[37];
+        Arrays.fill(source, 33, 37, (byte) 0xFF);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> target = authenticatorDataConverter.convertToView(source);
+
+        assertThat(target.getSignCount()).isEqualTo(0xFFFFFFFFL);
+    }
+
+    @Test
+    void getExtensions_decodes_lazily_test() {
+        AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication();
+        builder.setUvm(new UvmEntries());
+        byte[] source = authenticatorDataConverter.convert(new AuthenticatorData<>(new byte[32], (byte) (BIT_UP | BIT_ED), 1, builder.build()));
+        byte[] corrupted = Arrays.copyOf(source, source.length + 1);
+
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> target = authenticatorDataConverter.convertToView(source);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> corruptedTarget = authenticatorDataConverter.convertToView(corrupted);
+
+        assertThat(target.getExtensions().getKeys()).contains(UserVerificationMethodExtensionAuthenticatorOutput.ID);
+        assertThat(target.getExtensions()).isSameAs(target.getExtensions());
+        assertThat(corruptedTarget.getSignCount()).isEqualTo(1L);
+        assertThatThrownBy(corruptedTarget::getExtensions).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void apple_app_attest_assertion_test() {
+        byte[] source = new byte[37];
+        source[32] = BIT_AT;
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> target = authenticatorDataConverter.convertToView(source);
+
+        assertThat(target.isFlagAT()).isTrue();
+        assertThat(target.hasAttestedCredentialData()).isFalse();
+        assertThat(target.getExtensions().getKeys()).isEmpty();
+    }
+
+    @Test
+    void too_short_test() {
+        byte[] source = new byte[36];
+        assertThatThrownBy(() -> authenticatorDataConverter.convertToView(source)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void surplus_bytes_without_AT_and_ED_test() {
+        byte[] source = new byte[38];
+        source[32] = BIT_UP;
+        assertThatThrownBy(() -> authenticatorDataConverter.convertToView(source)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void equals_hashCode_test() {
+        byte[] source = HexUtil.decode(ASSERTION_AUTHENTICATOR_DATA);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> instanceA = authenticatorDataConverter.convertToView(source);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> instanceB = authenticatorDataConverter.convertToView(source.clone());
+
+        assertThat(instanceA)
+                .isEqualTo(instanceB)
+                .hasSameHashCodeAs(instanceB);
+    }
+}
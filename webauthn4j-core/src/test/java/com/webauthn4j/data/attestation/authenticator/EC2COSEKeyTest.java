@@ -325,6 +325,34 @@ class EC2COSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_memoized_instance_test() {
+        // Given
+        EC2COSEKey target = EC2COSEKey.create((ECPublicKey) ECUtil.createKeyPair().getPublic());
+
+        // When
+        PublicKey first = target.getPublicKey();
+        PublicKey second = target.getPublicKey();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void memoized_publicKey_is_not_serialized_test() {
+        // Given
+        EC2COSEKey original = EC2COSEKey.create((ECPublicKey) ECUtil.createKeyPair().getPublic(), COSEAlgorithmIdentifier.ES256);
+        original.getPublicKey();
+
+        // When
+        byte[] data = cborMapper.writeValueAsBytes(original);
+        EC2COSEKey restored = cborMapper.readValue(data, EC2COSEKey.class);
+
+        // Then
+        assertThat(restored).isEqualTo(original);
+        assertThat(restored.getPublicKey()).isEqualTo(original.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         // Given
@@ -34,6 +34,16 @@ class EdDSACOSEKeyTest {
         assertThat(coseKey.getPublicKey().getEncoded()).isEqualTo(keyPair.getPublic().getEncoded());
     }
 
+    @Test
+    void getPublicKey_returns_memoized_instance_test(){
+        // Given
+        COSEKey coseKey = EdDSACOSEKey.create((EdECPublicKey) EdDSAUtil.createKeyPair().getPublic());
+
+        // When
+        // Then
+        assertThat(coseKey.getPublicKey()).isSameAs(coseKey.getPublicKey());
+    }
+
     @Test
     void privateKey_test(){
         // Given
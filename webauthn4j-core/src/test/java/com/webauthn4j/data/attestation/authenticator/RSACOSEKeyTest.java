@@ -230,6 +230,16 @@ class RSACOSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_memoized_instance_test() {
+        // Given
+        RSACOSEKey target = RSACOSEKey.create((RSAPublicKey) RSAUtil.createKeyPair().getPublic());
+
+        // When
+        // Then
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         // Given
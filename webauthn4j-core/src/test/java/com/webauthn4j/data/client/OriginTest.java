@@ -98,6 +98,16 @@ class OriginTest {
     }
 
 
+    @Test
+    void create_returns_interned_instance_test() {
+        Origin origin = Origin.create("https://interned.example.com");
+        assertAll(
+                () -> assertThat(Origin.create("https://interned.example.com")).isSameAs(origin),
+                () -> assertThat(Origin.create("https://INTERNED.example.com")).isNotSameAs(origin).isEqualTo(origin),
+                () -> assertThat(new Origin("https://interned.example.com")).isNotSameAs(origin).isEqualTo(origin).hasSameHashCodeAs(origin)
+        );
+    }
+
     @Test
     void create_with_null_test() {
         assertThrows(IllegalArgumentException.class,
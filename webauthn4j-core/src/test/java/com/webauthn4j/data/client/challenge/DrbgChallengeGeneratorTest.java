@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DrbgChallengeGeneratorTest {
+
+    @Test
+    void generate_test() {
+        DrbgChallengeGenerator target = new DrbgChallengeGenerator();
+        Set<Challenge> challenges = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            challenges.add(target.generate());
+        }
+        assertThat(challenges).hasSize(1000);
+        assertThat(target.generate().getValue()).hasSize(DrbgChallengeGenerator.DEFAULT_LENGTH);
+    }
+
+    @Test
+    void generate_with_custom_length_test() {
+        DrbgChallengeGenerator target = new DrbgChallengeGenerator(64);
+        assertThat(target.getLength()).isEqualTo(64);
+        assertThat(target.generate().getValue()).hasSize(64);
+    }
+
+    @Test
+    void constructor_with_too_short_length_test() {
+        assertThatThrownBy(() -> new DrbgChallengeGenerator(15)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
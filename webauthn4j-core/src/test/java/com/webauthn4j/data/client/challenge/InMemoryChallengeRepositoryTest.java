@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.client.challenge;
+
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.server.ServerProperty;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryChallengeRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final InMemoryChallengeRepository target = new InMemoryChallengeRepository(new DrbgChallengeGenerator(), Duration.ofMinutes(1), now::get);
+
+    @Test
+    void issue_and_consume_test() {
+        Challenge challenge = target.issue("session");
+
+        assertThat(target.consume("session")).isEqualTo(challenge);
+        assertThat(target.consume("session")).isNull();
+        assertThat(target.consume("unknown")).isNull();
+    }
+
+    @Test
+    void issue_replaces_previous_challenge_test() {
+        target.issue("session");
+        Challenge challenge = target.issue("session");
+
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.consume("session")).isEqualTo(challenge);
+    }
+
+    @Test
+    void consume_expired_challenge_test() {
+        target.issue("session");
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(target.consume("session")).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void issue_sweeps_expired_challenges_test() {
+        for (int i = 0; i < 100; i++) {
+            target.issue("session-" + i);
+        }
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+        for (int i = 0; i < 100; i++) {
+            target.issue("other-" + i);
+        }
+
+        assertThat(target.size()).isEqualTo(100);
+    }
+
+    @Test
+    void consume_hands_out_challenge_only_once_under_contention_test() throws Exception {
+        int threads = 8;
+        target.issue("session");
+        AtomicInteger consumed = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    barrier.await();
+                    if (target.consume("session") != null) {
+                        consumed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(consumed).hasValue(1);
+    }
+
+    @Test
+    void consumed_challenge_feeds_ServerProperty_test() {
+        Challenge challenge = target.issue("session");
+
+        ServerProperty serverProperty = ServerProperty.builder()
+                .origin(new Origin("https://example.com"))
+                .rpId("example.com")
+                .challenge(target.consume("session"))
+                .build();
+
+        assertThat(serverProperty.getChallenge()).isEqualTo(challenge);
+    }
+
+}
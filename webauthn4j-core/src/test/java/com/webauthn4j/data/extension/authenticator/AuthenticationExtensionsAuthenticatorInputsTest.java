@@ -180,4 +180,12 @@ class AuthenticationExtensionsAuthenticatorInputsTest {
         assertThat(instance.getUvm()).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void empty_test() {
+        AuthenticationExtensionsAuthenticatorInputs<RegistrationExtensionAuthenticatorInput> target = AuthenticationExtensionsAuthenticatorInputs.empty();
+        assertThat(target.getKeys()).isEmpty();
+        assertThat(target).isEqualTo(new AuthenticationExtensionsAuthenticatorInputs<>());
+        assertThat(AuthenticationExtensionsAuthenticatorInputs.<RegistrationExtensionAuthenticatorInput>empty()).isSameAs(target);
+    }
+
+}
@@ -33,6 +33,7 @@ import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SuppressWarnings("ConstantConditions")
 class AuthenticationExtensionsAuthenticatorOutputsTest {
@@ -144,6 +145,24 @@ class AuthenticationExtensionsAuthenticatorOutputsTest {
         assertThat(serialized).isEqualTo(testData);
     }
 
+    @Test
+    void deserialize_keeps_unknown_extension_test() {
+        CBORMapper cborMapper = new ObjectConverter().getCborMapper();
+        AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication();
+        builder.setHMACGetSecret(new byte[32]);
+        builder.set("unknown", Collections.singletonMap("nested", "value"));
+        AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> expected = builder.build();
+        byte[] testData = cborMapper.writeValueAsBytes(expected);
+
+        AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> target = cborMapper.readValue(testData, new TypeReference<>() {});
+
+        assertThat(target.getKeys()).containsExactlyInAnyOrder("hmac-secret", "unknown");
+        assertThat(target.getHMACGetSecret()).isEqualTo(new byte[32]);
+        assertThat(target.getValue("unknown")).isEqualTo(Collections.singletonMap("nested", "value"));
+        assertThat(target).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(cborMapper.writeValueAsBytes(target)).isEqualTo(testData);
+    }
+
     @Test
     void getValue_unknown_key_types_test() {
         AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration();
@@ -158,4 +177,25 @@ class AuthenticationExtensionsAuthenticatorOutputsTest {
         assertThat(target.getValue("absent")).isNull();
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    void getKeys_is_cached_and_unmodifiable_test() {
+        AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForAuthentication();
+        builder.setHMACGetSecret(new byte[32]);
+        builder.set("unknown", 1);
+        AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> target = builder.build();
+
+        assertThat(target.getKeys()).isSameAs(target.getKeys());
+        assertThatThrownBy(() -> target.getKeys().add("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(target.getExtensions()).hasSize(1);
+    }
+
+    @Test
+    void empty_test() {
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> target = AuthenticationExtensionsAuthenticatorOutputs.empty();
+        assertThat(target.getKeys()).isEmpty();
+        assertThat(target).isEqualTo(new AuthenticationExtensionsAuthenticatorOutputs<>());
+        assertThat(AuthenticationExtensionsAuthenticatorOutputs.<RegistrationExtensionAuthenticatorOutput>empty()).isSameAs(target);
+    }
+
 }
@@ -244,4 +244,12 @@ class AuthenticationExtensionsClientInputsTest {
         assertThat(target.getValue("absent")).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void empty_test() {
+        AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput> target = AuthenticationExtensionsClientInputs.empty();
+        assertThat(target.getKeys()).isEmpty();
+        assertThat(target).isEqualTo(new AuthenticationExtensionsClientInputs<>());
+        assertThat(AuthenticationExtensionsClientInputs.<RegistrationExtensionClientInput>empty()).isSameAs(target);
+    }
+
+}
@@ -200,4 +200,25 @@ class AuthenticationExtensionsClientOutputsTest {
         assertThat(target.getValue("absent")).isNull();
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    void getKeys_is_cached_and_unmodifiable_test() {
+        AuthenticationExtensionsClientOutputs.BuilderForAuthentication builder = new AuthenticationExtensionsClientOutputs.BuilderForAuthentication();
+        builder.setAppid(true);
+        builder.set("unknown", 1);
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> target = builder.build();
+
+        assertThat(target.getKeys()).isSameAs(target.getKeys());
+        assertThatThrownBy(() -> target.getKeys().add("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(target.getExtensions()).hasSize(1);
+    }
+
+    @Test
+    void empty_test() {
+        AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> target = AuthenticationExtensionsClientOutputs.empty();
+        assertThat(target.getKeys()).isEmpty();
+        assertThat(target).isEqualTo(new AuthenticationExtensionsClientOutputs<>());
+        assertThat(AuthenticationExtensionsClientOutputs.<RegistrationExtensionClientOutput>empty()).isSameAs(target);
+    }
+
 }
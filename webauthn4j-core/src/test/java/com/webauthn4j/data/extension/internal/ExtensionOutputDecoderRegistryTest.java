@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.data.extension.internal;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.HMACSecretAuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.HMACSecretRegistrationExtensionAuthenticatorOutput;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExtensionOutputDecoderRegistryTest {
+
+    private final ObjectMapper mapper = new ObjectConverter().getCborMapper();
+
+    private final ExtensionOutputDecoderRegistry<ExtensionAuthenticatorOutput> target = ExtensionOutputDecoderRegistry.<ExtensionAuthenticatorOutput>builder()
+            .register("hmac-secret", HMACSecretRegistrationExtensionAuthenticatorOutput.class, JsonToken::isBoolean,
+                    parser -> new HMACSecretRegistrationExtensionAuthenticatorOutput(parser.getBooleanValue()))
+            .register("hmac-secret", HMACSecretAuthenticationExtensionAuthenticatorOutput.class, token -> !token.isBoolean(),
+                    parser -> new HMACSecretAuthenticationExtensionAuthenticatorOutput(parser.readValueAs(byte[].class)))
+            .build();
+
+    @Test
+    void decode_picks_decoder_matching_value_token_test() {
+        ObjectNode rawData = mapper.createObjectNode();
+        rawData.put("hmac-secret", true);
+        rawData.put("unknown", 1);
+
+        DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decoded = decode(rawData);
+
+        Map<Class<? extends ExtensionAuthenticatorOutput>, ExtensionAuthenticatorOutput> extensions = decoded.getExtensions();
+        assertThat(extensions).containsOnlyKeys(HMACSecretRegistrationExtensionAuthenticatorOutput.class);
+        assertThat(((HMACSecretRegistrationExtensionAuthenticatorOutput) extensions.get(HMACSecretRegistrationExtensionAuthenticatorOutput.class)).getValue()).isTrue();
+        assertThat(decoded.getKeys()).containsExactly("hmac-secret", "unknown");
+    }
+
+    @Test
+    void decode_keeps_unknown_and_null_values_as_raw_bytes_test() {
+        ObjectNode rawData = mapper.createObjectNode();
+        rawData.putNull("hmac-secret");
+        rawData.putObject("unknown").put("nested", 1);
+
+        DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decoded = decode(rawData);
+
+        assertThat(decoded.getExtensions()).isEmpty();
+        assertThat(decoded.readRawValue("unknown", mapper)).isEqualTo(Map.of("nested", 1));
+        assertThat(decoded.readRawValue("hmac-secret", mapper)).isNull();
+        assertThat(decoded.toObjectNode(mapper)).isEqualTo(rawData);
+        assertThat(decode(mapper.createObjectNode()).getExtensions()).isEmpty();
+    }
+
+    @Test
+    void decode_leaves_parser_on_end_of_map_test() {
+        ObjectNode rawData = mapper.createObjectNode();
+        rawData.put("hmac-secret", new byte[32]);
+        rawData.putObject("unknown").putArray("nested").add(1).add(2);
+        byte[] bytes = mapper.writeValueAsBytes(List.of(rawData, "next"));
+
+        try (JsonParser parser = mapper.createParser(bytes)) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+            parser.nextToken();
+            DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decoded = target.decode(parser, mapper);
+
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.VALUE_STRING);
+            assertThat(decoded.getExtensions()).containsOnlyKeys(HMACSecretAuthenticationExtensionAuthenticatorOutput.class);
+            assertThat(decoded.toObjectNode(mapper)).isEqualTo(rawData);
+        }
+    }
+
+    @Test
+    void decode_passes_only_the_extension_value_to_decoder_test() {
+        List<Object> received = new ArrayList<>();
+        ExtensionOutputDecoderRegistry<ExtensionAuthenticatorOutput> registry = ExtensionOutputDecoderRegistry.<ExtensionAuthenticatorOutput>builder()
+                .register("hmac-secret", HMACSecretRegistrationExtensionAuthenticatorOutput.class, parser -> {
+                    received.add(parser.currentToken());
+                    return new HMACSecretRegistrationExtensionAuthenticatorOutput(parser.getBooleanValue());
+                })
+                .build();
+        ObjectNode rawData = mapper.createObjectNode();
+        rawData.put("hmac-secret", false);
+        rawData.putObject("other").put("nested", 1);
+
+        registry.decode(mapper.treeAsTokens(rawData), mapper);
+
+        assertThat(received).containsExactly(JsonToken.VALUE_FALSE);
+    }
+
+    @Test
+    void decode_non_map_test() {
+        assertThatThrownBy(() -> target.decode(mapper.createParser(mapper.writeValueAsBytes(List.of())), mapper))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void getKeys_test() {
+        assertThat(target.getKeys()).containsExactly("hmac-secret");
+    }
+
+    @Test
+    void isRegistered_test() {
+        assertThat(target.isRegistered(HMACSecretAuthenticationExtensionAuthenticatorOutput.class)).isTrue();
+        assertThat(target.isRegistered(ExtensionAuthenticatorOutput.class)).isFalse();
+    }
+
+    private DecodedExtensionOutputs<ExtensionAuthenticatorOutput> decode(ObjectNode rawData) {
+        try (JsonParser parser = mapper.createParser(mapper.writeValueAsBytes(rawData))) {
+            return target.decode(parser, mapper);
+        }
+    }
+
+}
@@ -16,10 +16,14 @@
 
 package com.webauthn4j.data.jws;
 
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.ECUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.util.Collections;
@@ -57,6 +61,56 @@ class JWSFactoryTest {
         assertThatThrownBy(() -> target.create(header, payload, privateKey)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void parse_bytes_test() {
+        JWS<Payload> jws = createSignedJWS();
+        byte[] bytes = jws.toString().getBytes(StandardCharsets.US_ASCII);
+
+        JWS<Payload> parsed = target.parse(bytes, Payload.class);
+        JWS<Payload> parsedFromString = target.parse(jws.toString(), Payload.class);
+        assertThat(parsed.getHeader()).isEqualTo(parsedFromString.getHeader());
+        assertThat(parsed.getPayload().getDummy()).isEqualTo("dummy");
+        assertThat(parsed.getSignature()).isEqualTo(parsedFromString.getSignature());
+        assertThat(parsed.isValidSignature()).isTrue();
+        assertThat(parsedFromString.isValidSignature()).isTrue();
+        assertThat(parsed).hasToString(jws.toString());
+        assertThat(parsed.getBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void parse_InputStream_test() {
+        JWS<Payload> jws = createSignedJWS();
+        JWS<Payload> parsed = target.parse(new ByteArrayInputStream(jws.getBytes()), Payload.class);
+        assertThat(parsed.getPayload().getDummy()).isEqualTo("dummy");
+        assertThat(parsed.isValidSignature()).isTrue();
+    }
+
+    @Test
+    void parse_bytes_with_tampered_payload_test() {
+        String value = createSignedJWS().toString();
+        String[] segments = value.split("\\.");
+        String tamperedPayload = Base64UrlUtil.encodeToString("{\"dummy\":\"tampered\"}".getBytes(StandardCharsets.UTF_8));
+        String tampered = segments[0] + "." + tamperedPayload + "." + segments[2];
+
+        JWS<Payload> parsed = target.parse(tampered.getBytes(StandardCharsets.US_ASCII), Payload.class);
+        assertThat(parsed.getPayload().getDummy()).isEqualTo("tampered");
+        assertThat(parsed.isValidSignature()).isFalse();
+    }
+
+    @Test
+    void parse_bytes_without_two_periods_test() {
+        byte[] onePeriod = "abc.def".getBytes(StandardCharsets.US_ASCII);
+        byte[] threePeriods = "abc.def.ghi.jkl".getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> target.parse(onePeriod, Payload.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> target.parse(threePeriods, Payload.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private JWS<Payload> createSignedJWS() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        return target.create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey());
+    }
 
     private static class Payload {
         private String dummy;
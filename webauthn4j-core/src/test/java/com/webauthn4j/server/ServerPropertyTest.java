@@ -20,6 +20,7 @@ import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,38 @@ class ServerPropertyTest {
         multipleOrigins = new HashSet<>(Arrays.asList(webApp1Origin, webApp2Origin, apk1Origin, apk2Origin));
     }
 
+    @Test
+    void getRpIdHash_test() {
+        // Given
+        ServerProperty serverProperty = ServerProperty.builder().origin(webApp1Origin).rpId(RP_ID).challenge(challenge).build();
+        byte[] expected = MessageDigestUtil.createSHA256().digest(RP_ID.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        byte[] rpIdHash = serverProperty.getRpIdHash();
+        rpIdHash[0] ^= 0x01;
+
+        // Then
+        assertThat(serverProperty.getRpIdHash()).isEqualTo(expected);
+        assertThat(serverProperty.rpIdHashEquals(expected)).isTrue();
+        assertThat(serverProperty.rpIdHashEquals(rpIdHash)).isFalse();
+        assertThat(serverProperty.rpIdHashEquals((byte[]) null)).isFalse();
+    }
+
+    @Test
+    void rpIdHashEquals_with_offset_test() {
+        // Given
+        ServerProperty serverProperty = ServerProperty.builder().origin(webApp1Origin).rpId(RP_ID).challenge(challenge).build();
+        byte[] expected = MessageDigestUtil.createSHA256().digest(RP_ID.getBytes(StandardCharsets.UTF_8));
+        byte[] source = new byte[expected.length + 5];
+        System.arraycopy(expected, 0, source, 2, expected.length);
+
+        // Then
+        assertThat(serverProperty.rpIdHashEquals(source, 2)).isTrue();
+        assertThat(serverProperty.rpIdHashEquals(source, 0)).isFalse();
+        assertThat(serverProperty.rpIdHashEquals(source, 6)).isFalse();
+        assertThat(serverProperty.rpIdHashEquals(source, -1)).isFalse();
+    }
+
     @Test
     void nullRpIdShouldThrowException() {
         // Given
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompletionStageUtilTest {
+
+    @Test
+    void supply_without_executor_runs_inline_test() {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> future = CompletionStageUtil.supply(Thread::currentThread, null).toCompletableFuture();
+        assertThat(future).isCompletedWithValue(caller);
+    }
+
+    @Test
+    void supply_with_executor_test() {
+        AtomicInteger executions = new AtomicInteger();
+        Executor executor = command -> {
+            executions.incrementAndGet();
+            command.run();
+        };
+        CompletableFuture<String> future = CompletionStageUtil.supply(() -> "value", executor).toCompletableFuture();
+        assertThat(future).isCompletedWithValue("value");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void supply_with_rejecting_executor_test() {
+        Executor executor = command -> {
+            throw new RejectedExecutionException();
+        };
+        CompletableFuture<String> future = CompletionStageUtil.supply(() -> "value", executor).toCompletableFuture();
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void compose_with_executor_test() {
+        Executor executor = Runnable::run;
+        CompletableFuture<String> future = CompletionStageUtil.compose(() -> CompletableFuture.completedFuture("value"), executor).toCompletableFuture();
+        assertThat(future).isCompletedWithValue("value");
+    }
+
+    @Test
+    void compose_with_executor_and_failing_supplier_test() {
+        Executor executor = Runnable::run;
+        CompletableFuture<String> future = CompletionStageUtil.<String>compose(() -> {
+            throw new IllegalStateException();
+        }, executor).toCompletableFuture();
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void supply_with_failing_supplier_completes_with_same_exception_in_both_modes_test(boolean useExecutor) {
+        IllegalStateException exception = new IllegalStateException();
+        Executor executor = useExecutor ? Runnable::run : null;
+        CompletableFuture<String> future = CompletionStageUtil.<String>supply(() -> {
+            throw exception;
+        }, executor).toCompletableFuture();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        future.whenComplete((result, throwable) -> failure.set(throwable));
+        assertThat(failure.get()).isSameAs(exception);
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCause(exception);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void compose_with_failing_supplier_completes_with_same_exception_in_both_modes_test(boolean useExecutor) {
+        IllegalStateException exception = new IllegalStateException();
+        Executor executor = useExecutor ? Runnable::run : null;
+        CompletableFuture<String> future = CompletionStageUtil.<String>compose(() -> {
+            throw exception;
+        }, executor).toCompletableFuture();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        future.whenComplete((result, throwable) -> failure.set(throwable));
+        assertThat(failure.get()).isSameAs(exception);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void compose_with_failed_stage_completes_with_same_exception_in_both_modes_test(boolean useExecutor) {
+        IllegalStateException exception = new IllegalStateException();
+        Executor executor = useExecutor ? Runnable::run : null;
+        CompletableFuture<String> future = CompletionStageUtil.<String>compose(() -> CompletableFuture.failedFuture(exception), executor).toCompletableFuture();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        future.whenComplete((result, throwable) -> failure.set(throwable));
+        assertThat(failure.get()).isSameAs(exception);
+    }
+}
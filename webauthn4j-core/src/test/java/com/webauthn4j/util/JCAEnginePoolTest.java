@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECPublicKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JCAEnginePoolTest {
+
+    @AfterEach
+    void tearDown() {
+        JCAEnginePool.setEnabled(true);
+        JCAEnginePool.clear();
+    }
+
+    @Test
+    void poll_returns_offered_instance_test() {
+        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
+        JCAEnginePool.MESSAGE_DIGESTS.offer("pool-test", messageDigest);
+
+        assertThat(JCAEnginePool.MESSAGE_DIGESTS.poll("pool-test")).isSameAs(messageDigest);
+        assertThat(JCAEnginePool.MESSAGE_DIGESTS.poll("pool-test")).isNull();
+    }
+
+    @Test
+    void idle_instances_are_bounded_test() {
+        for (int i = 0; i < JCAEnginePool.MAX_IDLE_INSTANCES_PER_ALGORITHM + 10; i++) {
+            JCAEnginePool.MESSAGE_DIGESTS.offer("pool-test", MessageDigestUtil.createSHA256());
+        }
+
+        assertThat(JCAEnginePool.MESSAGE_DIGESTS.idleCount("pool-test")).isEqualTo(JCAEnginePool.MAX_IDLE_INSTANCES_PER_ALGORITHM);
+    }
+
+    @Test
+    void createPublicKey_reuses_key_factory_test() {
+        ECPublicKey publicKey = (ECPublicKey) ECUtil.createKeyPair().getPublic();
+        ECPublicKeySpec spec = new ECPublicKeySpec(publicKey.getW(), publicKey.getParams());
+        JCAEnginePool.clear();
+
+        assertThat(ECUtil.createPublicKey(spec)).isEqualTo(publicKey);
+        assertThat(ECUtil.createPublicKey(spec)).isEqualTo(publicKey);
+        assertThat(JCAEnginePool.KEY_FACTORIES.idleCount("EC")).isEqualTo(1);
+    }
+
+    @Test
+    void setEnabled_false_discards_and_stops_pooling_test() {
+        JCAEnginePool.MESSAGE_DIGESTS.offer("pool-test", MessageDigestUtil.createSHA256());
+
+        JCAEnginePool.setEnabled(false);
+        JCAEnginePool.MESSAGE_DIGESTS.offer("pool-test", MessageDigestUtil.createSHA256());
+
+        assertThat(JCAEnginePool.isEnabled()).isFalse();
+        assertThat(JCAEnginePool.MESSAGE_DIGESTS.idleCount("pool-test")).isZero();
+        assertThat(JCAEnginePool.MESSAGE_DIGESTS.poll("pool-test")).isNull();
+    }
+}
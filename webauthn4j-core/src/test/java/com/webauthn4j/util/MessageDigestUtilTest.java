@@ -18,6 +18,7 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,4 +52,26 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void digest_test() {
+        byte[] data1 = "data1".getBytes(StandardCharsets.UTF_8);
+        byte[] data2 = "data2".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = MessageDigestUtil.createSHA256().digest("data1data2".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThat(MessageDigestUtil.digest("SHA-256", data1, data2)).isEqualTo(expected),
+                () -> assertThat(MessageDigestUtil.digest("S256", data1, data2)).isEqualTo(expected),
+                () -> assertThat(MessageDigestUtil.digestSHA256(data1, data2)).isEqualTo(expected),
+                // pooled instances must start from a clean state
+                () -> assertThat(MessageDigestUtil.digestSHA256(data1, data2)).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void digest_test_with_wrong_arg() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MessageDigestUtil.digest("wrong-arg", new byte[0])
+        );
+    }
 }
@@ -16,9 +16,15 @@
 
 package com.webauthn4j.util;
 
+import com.webauthn4j.data.SignatureAlgorithm;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.Signature;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -60,4 +66,73 @@ class SignatureUtilTest {
         }
 
     }
+
+    @Nested
+    class verifyTest {
+
+        private final byte[] data1 = "data1".getBytes(StandardCharsets.UTF_8);
+        private final byte[] data2 = "data2".getBytes(StandardCharsets.UTF_8);
+
+        @Test
+        void verify_concatenated_data_test() throws Exception {
+            KeyPair keyPair = ECUtil.createKeyPair();
+            byte[] signature = sign(SignatureAlgorithm.ES256, keyPair.getPrivate(), data1, data2);
+
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature, data1, data2)).isTrue();
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature, data2, data1)).isFalse();
+        }
+
+        @Test
+        void verify_PS256_test() throws Exception {
+            KeyPair keyPair = RSAUtil.createKeyPair();
+            byte[] signature = sign(SignatureAlgorithm.PS256, keyPair.getPrivate(), data1);
+
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.PS256, keyPair.getPublic(), signature, data1)).isTrue();
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.PS256, keyPair.getPublic(), signature, data1)).isTrue();
+        }
+
+        @Test
+        void verify_returns_instance_to_pool_test() throws Exception {
+            KeyPair keyPair = RSAUtil.createKeyPair();
+            byte[] signature = sign(SignatureAlgorithm.RS256, keyPair.getPrivate(), data1);
+            JCAEnginePool.clear();
+
+            SignatureUtil.verify(SignatureAlgorithm.RS256, keyPair.getPublic(), signature, data1);
+
+            assertThat(JCAEnginePool.SIGNATURES.idleCount(SignatureAlgorithm.RS256)).isEqualTo(1);
+        }
+
+        @Test
+        void verify_with_another_key_after_invalid_signature_test() throws Exception {
+            KeyPair keyPair1 = ECUtil.createKeyPair();
+            KeyPair keyPair2 = ECUtil.createKeyPair();
+            byte[] signature = sign(SignatureAlgorithm.ES256, keyPair2.getPrivate(), data1);
+
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair1.getPublic(), signature, data1)).isFalse();
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair2.getPublic(), signature, data1)).isTrue();
+        }
+
+        @Test
+        void verify_with_pooling_disabled_test() throws Exception {
+            KeyPair keyPair = ECUtil.createKeyPair();
+            byte[] signature = sign(SignatureAlgorithm.ES256, keyPair.getPrivate(), data1);
+            try {
+                JCAEnginePool.setEnabled(false);
+
+                assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature, data1)).isTrue();
+                assertThat(JCAEnginePool.SIGNATURES.idleCount(SignatureAlgorithm.ES256)).isZero();
+            } finally {
+                JCAEnginePool.setEnabled(true);
+            }
+        }
+
+        private byte[] sign(SignatureAlgorithm algorithm, PrivateKey privateKey, byte[]... data) throws Exception {
+            Signature signature = SignatureUtil.createSignature(algorithm);
+            signature.initSign(privateKey);
+            for (byte[] item : data) {
+                signature.update(item);
+            }
+            return signature.sign();
+        }
+    }
 }
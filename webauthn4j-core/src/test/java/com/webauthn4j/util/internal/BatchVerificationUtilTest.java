@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.data.BatchVerificationResult;
+import com.webauthn4j.verifier.exception.BadChallengeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchVerificationUtilTest {
+
+    @Test
+    void verifyAll_collects_results_in_order_without_failing_fast_test() {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<BatchVerificationResult<Integer>> results = BatchVerificationUtil.verifyAll(Arrays.asList(1, 2, 3, 4), item -> {
+                if (item % 2 == 0) {
+                    throw new BadChallengeException("bad challenge: " + item);
+                }
+                return item * 10;
+            }, executorService);
+
+            assertThat(results).hasSize(4);
+            assertThat(results.get(0).getValue()).isEqualTo(10);
+            assertThat(results.get(1).getException()).isInstanceOf(BadChallengeException.class).hasMessage("bad challenge: 2");
+            assertThat(results.get(2).getValue()).isEqualTo(30);
+            assertThat(results.get(3).isSuccess()).isFalse();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void verifyAll_with_rejecting_executor_test() {
+        List<BatchVerificationResult<Integer>> results = BatchVerificationUtil.verifyAll(Arrays.asList(1, 2), item -> item, command -> {
+            throw new RejectedExecutionException();
+        });
+        assertThat(results).allSatisfy(result -> assertThat(result.getException()).isInstanceOf(RejectedExecutionException.class));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+    @Test
+    void computeIfAbsent_computes_once_test() {
+        BoundedCache<String, String> target = new BoundedCache<>(10);
+        AtomicInteger counter = new AtomicInteger();
+
+        String first = target.computeIfAbsent("key", key -> key + counter.incrementAndGet());
+        String second = target.computeIfAbsent("key", key -> key + counter.incrementAndGet());
+
+        assertThat(first).isEqualTo("key1");
+        assertThat(second).isSameAs(first);
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void size_is_bounded_test() {
+        BoundedCache<Integer, Integer> target = new BoundedCache<>(10);
+
+        for (int i = 0; i < 100; i++) {
+            target.computeIfAbsent(i, key -> key);
+        }
+        target.put(100, 100);
+
+        assertThat(target.size()).isEqualTo(10);
+        assertThat(target.get(100)).isEqualTo(100);
+    }
+
+    @Test
+    void remove_and_clear_test() {
+        BoundedCache<String, String> target = new BoundedCache<>(10);
+        target.put("key1", "value1");
+        target.put("key2", "value2");
+
+        target.remove("key1");
+        assertThat(target.get("key1")).isNull();
+        assertThat(target.get("key2")).isEqualTo("value2");
+
+        target.clear();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void constructor_with_invalid_maxSize_test() {
+        assertThatThrownBy(() -> new BoundedCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util.internal;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.CoreRegistrationParameters;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.verifier.CoreRegistrationObject;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedDataAccessTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @Test
+    void authenticationData_arrays_are_shared_test() {
+        byte[] authenticatorDataBytes = new byte[]{0x01, 0x02, 0x03};
+        byte[] clientDataHash = new byte[32];
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(null, null, authenticatorDataBytes, clientDataHash, null);
+
+        assertThat(SignedDataAccess.getAuthenticatorDataBytes(authenticationData))
+                .isEqualTo(authenticatorDataBytes)
+                .isSameAs(SignedDataAccess.getAuthenticatorDataBytes(authenticationData))
+                .isNotSameAs(authenticationData.getAuthenticatorDataBytes());
+        assertThat(SignedDataAccess.getClientDataHash(authenticationData))
+                .isEqualTo(clientDataHash)
+                .isSameAs(SignedDataAccess.getClientDataHash(authenticationData));
+    }
+
+    @Test
+    void registrationObject_arrays_are_shared_test() {
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] attestationObjectBytes = new AttestationObjectConverter(objectConverter).convertToBytes(attestationObject);
+        byte[] clientDataHash = new byte[32];
+        CoreRegistrationObject registrationObject = new CoreRegistrationObject(attestationObject, attestationObjectBytes, clientDataHash,
+                new CoreRegistrationParameters(TestDataUtil.createServerProperty(), false));
+
+        byte[] authenticatorDataBytes = SignedDataAccess.getAuthenticatorDataBytes(registrationObject);
+        assertThat(authenticatorDataBytes)
+                .isEqualTo(registrationObject.getAuthenticatorDataBytes())
+                .isSameAs(SignedDataAccess.getAuthenticatorDataBytes(registrationObject))
+                .isNotSameAs(registrationObject.getAuthenticatorDataBytes());
+        assertThat(SignedDataAccess.getClientDataHash(registrationObject))
+                .isEqualTo(clientDataHash)
+                .isSameAs(SignedDataAccess.getClientDataHash(registrationObject));
+    }
+
+    @Test
+    void authenticatorDataView_bytes_are_shared_test() {
+        byte[] authenticatorDataBytes = new AuthenticatorDataConverter(objectConverter).convert(TestDataUtil.createAuthenticatorData());
+        AuthenticatorDataView<?> authenticatorDataView = new AuthenticatorDataConverter(objectConverter).convertToView(authenticatorDataBytes);
+
+        assertThat(SignedDataAccess.getAuthenticatorDataBytes(authenticatorDataView))
+                .isEqualTo(authenticatorDataBytes)
+                .isSameAs(SignedDataAccess.getAuthenticatorDataBytes(authenticatorDataView))
+                .isNotSameAs(authenticatorDataView.getBytes());
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.webauthn4j.verifier;
 
+import com.webauthn4j.credential.InMemorySignCountStore;
+import com.webauthn4j.credential.SignCountStore;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +36,9 @@ class CoreAuthenticationDataVerifierTest {
         CoreMaliciousCounterValueHandler coreMaliciousCounterValueHandler = new DefaultCoreMaliciousCounterValueHandler();
         coreAuthenticationDataVerifier.setMaliciousCounterValueHandler(coreMaliciousCounterValueHandler);
         assertThat(coreAuthenticationDataVerifier.getMaliciousCounterValueHandler()).isEqualTo(coreMaliciousCounterValueHandler);
+        SignCountStore signCountStore = new InMemorySignCountStore();
+        coreAuthenticationDataVerifier.setSignCountStore(signCountStore);
+        assertThat(coreAuthenticationDataVerifier.getSignCountStore()).isEqualTo(signCountStore);
     }
 
 }
\ No newline at end of file
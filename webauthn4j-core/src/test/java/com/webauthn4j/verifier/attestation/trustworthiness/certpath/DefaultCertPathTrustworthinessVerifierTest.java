@@ -27,9 +27,13 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
@@ -39,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 class DefaultCertPathTrustworthinessVerifierTest {
@@ -116,6 +121,140 @@ class DefaultCertPathTrustworthinessVerifierTest {
     }
 
 
+    @Test
+    void verify_reflects_setting_changes_after_first_verification_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        target.verify(aaguid, attestationStatement);
+
+        // test certificates carry no revocation information, so the cached PKIX parameters must not be reused
+        target.setRevocationCheckEnabled(true);
+        assertThrows(CertificateException.class,
+                () -> target.verify(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void pkixParameters_template_is_kept_per_settings_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        try (MockedStatic<CertificateUtil> mock = Mockito.mockStatic(CertificateUtil.class, Mockito.CALLS_REAL_METHODS)) {
+            target.verify(aaguid, attestationStatement);
+            target.verify(aaguid, attestationStatement);
+            mock.verify(() -> CertificateUtil.createPKIXParameters(any()), times(1));
+
+            target.setRevocationCheckEnabled(true);
+            assertThrows(CertificateException.class,
+                    () -> target.verify(aaguid, attestationStatement)
+            );
+            mock.verify(() -> CertificateUtil.createPKIXParameters(any()), times(2));
+
+            // the template of the former settings is still there
+            target.setRevocationCheckEnabled(false);
+            target.verify(aaguid, attestationStatement);
+            mock.verify(() -> CertificateUtil.createPKIXParameters(any()), times(2));
+        }
+    }
+
+    @Test
+    void validationResultCache_is_disabled_by_default_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        assertThat(target.getCachedValidationResultCount()).isZero();
+    }
+
+    @Test
+    void validationResultCache_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+        target.setValidationResultCacheSize(16);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        target.verify(aaguid, attestationStatement);
+        assertThat(target.getCachedValidationResultCount()).isEqualTo(1);
+
+        // validation settings are part of the cache key
+        target.setPolicyQualifiersRejected(true);
+        target.verify(aaguid, attestationStatement);
+        assertThat(target.getCachedValidationResultCount()).isEqualTo(2);
+    }
+
+    @Test
+    void validationResultCache_hit_skips_cert_path_validation_test() {
+
+        // the repository builds new, equal anchors on every lookup, as the metadata based repositories do
+        when(trustAnchorRepository.find((AAGUID) any())).thenAnswer(invocation -> CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        target.setValidationResultCacheSize(16);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        try (MockedStatic<CertificateUtil> mock = Mockito.mockStatic(CertificateUtil.class, Mockito.CALLS_REAL_METHODS)) {
+            target.verify(aaguid, attestationStatement);
+            target.verify(aaguid, attestationStatement);
+            mock.verify(() -> CertificateUtil.validateCertPath(any(), any()), times(1));
+
+            // a changed trust anchor set must not hit the entry of the previous set
+            when(trustAnchorRepository.find((AAGUID) any())).thenAnswer(invocation -> CertificateUtil.generateTrustAnchors(
+                    Arrays.asList(TestAttestationUtil.load3tierTestRootCACertificate(), TestAttestationUtil.load2tierTestRootCACertificate())));
+            target.verify(aaguid, attestationStatement);
+            mock.verify(() -> CertificateUtil.validateCertPath(any(), any()), times(2));
+        }
+        assertThat(target.getCachedValidationResultCount()).isEqualTo(2);
+    }
+
+    @Test
+    void validationResultCache_still_checks_timestamp_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+        target.setValidationResultCacheSize(16);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        Instant expired = Instant.parse("2200-01-01T00:00:00Z");
+        assertThrows(CertificateException.class,
+                () -> target.verify(aaguid, attestationStatement, expired)
+        );
+    }
+
+    @Test
+    void validationResultCache_with_zero_ttl_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+        target.setValidationResultCacheSize(16);
+        target.setValidationResultCacheTTL(Duration.ZERO);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        target.verify(aaguid, attestationStatement);
+        assertThat(target.getCachedValidationResultCount()).isEqualTo(1);
+    }
+
+    @Test
+    void setValidationResultCacheSize_with_negative_value_test() {
+        assertThrows(IllegalArgumentException.class, () -> target.setValidationResultCacheSize(-1));
+    }
+
     @Test
     void getter_setter_test() {
         target.setFullChainProhibited(true);
@@ -124,6 +263,10 @@ class DefaultCertPathTrustworthinessVerifierTest {
         assertThat(target.isPolicyQualifiersRejected()).isTrue();
         target.setRevocationCheckEnabled(true);
         assertThat(target.isRevocationCheckEnabled()).isTrue();
+        target.setValidationResultCacheSize(8);
+        assertThat(target.getValidationResultCacheSize()).isEqualTo(8);
+        target.setValidationResultCacheTTL(Duration.ofMinutes(5));
+        assertThat(target.getValidationResultCacheTTL()).isEqualTo(Duration.ofMinutes(5));
     }
 
     @Test
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.verifier.exception.BadSignatureException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AssertionSignatureVerifierTest {
+
+    private static final byte[] CUSTOM_SIGNED_DATA = "custom signed data".getBytes(StandardCharsets.UTF_8);
+
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(new ObjectConverter());
+    private final EC2COSEKey credentialKey = EC2COSEKey.create(ECUtil.createKeyPair(), COSEAlgorithmIdentifier.ES256);
+    private final AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = TestDataUtil.createAuthenticatorData();
+    private final byte[] authenticatorDataBytes = authenticatorDataConverter.convert(authenticatorData);
+    private final byte[] clientDataHash = MessageDigestUtil.digestSHA256("clientData".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void verify_test() {
+        byte[] signature = TestDataUtil.calculateSignature(credentialKey, concat(authenticatorDataBytes, clientDataHash));
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+
+        assertThatCode(() -> target.verify(createAuthenticationData(signature), credentialKey)).doesNotThrowAnyException();
+        assertThatCode(() -> target.verify(createAuthenticatorDataView(), clientDataHash, signature, credentialKey)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_with_invalid_signature_test() {
+        byte[] signature = TestDataUtil.calculateSignature(credentialKey, CUSTOM_SIGNED_DATA);
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+
+        assertThatThrownBy(() -> target.verify(createAuthenticationData(signature), credentialKey)).isInstanceOf(BadSignatureException.class);
+        assertThatThrownBy(() -> target.verify(createAuthenticatorDataView(), clientDataHash, signature, credentialKey)).isInstanceOf(BadSignatureException.class);
+    }
+
+    @Test
+    void overridden_deprecated_getSignedData_is_honored_test() {
+        byte[] signature = TestDataUtil.calculateSignature(credentialKey, CUSTOM_SIGNED_DATA);
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier() {
+            @SuppressWarnings("deprecation")
+            @Override
+            protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
+                return CUSTOM_SIGNED_DATA;
+            }
+        };
+
+        assertThatCode(() -> target.verify(createAuthenticationData(signature), credentialKey)).doesNotThrowAnyException();
+        assertThatCode(() -> target.verify(createAuthenticatorDataView(), clientDataHash, signature, credentialKey)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void subclass_overriding_getSignedDataParts_is_honored_test() {
+        byte[] signature = TestDataUtil.calculateSignature(credentialKey, CUSTOM_SIGNED_DATA);
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier() {
+            @Override
+            protected @NotNull byte[][] getSignedDataParts(@NotNull byte[] authenticatorData, @NotNull byte[] clientDataHash) {
+                return new byte[][]{CUSTOM_SIGNED_DATA};
+            }
+        };
+
+        assertThatCode(() -> target.verify(createAuthenticationData(signature), credentialKey)).doesNotThrowAnyException();
+        assertThatCode(() -> target.verify(createAuthenticatorDataView(), clientDataHash, signature, credentialKey)).doesNotThrowAnyException();
+    }
+
+    private CoreAuthenticationData createAuthenticationData(byte[] signature) {
+        return new CoreAuthenticationData(new byte[32], authenticatorData, authenticatorDataBytes, clientDataHash, signature);
+    }
+
+    private AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> createAuthenticatorDataView() {
+        return authenticatorDataConverter.convertToView(authenticatorDataBytes);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] bytes = new byte[first.length + second.length];
+        System.arraycopy(first, 0, bytes, 0, first.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+}
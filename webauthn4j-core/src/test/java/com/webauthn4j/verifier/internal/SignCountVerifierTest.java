@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.credential.InMemorySignCountStore;
+import com.webauthn4j.credential.SignCountStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignCountVerifierTest {
+
+    private static final byte[] CREDENTIAL_ID = new byte[]{0x01, 0x02};
+
+    private final SignCountStore signCountStore = new InMemorySignCountStore();
+
+    @Test
+    void advance_stores_increased_counter_test() {
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 1, 2)).isTrue();
+        assertThat(signCountStore.getSignCount(CREDENTIAL_ID, 0)).isEqualTo(2);
+    }
+
+    @Test
+    void advance_rejects_counter_not_increased_over_recorded_counter_test() {
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 5, 5)).isFalse();
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 5, 4)).isFalse();
+        assertThat(signCountStore.getSignCount(CREDENTIAL_ID, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void advance_rejects_counter_not_increased_over_stored_counter_test() {
+        SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 0, 10);
+
+        // a stale record must not let an already used counter through
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 0, 10)).isFalse();
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 0, 11)).isTrue();
+    }
+
+    @Test
+    void advance_accepts_zero_counters_without_storing_test() {
+        assertThat(SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 0, 0)).isTrue();
+        assertThat(signCountStore.getSignCount(CREDENTIAL_ID, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void advance_accepts_only_one_of_concurrent_assertions_with_same_counter_test() throws Exception {
+        int threads = 8;
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    barrier.await();
+                    if (SignCountVerifier.advance(signCountStore, CREDENTIAL_ID, 3, 4)) {
+                        accepted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(accepted).hasValue(1);
+    }
+
+}
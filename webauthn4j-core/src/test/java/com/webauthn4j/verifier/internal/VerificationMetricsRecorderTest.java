@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationStep;
+import com.webauthn4j.verifier.exception.BadSignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerificationMetricsRecorderTest {
+
+    private final List<VerificationMetrics> reported = new ArrayList<>();
+
+    @Test
+    void start_without_observer_test() {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(null, VerificationMetrics.Ceremony.REGISTRATION);
+        assertThat(recorder).isNull();
+        assertThatCode(() -> VerificationMetricsRecorder.step(recorder, VerificationStep.FLAGS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void complete_test() {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(reported::add, VerificationMetrics.Ceremony.AUTHENTICATION);
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
+        VerificationMetricsRecorder.step(recorder, VerificationStep.COUNTER);
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
+        recorder.complete();
+        recorder.complete();
+
+        assertThat(reported).hasSize(1);
+        VerificationMetrics metrics = reported.get(0);
+        assertThat(metrics.getCeremony()).isEqualTo(VerificationMetrics.Ceremony.AUTHENTICATION);
+        assertThat(metrics.getStepDurations()).containsOnlyKeys(VerificationStep.SIGNATURE, VerificationStep.COUNTER);
+        assertThat(metrics.getStepDurations().keySet()).containsExactly(VerificationStep.SIGNATURE, VerificationStep.COUNTER);
+        assertThat(metrics.isSuccess()).isTrue();
+        assertThat(metrics.getFailedStep()).isNull();
+        assertThat(metrics.getFailureType()).isNull();
+    }
+
+    @Test
+    void fail_unwraps_CompletionException_test() {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(reported::add, VerificationMetrics.Ceremony.AUTHENTICATION);
+        VerificationMetricsRecorder.step(recorder, VerificationStep.SIGNATURE);
+        recorder.fail(new CompletionException(new BadSignatureException("dummy")));
+
+        VerificationMetrics metrics = reported.get(0);
+        assertThat(metrics.isSuccess()).isFalse();
+        assertThat(metrics.getFailedStep()).isEqualTo(VerificationStep.SIGNATURE);
+        assertThat(metrics.getFailureType()).isEqualTo(BadSignatureException.class);
+    }
+
+    @Test
+    void observeParse_test() {
+        assertThat(VerificationMetricsRecorder.observeParse(reported::add, VerificationMetrics.Ceremony.REGISTRATION, () -> "parsed")).isEqualTo("parsed");
+        assertThatThrownBy(() -> VerificationMetricsRecorder.observeParse(reported::add, VerificationMetrics.Ceremony.REGISTRATION, () -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(reported).hasSize(2);
+        assertThat(reported.get(0).getStepDurations()).containsOnlyKeys(VerificationStep.PARSE);
+        assertThat(reported.get(0).isSuccess()).isTrue();
+        assertThat(reported.get(1).getFailedStep()).isEqualTo(VerificationStep.PARSE);
+        assertThat(reported.get(1).getFailureType()).isEqualTo(IllegalArgumentException.class);
+    }
+
+    @Test
+    void observer_exception_is_not_propagated_test() {
+        VerificationMetricsRecorder recorder = VerificationMetricsRecorder.start(metrics -> {
+            throw new IllegalStateException();
+        }, VerificationMetrics.Ceremony.REGISTRATION);
+        assertThatCode(recorder::complete).doesNotThrowAnyException();
+    }
+}
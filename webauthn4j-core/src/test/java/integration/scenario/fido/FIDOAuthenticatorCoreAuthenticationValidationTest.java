@@ -20,9 +20,11 @@ import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.InMemorySignCountStore;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
@@ -37,9 +39,17 @@ import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.test.client.ClientPlatform;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.CoreAuthenticationDataVerifier;
+import com.webauthn4j.verifier.CoreAuthenticationObject;
+import com.webauthn4j.verifier.exception.BadRpIdException;
+import com.webauthn4j.verifier.exception.BadSignatureException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SuppressWarnings("ConstantConditions")
 class FIDOAuthenticatorCoreAuthenticationValidationTest {
@@ -99,6 +109,96 @@ class FIDOAuthenticatorCoreAuthenticationValidationTest {
         target.verify(coreAuthenticationData, authenticationParameters);
     }
 
+    @Test
+    void validate_with_authenticator_data_view_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getResponse();
+
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> authenticatorDataView = authenticatorDataConverter.convertToView(authenticationRequest.getAuthenticatorData());
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(authenticationRequest.getClientDataJSON());
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                authenticator,
+                null,
+                true
+        );
+        AuthenticationParameters badRpIdParameters = new AuthenticationParameters(
+                new ServerProperty(origin, "bad.example.com", challenge, null),
+                authenticator,
+                null,
+                true
+        );
+        byte[] badSignature = authenticationRequest.getSignature();
+        badSignature[badSignature.length - 1] ^= 0x01;
+
+        target.verify(credential.getRawId(), authenticatorDataView, clientDataHash, authenticationRequest.getSignature(), authenticationParameters);
+        assertThat(authenticator.getCounter()).isEqualTo(authenticatorDataView.getSignCount());
+        assertThatThrownBy(() -> target.verify(credential.getRawId(), authenticatorDataView, clientDataHash, authenticationRequest.getSignature(), badRpIdParameters))
+                .isInstanceOf(BadRpIdException.class);
+        assertThatThrownBy(() -> target.verify(credential.getRawId(), authenticatorDataView, clientDataHash, badSignature, authenticationParameters))
+                .isInstanceOf(BadSignatureException.class);
+    }
+
+    @Test
+    void validate_with_authenticator_data_view_and_signCountStore_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getResponse();
+
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+        AuthenticatorDataView<AuthenticationExtensionAuthenticatorOutput> authenticatorDataView = authenticatorDataConverter.convertToView(authenticationRequest.getAuthenticatorData());
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(authenticationRequest.getClientDataJSON());
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                authenticator,
+                null,
+                true
+        );
+        long storedSignCount = authenticator.getCounter();
+
+        List<CoreAuthenticationObject> detected = new ArrayList<>();
+        List<CoreAuthenticationObject> verified = new ArrayList<>();
+        CoreAuthenticationDataVerifier verifier = new CoreAuthenticationDataVerifier(Collections.singletonList(verified::add));
+        verifier.setSignCountStore(new InMemorySignCountStore());
+        verifier.setMaliciousCounterValueHandler(detected::add);
+
+        verifier.verify(credential.getRawId(), authenticatorDataView, clientDataHash, authenticationRequest.getSignature(), authenticationParameters);
+        assertThat(detected).isEmpty();
+        assertThat(verified).hasSize(1);
+        assertThat(authenticator.getCounter()).isEqualTo(storedSignCount);
+        assertThat(verifier.getSignCountStore().getSignCount(credential.getRawId(), storedSignCount)).isEqualTo(authenticatorDataView.getSignCount());
+
+        // replaying the same assertion is reported, and custom verifiers receive the object passed to the handler
+        verifier.verify(credential.getRawId(), authenticatorDataView, clientDataHash, authenticationRequest.getSignature(), authenticationParameters);
+        assertThat(detected).hasSize(1);
+        assertThat(verified).hasSize(2);
+        assertThat(verified.get(1)).isSameAs(detected.get(0));
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
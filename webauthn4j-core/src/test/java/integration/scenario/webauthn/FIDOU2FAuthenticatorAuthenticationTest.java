@@ -21,6 +21,7 @@ import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.InMemorySignCountStore;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
@@ -530,6 +531,67 @@ class FIDOU2FAuthenticatorAuthenticationTest {
         );
     }
 
+    @Test
+    void validate_assertion_replayed_with_sign_count_store_test() {
+        String rpId = "example.com";
+        long timeout = 0;
+        Challenge challenge = new DefaultChallenge();
+        WebAuthnManager webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+        InMemorySignCountStore signCountStore = new InMemorySignCountStore();
+        webAuthnManager.getAuthenticationDataVerifier().setSignCountStore(signCountStore);
+
+        // create
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        byte[] credentialId = attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId();
+
+        // get
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                timeout,
+                rpId,
+                Collections.singletonList(
+                        new PublicKeyCredentialDescriptor(
+                                PublicKeyCredentialType.PUBLIC_KEY,
+                                attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(),
+                                CollectionUtil.unmodifiableSet(AuthenticatorTransport.USB, AuthenticatorTransport.NFC, AuthenticatorTransport.BLE)
+                        )
+                ),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getResponse();
+
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+        long recordedCounter = authenticator.getCounter();
+
+        AuthenticationRequest authenticationRequest =
+                new AuthenticationRequest(
+                        credential.getRawId(),
+                        authenticatorAssertionResponse.getAuthenticatorData(),
+                        authenticatorAssertionResponse.getClientDataJSON(),
+                        authenticatorAssertionResponse.getSignature()
+                );
+        AuthenticationParameters authenticationParameters =
+                new AuthenticationParameters(
+                        serverProperty,
+                        authenticator,
+                        Collections.singletonList(credentialId),
+                        false,
+                        true
+                );
+        AuthenticationData authenticationData = webAuthnManager.verify(authenticationRequest, authenticationParameters);
+        long presentedCounter = authenticationData.getAuthenticatorData().getSignCount();
+
+        assertThat(signCountStore.getSignCount(credentialId, 0)).isEqualTo(presentedCounter);
+        assertThat(authenticator.getCounter()).isEqualTo(recordedCounter);
+        // the record still holds the old counter, but the store rejects the replayed counter
+        assertThrows(MaliciousCounterValueException.class,
+                () -> webAuthnManager.verify(authenticationRequest, authenticationParameters)
+        );
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         PublicKeyCredentialParameters publicKeyCredentialParameters
                 = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
@@ -32,20 +32,26 @@ import com.webauthn4j.test.EmulatorUtil;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.test.authenticator.webauthn.WebAuthnAuthenticatorAdaptor;
 import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationStep;
 import com.webauthn4j.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.none.NoneAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.packed.PackedAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
 import com.webauthn4j.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessVerifier;
+import com.webauthn4j.verifier.exception.BadChallengeException;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SuppressWarnings("ConstantConditions")
 class RegistrationResponseJSONVerificationTest {
@@ -113,6 +119,58 @@ class RegistrationResponseJSONVerificationTest {
         assertThatCode(()->target.verifyRegistrationResponseJSON(new ByteArrayInputStream(registrationResponseJSON), registrationParameters)).doesNotThrowAnyException();
     }
 
+    @Test
+    void verificationObserver_test() {
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = createCredential();
+        String registrationResponseJSON = objectConverter.getJsonMapper().writeValueAsString(credential);
+        RegistrationParameters registrationParameters = new RegistrationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                null,
+                false
+        );
+        List<VerificationMetrics> reported = new ArrayList<>();
+        target.setVerificationObserver(reported::add);
+
+        target.verifyRegistrationResponseJSON(registrationResponseJSON, registrationParameters);
+
+        assertThat(reported).hasSize(2);
+        VerificationMetrics parse = reported.get(0);
+        assertThat(parse.getCeremony()).isEqualTo(VerificationMetrics.Ceremony.REGISTRATION);
+        assertThat(parse.getStepDurations()).containsOnlyKeys(VerificationStep.PARSE);
+        assertThat(parse.isSuccess()).isTrue();
+        VerificationMetrics verification = reported.get(1);
+        assertThat(verification.isSuccess()).isTrue();
+        assertThat(verification.getFailedStep()).isNull();
+        assertThat(verification.getAttestationFormat()).isEqualTo("none");
+        assertThat(verification.getAlgorithm()).isEqualTo(COSEAlgorithmIdentifier.ES256);
+        assertThat(verification.getAaguid()).isNotNull();
+        assertThat(verification.getStepDurations()).containsKeys(
+                VerificationStep.CLIENT_DATA,
+                VerificationStep.RP_ID_HASH,
+                VerificationStep.FLAGS,
+                VerificationStep.ALGORITHM,
+                VerificationStep.ATTESTATION_STATEMENT,
+                VerificationStep.ATTESTATION_TRUSTWORTHINESS,
+                VerificationStep.CREDENTIAL_ID,
+                VerificationStep.EXTENSIONS,
+                VerificationStep.CUSTOM_VERIFIERS);
+        assertThat(verification.getStepDurations()).doesNotContainKey(VerificationStep.PARSE);
+
+        reported.clear();
+        RegistrationParameters badChallengeParameters = new RegistrationParameters(
+                new ServerProperty(origin, rpId, new DefaultChallenge(), null),
+                null,
+                false
+        );
+        assertThatThrownBy(() -> target.verifyRegistrationResponseJSON(registrationResponseJSON, badChallengeParameters)).isInstanceOf(BadChallengeException.class);
+        assertThat(reported).hasSize(2);
+        VerificationMetrics failed = reported.get(1);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getFailedStep()).isEqualTo(VerificationStep.CLIENT_DATA);
+        assertThat(failed.getFailureType()).isEqualTo(BadChallengeException.class);
+        assertThat(failed.getStepDurations()).doesNotContainKey(VerificationStep.ATTESTATION_STATEMENT);
+    }
+
     private PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> createCredential(){
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
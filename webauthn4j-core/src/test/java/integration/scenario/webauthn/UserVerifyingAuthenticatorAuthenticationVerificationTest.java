@@ -16,6 +16,7 @@
 
 package integration.scenario.webauthn;
 
+import com.webauthn4j.WebAuthnAuthenticationManager;
 import com.webauthn4j.WebAuthnManager;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
@@ -35,11 +36,17 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.EmulatorUtil;
 import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.VerificationMetrics;
+import com.webauthn4j.verifier.VerificationStep;
 import com.webauthn4j.verifier.exception.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -95,6 +102,118 @@ class UserVerifyingAuthenticatorAuthenticationVerificationTest {
         assertThatCode(()->target.verify(webAuthnAuthenticationRequest, authenticationParameters)).doesNotThrowAnyException();
     }
 
+    @Test
+    void verifyAll_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+
+        var credentialRecord = createCredentialRecord(rpId, challenge);
+        var credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        var publicKeyCredential = clientPlatform.get(credentialRequestOptions);
+
+        AuthenticationRequest webAuthnAuthenticationRequest = new AuthenticationRequest(
+                publicKeyCredential.getRawId(),
+                publicKeyCredential.getResponse().getAuthenticatorData(),
+                publicKeyCredential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(publicKeyCredential.getClientExtensionResults()),
+                publicKeyCredential.getResponse().getSignature()
+        );
+        AuthenticationParameters validParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                credentialRecord,
+                null,
+                true
+        );
+        AuthenticationParameters badChallengeParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, new DefaultChallenge(), null),
+                credentialRecord,
+                null,
+                true
+        );
+
+        WebAuthnAuthenticationManager webAuthnAuthenticationManager = new WebAuthnAuthenticationManager();
+        List<BatchVerificationResult<AuthenticationData>> results = webAuthnAuthenticationManager.verifyAll(Arrays.asList(
+                new BatchVerificationItem<>(webAuthnAuthenticationRequest, badChallengeParameters),
+                new BatchVerificationItem<>(webAuthnAuthenticationRequest, validParameters)
+        ));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getException()).isInstanceOf(BadChallengeException.class);
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(1).getValue()).isNotNull();
+    }
+
+    @Test
+    void verificationObserver_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+
+        var credentialRecord = createCredentialRecord(rpId, challenge);
+        var credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        var publicKeyCredential = clientPlatform.get(credentialRequestOptions);
+
+        AuthenticationRequest webAuthnAuthenticationRequest = new AuthenticationRequest(
+                publicKeyCredential.getRawId(),
+                publicKeyCredential.getResponse().getAuthenticatorData(),
+                publicKeyCredential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(publicKeyCredential.getClientExtensionResults()),
+                publicKeyCredential.getResponse().getSignature()
+        );
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                credentialRecord,
+                null,
+                true
+        );
+        AuthenticationParameters badRpIdParameters = new AuthenticationParameters(
+                new ServerProperty(origin, "another.example.net", challenge, null),
+                credentialRecord,
+                null,
+                true
+        );
+
+        List<VerificationMetrics> reported = new ArrayList<>();
+        WebAuthnAuthenticationManager webAuthnAuthenticationManager = new WebAuthnAuthenticationManager();
+        webAuthnAuthenticationManager.setVerificationObserver(reported::add);
+
+        assertThatThrownBy(() -> webAuthnAuthenticationManager.verify(webAuthnAuthenticationRequest, badRpIdParameters)).isInstanceOf(BadRpIdException.class);
+        webAuthnAuthenticationManager.verify(webAuthnAuthenticationRequest, authenticationParameters);
+
+        assertThat(reported).hasSize(4);
+        assertThat(reported).allMatch(metrics -> metrics.getCeremony() == VerificationMetrics.Ceremony.AUTHENTICATION);
+        VerificationMetrics failed = reported.get(1);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getFailedStep()).isEqualTo(VerificationStep.RP_ID_HASH);
+        assertThat(failed.getFailureType()).isEqualTo(BadRpIdException.class);
+        assertThat(failed.getStepDurations()).doesNotContainKey(VerificationStep.SIGNATURE);
+        VerificationMetrics succeeded = reported.get(3);
+        assertThat(succeeded.isSuccess()).isTrue();
+        assertThat(succeeded.getAttestationFormat()).isNull();
+        assertThat(succeeded.getAlgorithm()).isEqualTo(COSEAlgorithmIdentifier.ES256);
+        assertThat(succeeded.getAaguid()).isEqualTo(credentialRecord.getAttestedCredentialData().getAaguid());
+        assertThat(succeeded.getStepDurations()).containsKeys(VerificationStep.SIGNATURE, VerificationStep.COUNTER, VerificationStep.CUSTOM_VERIFIERS);
+        assertThat(succeeded.getTotalDuration()).isGreaterThanOrEqualTo(succeeded.getStepDuration(VerificationStep.SIGNATURE));
+
+        webAuthnAuthenticationManager.setVerificationObserver(null);
+        assertThatThrownBy(() -> webAuthnAuthenticationManager.verify(webAuthnAuthenticationRequest, badRpIdParameters)).isInstanceOf(BadRpIdException.class);
+        assertThat(reported).hasSize(4);
+    }
+
     @Test
     void should_success_when_token_binding_is_provided() {
         String rpId = "example.com";
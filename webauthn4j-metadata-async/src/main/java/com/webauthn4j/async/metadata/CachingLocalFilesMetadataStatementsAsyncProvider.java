@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.metadata;
+
+import com.webauthn4j.async.util.internal.FileAsyncUtil;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.MetadataCodecFallbackRegistrar;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataStatementFileWatcher;
+import com.webauthn4j.metadata.util.internal.MetadataStatementFiles;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link MetadataStatementsAsyncProvider} that parses local metadata statement files once and keeps them in memory.
+ * <p>
+ * This is the asynchronous counterpart of {@link com.webauthn4j.metadata.CachingLocalFilesMetadataStatementsProvider}.
+ * Changed files are read through {@link FileAsyncUtil}, and the reloaded state is swapped in with a compare-and-set.
+ * When two reloads race, the loser's files stay pending and are checked again on the next call. As in the synchronous
+ * provider, a file that was already loaded keeps its last good statement when it cannot be read or parsed again.
+ */
+public class CachingLocalFilesMetadataStatementsAsyncProvider implements MetadataStatementsAsyncProvider, MetadataStatementAsyncRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingLocalFilesMetadataStatementsAsyncProvider.class);
+
+    private final ObjectConverter objectConverter;
+    private final Set<Path> paths;
+    private final Set<Path> pendingPaths = ConcurrentHashMap.newKeySet();
+    private final Set<Path> failedPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<MetadataStatementFiles> metadataStatementFiles;
+
+    private volatile MetadataStatementFileWatcher metadataStatementFileWatcher;
+
+    public CachingLocalFilesMetadataStatementsAsyncProvider(@NotNull ObjectConverter objectConverter, @NotNull Path... paths) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(paths, "paths must not be null");
+        this.objectConverter = MetadataCodecFallbackRegistrar.registerFallbackMetadataCodecsIfNeeded(objectConverter);
+        MetadataStatementFiles initial = MetadataStatementFiles.create(paths);
+        this.metadataStatementFiles = new AtomicReference<>(initial);
+        this.paths = initial.getPaths();
+    }
+
+    @Override
+    public CompletableFuture<List<MetadataStatement>> provide() {
+        return getMetadataStatementFiles().thenApply(MetadataStatementFiles::getMetadataStatements);
+    }
+
+    /**
+     * Returns the metadata statements for the AAGUID. The returned set is shared and unmodifiable.
+     */
+    @Override
+    public CompletionStage<Set<MetadataStatement>> find(AAGUID aaguid) {
+        return getMetadataStatementFiles().thenApply(files -> files.getIndex().find(aaguid));
+    }
+
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier.
+     * The returned set is shared and unmodifiable.
+     */
+    @Override
+    public CompletionStage<Set<MetadataStatement>> find(byte[] attestationCertificateKeyIdentifier) {
+        return getMetadataStatementFiles().thenApply(files -> files.getIndex().find(attestationCertificateKeyIdentifier));
+    }
+
+    /**
+     * Sets the watch service that signals file changes. The parent directories of the tracked files are registered
+     * with it, and the caller remains responsible for closing it. Pass null to go back to checking the file
+     * attributes on every call.
+     *
+     * @param watchService watch service, or null
+     */
+    public void setWatchService(@Nullable WatchService watchService) {
+        this.metadataStatementFileWatcher = watchService == null ? null : new MetadataStatementFileWatcher(watchService, paths);
+        pendingPaths.addAll(paths);
+    }
+
+    private @NotNull CompletableFuture<MetadataStatementFiles> getMetadataStatementFiles() {
+        MetadataStatementFiles current = metadataStatementFiles.get();
+        MetadataStatementFileWatcher watcher = metadataStatementFileWatcher;
+        if (watcher == null) {
+            pendingPaths.addAll(current.findChangedPaths(paths));
+        }
+        else {
+            pendingPaths.addAll(watcher.pollChangedPaths());
+        }
+        if (pendingPaths.isEmpty() && current.isComplete()) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return reload(current);
+    }
+
+    private @NotNull CompletableFuture<MetadataStatementFiles> reload(@NotNull MetadataStatementFiles current) {
+        Set<Path> candidates = pendingPaths.isEmpty() ? paths : new HashSet<>(pendingPaths);
+        List<Path> changedPaths = new ArrayList<>(current.findChangedPaths(candidates));
+        List<CompletableFuture<MetadataStatementFiles.Entry>> futures = new ArrayList<>(changedPaths.size());
+        for (Path path : changedPaths) {
+            futures.add(load(path).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((unused, ignored) -> {
+            Map<Path, MetadataStatementFiles.Entry> loaded = new HashMap<>();
+            Set<Path> failed = new HashSet<>();
+            for (int i = 0; i < changedPaths.size(); i++) {
+                Path path = changedPaths.get(i);
+                try {
+                    loaded.put(path, futures.get(i).join());
+                } catch (CompletionException e) {
+                    if (!current.isLoaded(path)) {
+                        throw e;
+                    }
+                    if (failedPaths.add(path)) {
+                        logger.warn("Failed to reload MetadataStatements file {}. The previously loaded statement is kept.", path, e.getCause());
+                    }
+                    failed.add(path);
+                }
+            }
+            MetadataStatementFiles updated = current.update(loaded);
+            if (metadataStatementFiles.compareAndSet(current, updated)) {
+                failedPaths.removeAll(loaded.keySet());
+                pendingPaths.removeAll(candidates);
+                pendingPaths.addAll(failed);
+                return updated;
+            }
+            return metadataStatementFiles.get();
+        });
+    }
+
+    private @NotNull CompletionStage<MetadataStatementFiles.Entry> load(@NotNull Path path) {
+        return CompletionStageUtil.compose(() -> {
+            MetadataStatementFiles.Attributes attributes;
+            try {
+                attributes = MetadataStatementFiles.readAttributes(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load a MetadataStatements file", e);
+            }
+            return FileAsyncUtil.load(path).thenApply(bytes -> new MetadataStatementFiles.Entry(attributes, objectConverter.getJsonMapper().readValue(bytes, MetadataStatement.class)));
+        });
+    }
+}
@@ -16,59 +16,227 @@
 
 package com.webauthn4j.async.metadata;
 
+import com.webauthn4j.metadata.BackgroundRefreshPolicy;
+import com.webauthn4j.metadata.MetadataBLOBDiskCache;
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public abstract class CachingMetadataBLOBAsyncProvider implements MetadataBLOBAsyncProvider {
 
-    private MetadataBLOB cachedMetadataBLOB = null;
+    private static final Logger logger = LoggerFactory.getLogger(CachingMetadataBLOBAsyncProvider.class);
+
+    private volatile CachedMetadataBLOB cachedMetadataBLOB = null;
     private CompletableFuture<MetadataBLOB> metadataBLOBFuture = new CompletableFuture<>();
-    private LocalDate metadataBLOBLastUpdate = null;
+    private boolean metadataBLOBRefreshing = false;
     private final Object metadataBLOBFutureLock = new Object();
-    private final Lock metadataBLOBRefreshingLock = new ReentrantLock();
 
+    private volatile MetadataBLOBDiskCache metadataBLOBDiskCache;
+    private volatile MetadataBLOBDiskCache.Entry metadataBLOBDiskCacheEntry;
+    private volatile boolean metadataBLOBDiskCacheLoaded = false;
+
+    private volatile BackgroundRefresh backgroundRefresh;
+
+    /**
+     * Returns the cached MetadataBLOB. Without background refresh, the first caller seeing the cached MetadataBLOB
+     * past its nextUpdate starts a refresh, and callers arriving meanwhile share its result. With background refresh,
+     * the cached MetadataBLOB is served while the background task revalidates it.
+     */
     @Override
     public @NotNull CompletionStage<MetadataBLOB> provide(){
+        CachedMetadataBLOB current = cachedMetadataBLOB;
+        if(current != null && (backgroundRefresh != null || !current.needsUpdate())){
+            return CompletableFuture.completedFuture(current.getMetadataBLOB());
+        }
+        return refresh();
+    }
+
+    protected abstract @NotNull CompletionStage<MetadataBLOB> doProvide();
 
-        if(!needsMetadataBLOBUpdate(cachedMetadataBLOB, metadataBLOBLastUpdate)){
-            return CompletableFuture.completedFuture(cachedMetadataBLOB);
+    /**
+     * Provides the MetadataBLOB when a disk cache is configured. Providers fetching the BLOB over HTTP override this
+     * to revalidate the cached entry with a conditional request.
+     *
+     * @param cachedEntry the entry currently cached, or null if there is none
+     * @return a new entry, or {@code cachedEntry} itself if the cached MetadataBLOB is still current
+     */
+    protected @NotNull CompletionStage<MetadataBLOBDiskCache.Entry> doProvide(@Nullable MetadataBLOBDiskCache.Entry cachedEntry){
+        return doProvide().thenApply(metadataBLOB -> new MetadataBLOBDiskCache.Entry(metadataBLOB, null, null));
+    }
+
+    /**
+     * Validates a MetadataBLOB loaded from the disk cache before it is served. The default implementation verifies
+     * its signature.
+     *
+     * @param metadataBLOB MetadataBLOB loaded from the disk cache
+     * @return a stage completed exceptionally if the MetadataBLOB must not be served
+     */
+    protected @NotNull CompletionStage<Void> validateCachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB){
+        if(!metadataBLOB.isValidSignature()){
+            return CompletableFuture.failedFuture(new MDSException("MetadataBLOB signature is invalid"));
         }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public @Nullable MetadataBLOBDiskCache getMetadataBLOBDiskCache() {
+        return metadataBLOBDiskCache;
+    }
+
+    /**
+     * Sets the disk cache the MetadataBLOB is persisted to. On first use, a valid cached MetadataBLOB is served
+     * without fetching it, unless its nextUpdate has come, in which case it is revalidated.
+     * The cache file is read on the common fork-join pool.
+     *
+     * @param metadataBLOBDiskCache disk cache, or null to disable it
+     */
+    public void setMetadataBLOBDiskCache(@Nullable MetadataBLOBDiskCache metadataBLOBDiskCache) {
+        this.metadataBLOBDiskCache = metadataBLOBDiskCache;
+        this.metadataBLOBDiskCacheEntry = null;
+        this.metadataBLOBDiskCacheLoaded = false;
+    }
 
+    /**
+     * Starts refreshing the MetadataBLOB in the background with {@link BackgroundRefreshPolicy#DEFAULT}
+     *
+     * @param scheduler scheduler to run the refresh on
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler){
+        startBackgroundRefresh(scheduler, BackgroundRefreshPolicy.DEFAULT);
+    }
+
+    /**
+     * Starts refreshing the MetadataBLOB in the background. The first refresh runs immediately if nothing is cached
+     * yet. From then on, {@link #provide()} completes with the cached MetadataBLOB right away, even when it is past
+     * its nextUpdate, and a failed refresh keeps the last good MetadataBLOB in service.
+     *
+     * @param scheduler scheduler to run the refresh on
+     * @param policy    schedule of the refresh
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler, @NotNull BackgroundRefreshPolicy policy){
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(policy, "policy must not be null");
+        stopBackgroundRefresh();
+        BackgroundRefresh started = new BackgroundRefresh(scheduler, policy);
+        backgroundRefresh = started;
+        CachedMetadataBLOB current = cachedMetadataBLOB;
+        started.schedule(current == null ? Duration.ZERO : policy.getDelayAfterSuccess(current.getNextUpdate(), Instant.now()));
+    }
+
+    /**
+     * Stops the background refresh. A refresh in progress is not cancelled.
+     */
+    public void stopBackgroundRefresh(){
+        BackgroundRefresh current = backgroundRefresh;
+        backgroundRefresh = null;
+        if(current != null){
+            current.cancel();
+        }
+    }
+
+    /**
+     * Starts a refresh unless one is in progress, and returns the stage completed by the refresh in progress
+     */
+    private @NotNull CompletionStage<MetadataBLOB> refresh(){
         CompletableFuture<MetadataBLOB> response;
         synchronized (metadataBLOBFutureLock){
             response = metadataBLOBFuture;
+            if(metadataBLOBRefreshing){
+                return response;
+            }
+            metadataBLOBRefreshing = true;
         }
-
-        if(metadataBLOBRefreshingLock.tryLock()){
-            doProvide()
-                    .thenAccept(metadataBLOB -> {
-                        cachedMetadataBLOB = metadataBLOB;
-                        metadataBLOBLastUpdate = LocalDate.now(ZoneOffset.UTC);
-                        synchronized (metadataBLOBFutureLock){
-                            metadataBLOBFuture.complete(metadataBLOB);
-                            metadataBLOBFuture = new CompletableFuture<>();
-                        }
-                    })
-                    .exceptionally(e ->{
-                        synchronized (metadataBLOBFutureLock){
-                            metadataBLOBFuture.completeExceptionally(e);
-                            metadataBLOBFuture = new CompletableFuture<>();
-                        }
-                        metadataBLOBRefreshingLock.unlock();
-                        return null;
-                    });
+        CompletionStage<MetadataBLOB> stage;
+        try{
+            stage = refreshMetadataBLOB();
+        }
+        catch (RuntimeException e){
+            stage = CompletableFuture.failedFuture(e);
         }
+        stage.whenComplete((metadataBLOB, e) -> {
+            if(e == null){
+                cachedMetadataBLOB = new CachedMetadataBLOB(metadataBLOB, LocalDate.now(ZoneOffset.UTC));
+            }
+            synchronized (metadataBLOBFutureLock){
+                if(e == null){
+                    response.complete(metadataBLOB);
+                }
+                else{
+                    response.completeExceptionally(e);
+                }
+                metadataBLOBFuture = new CompletableFuture<>();
+                metadataBLOBRefreshing = false;
+            }
+        });
         return response;
     }
 
-    protected abstract @NotNull CompletionStage<MetadataBLOB> doProvide();
+    private @NotNull CompletionStage<MetadataBLOB> refreshMetadataBLOB(){
+        MetadataBLOBDiskCache diskCache = metadataBLOBDiskCache;
+        if(diskCache == null){
+            return doProvide();
+        }
+        if(metadataBLOBDiskCacheLoaded){
+            return revalidateMetadataBLOBDiskCache(diskCache, metadataBLOBDiskCacheEntry);
+        }
+        return loadMetadataBLOBDiskCache(diskCache).thenCompose(cachedEntry -> {
+            if(cachedEntry != null && cachedEntry.getMetadataBLOB().getPayload().getNextUpdate().isAfter(LocalDate.now(ZoneOffset.UTC))){
+                return CompletableFuture.completedFuture(cachedEntry.getMetadataBLOB());
+            }
+            return revalidateMetadataBLOBDiskCache(diskCache, cachedEntry);
+        });
+    }
+
+    private @NotNull CompletionStage<MetadataBLOB> revalidateMetadataBLOBDiskCache(@NotNull MetadataBLOBDiskCache diskCache, @Nullable MetadataBLOBDiskCache.Entry cachedEntry){
+        return doProvide(cachedEntry).thenApply(entry -> {
+            if(entry != cachedEntry){
+                metadataBLOBDiskCacheEntry = entry;
+                try{
+                    diskCache.store(entry);
+                }
+                catch (UncheckedIOException e){
+                    logger.warn("Failed to store MetadataBLOB to {}", diskCache.getPath(), e);
+                }
+            }
+            return entry.getMetadataBLOB();
+        });
+    }
+
+    /**
+     * Loads the disk cache on first use. A cached MetadataBLOB whose nextUpdate has come is kept for revalidation.
+     */
+    private @NotNull CompletionStage<MetadataBLOBDiskCache.Entry> loadMetadataBLOBDiskCache(@NotNull MetadataBLOBDiskCache diskCache){
+        return CompletableFuture.supplyAsync(diskCache::load).thenCompose(entry -> {
+            if(entry == null){
+                return CompletableFuture.completedFuture(null);
+            }
+            return validateCachedMetadataBLOB(entry.getMetadataBLOB()).handle((unused, e) -> {
+                if(e != null){
+                    logger.warn("Discarded cached MetadataBLOB in {}", diskCache.getPath(), e);
+                    return null;
+                }
+                return entry;
+            });
+        }).thenApply(entry -> {
+            metadataBLOBDiskCacheEntry = entry;
+            metadataBLOBDiskCacheLoaded = true;
+            return entry;
+        });
+    }
 
     static boolean needsMetadataBLOBUpdate(MetadataBLOB cachedMetadataBLOB, LocalDate metadataBLOBLastUpdate){
         if(cachedMetadataBLOB == null){
@@ -79,4 +247,85 @@ public abstract class CachingMetadataBLOBAsyncProvider implements MetadataBLOBAs
         return (nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && metadataBLOBLastUpdate.isBefore(today);
     }
 
+    /**
+     * The cached MetadataBLOB and the date it was last fetched, published as a whole
+     */
+    private static final class CachedMetadataBLOB {
+
+        private final MetadataBLOB metadataBLOB;
+        private final LocalDate lastUpdate;
+
+        CachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate lastUpdate) {
+            this.metadataBLOB = metadataBLOB;
+            this.lastUpdate = lastUpdate;
+        }
+
+        @NotNull MetadataBLOB getMetadataBLOB() {
+            return metadataBLOB;
+        }
+
+        @NotNull LocalDate getNextUpdate() {
+            return metadataBLOB.getPayload().getNextUpdate();
+        }
+
+        boolean needsUpdate() {
+            return needsMetadataBLOBUpdate(metadataBLOB, lastUpdate);
+        }
+    }
+
+    private final class BackgroundRefresh implements Runnable {
+
+        private final ScheduledExecutorService scheduler;
+        private final BackgroundRefreshPolicy policy;
+        // Runs are chained one after another, so this is never accessed concurrently
+        private int consecutiveFailures = 0;
+        private volatile ScheduledFuture<?> scheduledFuture;
+
+        BackgroundRefresh(@NotNull ScheduledExecutorService scheduler, @NotNull BackgroundRefreshPolicy policy) {
+            this.scheduler = scheduler;
+            this.policy = policy;
+        }
+
+        @Override
+        public void run() {
+            if(backgroundRefresh != this){
+                return;
+            }
+            CachedMetadataBLOB current = cachedMetadataBLOB;
+            CompletionStage<MetadataBLOB> stage;
+            if(current == null || policy.isRefreshDue(current.getNextUpdate(), Instant.now())){
+                stage = refresh();
+            }
+            else{
+                stage = CompletableFuture.completedFuture(current.getMetadataBLOB());
+            }
+            stage.whenComplete((metadataBLOB, e) -> {
+                Duration delay;
+                if(e == null){
+                    consecutiveFailures = 0;
+                    delay = policy.getDelayAfterSuccess(metadataBLOB.getPayload().getNextUpdate(), Instant.now());
+                }
+                else{
+                    consecutiveFailures++;
+                    delay = policy.getDelayAfterFailure(consecutiveFailures);
+                    logger.warn("Failed to refresh MetadataBLOB. Retrying in {}", delay, e);
+                }
+                schedule(delay);
+            });
+        }
+
+        void schedule(@NotNull Duration delay) {
+            if(backgroundRefresh == this){
+                scheduledFuture = scheduler.schedule(this, delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void cancel() {
+            ScheduledFuture<?> current = scheduledFuture;
+            if(current != null){
+                current.cancel(false);
+            }
+        }
+    }
+
 }
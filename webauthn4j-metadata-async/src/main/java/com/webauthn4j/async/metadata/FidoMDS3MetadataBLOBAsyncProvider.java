@@ -18,6 +18,8 @@ package com.webauthn4j.async.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.metadata.CertPathCheckContext;
+import com.webauthn4j.metadata.HttpClient;
+import com.webauthn4j.metadata.MetadataBLOBDiskCache;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBFactory;
 import com.webauthn4j.metadata.exception.CertPathCheckException;
@@ -29,6 +31,7 @@ import com.webauthn4j.data.internal.asn1.der.ASN1Primitive;
 import com.webauthn4j.data.internal.asn1.der.ASN1Sequence;
 import com.webauthn4j.data.internal.asn1.der.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,6 +52,8 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
 
     public static final String DEFAULT_BLOB_ENDPOINT = "https://mds.fidoalliance.org/";
 
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     private final MetadataBLOBFactory metadataBLOBFactory;
     private final String blobEndpoint;
     private final HttpAsyncClient httpClient;
@@ -82,29 +87,53 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
 
     @Override
     protected @NotNull CompletionStage<MetadataBLOB> doProvide() {
-        return httpClient.fetch(blobEndpoint).thenApply(response -> {
-            String body = readAsString(response.getBody());
-            return metadataBLOBFactory.parse(body);
-        }).thenCompose(metadataBLOB -> {
+        return fetch(Collections.emptyMap(), null).thenApply(MetadataBLOBDiskCache.Entry::getMetadataBLOB);
+    }
+
+    /**
+     * Revalidates the cached entry with a conditional request carrying its validators
+     */
+    @Override
+    protected @NotNull CompletionStage<MetadataBLOBDiskCache.Entry> doProvide(@Nullable MetadataBLOBDiskCache.Entry cachedEntry) {
+        if (cachedEntry == null) {
+            return fetch(Collections.emptyMap(), null);
+        }
+        return fetch(cachedEntry.getConditionalRequestHeaders(), cachedEntry);
+    }
+
+    /**
+     * Verifies the signature and, without revocation checking, the certificate chain of a MetadataBLOB loaded from
+     * the disk cache. Revocation was checked when it was fetched.
+     */
+    @Override
+    protected @NotNull CompletionStage<Void> validateCachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB) {
+        return super.validateCachedMetadataBLOB(metadataBLOB).thenCompose(unused -> validateCertPath(metadataBLOB, false));
+    }
+
+    private @NotNull CompletionStage<MetadataBLOBDiskCache.Entry> fetch(@NotNull Map<String, String> requestHeaders, @Nullable MetadataBLOBDiskCache.Entry cachedEntry) {
+        CompletionStage<HttpClient.Response> responseCompletionStage = requestHeaders.isEmpty() ? httpClient.fetch(blobEndpoint) : httpClient.fetch(blobEndpoint, requestHeaders);
+        return responseCompletionStage.thenCompose(response -> {
+            MetadataBLOB metadataBLOB;
+            try (InputStream body = response.getBody()) {
+                if (cachedEntry != null && response.getStatusCode() == HTTP_NOT_MODIFIED) {
+                    return CompletableFuture.completedFuture(cachedEntry);
+                }
+                metadataBLOB = metadataBLOBFactory.parse(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
             if(!metadataBLOB.isValidSignature()){
                 throw new MDSException("MetadataBLOB signature is invalid");
             }
-            return validateCertPath(metadataBLOB).thenApply(unused -> metadataBLOB);
+            MetadataBLOBDiskCache.Entry entry = new MetadataBLOBDiskCache.Entry(metadataBLOB, response.getHeader("ETag"), response.getHeader("Last-Modified"));
+            return validateCertPath(metadataBLOB, isRevocationCheckEnabled()).thenApply(unused -> entry);
         });
     }
 
-    private static @NotNull String readAsString(InputStream responseBody) {
-        try {
-            return new String(responseBody.readAllBytes());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
-    private CompletionStage<Void> validateCertPath(@NotNull MetadataBLOB metadataBLOB) {
+    private CompletionStage<Void> validateCertPath(@NotNull MetadataBLOB metadataBLOB, boolean revocationCheckEnabled) {
         CertPath certPath = metadataBLOB.getHeader().getX5c();
         try{
-            return certPathAsyncChecker.check(new CertPathCheckContext(certPath, trustAnchors, isRevocationCheckEnabled()));
+            return certPathAsyncChecker.check(new CertPathCheckContext(certPath, trustAnchors, revocationCheckEnabled));
         }
         catch (CertPathCheckException e){
             throw new MDSException("MetadataBLOB certificate chain validation failed", e);
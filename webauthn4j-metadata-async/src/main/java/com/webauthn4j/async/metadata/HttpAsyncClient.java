@@ -19,6 +19,7 @@ package com.webauthn4j.async.metadata;
 import com.webauthn4j.metadata.exception.MDSException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -29,4 +30,18 @@ public interface HttpAsyncClient {
     @NotNull
     CompletionStage<com.webauthn4j.metadata.HttpClient.Response> fetch(@NotNull String uri) throws MDSException;
 
+    /**
+     * Fetches the resource with additional request headers, such as the validators of a conditional request.
+     * A client supporting conditional requests completes with a response with status 304 when the resource is not
+     * modified. The default implementation ignores the headers.
+     *
+     * @param uri            URI to fetch
+     * @param requestHeaders additional request headers
+     * @return response
+     * @throws MDSException if the resource cannot be fetched
+     */
+    default @NotNull CompletionStage<com.webauthn4j.metadata.HttpClient.Response> fetch(@NotNull String uri, @NotNull Map<String, String> requestHeaders) throws MDSException {
+        return fetch(uri);
+    }
+
 }
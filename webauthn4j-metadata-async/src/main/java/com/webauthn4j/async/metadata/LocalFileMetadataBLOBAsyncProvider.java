@@ -39,6 +39,6 @@ public class LocalFileMetadataBLOBAsyncProvider extends CachingMetadataBLOBAsync
     }
 
     protected @NotNull CompletionStage<MetadataBLOB> doProvide(){
-        return FileAsyncUtil.load(path).thenApply(bytes -> metadataBLOBFactory.parse(new String(bytes)));
+        return FileAsyncUtil.load(path).thenApply(bytes -> metadataBLOBFactory.parse(bytes));
     }
 }
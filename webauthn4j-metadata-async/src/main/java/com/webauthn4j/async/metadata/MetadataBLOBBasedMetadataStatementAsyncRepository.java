@@ -1,75 +1,64 @@
 package com.webauthn4j.async.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
-import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
-import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository.matchAttestationCertificateKeyIdentifier;
 
 public class MetadataBLOBBasedMetadataStatementAsyncRepository implements MetadataStatementAsyncRepository{
 
-    private final List<MetadataBLOBAsyncProvider> metadataBLOBAsyncProviders;
-
-    private boolean notFidoCertifiedAllowed = false;
-    private boolean selfAssertionSubmittedAllowed = false;
+    private final MetadataSnapshotAsyncProvider metadataSnapshotAsyncProvider;
 
     public MetadataBLOBBasedMetadataStatementAsyncRepository(MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
-        this.metadataBLOBAsyncProviders = Arrays.asList(metadataBLOBAsyncProviders);
+        this(new MetadataSnapshotAsyncProvider(metadataBLOBAsyncProviders));
+    }
+
+    /**
+     * Creates a repository reading from the given snapshot provider. The status filter settings belong to the
+     * snapshot provider and are therefore shared with every other repository using it.
+     *
+     * @param metadataSnapshotAsyncProvider snapshot provider
+     */
+    public MetadataBLOBBasedMetadataStatementAsyncRepository(@NotNull MetadataSnapshotAsyncProvider metadataSnapshotAsyncProvider) {
+        AssertUtil.notNull(metadataSnapshotAsyncProvider, "metadataSnapshotAsyncProvider must not be null");
+        this.metadataSnapshotAsyncProvider = metadataSnapshotAsyncProvider;
     }
 
+    /**
+     * Returns the metadata statements for the AAGUID whose payload entries pass the status report check.
+     * The returned set is shared and unmodifiable.
+     */
     @Override
     public CompletionStage<Set<MetadataStatement>> find(AAGUID aaguid) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()),
-                        (a, b)-> a.thenCombine(b, Stream::concat)
-                ).thenApply(entries ->
-                        entries
-                        .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                        .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
-                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                        .collect(Collectors.toSet())
-                );
+        return metadataSnapshotAsyncProvider.provide().thenApply(metadataSnapshot -> metadataSnapshot.findMetadataStatements(aaguid));
     }
 
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier.
+     * The returned set is shared and unmodifiable.
+     */
     @Override
     public CompletionStage<Set<MetadataStatement>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()), (a, b)-> a.thenCombine(b, Stream::concat))
-                .thenApply(entries -> entries
-                        .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
-                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                        .collect(Collectors.toSet()));
+        return metadataSnapshotAsyncProvider.provide().thenApply(metadataSnapshot -> metadataSnapshot.findMetadataStatements(attestationCertificateKeyIdentifier));
     }
 
     public boolean isNotFidoCertifiedAllowed() {
-        return notFidoCertifiedAllowed;
+        return metadataSnapshotAsyncProvider.isNotFidoCertifiedAllowed();
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        metadataSnapshotAsyncProvider.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return selfAssertionSubmittedAllowed;
+        return metadataSnapshotAsyncProvider.isSelfAssertionSubmittedAllowed();
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+        metadataSnapshotAsyncProvider.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
     }
 
 
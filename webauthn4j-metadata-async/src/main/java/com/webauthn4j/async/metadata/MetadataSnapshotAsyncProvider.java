@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.metadata;
+
+import com.webauthn4j.metadata.MetadataSnapshot;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Supplies the current {@link MetadataSnapshot} for a fixed list of {@link MetadataBLOBAsyncProvider}s.
+ * <p>
+ * A new snapshot is built only when a provider returns a different BLOB instance or a status filter setting has
+ * changed. Pass one instance to several repositories, e.g. {@link MetadataBLOBBasedMetadataStatementAsyncRepository}
+ * and {@link com.webauthn4j.async.metadata.anchor.MetadataBLOBBasedTrustAnchorAsyncRepository}, to let them share the
+ * snapshot and its status filter settings.
+ */
+public class MetadataSnapshotAsyncProvider {
+
+    private final List<MetadataBLOBAsyncProvider> metadataBLOBAsyncProviders;
+
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
+
+    private volatile MetadataSnapshot metadataSnapshot;
+
+    public MetadataSnapshotAsyncProvider(@NotNull MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
+        AssertUtil.notNull(metadataBLOBAsyncProviders, "metadataBLOBAsyncProviders must not be null");
+        this.metadataBLOBAsyncProviders = Arrays.asList(metadataBLOBAsyncProviders);
+    }
+
+    /**
+     * Returns the snapshot for the BLOBs currently served by the providers. Concurrent rebuilds are harmless as each
+     * produces an equivalent, immutable snapshot.
+     *
+     * @return current snapshot
+     */
+    public @NotNull CompletionStage<MetadataSnapshot> provide() {
+        CompletableFuture<List<MetadataBLOB>> metadataBLOBsFuture = CompletableFuture.completedFuture(new ArrayList<>(metadataBLOBAsyncProviders.size()));
+        for (MetadataBLOBAsyncProvider metadataBLOBAsyncProvider : metadataBLOBAsyncProviders) {
+            metadataBLOBsFuture = metadataBLOBsFuture.thenCombine(metadataBLOBAsyncProvider.provide(), (metadataBLOBs, metadataBLOB) -> {
+                metadataBLOBs.add(metadataBLOB);
+                return metadataBLOBs;
+            });
+        }
+        return metadataBLOBsFuture.thenApply(this::getMetadataSnapshot);
+    }
+
+    private @NotNull MetadataSnapshot getMetadataSnapshot(@NotNull List<MetadataBLOB> metadataBLOBs) {
+        boolean currentNotFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        boolean currentSelfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+
+        MetadataSnapshot current = metadataSnapshot;
+        if (current != null && current.isBuiltFrom(metadataBLOBs, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed)) {
+            return current;
+        }
+        MetadataSnapshot created = MetadataSnapshot.create(metadataBLOBs, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed);
+        metadataSnapshot = created;
+        return created;
+    }
+
+    public boolean isNotFidoCertifiedAllowed() {
+        return notFidoCertifiedAllowed;
+    }
+
+    public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+    }
+
+    public boolean isSelfAssertionSubmittedAllowed() {
+        return selfAssertionSubmittedAllowed;
+    }
+
+    public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+    }
+}
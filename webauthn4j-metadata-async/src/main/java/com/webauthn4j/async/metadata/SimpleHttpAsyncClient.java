@@ -8,22 +8,40 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 public class SimpleHttpAsyncClient implements HttpAsyncClient {
     @Override
     public @NotNull CompletionStage<com.webauthn4j.metadata.HttpClient.Response> fetch(@NotNull String uri) throws MDSException {
+        return fetch(uri, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull CompletionStage<com.webauthn4j.metadata.HttpClient.Response> fetch(@NotNull String uri, @NotNull Map<String, String> requestHeaders) throws MDSException {
         HttpClient client = HttpClient.newBuilder()
                 .followRedirects(HttpClient.Redirect.NORMAL)
                 .build();
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
                 .uri(URI.create(uri))
-                .timeout(Duration.ofSeconds(60))
-                .build();
-        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-                .thenApply(response -> new com.webauthn4j.metadata.HttpClient.Response(response.statusCode(), response.body()))
+                .timeout(Duration.ofSeconds(60));
+        requestHeaders.forEach(requestBuilder::header);
+        return client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> new com.webauthn4j.metadata.HttpClient.Response(response.statusCode(), response.body(), getHeaders(response)))
                 .exceptionally(e -> {
                     throw new MDSException(e);
                 });
     }
+
+    private static @NotNull Map<String, String> getHeaders(@NotNull HttpResponse<?> response) {
+        Map<String, String> headers = new HashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!values.isEmpty()) {
+                headers.put(name, values.get(0));
+            }
+        });
+        return headers;
+    }
 }
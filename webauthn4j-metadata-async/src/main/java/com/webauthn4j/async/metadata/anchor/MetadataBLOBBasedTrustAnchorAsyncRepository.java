@@ -2,52 +2,58 @@ package com.webauthn4j.async.metadata.anchor;
 
 import com.webauthn4j.async.anchor.TrustAnchorAsyncRepository;
 import com.webauthn4j.async.metadata.MetadataBLOBAsyncProvider;
-import com.webauthn4j.async.metadata.MetadataBLOBBasedMetadataStatementAsyncRepository;
+import com.webauthn4j.async.metadata.MetadataSnapshotAsyncProvider;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.security.cert.TrustAnchor;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
 
 public class MetadataBLOBBasedTrustAnchorAsyncRepository implements TrustAnchorAsyncRepository {
 
-    private final MetadataBLOBBasedMetadataStatementAsyncRepository metadataBLOBBasedMetadataStatementAsyncRepository;
+    private final MetadataSnapshotAsyncProvider metadataSnapshotAsyncProvider;
 
     public MetadataBLOBBasedTrustAnchorAsyncRepository(MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
-        this.metadataBLOBBasedMetadataStatementAsyncRepository = new MetadataBLOBBasedMetadataStatementAsyncRepository(metadataBLOBAsyncProviders);
+        this(new MetadataSnapshotAsyncProvider(metadataBLOBAsyncProviders));
+    }
+
+    /**
+     * Creates a repository reading from the given snapshot provider. The status filter settings belong to the
+     * snapshot provider and are therefore shared with every other repository using it.
+     *
+     * @param metadataSnapshotAsyncProvider snapshot provider
+     */
+    public MetadataBLOBBasedTrustAnchorAsyncRepository(@NotNull MetadataSnapshotAsyncProvider metadataSnapshotAsyncProvider) {
+        AssertUtil.notNull(metadataSnapshotAsyncProvider, "metadataSnapshotAsyncProvider must not be null");
+        this.metadataSnapshotAsyncProvider = metadataSnapshotAsyncProvider;
     }
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(AAGUID aaguid) {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.find(aaguid).thenApply(metadataStatements-> metadataStatements.stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet()));
+        return metadataSnapshotAsyncProvider.provide().thenApply(metadataSnapshot -> metadataSnapshot.findTrustAnchors(aaguid));
     }
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.find(attestationCertificateKeyIdentifier).thenApply(metadataStatements -> metadataStatements.stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet()));
+        return metadataSnapshotAsyncProvider.provide().thenApply(metadataSnapshot -> metadataSnapshot.findTrustAnchors(attestationCertificateKeyIdentifier));
     }
 
     public boolean isNotFidoCertifiedAllowed() {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.isNotFidoCertifiedAllowed();
+        return metadataSnapshotAsyncProvider.isNotFidoCertifiedAllowed();
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        metadataBLOBBasedMetadataStatementAsyncRepository.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
+        metadataSnapshotAsyncProvider.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.isSelfAssertionSubmittedAllowed();
+        return metadataSnapshotAsyncProvider.isSelfAssertionSubmittedAllowed();
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        metadataBLOBBasedMetadataStatementAsyncRepository.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
+        metadataSnapshotAsyncProvider.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
     }
 
 }
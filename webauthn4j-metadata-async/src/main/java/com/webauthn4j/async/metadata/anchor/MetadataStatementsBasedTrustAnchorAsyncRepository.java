@@ -1,7 +1,7 @@
 package com.webauthn4j.async.metadata.anchor;
 
 import com.webauthn4j.async.anchor.TrustAnchorAsyncRepository;
-import com.webauthn4j.async.metadata.LocalFilesMetadataStatementsAsyncProvider;
+import com.webauthn4j.async.metadata.CachingLocalFilesMetadataStatementsAsyncProvider;
 import com.webauthn4j.async.metadata.MetadataStatementsAsyncProvider;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
@@ -24,7 +24,7 @@ public class MetadataStatementsBasedTrustAnchorAsyncRepository implements TrustA
     }
 
     public MetadataStatementsBasedTrustAnchorAsyncRepository(ObjectConverter objectConverter, Path... paths) {
-        this(new LocalFilesMetadataStatementsAsyncProvider(objectConverter, paths));
+        this(new CachingLocalFilesMetadataStatementsAsyncProvider(objectConverter, paths));
     }
 
     @Override
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingLocalFilesMetadataStatementsAsyncProviderTest {
+
+    private static final Path FIDO2_JSON = new File("src/test/resources/com/webauthn4j/async/metadata/JsonMetadataItem_fido2.json").toPath();
+    private static final Path U2F_JSON = new File("src/test/resources/com/webauthn4j/async/metadata/JsonMetadataItem_u2f.json").toPath();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void provide_returns_cached_list_until_a_file_changes_test() throws IOException, ExecutionException, InterruptedException {
+        Path fido2 = copy(FIDO2_JSON, "fido2.json");
+        Path u2f = copy(U2F_JSON, "u2f.json");
+        CachingLocalFilesMetadataStatementsAsyncProvider target = new CachingLocalFilesMetadataStatementsAsyncProvider(new ObjectConverter(), fido2, u2f);
+
+        List<MetadataStatement> first = target.provide().get();
+        assertThat(first).hasSize(2);
+        assertThat(target.provide().get()).isSameAs(first);
+
+        Files.copy(U2F_JSON, fido2, StandardCopyOption.REPLACE_EXISTING);
+        List<MetadataStatement> reloaded = target.provide().get();
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.get(1)).isSameAs(first.get(1));
+    }
+
+    @Test
+    void find_test() throws IOException, ExecutionException, InterruptedException {
+        CachingLocalFilesMetadataStatementsAsyncProvider target = new CachingLocalFilesMetadataStatementsAsyncProvider(new ObjectConverter(), copy(FIDO2_JSON, "fido2.json"), copy(U2F_JSON, "u2f.json"));
+
+        assertThat(target.find(new AAGUID("0132d110-bf4e-4208-a403-ab4f5f12efe5")).toCompletableFuture().get()).hasSize(1);
+        assertThat(target.find(HexUtil.decode("7c0903708b87115b0b422def3138c3c864e44573")).toCompletableFuture().get()).hasSize(1);
+    }
+
+    @Test
+    void failed_reload_keeps_previous_statements_and_is_retried_test() throws IOException, ExecutionException, InterruptedException {
+        Path fido2 = copy(FIDO2_JSON, "fido2.json");
+        CachingLocalFilesMetadataStatementsAsyncProvider target = new CachingLocalFilesMetadataStatementsAsyncProvider(new ObjectConverter(), fido2);
+        List<MetadataStatement> first = target.provide().get();
+
+        Files.delete(fido2);
+        assertThat(target.provide().get()).isSameAs(first);
+
+        copy(U2F_JSON, "fido2.json");
+        assertThat(target.find(HexUtil.decode("7c0903708b87115b0b422def3138c3c864e44573")).toCompletableFuture().get()).hasSize(1);
+        assertThat(target.provide().get()).isNotSameAs(first);
+    }
+
+    @Test
+    void failed_initial_load_is_reported_test() {
+        CachingLocalFilesMetadataStatementsAsyncProvider target = new CachingLocalFilesMetadataStatementsAsyncProvider(new ObjectConverter(), tempDir.resolve("fido2.json"));
+        assertThatThrownBy(() -> target.provide().get()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(UncheckedIOException.class);
+    }
+
+    private Path copy(Path source, String name) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.copy(source, path, StandardCopyOption.REPLACE_EXISTING);
+        return path;
+    }
+}
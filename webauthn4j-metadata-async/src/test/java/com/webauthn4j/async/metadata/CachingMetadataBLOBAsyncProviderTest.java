@@ -5,18 +5,28 @@ import com.webauthn4j.data.jws.JWAIdentifier;
 import com.webauthn4j.data.jws.JWS;
 import com.webauthn4j.data.jws.JWSFactory;
 import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.BackgroundRefreshPolicy;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayload;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 class CachingMetadataBLOBAsyncProviderTest {
@@ -70,6 +80,51 @@ class CachingMetadataBLOBAsyncProviderTest {
     }
 
 
+    @Test
+    void concurrent_provide_calls_share_one_refresh_test() throws ExecutionException, InterruptedException {
+        MetadataBLOB metadataBLOB = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 2));
+        CompletableFuture<MetadataBLOB> fetch = new CompletableFuture<>();
+        CachingMetadataBLOBAsyncProvider target = spy(CachingMetadataBLOBAsyncProvider.class);
+        when(target.doProvide()).thenReturn(fetch);
+
+        CompletionStage<MetadataBLOB> first = target.provide();
+        CompletionStage<MetadataBLOB> second = target.provide();
+        fetch.complete(metadataBLOB);
+
+        assertThat(first.toCompletableFuture().get()).isSameAs(metadataBLOB);
+        assertThat(second.toCompletableFuture().get()).isSameAs(metadataBLOB);
+        verify(target, times(1)).doProvide();
+    }
+
+    @Test
+    void background_refresh_serves_cached_MetadataBLOB_while_revalidating() throws ExecutionException, InterruptedException, TimeoutException {
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 2));
+        MetadataBLOB second = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 3));
+        CompletableFuture<MetadataBLOB> revalidation = new CompletableFuture<>();
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingMetadataBLOBAsyncProvider target = new CachingMetadataBLOBAsyncProvider() {
+            @Override
+            protected @NotNull CompletionStage<MetadataBLOB> doProvide() {
+                return fetchCount.incrementAndGet() == 1 ? CompletableFuture.completedFuture(first) : revalidation;
+            }
+        };
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            target.startBackgroundRefresh(scheduler, new BackgroundRefreshPolicy(Duration.ZERO, Duration.ofMillis(10), Duration.ZERO, Duration.ofMillis(10), Duration.ofMillis(20)));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (fetchCount.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(fetchCount.get()).isGreaterThanOrEqualTo(2);
+            assertThat(target.provide().toCompletableFuture().get(1, TimeUnit.SECONDS)).isSameAs(first);
+
+            revalidation.complete(second);
+            assertThat(target.provide().toCompletableFuture().get(1, TimeUnit.SECONDS)).isSameAs(second);
+        } finally {
+            target.stopBackgroundRefresh();
+            scheduler.shutdownNow();
+        }
+    }
 
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
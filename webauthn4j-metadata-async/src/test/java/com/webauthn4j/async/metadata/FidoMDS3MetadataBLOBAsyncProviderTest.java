@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.metadata;
+
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.jws.JWAIdentifier;
+import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.MetadataBLOBDiskCache;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayload;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.security.cert.TrustAnchor;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FidoMDS3MetadataBLOBAsyncProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final List<String> receivedIfNoneMatchHeaders = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private volatile byte[] blob;
+    private volatile String eTag;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedIfNoneMatchHeaders.add(ifNoneMatch == null ? "" : ifNoneMatch);
+            exchange.getResponseHeaders().set("ETag", eTag);
+            if (eTag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            }
+            else {
+                exchange.sendResponseHeaders(200, blob.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(blob);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void restarted_provider_serves_cached_MetadataBLOB_without_fetching_it() throws ExecutionException, InterruptedException {
+        serve(1, LocalDate.now(ZoneOffset.UTC).plusDays(30));
+        assertThat(createProvider().provide().toCompletableFuture().get().getPayload().getNo()).isEqualTo(1);
+
+        MetadataBLOB metadataBLOB = createProvider().provide().toCompletableFuture().get();
+        assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(1);
+        assertThat(receivedIfNoneMatchHeaders).containsExactly("");
+    }
+
+    @Test
+    void cached_MetadataBLOB_past_nextUpdate_is_revalidated_with_conditional_request() throws ExecutionException, InterruptedException {
+        serve(1, LocalDate.now(ZoneOffset.UTC).minusDays(1));
+        createProvider().provide().toCompletableFuture().get();
+
+        MetadataBLOB metadataBLOB = createProvider().provide().toCompletableFuture().get();
+        assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(1);
+        assertThat(receivedIfNoneMatchHeaders).containsExactly("", eTag);
+    }
+
+    private void serve(int no, LocalDate nextUpdate) {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        MetadataBLOBPayload payload = new MetadataBLOBPayload("legalHeader", no, nextUpdate, Collections.emptyList());
+        blob = new JWSFactory(objectConverter).create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey()).getBytes();
+        eTag = "\"blob-" + no + "\"";
+    }
+
+    private FidoMDS3MetadataBLOBAsyncProvider createProvider() {
+        String endpoint = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+        FidoMDS3MetadataBLOBAsyncProvider provider = new FidoMDS3MetadataBLOBAsyncProvider(objectConverter, endpoint, new SimpleHttpAsyncClient(), Collections.singleton(new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null)));
+        provider.setCertPathAsyncValidator(context -> CompletableFuture.completedFuture(null));
+        provider.setMetadataBLOBDiskCache(new MetadataBLOBDiskCache(objectConverter, tempDir.resolve("blob.cache")));
+        return provider;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.metadata;
+
+import com.webauthn4j.async.metadata.anchor.MetadataBLOBBasedTrustAnchorAsyncRepository;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.MetadataSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataSnapshotAsyncProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void repositories_share_snapshot_and_settings_test() throws IOException, ExecutionException, InterruptedException {
+        AAGUID aaguid = new AAGUID("9c835346-796b-4c27-8898-d6032f515cc5");
+        Path dstPath = tempDir.resolve("blob.jwt");
+        Files.copy(new File("src/test/resources/integration/component/blob.jwt").toPath(), dstPath);
+        MetadataSnapshotAsyncProvider target = new MetadataSnapshotAsyncProvider(new LocalFileMetadataBLOBAsyncProvider(new ObjectConverter(), dstPath));
+        MetadataBLOBBasedMetadataStatementAsyncRepository metadataStatementRepository = new MetadataBLOBBasedMetadataStatementAsyncRepository(target);
+        MetadataBLOBBasedTrustAnchorAsyncRepository trustAnchorRepository = new MetadataBLOBBasedTrustAnchorAsyncRepository(target);
+
+        assertThat(metadataStatementRepository.find(aaguid).toCompletableFuture().get()).hasSize(1);
+        MetadataSnapshot snapshot = target.provide().toCompletableFuture().get();
+        assertThat(trustAnchorRepository.find(aaguid).toCompletableFuture().get()).isNotEmpty().isSameAs(snapshot.findTrustAnchors(aaguid));
+        assertThat(target.provide().toCompletableFuture().get()).isSameAs(snapshot);
+
+        trustAnchorRepository.setNotFidoCertifiedAllowed(true);
+        assertThat(metadataStatementRepository.isNotFidoCertifiedAllowed()).isTrue();
+        assertThat(target.provide().toCompletableFuture().get()).isNotSameAs(snapshot);
+    }
+}
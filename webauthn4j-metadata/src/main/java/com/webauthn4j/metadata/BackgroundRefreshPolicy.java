@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedule of the background refresh of a caching MetadataBLOB provider.
+ * <p>
+ * A refresh becomes due {@code refreshAhead} before the start of the nextUpdate date (UTC) of the BLOB being served.
+ * While the source keeps serving a BLOB whose refresh is due, it is polled every {@code pollInterval}. Failed
+ * refreshes are retried with exponential backoff from {@code initialBackoff} up to {@code maxBackoff}. A random
+ * delay of up to {@code jitter} is added to every scheduled refresh, so replicas do not hit the source together.
+ */
+public class BackgroundRefreshPolicy {
+
+    public static final BackgroundRefreshPolicy DEFAULT = new BackgroundRefreshPolicy(
+            Duration.ofDays(1), Duration.ofHours(1), Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofHours(1));
+
+    private final Duration refreshAhead;
+    private final Duration pollInterval;
+    private final Duration jitter;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public BackgroundRefreshPolicy(@NotNull Duration refreshAhead, @NotNull Duration pollInterval, @NotNull Duration jitter, @NotNull Duration initialBackoff, @NotNull Duration maxBackoff) {
+        AssertUtil.notNull(refreshAhead, "refreshAhead must not be null");
+        AssertUtil.notNull(pollInterval, "pollInterval must not be null");
+        AssertUtil.notNull(jitter, "jitter must not be null");
+        AssertUtil.notNull(initialBackoff, "initialBackoff must not be null");
+        AssertUtil.notNull(maxBackoff, "maxBackoff must not be null");
+        AssertUtil.isTrue(!refreshAhead.isNegative(), "refreshAhead must not be negative");
+        AssertUtil.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval must be positive");
+        AssertUtil.isTrue(!jitter.isNegative(), "jitter must not be negative");
+        AssertUtil.isTrue(!initialBackoff.isNegative() && !initialBackoff.isZero(), "initialBackoff must be positive");
+        AssertUtil.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff must not be shorter than initialBackoff");
+        this.refreshAhead = refreshAhead;
+        this.pollInterval = pollInterval;
+        this.jitter = jitter;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public @NotNull Duration getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    public @NotNull Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public @NotNull Duration getJitter() {
+        return jitter;
+    }
+
+    public @NotNull Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public @NotNull Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Returns whether a BLOB with the given nextUpdate is due for a refresh
+     *
+     * @param nextUpdate nextUpdate of the BLOB being served
+     * @param now        current time
+     * @return true if the refresh is due
+     */
+    public boolean isRefreshDue(@NotNull LocalDate nextUpdate, @NotNull Instant now) {
+        return !now.isBefore(getRefreshTime(nextUpdate));
+    }
+
+    /**
+     * Returns the delay until the next refresh after a successful one
+     *
+     * @param nextUpdate nextUpdate of the BLOB being served
+     * @param now        current time
+     * @return the delay, including jitter
+     */
+    public @NotNull Duration getDelayAfterSuccess(@NotNull LocalDate nextUpdate, @NotNull Instant now) {
+        Duration untilRefreshTime = Duration.between(now, getRefreshTime(nextUpdate));
+        Duration delay = untilRefreshTime.compareTo(pollInterval) < 0 ? pollInterval : untilRefreshTime;
+        return delay.plus(randomDuration(jitter));
+    }
+
+    /**
+     * Returns the delay until the retry of a failed refresh. The backoff doubles with every consecutive failure, and
+     * the delay is drawn from its upper half.
+     *
+     * @param consecutiveFailures number of consecutive failed refreshes, starting at 1
+     * @return the delay
+     */
+    public @NotNull Duration getDelayAfterFailure(int consecutiveFailures) {
+        AssertUtil.isTrue(consecutiveFailures > 0, "consecutiveFailures must be positive");
+        Duration backoff = initialBackoff;
+        for (int i = 1; i < consecutiveFailures && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        Duration half = backoff.dividedBy(2);
+        return half.plus(randomDuration(backoff.minus(half)));
+    }
+
+    private @NotNull Instant getRefreshTime(@NotNull LocalDate nextUpdate) {
+        return nextUpdate.atStartOfDay(ZoneOffset.UTC).toInstant().minus(refreshAhead);
+    }
+
+    private static @NotNull Duration randomDuration(@NotNull Duration bound) {
+        if (bound.isZero()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound.toMillis() + 1));
+    }
+}
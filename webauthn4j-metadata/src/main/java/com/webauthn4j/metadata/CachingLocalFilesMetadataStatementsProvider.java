@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataStatementFileWatcher;
+import com.webauthn4j.metadata.util.internal.MetadataStatementFiles;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetadataStatementsProvider} that parses local metadata statement files once and keeps them in memory.
+ * <p>
+ * Only files whose modification time or size changed are parsed again. By default every call checks the attributes
+ * of each file. Once a {@link WatchService} is set, calls only drain its pending events and no file is touched until
+ * one of the tracked files is reported as changed. A reload builds a new immutable state and swaps it in atomically,
+ * so concurrent callers keep reading the previous statements until the reload has completed. When a file that was
+ * already loaded cannot be read or parsed again, its last good statement is kept, the failure is logged, and the file
+ * is retried on the next call. A file that has never been loaded fails the call instead.
+ * <p>
+ * {@link #provide()} returns the same unmodifiable list instance until a reload, so a
+ * {@link DefaultMetadataStatementRepository} with {@link DefaultMetadataStatementRepository#setProvidedStatementsImmutable(boolean)}
+ * set indexes it once. The provider can also be used as a {@link MetadataStatementRepository} directly.
+ */
+public class CachingLocalFilesMetadataStatementsProvider implements MetadataStatementsProvider, MetadataStatementRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingLocalFilesMetadataStatementsProvider.class);
+
+    private final ObjectConverter objectConverter;
+    private final Set<Path> paths;
+    private final Set<Path> pendingPaths = ConcurrentHashMap.newKeySet();
+    // files whose last reload failed, guarded by this, so that a failure is logged once rather than on every retry
+    private final Set<Path> failedPaths = new HashSet<>();
+
+    private volatile MetadataStatementFiles metadataStatementFiles;
+    private volatile MetadataStatementFileWatcher metadataStatementFileWatcher;
+
+    public CachingLocalFilesMetadataStatementsProvider(@NotNull ObjectConverter objectConverter, @NotNull Path... paths) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(paths, "paths must not be null");
+        this.objectConverter = MetadataCodecFallbackRegistrar.registerFallbackMetadataCodecsIfNeeded(objectConverter);
+        this.metadataStatementFiles = MetadataStatementFiles.create(paths);
+        this.paths = metadataStatementFiles.getPaths();
+    }
+
+    @Override
+    public @NotNull List<MetadataStatement> provide() {
+        return getMetadataStatementFiles().getMetadataStatements();
+    }
+
+    /**
+     * Returns the metadata statements for the AAGUID. The returned set is shared and unmodifiable.
+     */
+    @Override
+    public Set<MetadataStatement> find(AAGUID aaguid) {
+        return getMetadataStatementFiles().getIndex().find(aaguid);
+    }
+
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier.
+     * The returned set is shared and unmodifiable.
+     */
+    @Override
+    public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
+        return getMetadataStatementFiles().getIndex().find(attestationCertificateKeyIdentifier);
+    }
+
+    /**
+     * Sets the watch service that signals file changes. The parent directories of the tracked files are registered
+     * with it, and the caller remains responsible for closing it. Pass null to go back to checking the file
+     * attributes on every call.
+     *
+     * @param watchService watch service, or null
+     */
+    public void setWatchService(@Nullable WatchService watchService) {
+        this.metadataStatementFileWatcher = watchService == null ? null : new MetadataStatementFileWatcher(watchService, paths);
+        pendingPaths.addAll(paths);
+    }
+
+    private @NotNull MetadataStatementFiles getMetadataStatementFiles() {
+        MetadataStatementFiles current = metadataStatementFiles;
+        MetadataStatementFileWatcher watcher = metadataStatementFileWatcher;
+        if (watcher == null) {
+            pendingPaths.addAll(current.findChangedPaths(paths));
+        }
+        else {
+            pendingPaths.addAll(watcher.pollChangedPaths());
+        }
+        if (pendingPaths.isEmpty() && current.isComplete()) {
+            return current;
+        }
+        return reload();
+    }
+
+    private synchronized @NotNull MetadataStatementFiles reload() {
+        MetadataStatementFiles current = metadataStatementFiles;
+        Set<Path> candidates = pendingPaths.isEmpty() ? paths : new HashSet<>(pendingPaths);
+        Map<Path, MetadataStatementFiles.Entry> loaded = new HashMap<>();
+        Set<Path> failed = new HashSet<>();
+        for (Path path : current.findChangedPaths(candidates)) {
+            try {
+                loaded.put(path, load(path));
+            } catch (RuntimeException e) {
+                if (!current.isLoaded(path)) {
+                    throw e;
+                }
+                if (failedPaths.add(path)) {
+                    logger.warn("Failed to reload MetadataStatements file {}. The previously loaded statement is kept.", path, e);
+                }
+                failed.add(path);
+            }
+        }
+        MetadataStatementFiles updated = current.update(loaded);
+        metadataStatementFiles = updated;
+        failedPaths.removeAll(loaded.keySet());
+        pendingPaths.removeAll(candidates);
+        pendingPaths.addAll(failed);
+        return updated;
+    }
+
+    private @NotNull MetadataStatementFiles.Entry load(@NotNull Path path) {
+        try {
+            MetadataStatementFiles.Attributes attributes = MetadataStatementFiles.readAttributes(path);
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                return new MetadataStatementFiles.Entry(attributes, objectConverter.getJsonMapper().readValue(inputStream, MetadataStatement.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load a MetadataStatements file", e);
+        }
+    }
+}
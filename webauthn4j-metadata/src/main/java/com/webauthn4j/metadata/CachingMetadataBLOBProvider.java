@@ -17,41 +17,279 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public abstract class CachingMetadataBLOBProvider implements MetadataBLOBProvider {
 
-    private MetadataBLOB cachedMetadataBLOB;
-    private LocalDate cachedMetadataBLOBLastUpdate = null;
+    private static final Logger logger = LoggerFactory.getLogger(CachingMetadataBLOBProvider.class);
+
+    private volatile CachedMetadataBLOB cachedMetadataBLOB;
     private final Object cachedMetadataBLOBLock = new Object();
 
+    private MetadataBLOBDiskCache metadataBLOBDiskCache;
+    private MetadataBLOBDiskCache.Entry metadataBLOBDiskCacheEntry;
+
+    private volatile BackgroundRefresh backgroundRefresh;
+
+    /**
+     * Returns the cached MetadataBLOB. Without background refresh, the first caller seeing the cached MetadataBLOB
+     * past its nextUpdate refreshes it. With background refresh, the cached MetadataBLOB is served while the
+     * background task revalidates it, and only the very first call waits for a fetch.
+     */
     @Override
     public @NotNull MetadataBLOB provide(){
+        CachedMetadataBLOB current = cachedMetadataBLOB;
+        if(current == null || (backgroundRefresh == null && current.needsUpdate())){
+            synchronized (cachedMetadataBLOBLock){
+                current = initialize();
+                if(backgroundRefresh == null && current.needsUpdate()){
+                    refresh();
+                    current = cachedMetadataBLOB;
+                }
+            }
+        }
+        return current.getMetadataBLOB();
+    }
+
+    public void refresh(){
+        synchronized (cachedMetadataBLOBLock){
+            MetadataBLOB metadataBLOB;
+            if(metadataBLOBDiskCache == null){
+                metadataBLOB = doProvide();
+            }
+            else {
+                MetadataBLOBDiskCache.Entry entry = doProvide(metadataBLOBDiskCacheEntry);
+                if(entry != metadataBLOBDiskCacheEntry){
+                    storeMetadataBLOBDiskCache(entry);
+                }
+                metadataBLOB = entry.getMetadataBLOB();
+            }
+            cachedMetadataBLOB = new CachedMetadataBLOB(metadataBLOB, LocalDate.now(ZoneOffset.UTC));
+        }
+    }
+
+    protected abstract @NotNull MetadataBLOB doProvide();
+
+    /**
+     * Provides the MetadataBLOB when a disk cache is configured. Providers fetching the BLOB over HTTP override this
+     * to revalidate the cached entry with a conditional request.
+     *
+     * @param cachedEntry the entry currently cached, or null if there is none
+     * @return a new entry, or {@code cachedEntry} itself if the cached MetadataBLOB is still current
+     */
+    protected @NotNull MetadataBLOBDiskCache.Entry doProvide(@Nullable MetadataBLOBDiskCache.Entry cachedEntry){
+        return new MetadataBLOBDiskCache.Entry(doProvide(), null, null);
+    }
+
+    /**
+     * Validates a MetadataBLOB loaded from the disk cache before it is served. The default implementation verifies
+     * its signature.
+     *
+     * @param metadataBLOB MetadataBLOB loaded from the disk cache
+     * @throws MDSException if the MetadataBLOB must not be served
+     */
+    protected void validateCachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB){
+        if(!metadataBLOB.isValidSignature()){
+            throw new MDSException("MetadataBLOB signature is invalid");
+        }
+    }
+
+    public @Nullable MetadataBLOBDiskCache getMetadataBLOBDiskCache() {
+        return metadataBLOBDiskCache;
+    }
+
+    /**
+     * Sets the disk cache the MetadataBLOB is persisted to. On first use, a valid cached MetadataBLOB is served
+     * without fetching it, unless its nextUpdate has come, in which case it is revalidated.
+     *
+     * @param metadataBLOBDiskCache disk cache, or null to disable it
+     */
+    public void setMetadataBLOBDiskCache(@Nullable MetadataBLOBDiskCache metadataBLOBDiskCache) {
+        synchronized (cachedMetadataBLOBLock){
+            this.metadataBLOBDiskCache = metadataBLOBDiskCache;
+            this.metadataBLOBDiskCacheEntry = null;
+        }
+    }
+
+    /**
+     * Starts refreshing the MetadataBLOB in the background with {@link BackgroundRefreshPolicy#DEFAULT}
+     *
+     * @param scheduler scheduler to run the refresh on
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler){
+        startBackgroundRefresh(scheduler, BackgroundRefreshPolicy.DEFAULT);
+    }
+
+    /**
+     * Starts refreshing the MetadataBLOB in the background. The first refresh runs immediately if nothing is cached
+     * yet. From then on, {@link #provide()} serves the cached MetadataBLOB without blocking, even when it is past
+     * its nextUpdate, and a failed refresh keeps the last good MetadataBLOB in service.
+     *
+     * @param scheduler scheduler to run the refresh on
+     * @param policy    schedule of the refresh
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler, @NotNull BackgroundRefreshPolicy policy){
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(policy, "policy must not be null");
+        stopBackgroundRefresh();
+        BackgroundRefresh started = new BackgroundRefresh(scheduler, policy);
+        backgroundRefresh = started;
+        CachedMetadataBLOB current = cachedMetadataBLOB;
+        started.schedule(current == null ? Duration.ZERO : policy.getDelayAfterSuccess(current.getNextUpdate(), Instant.now()));
+    }
+
+    /**
+     * Stops the background refresh. A refresh in progress is not interrupted.
+     */
+    public void stopBackgroundRefresh(){
+        BackgroundRefresh current = backgroundRefresh;
+        backgroundRefresh = null;
+        if(current != null){
+            current.cancel();
+        }
+    }
+
+    private @NotNull CachedMetadataBLOB initialize(){
         synchronized (cachedMetadataBLOBLock){
-            if(cachedMetadataBLOB == null){
+            if(cachedMetadataBLOB == null && !loadMetadataBLOBDiskCache()){
                 refresh();
             }
+            return cachedMetadataBLOB;
         }
+    }
+
+    /**
+     * Loads the disk cache. A cached MetadataBLOB whose nextUpdate has come is kept for revalidation only.
+     *
+     * @return true if the cached MetadataBLOB can be served without a refresh
+     */
+    private boolean loadMetadataBLOBDiskCache(){
+        if(metadataBLOBDiskCache == null || metadataBLOBDiskCacheEntry != null){
+            return false;
+        }
+        MetadataBLOBDiskCache.Entry entry = metadataBLOBDiskCache.load();
+        if(entry == null){
+            return false;
+        }
+        try{
+            validateCachedMetadataBLOB(entry.getMetadataBLOB());
+        }
+        catch (MDSException e){
+            logger.warn("Discarded cached MetadataBLOB in {}", metadataBLOBDiskCache.getPath(), e);
+            return false;
+        }
+        metadataBLOBDiskCacheEntry = entry;
         LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        LocalDate nextUpdate = cachedMetadataBLOB.getPayload().getNextUpdate();
-        if((nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && cachedMetadataBLOBLastUpdate.isBefore(today)){
-            refresh();
+        if(!entry.getMetadataBLOB().getPayload().getNextUpdate().isAfter(today)){
+            return false;
         }
+        cachedMetadataBLOB = new CachedMetadataBLOB(entry.getMetadataBLOB(), LocalDate.MIN);
+        return true;
+    }
 
-        return cachedMetadataBLOB;
+    private void storeMetadataBLOBDiskCache(@NotNull MetadataBLOBDiskCache.Entry entry){
+        metadataBLOBDiskCacheEntry = entry;
+        try{
+            metadataBLOBDiskCache.store(entry);
+        }
+        catch (UncheckedIOException e){
+            logger.warn("Failed to store MetadataBLOB to {}", metadataBLOBDiskCache.getPath(), e);
+        }
     }
 
-    public void refresh(){
-        synchronized (cachedMetadataBLOBLock){
-            cachedMetadataBLOB = doProvide();
-            cachedMetadataBLOBLastUpdate = LocalDate.now(ZoneOffset.UTC);
+    /**
+     * The cached MetadataBLOB and the date it was last fetched, published as a whole
+     */
+    private static final class CachedMetadataBLOB {
+
+        private final MetadataBLOB metadataBLOB;
+        private final LocalDate lastUpdate;
+
+        CachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate lastUpdate) {
+            this.metadataBLOB = metadataBLOB;
+            this.lastUpdate = lastUpdate;
+        }
+
+        @NotNull MetadataBLOB getMetadataBLOB() {
+            return metadataBLOB;
+        }
+
+        @NotNull LocalDate getNextUpdate() {
+            return metadataBLOB.getPayload().getNextUpdate();
+        }
+
+        boolean needsUpdate() {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            LocalDate nextUpdate = getNextUpdate();
+            return (nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && lastUpdate.isBefore(today);
         }
     }
 
-    protected abstract @NotNull MetadataBLOB doProvide();
+    private final class BackgroundRefresh implements Runnable {
 
+        private final ScheduledExecutorService scheduler;
+        private final BackgroundRefreshPolicy policy;
+        // Runs are chained one after another, so this is never accessed concurrently
+        private int consecutiveFailures = 0;
+        private volatile ScheduledFuture<?> scheduledFuture;
+
+        BackgroundRefresh(@NotNull ScheduledExecutorService scheduler, @NotNull BackgroundRefreshPolicy policy) {
+            this.scheduler = scheduler;
+            this.policy = policy;
+        }
+
+        @Override
+        public void run() {
+            if(backgroundRefresh != this){
+                return;
+            }
+            Duration delay;
+            try{
+                CachedMetadataBLOB current = cachedMetadataBLOB;
+                if(current == null){
+                    current = initialize();
+                }
+                else if(policy.isRefreshDue(current.getNextUpdate(), Instant.now())){
+                    refresh();
+                    current = cachedMetadataBLOB;
+                }
+                consecutiveFailures = 0;
+                delay = policy.getDelayAfterSuccess(current.getNextUpdate(), Instant.now());
+            }
+            catch (RuntimeException e){
+                consecutiveFailures++;
+                delay = policy.getDelayAfterFailure(consecutiveFailures);
+                logger.warn("Failed to refresh MetadataBLOB. Retrying in {}", delay, e);
+            }
+            schedule(delay);
+        }
+
+        void schedule(@NotNull Duration delay) {
+            if(backgroundRefresh == this){
+                scheduledFuture = scheduler.schedule(this, delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void cancel() {
+            ScheduledFuture<?> current = scheduledFuture;
+            if(current != null){
+                current.cancel(false);
+            }
+        }
+    }
 
 }
@@ -18,10 +18,13 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
 import com.webauthn4j.util.HexUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -30,20 +33,38 @@ public class DefaultMetadataStatementRepository implements MetadataStatementRepo
 
     private final MetadataStatementsProvider metadataStatementsProvider;
 
+    private volatile boolean providedStatementsImmutable = false;
+    private volatile Snapshot snapshot;
+
     public DefaultMetadataStatementRepository(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
     }
 
+    /**
+     * Returns the metadata statements for the AAGUID. The returned set is shared and unmodifiable when
+     * {@link #isProvidedStatementsImmutable()} is set.
+     */
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
+        if (providedStatementsImmutable) {
+            return getIndex().find(aaguid);
+        }
         return metadataStatementsProvider.provide().stream()
                 .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier. When
+     * {@link #isProvidedStatementsImmutable()} is set, the returned set is shared and unmodifiable, and identifiers
+     * that are not valid hex strings are skipped instead of failing the lookup with an {@link IllegalArgumentException}.
+     */
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
+        if (providedStatementsImmutable) {
+            return getIndex().find(attestationCertificateKeyIdentifier);
+        }
         return metadataStatementsProvider.provide().stream()
                 .filter(entry -> {
                     if(entry == null || entry.getAttestationCertificateKeyIdentifiers() == null){
@@ -54,4 +75,54 @@ public class DefaultMetadataStatementRepository implements MetadataStatementRepo
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                 .collect(Collectors.toSet());
     }
+
+    public boolean isProvidedStatementsImmutable() {
+        return providedStatementsImmutable;
+    }
+
+    /**
+     * Declares that the provider never modifies a list it has returned, and returns a new list instance whenever its
+     * statements change, as {@link CachingLocalFilesMetadataStatementsProvider} does. The statements are then indexed
+     * once per list instance instead of being scanned on every lookup. Disabled by default.
+     *
+     * @param providedStatementsImmutable true if the provided lists are never modified
+     */
+    public void setProvidedStatementsImmutable(boolean providedStatementsImmutable) {
+        this.providedStatementsImmutable = providedStatementsImmutable;
+        this.snapshot = null;
+    }
+
+    /**
+     * Returns the index for the statements currently served by the provider. It is rebuilt only when the provider
+     * returns a different list instance, so providers that cache their statements are indexed once per reload.
+     */
+    private @NotNull MetadataStatementIndex getIndex() {
+        List<MetadataStatement> metadataStatements = metadataStatementsProvider.provide();
+        Snapshot current = snapshot;
+        if (current != null && current.metadataStatements == metadataStatements) {
+            return current.index;
+        }
+        MetadataStatementIndex.Builder builder = MetadataStatementIndex.builder();
+        for (MetadataStatement metadataStatement : metadataStatements) {
+            if (metadataStatement == null || !MetadataStatementUtil.checkSurrogateMetadataStatementAttestationRootCertificate(metadataStatement)) {
+                continue;
+            }
+            builder.addByAaguid(metadataStatement.getAaguid(), metadataStatement);
+            builder.addByAttestationCertificateKeyIdentifiers(metadataStatement);
+        }
+        Snapshot created = new Snapshot(metadataStatements, builder.build());
+        snapshot = created;
+        return created.index;
+    }
+
+    private static final class Snapshot {
+
+        private final List<MetadataStatement> metadataStatements;
+        private final MetadataStatementIndex index;
+
+        Snapshot(List<MetadataStatement> metadataStatements, MetadataStatementIndex index) {
+            this.metadataStatements = metadataStatements;
+            this.index = index;
+        }
+    }
 }
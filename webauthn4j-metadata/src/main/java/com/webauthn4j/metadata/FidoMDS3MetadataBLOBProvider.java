@@ -23,14 +23,16 @@ import com.webauthn4j.metadata.exception.CertPathCheckException;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.util.CertificateUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,6 +42,8 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     public static final String DEFAULT_BLOB_ENDPOINT = "https://mds.fidoalliance.org/";
 
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     private final MetadataBLOBFactory metadataBLOBFactory;
     private final String blobEndpoint;
     private final HttpClient httpClient;
@@ -73,24 +77,50 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     @Override
     protected @NotNull MetadataBLOB doProvide() {
-        String responseBody;
-        try {
-            InputStream inputStream = httpClient.fetch(blobEndpoint).getBody();
-            byte[] bytes = inputStream.readAllBytes();
-            responseBody = new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new MDSException("Failed to parse response as String", e);
+        return fetch(Collections.emptyMap(), null).getMetadataBLOB();
+    }
+
+    /**
+     * Revalidates the cached entry with a conditional request carrying its validators
+     */
+    @Override
+    protected @NotNull MetadataBLOBDiskCache.Entry doProvide(@Nullable MetadataBLOBDiskCache.Entry cachedEntry) {
+        if (cachedEntry == null) {
+            return fetch(Collections.emptyMap(), null);
+        }
+        return fetch(cachedEntry.getConditionalRequestHeaders(), cachedEntry);
+    }
+
+    /**
+     * Verifies the signature and, without revocation checking, the certificate chain of a MetadataBLOB loaded from
+     * the disk cache. Revocation was checked when it was fetched.
+     */
+    @Override
+    protected void validateCachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB) {
+        super.validateCachedMetadataBLOB(metadataBLOB);
+        validateCertPath(metadataBLOB, false);
+    }
+
+    private @NotNull MetadataBLOBDiskCache.Entry fetch(@NotNull Map<String, String> requestHeaders, @Nullable MetadataBLOBDiskCache.Entry cachedEntry) {
+        HttpClient.Response response = requestHeaders.isEmpty() ? httpClient.fetch(blobEndpoint) : httpClient.fetch(blobEndpoint, requestHeaders);
+        MetadataBLOB metadataBLOB;
+        try (InputStream inputStream = response.getBody()) {
+            if (cachedEntry != null && response.getStatusCode() == HTTP_NOT_MODIFIED) {
+                return cachedEntry;
+            }
+            metadataBLOB = metadataBLOBFactory.parse(inputStream);
+        } catch (IOException | UncheckedIOException e) {
+            throw new MDSException("Failed to read response", e);
         }
 
-        MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(responseBody);
         if(!metadataBLOB.isValidSignature()){
             throw new MDSException("MetadataBLOB signature is invalid");
         }
-        validateCertPath(metadataBLOB);
-        return metadataBLOB;
+        validateCertPath(metadataBLOB, revocationCheckEnabled);
+        return new MetadataBLOBDiskCache.Entry(metadataBLOB, response.getHeader("ETag"), response.getHeader("Last-Modified"));
     }
 
-    private void validateCertPath(@NotNull MetadataBLOB metadataBLOB) {
+    private void validateCertPath(@NotNull MetadataBLOB metadataBLOB, boolean revocationCheckEnabled) {
         CertPath certPath = metadataBLOB.getHeader().getX5c();
         try{
             certPathChecker.check(new CertPathCheckContext(certPath, trustAnchors, revocationCheckEnabled));
@@ -122,9 +152,9 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         @Override
         public void check(CertPathCheckContext context) throws MDSException {
             CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-            PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-            certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-            if(revocationCheckEnabled){
+            PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(context.getTrustAnchors());
+            certPathParameters.setRevocationEnabled(context.isRevocationCheckEnabled());
+            if(context.isRevocationCheckEnabled()){
                 PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
                 pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
                 certPathParameters.addCertPathChecker(pkixRevocationChecker);
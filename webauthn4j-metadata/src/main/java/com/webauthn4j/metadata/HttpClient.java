@@ -18,8 +18,12 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.exception.MDSException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * HTTP Client for FIDO MetadataItemImpl Service
@@ -28,14 +32,36 @@ public interface HttpClient {
 
     @NotNull Response fetch(@NotNull String uri) throws MDSException;
 
+    /**
+     * Fetches the resource with additional request headers, such as the validators of a conditional request.
+     * A client supporting conditional requests returns a response with status 304 instead of throwing when the
+     * resource is not modified. The default implementation ignores the headers.
+     *
+     * @param uri            URI to fetch
+     * @param requestHeaders additional request headers
+     * @return response
+     * @throws MDSException if the resource cannot be fetched
+     */
+    default @NotNull Response fetch(@NotNull String uri, @NotNull Map<String, String> requestHeaders) throws MDSException {
+        return fetch(uri);
+    }
+
     class Response{
 
         private final int statusCode;
         private final InputStream body;
+        private final Map<String, String> headers;
 
         public Response(int statusCode, InputStream body) {
+            this(statusCode, body, Collections.emptyMap());
+        }
+
+        public Response(int statusCode, InputStream body, @NotNull Map<String, String> headers) {
             this.statusCode = statusCode;
             this.body = body;
+            Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            map.putAll(headers);
+            this.headers = Collections.unmodifiableMap(map);
         }
 
         public int getStatusCode() {
@@ -45,6 +71,16 @@ public interface HttpClient {
         public InputStream getBody() {
             return body;
         }
+
+        /**
+         * Returns the value of the response header
+         *
+         * @param name header name, matched case-insensitively
+         * @return the header value, or null if the response has no such header
+         */
+        public @Nullable String getHeader(@NotNull String name) {
+            return headers.get(name);
+        }
     }
 
 }
@@ -19,46 +19,48 @@ package com.webauthn4j.metadata;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
-import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
-import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.HexUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class MetadataBLOBBasedMetadataStatementRepository implements MetadataStatementRepository {
 
-    private final List<MetadataBLOBProvider> metadataBLOBProviders;
-
-    private boolean notFidoCertifiedAllowed = false;
-    private boolean selfAssertionSubmittedAllowed = false;
+    private final MetadataSnapshotProvider metadataSnapshotProvider;
 
     public MetadataBLOBBasedMetadataStatementRepository(MetadataBLOBProvider... metadataBLOBProviders) {
-        this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this(new MetadataSnapshotProvider(metadataBLOBProviders));
+    }
+
+    /**
+     * Creates a repository reading from the given snapshot provider. The status filter settings belong to the
+     * snapshot provider and are therefore shared with every other repository using it.
+     *
+     * @param metadataSnapshotProvider snapshot provider
+     */
+    public MetadataBLOBBasedMetadataStatementRepository(@NotNull MetadataSnapshotProvider metadataSnapshotProvider) {
+        AssertUtil.notNull(metadataSnapshotProvider, "metadataSnapshotProvider must not be null");
+        this.metadataSnapshotProvider = metadataSnapshotProvider;
     }
 
+    /**
+     * Returns the metadata statements for the AAGUID whose payload entries pass the status report check.
+     * The returned set is shared and unmodifiable.
+     */
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        return metadataSnapshotProvider.provide().findMetadataStatements(aaguid);
     }
 
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier.
+     * The returned set is shared and unmodifiable.
+     */
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        return metadataSnapshotProvider.provide().findMetadataStatements(attestationCertificateKeyIdentifier);
     }
 
     public static boolean matchAttestationCertificateKeyIdentifier(MetadataBLOBPayloadEntry entry, byte[] attestationCertificateKeyIdentifier) {
@@ -71,19 +73,19 @@ public class MetadataBLOBBasedMetadataStatementRepository implements MetadataSta
 
 
     public boolean isNotFidoCertifiedAllowed() {
-        return notFidoCertifiedAllowed;
+        return metadataSnapshotProvider.isNotFidoCertifiedAllowed();
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        metadataSnapshotProvider.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return selfAssertionSubmittedAllowed;
+        return metadataSnapshotProvider.isSelfAssertionSubmittedAllowed();
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+        metadataSnapshotProvider.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
     }
 
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBFactory;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists the MetadataBLOB served by a caching MetadataBLOB provider to a local file, together with the HTTP
+ * validators it was fetched with. A restarted process can then serve the BLOB without downloading it, and revalidate
+ * it with a conditional request once it is due for an update.
+ * <p>
+ * The file holds the BLOB as received, so its signature can be verified again when it is loaded.
+ */
+public class MetadataBLOBDiskCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetadataBLOBDiskCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final MetadataBLOBFactory metadataBLOBFactory;
+    private final Path path;
+
+    public MetadataBLOBDiskCache(@NotNull ObjectConverter objectConverter, @NotNull Path path) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(path, "path must not be null");
+        this.metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
+        this.path = path;
+    }
+
+    public @NotNull Path getPath() {
+        return path;
+    }
+
+    /**
+     * Loads the cached entry. The signature of the loaded MetadataBLOB is not verified.
+     *
+     * @return the cached entry, or null if the file does not exist or cannot be read
+     */
+    public @Nullable Entry load() {
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = inputStream.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                logger.warn("Ignored MetadataBLOB cache file {} with unsupported format version {}", path, version);
+                return null;
+            }
+            String eTag = readNullableString(inputStream);
+            String lastModified = readNullableString(inputStream);
+            MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(inputStream);
+            return new Entry(metadataBLOB, eTag, lastModified);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load MetadataBLOB cache file {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the entry, replacing the cached one. The file is written next to the cache file first and then moved
+     * into place, so a concurrent {@link #load()} or a crash never sees a partially written file.
+     *
+     * @param entry entry to store
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void store(@NotNull Entry entry) {
+        AssertUtil.notNull(entry, "entry must not be null");
+        Path directory = path.toAbsolutePath().getParent();
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    outputStream.writeByte(FORMAT_VERSION);
+                    writeNullableString(outputStream, entry.getETag());
+                    writeNullableString(outputStream, entry.getLastModified());
+                    outputStream.write(entry.getMetadataBLOB().getBytes());
+                }
+                try {
+                    Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store MetadataBLOB cache file " + path, e);
+        }
+    }
+
+    private static @Nullable String readNullableString(@NotNull DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? inputStream.readUTF() : null;
+    }
+
+    private static void writeNullableString(@NotNull DataOutputStream outputStream, @Nullable String value) throws IOException {
+        outputStream.writeBoolean(value != null);
+        if (value != null) {
+            outputStream.writeUTF(value);
+        }
+    }
+
+    /**
+     * A MetadataBLOB together with the HTTP validators of the response it was fetched from
+     */
+    public static class Entry {
+
+        private final MetadataBLOB metadataBLOB;
+        private final String eTag;
+        private final String lastModified;
+
+        public Entry(@NotNull MetadataBLOB metadataBLOB, @Nullable String eTag, @Nullable String lastModified) {
+            AssertUtil.notNull(metadataBLOB, "metadataBLOB must not be null");
+            this.metadataBLOB = metadataBLOB;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        public @NotNull MetadataBLOB getMetadataBLOB() {
+            return metadataBLOB;
+        }
+
+        public @Nullable String getETag() {
+            return eTag;
+        }
+
+        public @Nullable String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the headers of a conditional request revalidating this entry
+         *
+         * @return If-None-Match and If-Modified-Since headers for the validators this entry has
+         */
+        public @NotNull Map<String, String> getConditionalRequestHeaders() {
+            if (eTag == null && lastModified == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> headers = new HashMap<>();
+            if (eTag != null) {
+                headers.put("If-None-Match", eTag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+    }
+
+}
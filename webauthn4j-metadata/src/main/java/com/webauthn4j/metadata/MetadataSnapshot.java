@@ -0,0 +1,275 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
+import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, pre-filtered view of a set of {@link MetadataBLOB}s.
+ * <p>
+ * A snapshot is built once per BLOB version and status filter setting. It holds the payload entries that pass the
+ * status report check, the metadata statements and trust anchors indexed by AAGUID and by attestation certificate
+ * key identifier, and the status reports of every entry. Repositories that share a {@link MetadataSnapshotProvider}
+ * therefore share a single copy and a single filtering pass. All returned collections are shared and unmodifiable.
+ */
+public class MetadataSnapshot {
+
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    private final long version;
+    private final List<MetadataBLOB> metadataBLOBs;
+    private final boolean notFidoCertifiedAllowed;
+    private final boolean selfAssertionSubmittedAllowed;
+    private final List<MetadataBLOBPayloadEntry> entries;
+    private final MetadataStatementIndex metadataStatementIndex;
+    private final Map<AAGUID, Set<TrustAnchor>> trustAnchorsByAaguid;
+    private final Map<ByteBuffer, Set<TrustAnchor>> trustAnchorsByAttestationCertificateKeyIdentifier;
+    private final Map<AAGUID, List<StatusReport>> statusReportsByAaguid;
+    private final Map<ByteBuffer, List<StatusReport>> statusReportsByAttestationCertificateKeyIdentifier;
+
+    private MetadataSnapshot(@NotNull List<MetadataBLOB> metadataBLOBs, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        this.version = versionCounter.incrementAndGet();
+        this.metadataBLOBs = Collections.unmodifiableList(new ArrayList<>(metadataBLOBs));
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+
+        List<MetadataBLOBPayloadEntry> filteredEntries = new ArrayList<>();
+        MetadataStatementIndex.Builder indexBuilder = MetadataStatementIndex.builder();
+        Map<AAGUID, List<StatusReport>> statusReportsByAaguidBuilder = new HashMap<>();
+        Map<ByteBuffer, List<StatusReport>> statusReportsByAttestationCertificateKeyIdentifierBuilder = new HashMap<>();
+        for (MetadataBLOB metadataBLOB : metadataBLOBs) {
+            for (MetadataBLOBPayloadEntry entry : metadataBLOB.getPayload().getEntries()) {
+                collectStatusReports(entry, statusReportsByAaguidBuilder, statusReportsByAttestationCertificateKeyIdentifierBuilder);
+                MetadataStatement metadataStatement = entry.getMetadataStatement();
+                if (metadataStatement == null || !MetadataStatementUtil.checkSurrogateMetadataStatementAttestationRootCertificate(metadataStatement)) {
+                    continue;
+                }
+                if (MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed)) {
+                    filteredEntries.add(entry);
+                    indexBuilder.addByAaguid(entry.getAaguid(), metadataStatement);
+                }
+                indexBuilder.addByAttestationCertificateKeyIdentifiers(metadataStatement);
+            }
+        }
+        this.entries = Collections.unmodifiableList(filteredEntries);
+        this.metadataStatementIndex = indexBuilder.build();
+
+        Map<X509Certificate, TrustAnchor> trustAnchors = new HashMap<>();
+        this.trustAnchorsByAaguid = createTrustAnchorIndex(metadataStatementIndex::forEachAaguid, trustAnchors);
+        this.trustAnchorsByAttestationCertificateKeyIdentifier = createTrustAnchorIndex(metadataStatementIndex::forEachAttestationCertificateKeyIdentifier, trustAnchors);
+        this.statusReportsByAaguid = freezeLists(statusReportsByAaguidBuilder);
+        this.statusReportsByAttestationCertificateKeyIdentifier = freezeLists(statusReportsByAttestationCertificateKeyIdentifierBuilder);
+    }
+
+    /**
+     * Filters the given BLOBs into a new snapshot
+     *
+     * @param metadataBLOBs BLOBs to include, in provider order
+     * @param notFidoCertifiedAllowed whether entries reported as NOT_FIDO_CERTIFIED are accepted
+     * @param selfAssertionSubmittedAllowed whether entries reported as SELF_ASSERTION_SUBMITTED are accepted
+     * @return snapshot with a version greater than every snapshot created before
+     */
+    public static @NotNull MetadataSnapshot create(@NotNull List<MetadataBLOB> metadataBLOBs, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        AssertUtil.notNull(metadataBLOBs, "metadataBLOBs must not be null");
+        return new MetadataSnapshot(metadataBLOBs, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed);
+    }
+
+    /**
+     * Returns whether this snapshot was built from exactly these BLOB instances and status filter settings
+     *
+     * @param metadataBLOBs BLOBs currently served by the providers, in provider order
+     * @param notFidoCertifiedAllowed current NOT_FIDO_CERTIFIED setting
+     * @param selfAssertionSubmittedAllowed current SELF_ASSERTION_SUBMITTED setting
+     * @return true if the snapshot is still current
+     */
+    public boolean isBuiltFrom(@NotNull List<MetadataBLOB> metadataBLOBs, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        if (this.notFidoCertifiedAllowed != notFidoCertifiedAllowed || this.selfAssertionSubmittedAllowed != selfAssertionSubmittedAllowed) {
+            return false;
+        }
+        if (this.metadataBLOBs.size() != metadataBLOBs.size()) {
+            return false;
+        }
+        for (int i = 0; i < metadataBLOBs.size(); i++) {
+            if (this.metadataBLOBs.get(i) != metadataBLOBs.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public @NotNull List<MetadataBLOB> getMetadataBLOBs() {
+        return metadataBLOBs;
+    }
+
+    public boolean isNotFidoCertifiedAllowed() {
+        return notFidoCertifiedAllowed;
+    }
+
+    public boolean isSelfAssertionSubmittedAllowed() {
+        return selfAssertionSubmittedAllowed;
+    }
+
+    /**
+     * Returns the payload entries that carry a usable metadata statement and pass the status report check
+     *
+     * @return filtered entries
+     */
+    public @NotNull List<MetadataBLOBPayloadEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the metadata statements for the AAGUID whose payload entries pass the status report check
+     *
+     * @param aaguid AAGUID
+     * @return metadata statements
+     */
+    public @NotNull Set<MetadataStatement> findMetadataStatements(@Nullable AAGUID aaguid) {
+        return metadataStatementIndex.find(aaguid);
+    }
+
+    /**
+     * Returns the metadata statements listing the attestation certificate key identifier
+     *
+     * @param attestationCertificateKeyIdentifier attestation certificate key identifier
+     * @return metadata statements
+     */
+    public @NotNull Set<MetadataStatement> findMetadataStatements(@Nullable byte[] attestationCertificateKeyIdentifier) {
+        return metadataStatementIndex.find(attestationCertificateKeyIdentifier);
+    }
+
+    /**
+     * Returns the attestation root certificates of {@link #findMetadataStatements(AAGUID)} as trust anchors
+     *
+     * @param aaguid AAGUID
+     * @return trust anchors
+     */
+    public @NotNull Set<TrustAnchor> findTrustAnchors(@Nullable AAGUID aaguid) {
+        return trustAnchorsByAaguid.getOrDefault(aaguid, Collections.emptySet());
+    }
+
+    /**
+     * Returns the attestation root certificates of {@link #findMetadataStatements(byte[])} as trust anchors
+     *
+     * @param attestationCertificateKeyIdentifier attestation certificate key identifier
+     * @return trust anchors
+     */
+    public @NotNull Set<TrustAnchor> findTrustAnchors(@Nullable byte[] attestationCertificateKeyIdentifier) {
+        if (attestationCertificateKeyIdentifier == null) {
+            return Collections.emptySet();
+        }
+        return trustAnchorsByAttestationCertificateKeyIdentifier.getOrDefault(ByteBuffer.wrap(attestationCertificateKeyIdentifier), Collections.emptySet());
+    }
+
+    /**
+     * Returns the status reports of every payload entry for the AAGUID, including entries rejected by the filter
+     *
+     * @param aaguid AAGUID
+     * @return status reports
+     */
+    public @NotNull List<StatusReport> findStatusReports(@Nullable AAGUID aaguid) {
+        return statusReportsByAaguid.getOrDefault(aaguid, Collections.emptyList());
+    }
+
+    /**
+     * Returns the status reports of every payload entry listing the attestation certificate key identifier,
+     * including entries rejected by the filter
+     *
+     * @param attestationCertificateKeyIdentifier attestation certificate key identifier
+     * @return status reports
+     */
+    public @NotNull List<StatusReport> findStatusReports(@Nullable byte[] attestationCertificateKeyIdentifier) {
+        if (attestationCertificateKeyIdentifier == null) {
+            return Collections.emptyList();
+        }
+        return statusReportsByAttestationCertificateKeyIdentifier.getOrDefault(ByteBuffer.wrap(attestationCertificateKeyIdentifier), Collections.emptyList());
+    }
+
+    private static void collectStatusReports(@NotNull MetadataBLOBPayloadEntry entry, @NotNull Map<AAGUID, List<StatusReport>> byAaguid, @NotNull Map<ByteBuffer, List<StatusReport>> byAttestationCertificateKeyIdentifier) {
+        List<StatusReport> statusReports = entry.getStatusReports();
+        if (statusReports == null || statusReports.isEmpty()) {
+            return;
+        }
+        if (entry.getAaguid() != null) {
+            byAaguid.computeIfAbsent(entry.getAaguid(), key -> new ArrayList<>()).addAll(statusReports);
+        }
+        for (ByteBuffer identifier : MetadataStatementIndex.decodeAttestationCertificateKeyIdentifiers(entry.getAttestationCertificateKeyIdentifiers())) {
+            byAttestationCertificateKeyIdentifier.computeIfAbsent(identifier, key -> new ArrayList<>()).addAll(statusReports);
+        }
+    }
+
+    /**
+     * Derives a trust anchor index from the keys of the {@link MetadataStatementIndex}, building one trust anchor per
+     * distinct root certificate. Since a snapshot hands out the same set instance for a key until it is replaced, the
+     * cert path verifier can reuse the PKIX parameters it built for that set.
+     */
+    private static <K> @NotNull Map<K, Set<TrustAnchor>> createTrustAnchorIndex(@NotNull Consumer<BiConsumer<K, Set<MetadataStatement>>> statementIndex, @NotNull Map<X509Certificate, TrustAnchor> trustAnchors) {
+        Map<K, Set<TrustAnchor>> index = new HashMap<>();
+        statementIndex.accept((key, metadataStatements) -> {
+            Set<TrustAnchor> trustAnchorSet = createTrustAnchors(metadataStatements, trustAnchors);
+            if (!trustAnchorSet.isEmpty()) {
+                index.put(key, trustAnchorSet);
+            }
+        });
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static @NotNull Set<TrustAnchor> createTrustAnchors(@NotNull Set<MetadataStatement> metadataStatements, @NotNull Map<X509Certificate, TrustAnchor> trustAnchors) {
+        Set<TrustAnchor> trustAnchorSet = new HashSet<>();
+        for (MetadataStatement metadataStatement : metadataStatements) {
+            for (X509Certificate certificate : metadataStatement.getAttestationRootCertificates()) {
+                trustAnchorSet.add(trustAnchors.computeIfAbsent(certificate, c -> new TrustAnchor(c, null)));
+            }
+        }
+        return Collections.unmodifiableSet(trustAnchorSet);
+    }
+
+    private static <K, V> @NotNull Map<K, List<V>> freezeLists(@NotNull Map<K, List<V>> index) {
+        Map<K, List<V>> frozen = new HashMap<>(index.size() * 4 / 3 + 1);
+        index.forEach((key, value) -> frozen.put(key, Collections.unmodifiableList(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Supplies the current {@link MetadataSnapshot} for a fixed list of {@link MetadataBLOBProvider}s.
+ * <p>
+ * A new snapshot is built only when a provider returns a different BLOB instance or a status filter setting has
+ * changed. Pass one instance to several repositories, e.g. {@link MetadataBLOBBasedMetadataStatementRepository} and
+ * {@link com.webauthn4j.metadata.anchor.MetadataBLOBBasedTrustAnchorRepository}, to let them share the snapshot and
+ * its status filter settings.
+ */
+public class MetadataSnapshotProvider {
+
+    private final List<MetadataBLOBProvider> metadataBLOBProviders;
+
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
+
+    private volatile MetadataSnapshot metadataSnapshot;
+
+    public MetadataSnapshotProvider(@NotNull MetadataBLOBProvider... metadataBLOBProviders) {
+        AssertUtil.notNull(metadataBLOBProviders, "metadataBLOBProviders must not be null");
+        this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+    }
+
+    /**
+     * Returns the snapshot for the BLOBs currently served by the providers. Concurrent rebuilds are harmless as each
+     * produces an equivalent, immutable snapshot.
+     *
+     * @return current snapshot
+     */
+    public @NotNull MetadataSnapshot provide() {
+        List<MetadataBLOB> metadataBLOBs = new ArrayList<>(metadataBLOBProviders.size());
+        for (MetadataBLOBProvider metadataBLOBProvider : metadataBLOBProviders) {
+            metadataBLOBs.add(metadataBLOBProvider.provide());
+        }
+        boolean currentNotFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        boolean currentSelfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+
+        MetadataSnapshot current = metadataSnapshot;
+        if (current != null && current.isBuiltFrom(metadataBLOBs, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed)) {
+            return current;
+        }
+        MetadataSnapshot created = MetadataSnapshot.create(metadataBLOBs, currentNotFidoCertifiedAllowed, currentSelfAssertionSubmittedAllowed);
+        metadataSnapshot = created;
+        return created;
+    }
+
+    public boolean isNotFidoCertifiedAllowed() {
+        return notFidoCertifiedAllowed;
+    }
+
+    public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+    }
+
+    public boolean isSelfAssertionSubmittedAllowed() {
+        return selfAssertionSubmittedAllowed;
+    }
+
+    public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+    }
+}
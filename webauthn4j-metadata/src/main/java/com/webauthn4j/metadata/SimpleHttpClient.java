@@ -23,6 +23,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Tiny implementation of {@link HttpClient}. If you prefer more powerful one, implement {@link HttpClient} with
@@ -32,21 +36,41 @@ public class SimpleHttpClient implements HttpClient {
 
     @Override
     public @NotNull Response fetch(@NotNull String url) {
+        return fetch(url, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull Response fetch(@NotNull String url, @NotNull Map<String, String> requestHeaders) {
         try {
             URL fetchUrl = new URL(url);
             HttpURLConnection urlConnection = (HttpURLConnection) fetchUrl.openConnection();
             urlConnection.setRequestMethod("GET");
+            requestHeaders.forEach(urlConnection::setRequestProperty);
             urlConnection.connect();
 
             int status = urlConnection.getResponseCode();
 
             if (status == HttpURLConnection.HTTP_OK) {
                 InputStream inputStream = urlConnection.getInputStream();
-                return new Response(status, inputStream);
+                return new Response(status, inputStream, getHeaders(urlConnection));
+            }
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && !requestHeaders.isEmpty()) {
+                return new Response(status, InputStream.nullInputStream(), getHeaders(urlConnection));
             }
             throw new MDSException("failed to fetch " + url);
         } catch (IOException e) {
             throw new MDSException("failed to fetch " + url, e);
         }
     }
+
+    private static @NotNull Map<String, String> getHeaders(@NotNull HttpURLConnection urlConnection) {
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : urlConnection.getHeaderFields().entrySet()) {
+            // The status line is reported under the null key
+            if (entry.getKey() != null && !entry.getValue().isEmpty()) {
+                headers.put(entry.getKey(), entry.getValue().get(0));
+            }
+        }
+        return headers;
+    }
 }
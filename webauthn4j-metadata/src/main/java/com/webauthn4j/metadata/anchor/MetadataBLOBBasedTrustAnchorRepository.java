@@ -18,50 +18,64 @@ package com.webauthn4j.metadata.anchor;
 
 import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository;
 import com.webauthn4j.metadata.MetadataBLOBProvider;
+import com.webauthn4j.metadata.MetadataSnapshotProvider;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.security.cert.TrustAnchor;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class MetadataBLOBBasedTrustAnchorRepository implements TrustAnchorRepository {
 
-    private final MetadataBLOBBasedMetadataStatementRepository metadataBLOBBasedMetadataStatementRepository;
+    private final MetadataSnapshotProvider metadataSnapshotProvider;
 
     public MetadataBLOBBasedTrustAnchorRepository(MetadataBLOBProvider... metadataBLOBProviders) {
-        this.metadataBLOBBasedMetadataStatementRepository = new MetadataBLOBBasedMetadataStatementRepository(metadataBLOBProviders);
+        this(new MetadataSnapshotProvider(metadataBLOBProviders));
     }
 
+    /**
+     * Creates a repository reading from the given snapshot provider. The status filter settings belong to the
+     * snapshot provider and are therefore shared with every other repository using it.
+     *
+     * @param metadataSnapshotProvider snapshot provider
+     */
+    public MetadataBLOBBasedTrustAnchorRepository(@NotNull MetadataSnapshotProvider metadataSnapshotProvider) {
+        AssertUtil.notNull(metadataSnapshotProvider, "metadataSnapshotProvider must not be null");
+        this.metadataSnapshotProvider = metadataSnapshotProvider;
+    }
+
+    /**
+     * Returns the trust anchors for the AAGUID. The returned set is unmodifiable and the same instance is returned
+     * until the metadata BLOB is refreshed.
+     */
     @Override
     public Set<TrustAnchor> find(AAGUID aaguid) {
-        return metadataBLOBBasedMetadataStatementRepository.find(aaguid).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        return metadataSnapshotProvider.provide().findTrustAnchors(aaguid);
     }
 
+    /**
+     * Returns the trust anchors for the attestation certificate key identifier. The returned set is unmodifiable
+     * and the same instance is returned until the metadata BLOB is refreshed.
+     */
     @Override
     public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBBasedMetadataStatementRepository.find(attestationCertificateKeyIdentifier).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        return metadataSnapshotProvider.provide().findTrustAnchors(attestationCertificateKeyIdentifier);
     }
 
     public boolean isNotFidoCertifiedAllowed() {
-        return metadataBLOBBasedMetadataStatementRepository.isNotFidoCertifiedAllowed();
+        return metadataSnapshotProvider.isNotFidoCertifiedAllowed();
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        metadataBLOBBasedMetadataStatementRepository.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
+        metadataSnapshotProvider.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return metadataBLOBBasedMetadataStatementRepository.isSelfAssertionSubmittedAllowed();
+        return metadataSnapshotProvider.isSelfAssertionSubmittedAllowed();
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        metadataBLOBBasedMetadataStatementRepository.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
+        metadataSnapshotProvider.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
     }
 }
@@ -19,7 +19,7 @@ package com.webauthn4j.metadata.anchor;
 import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.metadata.LocalFilesMetadataStatementsProvider;
+import com.webauthn4j.metadata.CachingLocalFilesMetadataStatementsProvider;
 import com.webauthn4j.metadata.MetadataStatementsProvider;
 import com.webauthn4j.util.HexUtil;
 
@@ -39,7 +39,7 @@ public class MetadataStatementsBasedTrustAnchorRepository implements TrustAnchor
     }
 
     public MetadataStatementsBasedTrustAnchorRepository(ObjectConverter objectConverter, Path... paths) {
-        this(new LocalFilesMetadataStatementsProvider(objectConverter, paths));
+        this(new CachingLocalFilesMetadataStatementsProvider(objectConverter, paths));
     }
 
     @Override
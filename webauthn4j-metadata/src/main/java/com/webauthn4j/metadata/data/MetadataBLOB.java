@@ -41,6 +41,15 @@ public class MetadataBLOB {
         return jws.getSignature();
     }
 
+    /**
+     * Returns the JWS compact serialization of the MetadataBLOB
+     *
+     * @return the serialized MetadataBLOB
+     */
+    public @NotNull byte[] getBytes() {
+        return jws.getBytes();
+    }
+
     /**
      * Validates signature.
      *
@@ -22,6 +22,8 @@ import com.webauthn4j.data.jws.JWSFactory;
 import com.webauthn4j.metadata.MetadataCodecFallbackRegistrar;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.InputStream;
+
 public class MetadataBLOBFactory {
 
     @NotNull
@@ -36,4 +38,21 @@ public class MetadataBLOBFactory {
         return new MetadataBLOB(jws);
     }
 
+    public @NotNull MetadataBLOB parse(@NotNull byte[] value){
+        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(value, MetadataBLOBPayload.class);
+        return new MetadataBLOB(jws);
+    }
+
+    /**
+     * Parses a MetadataBLOB read from the given stream, without buffering it as a String first.
+     * The stream is read to its end but not closed.
+     *
+     * @param inputStream stream holding the MetadataBLOB JWS
+     * @return parsed MetadataBLOB
+     */
+    public @NotNull MetadataBLOB parse(@NotNull InputStream inputStream){
+        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(inputStream, MetadataBLOBPayload.class);
+        return new MetadataBLOB(jws);
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.webauthn4j.metadata.util.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reports which tracked files a {@link WatchService} has seen change, by registering their parent directories.
+ * <p>
+ * {@link #pollChangedPaths()} never blocks, so callers can check for changes on their own threads without a
+ * dedicated watcher thread. The watch service is owned by the caller.
+ */
+public class MetadataStatementFileWatcher {
+
+    private final WatchService watchService;
+    private final Set<Path> paths;
+
+    public MetadataStatementFileWatcher(@NotNull WatchService watchService, @NotNull Set<Path> paths) {
+        this.watchService = watchService;
+        this.paths = paths;
+        Set<Path> directories = new HashSet<>();
+        for (Path path : paths) {
+            directories.add(path.getParent());
+        }
+        try {
+            for (Path directory : directories) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch MetadataStatements files", e);
+        }
+    }
+
+    /**
+     * Drains the pending watch events and returns the tracked files they refer to. An overflow reports every
+     * tracked file as the individual events were lost.
+     * <p>
+     * Every pending key of the watch service is consumed, including events of directories registered by others.
+     * A watch service must therefore not be shared between watchers, or with other code, as they would lose each
+     * other's events.
+     *
+     * @return changed files, empty if nothing changed
+     */
+    public @NotNull Set<Path> pollChangedPaths() {
+        Set<Path> changed = new LinkedHashSet<>();
+        WatchKey key = watchService.poll();
+        while (key != null) {
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changed.addAll(paths);
+                    continue;
+                }
+                Path path = directory.resolve((Path) event.context());
+                if (paths.contains(path)) {
+                    changed.add(path);
+                }
+            }
+            key.reset();
+            key = watchService.poll();
+        }
+        return changed;
+    }
+}
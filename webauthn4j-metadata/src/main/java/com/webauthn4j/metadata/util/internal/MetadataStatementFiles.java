@@ -0,0 +1,205 @@
+package com.webauthn4j.metadata.util.internal;
+
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable set of {@link MetadataStatement}s parsed from local files, together with the modification time and size
+ * each file had when it was read.
+ * <p>
+ * {@link #update(Map)} returns a new instance that reuses every unchanged statement, so a reload only parses the files
+ * whose attributes changed. The statement list and the {@link MetadataStatementIndex} are built once per instance.
+ */
+public class MetadataStatementFiles {
+
+    private final List<Path> paths;
+    private final Map<Path, Entry> entries;
+    private final List<MetadataStatement> metadataStatements;
+    private final MetadataStatementIndex index;
+
+    private MetadataStatementFiles(@NotNull List<Path> paths, @NotNull Map<Path, Entry> entries) {
+        this.paths = paths;
+        this.entries = entries;
+        List<MetadataStatement> list = new ArrayList<>(paths.size());
+        MetadataStatementIndex.Builder builder = MetadataStatementIndex.builder();
+        for (Path path : paths) {
+            Entry entry = entries.get(path);
+            if (entry == null) {
+                continue;
+            }
+            MetadataStatement metadataStatement = entry.metadataStatement;
+            list.add(metadataStatement);
+            if (metadataStatement == null || !MetadataStatementUtil.checkSurrogateMetadataStatementAttestationRootCertificate(metadataStatement)) {
+                continue;
+            }
+            builder.addByAaguid(metadataStatement.getAaguid(), metadataStatement);
+            builder.addByAttestationCertificateKeyIdentifiers(metadataStatement);
+        }
+        this.metadataStatements = Collections.unmodifiableList(list);
+        this.index = builder.build();
+    }
+
+    /**
+     * Creates an instance tracking the given files, none of which has been read yet
+     *
+     * @param paths files to track, in the order their statements are listed
+     * @return empty instance
+     */
+    public static @NotNull MetadataStatementFiles create(@NotNull Path... paths) {
+        List<Path> normalized = new ArrayList<>(paths.length);
+        for (Path path : paths) {
+            normalized.add(normalize(path));
+        }
+        return new MetadataStatementFiles(Collections.unmodifiableList(normalized), Collections.emptyMap());
+    }
+
+    public static @NotNull Path normalize(@NotNull Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    public static @NotNull Attributes readAttributes(@NotNull Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new Attributes(attributes.lastModifiedTime(), attributes.size());
+    }
+
+    /**
+     * Returns the tracked files, normalized to absolute paths
+     *
+     * @return distinct tracked files
+     */
+    public @NotNull Set<Path> getPaths() {
+        return new LinkedHashSet<>(paths);
+    }
+
+    /**
+     * Returns the candidates that are not loaded yet or whose modification time or size differs from the loaded
+     * version. Files that cannot be inspected are reported as changed so that loading them surfaces the error.
+     *
+     * @param candidates tracked files to inspect
+     * @return changed files
+     */
+    public @NotNull Set<Path> findChangedPaths(@NotNull Collection<Path> candidates) {
+        Set<Path> changed = new LinkedHashSet<>();
+        for (Path path : candidates) {
+            Entry entry = entries.get(path);
+            if (entry == null) {
+                changed.add(path);
+                continue;
+            }
+            try {
+                if (!entry.attributes.equals(readAttributes(path))) {
+                    changed.add(path);
+                }
+            } catch (IOException e) {
+                changed.add(path);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a new instance with the given files replaced
+     *
+     * @param loaded freshly read files
+     * @return updated instance
+     */
+    public @NotNull MetadataStatementFiles update(@NotNull Map<Path, Entry> loaded) {
+        if (loaded.isEmpty()) {
+            return this;
+        }
+        Map<Path, Entry> updated = new HashMap<>(entries);
+        updated.putAll(loaded);
+        return new MetadataStatementFiles(paths, Collections.unmodifiableMap(updated));
+    }
+
+    /**
+     * Returns whether the file has been read
+     *
+     * @param path tracked file
+     * @return true if loaded
+     */
+    public boolean isLoaded(@NotNull Path path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Returns whether every tracked file has been read
+     *
+     * @return true if complete
+     */
+    public boolean isComplete() {
+        return entries.keySet().containsAll(paths);
+    }
+
+    /**
+     * Returns the statements in the order of the tracked files. The same list instance is returned until
+     * the next update.
+     *
+     * @return statements
+     */
+    public @NotNull List<MetadataStatement> getMetadataStatements() {
+        return metadataStatements;
+    }
+
+    public @NotNull MetadataStatementIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Modification time and size of a file, used to detect changes without reading its content
+     */
+    public static final class Attributes {
+
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        public Attributes(@NotNull FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Attributes that = (Attributes) o;
+            return size == that.size && lastModifiedTime.equals(that.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+
+    /**
+     * A parsed file. The attributes must be read before the content, so that a write racing with the read is
+     * detected as a change on the next check.
+     */
+    public static final class Entry {
+
+        private final Attributes attributes;
+        private final MetadataStatement metadataStatement;
+
+        public Entry(@NotNull Attributes attributes, @NotNull MetadataStatement metadataStatement) {
+            this.attributes = attributes;
+            this.metadataStatement = metadataStatement;
+        }
+    }
+}
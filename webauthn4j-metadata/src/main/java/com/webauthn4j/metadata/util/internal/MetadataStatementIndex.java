@@ -0,0 +1,136 @@
+package com.webauthn4j.metadata.util.internal;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.util.HexUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable lookup index of {@link MetadataStatement}s by AAGUID and by attestation certificate key identifier.
+ * <p>
+ * Built once per loaded set of metadata so that each lookup is a hash map access instead of a scan over every entry.
+ * The returned sets are shared and unmodifiable.
+ */
+public class MetadataStatementIndex {
+
+    private final Map<AAGUID, Set<MetadataStatement>> aaguidIndex;
+    private final Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierIndex;
+
+    private MetadataStatementIndex(@NotNull Map<AAGUID, Set<MetadataStatement>> aaguidIndex, @NotNull Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierIndex) {
+        this.aaguidIndex = aaguidIndex;
+        this.attestationCertificateKeyIdentifierIndex = attestationCertificateKeyIdentifierIndex;
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    public @NotNull Set<MetadataStatement> find(@Nullable AAGUID aaguid) {
+        return aaguidIndex.getOrDefault(aaguid, Collections.emptySet());
+    }
+
+    public @NotNull Set<MetadataStatement> find(@Nullable byte[] attestationCertificateKeyIdentifier) {
+        if (attestationCertificateKeyIdentifier == null) {
+            return Collections.emptySet();
+        }
+        return attestationCertificateKeyIdentifierIndex.getOrDefault(ByteBuffer.wrap(attestationCertificateKeyIdentifier), Collections.emptySet());
+    }
+
+    /**
+     * Passes each AAGUID and its metadata statements to the action, so that derived indexes can share the keys
+     *
+     * @param action action to run for each AAGUID
+     */
+    public void forEachAaguid(@NotNull BiConsumer<AAGUID, Set<MetadataStatement>> action) {
+        aaguidIndex.forEach(action);
+    }
+
+    /**
+     * Passes each attestation certificate key identifier and its metadata statements to the action, so that derived
+     * indexes can share the keys
+     *
+     * @param action action to run for each attestation certificate key identifier
+     */
+    public void forEachAttestationCertificateKeyIdentifier(@NotNull BiConsumer<ByteBuffer, Set<MetadataStatement>> action) {
+        attestationCertificateKeyIdentifierIndex.forEach(action);
+    }
+
+    /**
+     * Decodes hex attestation certificate key identifiers into lookup keys.
+     * Identifiers that are not valid hex strings can never match a lookup and are skipped.
+     *
+     * @param identifiers hex encoded attestation certificate key identifiers
+     * @return lookup keys
+     */
+    public static @NotNull List<ByteBuffer> decodeAttestationCertificateKeyIdentifiers(@Nullable List<String> identifiers) {
+        if (identifiers == null || identifiers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ByteBuffer> decoded = new ArrayList<>(identifiers.size());
+        for (String identifier : identifiers) {
+            try {
+                decoded.add(ByteBuffer.wrap(HexUtil.decode(identifier)));
+            } catch (IllegalArgumentException e) {
+                // skip
+            }
+        }
+        return decoded;
+    }
+
+    public static class Builder {
+
+        private final Map<AAGUID, Set<MetadataStatement>> aaguidIndex = new HashMap<>();
+        private final Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierIndex = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the statement under the given AAGUID, which may differ from the one in the statement itself
+         * (e.g. the AAGUID of a MetadataBLOBPayloadEntry)
+         *
+         * @param aaguid AAGUID to register the statement under
+         * @param metadataStatement metadata statement
+         * @return this builder
+         */
+        public @NotNull Builder addByAaguid(@Nullable AAGUID aaguid, @NotNull MetadataStatement metadataStatement) {
+            aaguidIndex.computeIfAbsent(aaguid, key -> new HashSet<>()).add(metadataStatement);
+            return this;
+        }
+
+        /**
+         * Registers the statement under each of its attestation certificate key identifiers.
+         * Identifiers that are not valid hex strings can never match a lookup and are skipped.
+         *
+         * @param metadataStatement metadata statement
+         * @return this builder
+         */
+        public @NotNull Builder addByAttestationCertificateKeyIdentifiers(@NotNull MetadataStatement metadataStatement) {
+            for (ByteBuffer identifier : decodeAttestationCertificateKeyIdentifiers(metadataStatement.getAttestationCertificateKeyIdentifiers())) {
+                attestationCertificateKeyIdentifierIndex.computeIfAbsent(identifier, key -> new HashSet<>()).add(metadataStatement);
+            }
+            return this;
+        }
+
+        public @NotNull MetadataStatementIndex build() {
+            return new MetadataStatementIndex(freeze(aaguidIndex), freeze(attestationCertificateKeyIdentifierIndex));
+        }
+
+        private static <K> @NotNull Map<K, Set<MetadataStatement>> freeze(@NotNull Map<K, Set<MetadataStatement>> index) {
+            Map<K, Set<MetadataStatement>> frozen = new HashMap<>(index.size() * 4 / 3 + 1);
+            index.forEach((key, value) -> frozen.put(key, Collections.unmodifiableSet(new HashSet<>(value))));
+            return Collections.unmodifiableMap(frozen);
+        }
+    }
+}
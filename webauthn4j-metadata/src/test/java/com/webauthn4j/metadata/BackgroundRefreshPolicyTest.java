@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackgroundRefreshPolicyTest {
+
+    private final LocalDate nextUpdate = LocalDate.of(2020, Month.JANUARY, 10);
+    private final Instant nextUpdateStart = nextUpdate.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    @Test
+    void isRefreshDue_test() {
+        BackgroundRefreshPolicy target = new BackgroundRefreshPolicy(Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(1), Duration.ofHours(1));
+        assertThat(target.isRefreshDue(nextUpdate, nextUpdateStart.minus(Duration.ofDays(1)).minusSeconds(1))).isFalse();
+        assertThat(target.isRefreshDue(nextUpdate, nextUpdateStart.minus(Duration.ofDays(1)))).isTrue();
+        assertThat(target.isRefreshDue(nextUpdate, nextUpdateStart.plus(Duration.ofDays(3)))).isTrue();
+    }
+
+    @Test
+    void getDelayAfterSuccess_waits_until_refresh_time_test() {
+        BackgroundRefreshPolicy target = new BackgroundRefreshPolicy(Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(1), Duration.ofHours(1));
+        Instant now = nextUpdateStart.minus(Duration.ofDays(3));
+        assertThat(target.getDelayAfterSuccess(nextUpdate, now)).isEqualTo(Duration.ofDays(2));
+    }
+
+    @Test
+    void getDelayAfterSuccess_polls_while_refresh_is_due_test() {
+        BackgroundRefreshPolicy target = new BackgroundRefreshPolicy(Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(1), Duration.ofHours(1));
+        assertThat(target.getDelayAfterSuccess(nextUpdate, nextUpdateStart)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void getDelayAfterSuccess_adds_jitter_test() {
+        BackgroundRefreshPolicy target = new BackgroundRefreshPolicy(Duration.ZERO, Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofHours(1));
+        for (int i = 0; i < 100; i++) {
+            assertThat(target.getDelayAfterSuccess(nextUpdate, nextUpdateStart)).isBetween(Duration.ofHours(1), Duration.ofMinutes(70));
+        }
+    }
+
+    @Test
+    void getDelayAfterFailure_backs_off_exponentially_up_to_maxBackoff_test() {
+        BackgroundRefreshPolicy target = new BackgroundRefreshPolicy(Duration.ZERO, Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        assertThat(target.getDelayAfterFailure(1)).isBetween(Duration.ofSeconds(30), Duration.ofMinutes(1));
+        assertThat(target.getDelayAfterFailure(2)).isBetween(Duration.ofMinutes(1), Duration.ofMinutes(2));
+        assertThat(target.getDelayAfterFailure(4)).isBetween(Duration.ofMinutes(4), Duration.ofMinutes(8));
+        assertThat(target.getDelayAfterFailure(5)).isBetween(Duration.ofMinutes(5), Duration.ofMinutes(10));
+        assertThat(target.getDelayAfterFailure(1000)).isBetween(Duration.ofMinutes(5), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void constructor_rejects_maxBackoff_shorter_than_initialBackoff_test() {
+        Duration refreshAhead = Duration.ZERO;
+        Duration pollInterval = Duration.ofHours(1);
+        Duration jitter = Duration.ZERO;
+        Duration initialBackoff = Duration.ofMinutes(10);
+        Duration maxBackoff = Duration.ofMinutes(1);
+        assertThatThrownBy(() -> new BackgroundRefreshPolicy(refreshAhead, pollInterval, jitter, initialBackoff, maxBackoff))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
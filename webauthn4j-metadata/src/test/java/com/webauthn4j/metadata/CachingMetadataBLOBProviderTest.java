@@ -7,14 +7,23 @@ import com.webauthn4j.data.jws.JWSFactory;
 import com.webauthn4j.data.jws.JWSHeader;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayload;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("java:S5976")
@@ -68,6 +77,82 @@ class CachingMetadataBLOBProviderTest {
         }
     }
 
+    @Test
+    void background_refresh_serves_cached_MetadataBLOB_while_revalidating() throws InterruptedException {
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 2));
+        MetadataBLOB second = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 3));
+        CountDownLatch revalidationStarted = new CountDownLatch(1);
+        CountDownLatch revalidationReleased = new CountDownLatch(1);
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingMetadataBLOBProvider target = new CachingMetadataBLOBProvider() {
+            @Override
+            protected @NotNull MetadataBLOB doProvide() {
+                if (fetchCount.incrementAndGet() == 1) {
+                    return first;
+                }
+                revalidationStarted.countDown();
+                try {
+                    revalidationReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return second;
+            }
+        };
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            target.startBackgroundRefresh(scheduler, createPolicy());
+            assertThat(revalidationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(target.provide()).isSameAs(first);
+
+            revalidationReleased.countDown();
+            assertThat(awaitMetadataBLOB(target, second)).isSameAs(second);
+        } finally {
+            target.stopBackgroundRefresh();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void background_refresh_retries_failed_refresh() throws InterruptedException {
+        MetadataBLOB metadataBLOB = createMetadataBLOB(LocalDate.of(2020, Month.JANUARY, 2));
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetched = new CountDownLatch(1);
+        CachingMetadataBLOBProvider target = new CachingMetadataBLOBProvider() {
+            @Override
+            protected @NotNull MetadataBLOB doProvide() {
+                if (fetchCount.incrementAndGet() <= 2) {
+                    throw new MDSException("unavailable");
+                }
+                fetched.countDown();
+                return metadataBLOB;
+            }
+        };
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            target.startBackgroundRefresh(scheduler, createPolicy());
+            assertThat(fetched.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(target.provide()).isSameAs(metadataBLOB);
+            assertThat(fetchCount.get()).isGreaterThanOrEqualTo(3);
+        } finally {
+            target.stopBackgroundRefresh();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private BackgroundRefreshPolicy createPolicy() {
+        return new BackgroundRefreshPolicy(Duration.ZERO, Duration.ofMillis(10), Duration.ZERO, Duration.ofMillis(10), Duration.ofMillis(20));
+    }
+
+    private MetadataBLOB awaitMetadataBLOB(CachingMetadataBLOBProvider target, MetadataBLOB expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        MetadataBLOB provided = target.provide();
+        while (provided != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            provided = target.provide();
+        }
+        return provided;
+    }
 
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
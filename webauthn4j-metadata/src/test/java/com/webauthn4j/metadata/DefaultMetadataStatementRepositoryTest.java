@@ -5,12 +5,16 @@ import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.util.HexUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -46,4 +50,58 @@ class DefaultMetadataStatementRepositoryTest {
         assertThat(target.find(attestationCertificateKeyIdentifier)).containsExactly(metadataStatementA);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_reuses_index_until_provider_returns_new_list_test(){
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        MetadataStatement metadataStatementA = mock(MetadataStatement.class);
+        MetadataStatement metadataStatementB = mock(MetadataStatement.class);
+        when(metadataStatementA.getAaguid()).thenReturn(aaguid);
+        when(metadataStatementB.getAaguid()).thenReturn(aaguid);
+        List<MetadataStatement> initial = Collections.singletonList(metadataStatementA);
+        List<MetadataStatement> reloaded = Arrays.asList(metadataStatementA, metadataStatementB);
+        MetadataStatementsProvider mock = mock(MetadataStatementsProvider.class);
+        when(mock.provide()).thenReturn(initial);
+        DefaultMetadataStatementRepository target = new DefaultMetadataStatementRepository(mock);
+        target.setProvidedStatementsImmutable(true);
+
+        Set<MetadataStatement> first = target.find(aaguid);
+        assertThat(target.find(aaguid)).isSameAs(first);
+        assertThatThrownBy(() -> first.add(metadataStatementB)).isInstanceOf(UnsupportedOperationException.class);
+
+        when(mock.provide()).thenReturn(reloaded);
+        assertThat(target.find(aaguid)).containsExactlyInAnyOrder(metadataStatementA, metadataStatementB);
+    }
+
+    @Test
+    void find_sees_list_modified_in_place_by_default_test(){
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        MetadataStatement metadataStatementA = mock(MetadataStatement.class);
+        MetadataStatement metadataStatementB = mock(MetadataStatement.class);
+        when(metadataStatementA.getAaguid()).thenReturn(aaguid);
+        when(metadataStatementB.getAaguid()).thenReturn(aaguid);
+        List<MetadataStatement> metadataStatements = new ArrayList<>(Collections.singletonList(metadataStatementA));
+        MetadataStatementsProvider mock = mock(MetadataStatementsProvider.class);
+        when(mock.provide()).thenReturn(metadataStatements);
+        DefaultMetadataStatementRepository target = new DefaultMetadataStatementRepository(mock);
+
+        assertThat(target.find(aaguid)).containsExactly(metadataStatementA);
+        metadataStatements.add(metadataStatementB);
+        assertThat(target.find(aaguid)).containsExactlyInAnyOrder(metadataStatementA, metadataStatementB);
+    }
+
+    @Test
+    void find_by_invalid_attestationCertificateKeyIdentifier_test(){
+        MetadataStatement metadataStatement = mock(MetadataStatement.class);
+        when(metadataStatement.getAttestationCertificateKeyIdentifiers()).thenReturn(Collections.singletonList("invalid"));
+        MetadataStatementsProvider mock = mock(MetadataStatementsProvider.class);
+        when(mock.provide()).thenReturn(Collections.singletonList(metadataStatement));
+        DefaultMetadataStatementRepository target = new DefaultMetadataStatementRepository(mock);
+
+        assertThatThrownBy(() -> target.find(new byte[32])).isInstanceOf(IllegalArgumentException.class);
+
+        // the index skips identifiers that can never match
+        target.setProvidedStatementsImmutable(true);
+        assertThat(target.find(new byte[32])).isEmpty();
+    }
+
+}
@@ -16,23 +16,39 @@
 
 package com.webauthn4j.metadata;
 
+import com.sun.net.httpserver.HttpServer;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.jws.JWAIdentifier;
+import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayload;
 import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.util.Base64Util;
 import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -89,4 +105,113 @@ class FidoMDS3MetadataBLOBProviderTest {
             assertThat(target.getCertPathChecker()).isEqualTo(certPathChecker);
         }
     }
+
+    @Nested
+    class with_disk_cache {
+
+        @TempDir
+        Path tempDir;
+
+        private final ObjectConverter objectConverter = new ObjectConverter();
+        private final List<String> receivedIfNoneMatchHeaders = new CopyOnWriteArrayList<>();
+        private HttpServer server;
+        private volatile byte[] blob;
+        private volatile String eTag;
+
+        @BeforeEach
+        void setup() throws IOException {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", exchange -> {
+                String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+                receivedIfNoneMatchHeaders.add(ifNoneMatch == null ? "" : ifNoneMatch);
+                exchange.getResponseHeaders().set("ETag", eTag);
+                if (eTag.equals(ifNoneMatch)) {
+                    exchange.sendResponseHeaders(304, -1);
+                }
+                else {
+                    exchange.sendResponseHeaders(200, blob.length);
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        outputStream.write(blob);
+                    }
+                }
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop(0);
+        }
+
+        @Test
+        void restarted_provider_serves_cached_MetadataBLOB_without_fetching_it() {
+            serve(1, LocalDate.now(ZoneOffset.UTC).plusDays(30));
+            assertThat(createProvider().provide().getPayload().getNo()).isEqualTo(1);
+
+            MetadataBLOB metadataBLOB = createProvider().provide();
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(1);
+            assertThat(receivedIfNoneMatchHeaders).containsExactly("");
+        }
+
+        @Test
+        void cached_MetadataBLOB_past_nextUpdate_is_revalidated_with_conditional_request() {
+            serve(1, LocalDate.now(ZoneOffset.UTC).minusDays(1));
+            createProvider().provide();
+
+            MetadataBLOB metadataBLOB = createProvider().provide();
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(1);
+            assertThat(receivedIfNoneMatchHeaders).containsExactly("", eTag);
+        }
+
+        @Test
+        void modified_MetadataBLOB_replaces_cached_one() {
+            serve(1, LocalDate.now(ZoneOffset.UTC).minusDays(1));
+            createProvider().provide();
+            String firstETag = eTag;
+            serve(2, LocalDate.now(ZoneOffset.UTC).plusDays(30));
+
+            MetadataBLOB metadataBLOB = createProvider().provide();
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(2);
+            assertThat(receivedIfNoneMatchHeaders).containsExactly("", firstETag);
+            MetadataBLOBDiskCache.Entry cachedEntry = createDiskCache().load();
+            assertThat(cachedEntry).isNotNull();
+            assertThat(cachedEntry.getETag()).isEqualTo(eTag);
+            assertThat(cachedEntry.getMetadataBLOB().getPayload().getNo()).isEqualTo(2);
+        }
+
+        @Test
+        void cached_MetadataBLOB_with_invalid_signature_is_discarded() {
+            serve(1, LocalDate.now(ZoneOffset.UTC).plusDays(30));
+            JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+            MetadataBLOBPayload payload = new MetadataBLOBPayload("legalHeader", 0, LocalDate.now(ZoneOffset.UTC).plusDays(30), Collections.emptyList());
+            MetadataBLOB forged = new MetadataBLOB(new JWSFactory(objectConverter).create(header, payload, new byte[64]));
+            createDiskCache().store(new MetadataBLOBDiskCache.Entry(forged, eTag, null));
+
+            MetadataBLOB metadataBLOB = createProvider().provide();
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(1);
+            assertThat(receivedIfNoneMatchHeaders).containsExactly("");
+        }
+
+        private void serve(int no, LocalDate nextUpdate) {
+            JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+            MetadataBLOBPayload payload = new MetadataBLOBPayload("legalHeader", no, nextUpdate, Collections.emptyList());
+            blob = new JWSFactory(objectConverter).create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey()).getBytes();
+            eTag = "\"blob-" + no + "\"";
+        }
+
+        private MetadataBLOBDiskCache createDiskCache() {
+            return new MetadataBLOBDiskCache(objectConverter, tempDir.resolve("blob.cache"));
+        }
+
+        private FidoMDS3MetadataBLOBProvider createProvider() {
+            String endpoint = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+            FidoMDS3MetadataBLOBProvider provider = new FidoMDS3MetadataBLOBProvider(objectConverter, endpoint, new SimpleHttpClient(), Collections.singleton(new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null)));
+            provider.setCertPathChecker(context -> {
+                //nop
+            });
+            provider.setMetadataBLOBDiskCache(createDiskCache());
+            return provider;
+        }
+    }
 }
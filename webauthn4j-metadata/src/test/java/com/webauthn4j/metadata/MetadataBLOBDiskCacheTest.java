@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class MetadataBLOBDiskCacheTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void store_and_load_test() throws IOException {
+        MetadataBLOB metadataBLOB = new MetadataBLOBFactory(objectConverter).parse(Files.readAllBytes(new File("src/test/resources/integration/component/blob.jwt").toPath()));
+        MetadataBLOBDiskCache target = new MetadataBLOBDiskCache(objectConverter, tempDir.resolve("cache").resolve("blob.cache"));
+        target.store(new MetadataBLOBDiskCache.Entry(metadataBLOB, "\"etag\"", null));
+
+        MetadataBLOBDiskCache.Entry loaded = target.load();
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getETag()).isEqualTo("\"etag\"");
+        assertThat(loaded.getLastModified()).isNull();
+        assertThat(loaded.getMetadataBLOB().getBytes()).isEqualTo(metadataBLOB.getBytes());
+        assertThat(loaded.getMetadataBLOB().getPayload()).isEqualTo(metadataBLOB.getPayload());
+        assertThat(loaded.getMetadataBLOB().isValidSignature()).isTrue();
+        try (var files = Files.list(tempDir.resolve("cache"))) {
+            assertThat(files).containsExactly(target.getPath());
+        }
+    }
+
+    @Test
+    void load_returns_null_when_file_does_not_exist_test() {
+        MetadataBLOBDiskCache target = new MetadataBLOBDiskCache(objectConverter, tempDir.resolve("blob.cache"));
+        assertThat(target.load()).isNull();
+    }
+
+    @Test
+    void load_returns_null_when_file_is_corrupted_test() throws IOException {
+        Path path = tempDir.resolve("blob.cache");
+        Files.write(path, new byte[]{1, 0, 0, 'a', '.', 'b'});
+        MetadataBLOBDiskCache target = new MetadataBLOBDiskCache(objectConverter, path);
+        assertThat(target.load()).isNull();
+    }
+
+    @Test
+    void getConditionalRequestHeaders_test() throws IOException {
+        MetadataBLOB metadataBLOB = new MetadataBLOBFactory(objectConverter).parse(Files.readAllBytes(new File("src/test/resources/integration/component/blob.jwt").toPath()));
+        assertThat(new MetadataBLOBDiskCache.Entry(metadataBLOB, "\"etag\"", "Wed, 21 Oct 2015 07:28:00 GMT").getConditionalRequestHeaders())
+                .containsOnly(entry("If-None-Match", "\"etag\""), entry("If-Modified-Since", "Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertThat(new MetadataBLOBDiskCache.Entry(metadataBLOB, null, null).getConditionalRequestHeaders()).isEmpty();
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.anchor.MetadataBLOBBasedTrustAnchorRepository;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataSnapshotTest {
+
+    private static final AAGUID NOT_FIDO_CERTIFIED_AAGUID = new AAGUID("d54e9697-08ca-4d95-b2c2-ef9dd7c7d105");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void create_filters_entries_once_test() throws IOException {
+        MetadataBLOB metadataBLOB = createMetadataBLOBProvider("src/test/resources/integration/component/test-blob.jwt").provide();
+
+        MetadataSnapshot target = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), false, false);
+
+        assertThat(target.getEntries()).isNotEmpty().hasSizeLessThan(metadataBLOB.getPayload().getEntries().size());
+        assertThat(target.getEntries()).noneMatch(entry -> NOT_FIDO_CERTIFIED_AAGUID.equals(entry.getAaguid()));
+        assertThat(target.findMetadataStatements(NOT_FIDO_CERTIFIED_AAGUID)).isEmpty();
+        assertThat(target.findTrustAnchors(NOT_FIDO_CERTIFIED_AAGUID)).isEmpty();
+        assertThat(target.findStatusReports(NOT_FIDO_CERTIFIED_AAGUID)).extracting(StatusReport::getStatus).contains(AuthenticatorStatus.NOT_FIDO_CERTIFIED);
+    }
+
+    @Test
+    void create_applies_status_filter_settings_test() throws IOException {
+        MetadataBLOB metadataBLOB = createMetadataBLOBProvider("src/test/resources/integration/component/test-blob.jwt").provide();
+
+        MetadataSnapshot target = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), true, false);
+
+        assertThat(target.isNotFidoCertifiedAllowed()).isTrue();
+        assertThat(target.findMetadataStatements(NOT_FIDO_CERTIFIED_AAGUID)).isNotEmpty();
+        assertThat(target.findTrustAnchors(NOT_FIDO_CERTIFIED_AAGUID)).isNotEmpty();
+    }
+
+    @Test
+    void find_by_attestationCertificateKeyIdentifier_test() throws IOException {
+        byte[] attestationCertificateKeyIdentifier = HexUtil.decode("1434d2f277fe479c35ddf6aa4d08a07cbce99dd7");
+        MetadataBLOB metadataBLOB = createMetadataBLOBProvider("src/test/resources/integration/component/blob.jwt").provide();
+
+        MetadataSnapshot target = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), false, false);
+
+        assertThat(target.findMetadataStatements(attestationCertificateKeyIdentifier)).hasSize(1);
+        assertThat(target.findTrustAnchors(attestationCertificateKeyIdentifier)).isNotEmpty();
+        assertThat(target.findMetadataStatements((byte[]) null)).isEmpty();
+        assertThat(target.findTrustAnchors((byte[]) null)).isEmpty();
+    }
+
+    @Test
+    void trust_anchors_follow_metadata_statement_index_test() throws IOException {
+        byte[] attestationCertificateKeyIdentifier = HexUtil.decode("1434d2f277fe479c35ddf6aa4d08a07cbce99dd7");
+        MetadataBLOB metadataBLOB = createMetadataBLOBProvider("src/test/resources/integration/component/blob.jwt").provide();
+
+        MetadataSnapshot target = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), false, false);
+
+        for (MetadataBLOBPayloadEntry entry : target.getEntries()) {
+            assertThat(target.findTrustAnchors(entry.getAaguid())).extracting(TrustAnchor::getTrustedCert)
+                    .containsExactlyInAnyOrderElementsOf(collectAttestationRootCertificates(target.findMetadataStatements(entry.getAaguid())));
+        }
+        assertThat(target.findTrustAnchors(attestationCertificateKeyIdentifier)).extracting(TrustAnchor::getTrustedCert)
+                .containsExactlyInAnyOrderElementsOf(collectAttestationRootCertificates(target.findMetadataStatements(attestationCertificateKeyIdentifier)));
+    }
+
+    @Test
+    void isBuiltFrom_test() throws IOException {
+        MetadataBLOB metadataBLOB = createMetadataBLOBProvider("src/test/resources/integration/component/blob.jwt").provide();
+        MetadataSnapshot first = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), false, false);
+        MetadataSnapshot second = MetadataSnapshot.create(Collections.singletonList(metadataBLOB), false, false);
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(first.isBuiltFrom(Collections.singletonList(metadataBLOB), false, false)).isTrue();
+        assertThat(first.isBuiltFrom(Collections.singletonList(metadataBLOB), true, false)).isFalse();
+        assertThat(first.isBuiltFrom(Collections.emptyList(), false, false)).isFalse();
+    }
+
+    @Test
+    void repositories_share_snapshot_and_settings_test() throws IOException {
+        AAGUID aaguid = new AAGUID("9c835346-796b-4c27-8898-d6032f515cc5");
+        MetadataSnapshotProvider metadataSnapshotProvider = new MetadataSnapshotProvider(createMetadataBLOBProvider("src/test/resources/integration/component/blob.jwt"));
+        MetadataBLOBBasedMetadataStatementRepository metadataStatementRepository = new MetadataBLOBBasedMetadataStatementRepository(metadataSnapshotProvider);
+        MetadataBLOBBasedTrustAnchorRepository trustAnchorRepository = new MetadataBLOBBasedTrustAnchorRepository(metadataSnapshotProvider);
+
+        assertThat(metadataStatementRepository.find(aaguid)).hasSize(1);
+        MetadataSnapshot snapshot = metadataSnapshotProvider.provide();
+        assertThat(trustAnchorRepository.find(aaguid)).isNotEmpty().isSameAs(snapshot.findTrustAnchors(aaguid));
+        assertThat(metadataSnapshotProvider.provide()).isSameAs(snapshot);
+
+        trustAnchorRepository.setNotFidoCertifiedAllowed(true);
+        assertThat(metadataStatementRepository.isNotFidoCertifiedAllowed()).isTrue();
+        assertThat(metadataSnapshotProvider.provide()).isNotSameAs(snapshot);
+    }
+
+    private static Set<X509Certificate> collectAttestationRootCertificates(Set<MetadataStatement> metadataStatements) {
+        Set<X509Certificate> certificates = new HashSet<>();
+        metadataStatements.forEach(metadataStatement -> certificates.addAll(metadataStatement.getAttestationRootCertificates()));
+        return certificates;
+    }
+
+    private LocalFileMetadataBLOBProvider createMetadataBLOBProvider(String filePath) throws IOException {
+        Path dstPath = tempDir.resolve("blob.jwt");
+        Files.copy(new File(filePath).toPath(), dstPath);
+        return new LocalFileMetadataBLOBProvider(new ObjectConverter(), dstPath);
+    }
+}
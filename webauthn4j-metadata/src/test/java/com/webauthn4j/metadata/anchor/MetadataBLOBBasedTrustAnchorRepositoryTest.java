@@ -34,6 +34,7 @@ import java.security.cert.TrustAnchor;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MetadataBLOBBasedTrustAnchorRepositoryTest {
 
@@ -54,6 +55,18 @@ class MetadataBLOBBasedTrustAnchorRepositoryTest {
         assertThat(trustAnchors).isNotEmpty();
     }
 
+    @Test
+    void find_returns_cached_unmodifiable_set_test(){
+        MetadataBLOBBasedTrustAnchorRepository target = createWithBlob("src/test/resources/integration/component/blob.jwt");
+        AAGUID aaguid = new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96");
+        byte[] attestationCertificateKeyIdentifier = HexUtil.decode("2fea8f357c7a54a57f45cda72fafb34d1d449fd4");
+
+        Set<TrustAnchor> byAaguid = target.find(aaguid);
+        assertThat(target.find(new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96"))).isSameAs(byAaguid);
+        assertThat(target.find(attestationCertificateKeyIdentifier)).isSameAs(target.find(attestationCertificateKeyIdentifier));
+        assertThatThrownBy(byAaguid::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void validate_test() {
         MetadataBLOBBasedTrustAnchorRepository target = createWithBlob("src/test/resources/integration/component/blob.jwt");
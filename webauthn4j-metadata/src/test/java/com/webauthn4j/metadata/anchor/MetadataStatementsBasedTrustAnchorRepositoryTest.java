@@ -18,15 +18,30 @@ package com.webauthn4j.metadata.anchor;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.test.TestAttestationStatementUtil;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.Base64Util;
+import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.TrustAnchor;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 
 class MetadataStatementsBasedTrustAnchorRepositoryTest {
 
@@ -46,4 +61,28 @@ class MetadataStatementsBasedTrustAnchorRepositoryTest {
         assertThat(trustAnchors).hasSize(1);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_result_reuses_PKIXParameters_template_of_DefaultCertPathTrustworthinessVerifier_test(@TempDir Path tempDir) throws IOException, CertificateEncodingException {
+        // the sample metadata statement re-rooted on the 3-tier test root CA, so that the test attestation chain validates
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        String rootCertificate = Base64Util.encodeToString(TestAttestationUtil.load3tierTestRootCACertificate().getEncoded());
+        String json = new String(Files.readAllBytes(jsonFilePath), StandardCharsets.UTF_8)
+                .replaceFirst("(\"attestationRootCertificates\": \\[\\s*\")[^\"]*", "$1" + rootCertificate);
+        Path reRootedJsonFilePath = tempDir.resolve("metadata.json");
+        Files.write(reRootedJsonFilePath, json.getBytes(StandardCharsets.UTF_8));
+
+        MetadataStatementsBasedTrustAnchorRepository repository = new MetadataStatementsBasedTrustAnchorRepository(new ObjectConverter(), reRootedJsonFilePath);
+        AAGUID aaguid = new AAGUID("0132d110-bf4e-4208-a403-ab4f5f12efe5");
+        assertThat(repository.find(aaguid)).isNotSameAs(repository.find(aaguid));
+
+        DefaultCertPathTrustworthinessVerifier verifier = new DefaultCertPathTrustworthinessVerifier(repository);
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        try (MockedStatic<CertificateUtil> mock = Mockito.mockStatic(CertificateUtil.class, Mockito.CALLS_REAL_METHODS)) {
+            verifier.verify(aaguid, attestationStatement);
+            verifier.verify(aaguid, attestationStatement);
+            mock.verify(() -> CertificateUtil.createPKIXParameters(any()), times(1));
+            mock.verify(() -> CertificateUtil.validateCertPath(any(), any()), times(2));
+        }
+    }
+
+}
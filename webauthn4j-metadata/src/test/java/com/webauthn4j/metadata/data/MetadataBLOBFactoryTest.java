@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata.data;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataBLOBFactoryTest {
+
+    private final MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+    private final Path blobPath = new File("src/test/resources/integration/component/blob.jwt").toPath();
+
+    @Test
+    void parse_InputStream_test() throws IOException {
+        MetadataBLOB expected = target.parse(new String(Files.readAllBytes(blobPath), StandardCharsets.US_ASCII));
+        MetadataBLOB metadataBLOB;
+        try (InputStream inputStream = Files.newInputStream(blobPath)) {
+            metadataBLOB = target.parse(inputStream);
+        }
+        assertThat(metadataBLOB.getHeader()).isEqualTo(expected.getHeader());
+        assertThat(metadataBLOB.getPayload()).isEqualTo(expected.getPayload());
+        assertThat(metadataBLOB.getSignature()).isEqualTo(expected.getSignature());
+        assertThat(metadataBLOB.isValidSignature()).isTrue();
+        assertThat(expected.isValidSignature()).isTrue();
+    }
+
+    @Test
+    void parse_bytes_test() throws IOException {
+        MetadataBLOB metadataBLOB = target.parse(Files.readAllBytes(blobPath));
+        assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(9);
+        assertThat(metadataBLOB.isValidSignature()).isTrue();
+    }
+
+}
@@ -33,6 +33,10 @@ dependencies {
 
     //CompileOnly
     compileOnly(libs.jetbrains.annotations)
+    // for contract tests to be extended by tests of implementations
+    compileOnly(platform(libs.spring.boot.bom))
+    compileOnly("org.assertj:assertj-core")
+    compileOnly("org.junit.jupiter:junit-jupiter-api")
 
     //Test
     testImplementation(platform(libs.spring.boot.bom))
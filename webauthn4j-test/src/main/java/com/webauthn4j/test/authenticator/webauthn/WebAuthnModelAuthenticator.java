@@ -46,11 +46,15 @@ import tools.jackson.dataformat.cbor.CBORMapper;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.*;
@@ -61,6 +65,14 @@ import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.*;
 public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticator {
 
     private static final SecureRandom secureRandom = new SecureRandom();
+    private static final List<COSEAlgorithmIdentifier> DEFAULT_ALGORITHMS = Arrays.asList(
+            COSEAlgorithmIdentifier.ES256,
+            COSEAlgorithmIdentifier.PS256
+    );
+    private static final List<COSEAlgorithmIdentifier> EXTENDED_ALGORITHMS = Arrays.asList(
+            COSEAlgorithmIdentifier.RS256,
+            COSEAlgorithmIdentifier.EdDSA
+    );
     // converter
     protected final ObjectConverter objectConverter;
     private final CBORMapper cborMapper;
@@ -76,6 +88,7 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
     private final byte[] credentialEncryptionKey;
     private int counter;
     private boolean countUpEnabled = true;
+    private boolean extendedAlgorithmsEnabled = false;
 
     public WebAuthnModelAuthenticator(
             AAGUID aaguid,
@@ -243,6 +256,14 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
                 cosePrivateKey = RSACOSEKey.create(privateKey, alg);
                 coseKeyPair= RSACOSEKey.create(credentialKeyPair, alg);
             }
+            else if(COSEAlgorithmIdentifier.EdDSA.equals(alg)){
+                credentialKeyPair = createEd25519KeyPair();
+                EdECPublicKey publicKey = (EdECPublicKey) credentialKeyPair.getPublic();
+                EdECPrivateKey privateKey = (EdECPrivateKey) credentialKeyPair.getPrivate();
+                cosePublicKey = EdDSACOSEKey.create(publicKey, alg);
+                cosePrivateKey = EdDSACOSEKey.create(privateKey, alg);
+                coseKeyPair= EdDSACOSEKey.create(credentialKeyPair, alg);
+            }
             else{
                 throw new NotSupportedException("Specified alg are not supported");
             }
@@ -451,7 +472,16 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
 
     private boolean isCapableOfHandling(PublicKeyCredentialParameters publicKeyCredentialParameters) {
         return publicKeyCredentialParameters.getType().equals(PublicKeyCredentialType.PUBLIC_KEY) &&
-                (COSEAlgorithmIdentifier.ES256.equals(publicKeyCredentialParameters.getAlg()) || COSEAlgorithmIdentifier.PS256.equals(publicKeyCredentialParameters.getAlg()));
+                (DEFAULT_ALGORITHMS.contains(publicKeyCredentialParameters.getAlg()) ||
+                        (extendedAlgorithmsEnabled && EXTENDED_ALGORITHMS.contains(publicKeyCredentialParameters.getAlg())));
+    }
+
+    private static KeyPair createEd25519KeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new NotSupportedException("Ed25519 is not supported by the JCA providers", e);
+        }
     }
 
     public boolean isCountUpEnabled() {
@@ -462,6 +492,21 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
         this.countUpEnabled = countUpEnabled;
     }
 
+    public boolean isExtendedAlgorithmsEnabled() {
+        return extendedAlgorithmsEnabled;
+    }
+
+    /**
+     * Enables RS256 and EdDSA credentials in addition to ES256 and PS256. The authenticator picks the first
+     * algorithm of the request it can handle, so enabling this may change the credential key type of existing
+     * requests that list one of these algorithms first. Disabled by default.
+     *
+     * @param extendedAlgorithmsEnabled true to accept RS256 and EdDSA credential requests
+     */
+    public void setExtendedAlgorithmsEnabled(boolean extendedAlgorithmsEnabled) {
+        this.extendedAlgorithmsEnabled = extendedAlgorithmsEnabled;
+    }
+
     private byte[] getSignedData(byte[] authenticatorData, byte[] clientDataHash) {
         return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.test.credential;
+
+import com.webauthn4j.credential.SignCountStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contract every {@link SignCountStore} implementation must fulfill.
+ * <p>
+ * Tests of an implementation extend this class and return a new, empty store from {@link #createSignCountStore()}.
+ */
+public abstract class SignCountStoreContractTest {
+
+    private static final int THREADS = 8;
+
+    private SignCountStore target;
+
+    /**
+     * Creates the store under test
+     *
+     * @return a store holding no counter
+     */
+    protected abstract SignCountStore createSignCountStore();
+
+    @BeforeEach
+    void setUpSignCountStore() {
+        target = createSignCountStore();
+    }
+
+    @Test
+    void getSignCount_returns_default_for_unknown_credential_test() {
+        assertThat(target.getSignCount(credentialId(1), 42)).isEqualTo(42);
+    }
+
+    @Test
+    void compareAndSetSignCount_stores_counter_for_unknown_credential_test() {
+        assertThat(target.compareAndSetSignCount(credentialId(1), 0, 5)).isTrue();
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(5);
+    }
+
+    @Test
+    void compareAndSetSignCount_succeeds_only_when_expected_counter_matches_test() {
+        target.compareAndSetSignCount(credentialId(1), 0, 5);
+
+        assertThat(target.compareAndSetSignCount(credentialId(1), 4, 6)).isFalse();
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(5);
+        assertThat(target.compareAndSetSignCount(credentialId(1), 5, 6)).isTrue();
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(6);
+    }
+
+    @Test
+    void credentials_are_identified_by_content_and_isolated_from_each_other_test() {
+        byte[] credentialId = credentialId(1);
+        target.compareAndSetSignCount(credentialId, 0, 5);
+        credentialId[0] = 2;
+
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(5);
+        assertThat(target.getSignCount(credentialId(2), 0)).isZero();
+        assertThat(target.compareAndSetSignCount(credentialId(2), 0, 1)).isTrue();
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(5);
+    }
+
+    @Test
+    void only_one_of_concurrent_updates_from_the_same_counter_succeeds_test() throws Exception {
+        target.compareAndSetSignCount(credentialId(1), 0, 10);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        runConcurrently(() -> {
+            if (target.compareAndSetSignCount(credentialId(1), 10, 11)) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded).hasValue(1);
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(11);
+    }
+
+    @Test
+    void only_one_of_concurrent_first_updates_succeeds_test() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+
+        runConcurrently(() -> {
+            if (target.compareAndSetSignCount(credentialId(1), 0, 1)) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        assertThat(succeeded).hasValue(1);
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrent_increments_are_not_lost_test() throws Exception {
+        int incrementsPerThread = 100;
+
+        runConcurrently(() -> {
+            for (int i = 0; i < incrementsPerThread; i++) {
+                long current;
+                do {
+                    current = target.getSignCount(credentialId(1), 0);
+                } while (!target.compareAndSetSignCount(credentialId(1), current, current + 1));
+            }
+        });
+
+        assertThat(target.getSignCount(credentialId(1), 0)).isEqualTo((long) THREADS * incrementsPerThread);
+    }
+
+    private static byte[] credentialId(int value) {
+        byte[] credentialId = new byte[16];
+        credentialId[0] = (byte) value;
+        return credentialId;
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    barrier.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executorService.shutdownNow();
+        }
+    }
+
+}
@@ -10,11 +10,14 @@ module com.webauthn4j.test {
     requires org.bouncycastle.provider;
 
     requires static org.jetbrains.annotations;
+    requires static org.junit.jupiter.api;
+    requires static org.assertj.core;
 
     exports com.webauthn4j.test;
     exports com.webauthn4j.test.authenticator;
     exports com.webauthn4j.test.authenticator.u2f;
     exports com.webauthn4j.test.authenticator.webauthn;
     exports com.webauthn4j.test.client;
+    exports com.webauthn4j.test.credential;
 
 }